@@ -1,10 +1,14 @@
 package io.github.libzeal.zeal.assertion;
 
+import io.github.libzeal.zeal.logic.AsyncExpression;
 import io.github.libzeal.zeal.logic.evaluation.Evaluation;
 import io.github.libzeal.zeal.logic.evaluation.Result;
 import io.github.libzeal.zeal.logic.evaluation.format.Formatter;
 import io.github.libzeal.zeal.logic.unary.UnaryExpression;
 
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
+
 import static java.util.Objects.requireNonNull;
 
 /**
@@ -51,6 +55,10 @@ final class AssertionExpressionEvaluator<N extends Throwable, F extends Throwabl
 
     /**
      * Evaluates the supplied expression and throws the configured exceptions if the evaluation fails.
+     * <p>
+     * If the supplied expression passes its {@link UnaryExpression#test()} fast path, the subject is returned without
+     * evaluating the expression. An {@link Evaluation} is only created when the fast path cannot determine that the
+     * expression passes, such as when the expression fails and a message must be formatted.
      *
      * @param expression
      *     The expression to evaluate.
@@ -74,6 +82,10 @@ final class AssertionExpressionEvaluator<N extends Throwable, F extends Throwabl
             throw new NullPointerException(Messages.NULL_EXPRESSION);
         }
 
+        if (expression.test()) {
+            return expression.subject();
+        }
+
         final Evaluation evaluation = expression.evaluate();
 
         if (evaluation == null) {
@@ -104,6 +116,62 @@ final class AssertionExpressionEvaluator<N extends Throwable, F extends Throwabl
         }
     }
 
+    /**
+     * Evaluates the supplied asynchronous expression and completes the returned stage exceptionally with the
+     * configured exception if the evaluation fails. Since an asynchronous expression does not have a subject, a failed
+     * evaluation always completes the returned stage with the exception created for a non-{@code null} subject.
+     *
+     * @param expression
+     *     The expression to evaluate.
+     * @param message
+     *     The message to use for the exceptions thrown if the evaluation fails. This message is prepended to the
+     *     message generated by the configured formatter. If a {@code null} message is supplied, an empty message is
+     *     prepended to the formatted message.
+     *
+     * @return A stage that completes normally if the evaluation succeeds, or exceptionally if the evaluation fails or
+     *     the expression could not be evaluated.
+     *
+     * @throws NullPointerException
+     *     The supplied expression is {@code null} or the stage provided by the supplied expression (when calling
+     *     {@link AsyncExpression#evaluateAsync()}) is {@code null}. If the evaluation that completes the stage, or its
+     *     result, is {@code null}, the returned stage completes exceptionally with a {@link NullPointerException}.
+     *
+     * @since 0.5.0
+     */
+    public CompletionStage<Void> evaluateAsync(final AsyncExpression expression, final String message) {
+
+        if (expression == null) {
+            throw new NullPointerException(Messages.NULL_EXPRESSION);
+        }
+
+        final CompletionStage<Evaluation> stage = expression.evaluateAsync();
+
+        if (stage == null) {
+            throw new NullPointerException(Messages.NULL_EVALUATION);
+        }
+
+        return stage.thenCompose(evaluation -> {
+
+            final CompletableFuture<Void> outcome = new CompletableFuture<>();
+
+            if (evaluation == null) {
+                outcome.completeExceptionally(new NullPointerException(Messages.NULL_EVALUATION));
+            }
+            else if (evaluation.result() == null) {
+                outcome.completeExceptionally(new NullPointerException(Messages.NULL_RESULT));
+            }
+            else if (evaluation.result().isFalse()) {
+                final String formatted = formatMessage(formatter, message, evaluation);
+                outcome.completeExceptionally(onFailExceptionFunc.create(formatted));
+            }
+            else {
+                outcome.complete(null);
+            }
+
+            return outcome;
+        });
+    }
+
     static String formatMessage(final Formatter formatter, final String message,
                                 final Evaluation evaluation) {
 
@@ -3,9 +3,15 @@ package io.github.libzeal.zeal.assertion;
 import io.github.libzeal.zeal.assertion.error.AssertionFailedError;
 import io.github.libzeal.zeal.assertion.error.PostconditionFailedException;
 import io.github.libzeal.zeal.assertion.error.PreconditionFailedException;
+import io.github.libzeal.zeal.logic.AsyncExpression;
 import io.github.libzeal.zeal.logic.unary.UnaryExpression;
 import io.github.libzeal.zeal.logic.evaluation.Evaluation;
 import io.github.libzeal.zeal.logic.evaluation.Result;
+import io.github.libzeal.zeal.logic.evaluation.format.Formatter;
+
+import java.util.concurrent.CompletionStage;
+
+import static java.util.Objects.requireNonNull;
 
 /**
  * Basic assertions that verify expressions.
@@ -15,9 +21,42 @@ import io.github.libzeal.zeal.logic.evaluation.Result;
  */
 public class Assertions {
 
+    private static volatile Evaluators evaluators = Evaluators.DEFAULT;
+
     private Assertions() {
     }
 
+    /**
+     * Sets the formatter used to create the messages of exceptions thrown by the methods of this class. This method is
+     * intended to be called once at startup and affects all subsequent calls, across all threads.
+     *
+     * @param formatter
+     *     The formatter used to format failed evaluations.
+     *
+     * @throws NullPointerException
+     *     The supplied formatter is {@code null}.
+     * @since 0.5.0
+     */
+    public static void setFormatter(final Formatter formatter) {
+
+        requireNonNull(formatter);
+
+        evaluators = new Evaluators(
+            Requirement.create(formatter),
+            Confirmation.create(formatter),
+            Assurance.create(formatter)
+        );
+    }
+
+    /**
+     * Restores the default formatter used to create the messages of exceptions thrown by the methods of this class.
+     *
+     * @since 0.5.0
+     */
+    public static void resetFormatter() {
+        evaluators = Evaluators.DEFAULT;
+    }
+
     /**
      * Ensures that the supplied expression (precondition) evaluates to true. A default message is used for any
      * exceptions thrown during this evaluation.
@@ -42,7 +81,7 @@ public class Assertions {
      * @see Requirement#require(UnaryExpression)
      */
     public static <T> T require(final UnaryExpression<T> expression) {
-        return Requirement.create().require(expression);
+        return evaluators.requirement.require(expression);
     }
 
     /**
@@ -70,7 +109,48 @@ public class Assertions {
      * @see Requirement#require(UnaryExpression, String)
      */
     public static <T> T require(final UnaryExpression<T> expression, final String message) {
-        return Requirement.create().require(expression, message);
+        return evaluators.requirement.require(expression, message);
+    }
+
+    /**
+     * Ensures that the supplied asynchronous expression (precondition) evaluates to true, without blocking the calling
+     * thread. A default message is used for any exceptions with which the returned stage completes.
+     *
+     * @param expression
+     *     The expression to evaluate.
+     *
+     * @return A stage that completes normally if the expression evaluates to true, or completes exceptionally with a
+     *     {@link PreconditionFailedException} if the expression evaluates to false.
+     *
+     * @throws NullPointerException
+     *     The supplied expression is {@code null} or provides a {@code null} stage.
+     * @see Requirement#requireAsync(AsyncExpression)
+     * @since 0.5.0
+     */
+    public static CompletionStage<Void> requireAsync(final AsyncExpression expression) {
+        return evaluators.requirement.requireAsync(expression);
+    }
+
+    /**
+     * Ensures that the supplied asynchronous expression (precondition) evaluates to true, without blocking the calling
+     * thread.
+     *
+     * @param expression
+     *     The expression to evaluate.
+     * @param message
+     *     The message to include in any exception with which the returned stage completes if the supplied evaluation
+     *     fails.
+     *
+     * @return A stage that completes normally if the expression evaluates to true, or completes exceptionally with a
+     *     {@link PreconditionFailedException} if the expression evaluates to false.
+     *
+     * @throws NullPointerException
+     *     The supplied expression is {@code null} or provides a {@code null} stage.
+     * @see Requirement#requireAsync(AsyncExpression, String)
+     * @since 0.5.0
+     */
+    public static CompletionStage<Void> requireAsync(final AsyncExpression expression, final String message) {
+        return evaluators.requirement.requireAsync(expression, message);
     }
 
     /**
@@ -96,7 +176,7 @@ public class Assertions {
      * @see Confirmation#confirm(UnaryExpression)
      */
     public static <T> T confirm(final UnaryExpression<T> expression) {
-        return Confirmation.create().confirm(expression);
+        return evaluators.confirmation.confirm(expression);
     }
 
     /**
@@ -123,7 +203,7 @@ public class Assertions {
      * @see Confirmation#confirm(UnaryExpression, String)
      */
     public static <T> T confirm(final UnaryExpression<T> expression, final String message) {
-        return Confirmation.create().confirm(expression, message);
+        return evaluators.confirmation.confirm(expression, message);
     }
 
     /**
@@ -149,7 +229,7 @@ public class Assertions {
      * @see Assurance#ensure(UnaryExpression)
      */
     public static <T> T ensure(final UnaryExpression<T> expression) {
-        return Assurance.create().ensure(expression);
+        return evaluators.assurance.ensure(expression);
     }
 
     /**
@@ -176,6 +256,29 @@ public class Assertions {
      * @see Assurance#ensure(UnaryExpression, String)
      */
     public static <T> T ensure(final UnaryExpression<T> expression, final String message) {
-        return Assurance.create().ensure(expression, message);
+        return evaluators.assurance.ensure(expression, message);
+    }
+
+    /**
+     * An immutable set of evaluators used by the static methods of this class. The set is replaced as a whole when the
+     * formatter is changed, so that callers never observe a partially updated set.
+     */
+    private static final class Evaluators {
+
+        private static final Evaluators DEFAULT = new Evaluators(
+            Requirement.create(),
+            Confirmation.create(),
+            Assurance.create()
+        );
+
+        private final Requirement requirement;
+        private final Confirmation confirmation;
+        private final Assurance assurance;
+
+        private Evaluators(final Requirement requirement, final Confirmation confirmation, final Assurance assurance) {
+            this.requirement = requirement;
+            this.confirmation = confirmation;
+            this.assurance = assurance;
+        }
     }
 }
@@ -3,6 +3,7 @@ package io.github.libzeal.zeal.assertion;
 import io.github.libzeal.zeal.assertion.error.PostconditionFailedException;
 import io.github.libzeal.zeal.logic.evaluation.Evaluation;
 import io.github.libzeal.zeal.logic.evaluation.Result;
+import io.github.libzeal.zeal.logic.evaluation.format.Formatter;
 import io.github.libzeal.zeal.logic.evaluation.format.simple.SimpleFormatter;
 import io.github.libzeal.zeal.logic.unary.UnaryExpression;
 
@@ -17,21 +18,40 @@ public class Assurance {
     static final String DEFAULT_MESSAGE = "Postcondition failed";
     private final AssertionExpressionEvaluator<PostconditionFailedException, PostconditionFailedException> evaluator;
 
-    private Assurance() {
+    private static final Assurance DEFAULT = new Assurance(new SimpleFormatter());
+
+    private Assurance(final Formatter formatter) {
         this.evaluator = new AssertionExpressionEvaluator<>(
-            new SimpleFormatter(),
+            formatter,
             PostconditionFailedException::new,
             PostconditionFailedException::new
         );
     }
 
     /**
-     * Creates a new assurance with a default configuration.
+     * Obtains an assurance with a default configuration. Assurances are immutable and thread-safe, so the same shared
+     * instance is returned each time this method is called.
      *
      * @return An assurance with a default configuration.
      */
     public static Assurance create() {
-        return new Assurance();
+        return DEFAULT;
+    }
+
+    /**
+     * Creates a new assurance that uses the supplied formatter to create the messages of any exceptions thrown.
+     *
+     * @param formatter
+     *     The formatter used to format failed evaluations.
+     *
+     * @return An assurance that uses the supplied formatter.
+     *
+     * @throws NullPointerException
+     *     The supplied formatter is {@code null}.
+     * @since 0.5.0
+     */
+    public static Assurance create(final Formatter formatter) {
+        return new Assurance(formatter);
     }
 
     /**
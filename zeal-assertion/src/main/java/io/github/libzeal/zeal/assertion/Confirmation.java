@@ -1,6 +1,7 @@
 package io.github.libzeal.zeal.assertion;
 
 import io.github.libzeal.zeal.assertion.error.AssertionFailedError;
+import io.github.libzeal.zeal.logic.evaluation.format.Formatter;
 import io.github.libzeal.zeal.logic.evaluation.format.simple.SimpleFormatter;
 import io.github.libzeal.zeal.logic.unary.UnaryExpression;
 import io.github.libzeal.zeal.logic.evaluation.Evaluation;
@@ -17,21 +18,44 @@ public class Confirmation {
     static final String DEFAULT_MESSAGE = "Assertion failed";
     private final AssertionExpressionEvaluator<AssertionFailedError, AssertionFailedError> evaluator;
 
+    private static final Confirmation DEFAULT = new Confirmation();
+
     public Confirmation() {
+        this(new SimpleFormatter());
+    }
+
+    private Confirmation(final Formatter formatter) {
         this.evaluator = new AssertionExpressionEvaluator<>(
-            new SimpleFormatter(),
+            formatter,
             AssertionFailedError::new,
             AssertionFailedError::new
         );
     }
 
     /**
-     * Creates a new confirmation with a default configuration.
+     * Obtains a confirmation with a default configuration. Confirmations are immutable and thread-safe, so the same
+     * shared instance is returned each time this method is called.
      *
      * @return A confirmation with a default configuration.
      */
     public static Confirmation create() {
-        return new Confirmation();
+        return DEFAULT;
+    }
+
+    /**
+     * Creates a new confirmation that uses the supplied formatter to create the messages of any exceptions thrown.
+     *
+     * @param formatter
+     *     The formatter used to format failed evaluations.
+     *
+     * @return A confirmation that uses the supplied formatter.
+     *
+     * @throws NullPointerException
+     *     The supplied formatter is {@code null}.
+     * @since 0.5.0
+     */
+    public static Confirmation create(final Formatter formatter) {
+        return new Confirmation(formatter);
     }
 
     /**
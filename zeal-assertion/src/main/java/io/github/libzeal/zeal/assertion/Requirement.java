@@ -2,26 +2,58 @@ package io.github.libzeal.zeal.assertion;
 
 import io.github.libzeal.zeal.assertion.error.PostconditionFailedException;
 import io.github.libzeal.zeal.assertion.error.PreconditionFailedException;
+import io.github.libzeal.zeal.logic.AsyncExpression;
+import io.github.libzeal.zeal.logic.evaluation.format.Formatter;
 import io.github.libzeal.zeal.logic.evaluation.format.simple.SimpleFormatter;
 import io.github.libzeal.zeal.logic.unary.UnaryExpression;
 import io.github.libzeal.zeal.logic.evaluation.Evaluation;
 import io.github.libzeal.zeal.logic.evaluation.Result;
 
+import java.util.concurrent.CompletionStage;
+
 public class Requirement {
 
     static final String DEFAULT_MESSAGE = "Precondition failed";
     private final AssertionExpressionEvaluator<NullPointerException, PreconditionFailedException> evaluator;
 
+    private static final Requirement DEFAULT = new Requirement();
+
     public Requirement() {
+        this(new SimpleFormatter());
+    }
+
+    private Requirement(final Formatter formatter) {
         this.evaluator = new AssertionExpressionEvaluator<>(
-            new SimpleFormatter(),
+            formatter,
             NullPointerException::new,
             PreconditionFailedException::new
         );
     }
 
+    /**
+     * Obtains a requirement with a default configuration. Requirements are immutable and thread-safe, so the same
+     * shared instance is returned each time this method is called.
+     *
+     * @return A requirement with a default configuration.
+     */
     public static Requirement create() {
-        return new Requirement();
+        return DEFAULT;
+    }
+
+    /**
+     * Creates a new requirement that uses the supplied formatter to create the messages of any exceptions thrown.
+     *
+     * @param formatter
+     *     The formatter used to format failed evaluations.
+     *
+     * @return A requirement that uses the supplied formatter.
+     *
+     * @throws NullPointerException
+     *     The supplied formatter is {@code null}.
+     * @since 0.5.0
+     */
+    public static Requirement create(final Formatter formatter) {
+        return new Requirement(formatter);
     }
 
 
@@ -77,4 +109,43 @@ public class Requirement {
     public <T> T require(final UnaryExpression<T> expression, final String message) {
         return evaluator.evaluate(expression, message);
     }
+
+    /**
+     * Ensures that the supplied asynchronous expression (precondition) evaluates to true, without blocking the calling
+     * thread. A default message is used for any exceptions with which the returned stage completes.
+     *
+     * @param expression
+     *     The expression to evaluate.
+     *
+     * @return A stage that completes normally if the expression evaluates to true, or completes exceptionally with a
+     *     {@link PreconditionFailedException} if the expression evaluates to false.
+     *
+     * @throws NullPointerException
+     *     The supplied expression is {@code null} or provides a {@code null} stage.
+     * @since 0.5.0
+     */
+    public CompletionStage<Void> requireAsync(final AsyncExpression expression) {
+        return requireAsync(expression, DEFAULT_MESSAGE);
+    }
+
+    /**
+     * Ensures that the supplied asynchronous expression (precondition) evaluates to true, without blocking the calling
+     * thread.
+     *
+     * @param expression
+     *     The expression to evaluate.
+     * @param message
+     *     The message to include in any exception with which the returned stage completes if the supplied evaluation
+     *     fails.
+     *
+     * @return A stage that completes normally if the expression evaluates to true, or completes exceptionally with a
+     *     {@link PreconditionFailedException} if the expression evaluates to false.
+     *
+     * @throws NullPointerException
+     *     The supplied expression is {@code null} or provides a {@code null} stage.
+     * @since 0.5.0
+     */
+    public CompletionStage<Void> requireAsync(final AsyncExpression expression, final String message) {
+        return evaluator.evaluateAsync(expression, message);
+    }
 }
@@ -3,7 +3,9 @@ package io.github.libzeal.zeal.assertion;
 import io.github.libzeal.zeal.logic.evaluation.Result;
 import io.github.libzeal.zeal.logic.evaluation.format.Formatter;
 import io.github.libzeal.zeal.logic.evaluation.format.simple.SimpleFormatter;
+import io.github.libzeal.zeal.logic.unary.UnaryExpression;
 import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtensionContext;
 import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.Arguments;
@@ -15,6 +17,9 @@ import java.util.stream.Stream;
 import static io.github.libzeal.zeal.assertion.AssertionExpressionEvaluator.Messages.*;
 import static io.github.libzeal.zeal.assertion.AssertionTestCases.*;
 import static io.github.libzeal.zeal.assertion.test.Expressions.*;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
 
 @SuppressWarnings("java:S2699")
 class AssertionExpressionEvaluatorTest {
@@ -65,6 +70,16 @@ class AssertionExpressionEvaluatorTest {
         );
     }
 
+    @Test
+    void givenExpressionPassesTest_whenEvaluate_thenSubjectReturnedWithoutEvaluation() throws Throwable {
+
+        final Object subject = new Object();
+        final UnaryExpression<Object> expression = passingExpression(subject);
+
+        assertSame(subject, evaluator.evaluate(expression, "foo"));
+        verify(expression, never()).evaluate();
+    }
+
     static final class ExceptionThrownArgumentsProvider implements ArgumentsProvider {
 
         @Override
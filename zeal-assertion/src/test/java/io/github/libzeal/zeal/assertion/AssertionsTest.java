@@ -1,11 +1,21 @@
 package io.github.libzeal.zeal.assertion;
 
+import io.github.libzeal.zeal.assertion.error.PreconditionFailedException;
+import io.github.libzeal.zeal.logic.evaluation.Result;
+import io.github.libzeal.zeal.logic.evaluation.format.Formatter;
 import io.github.libzeal.zeal.logic.evaluation.format.simple.SimpleFormatter;
+import io.github.libzeal.zeal.logic.unary.UnaryExpression;
 import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
 import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.ArgumentsSource;
 
 import static io.github.libzeal.zeal.assertion.AssertionTestCases.*;
+import static io.github.libzeal.zeal.assertion.test.Expressions.expression;
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.doReturn;
+import static org.mockito.Mockito.mock;
 
 @SuppressWarnings("java:S2699")
 class AssertionsTest {
@@ -166,4 +176,39 @@ class AssertionsTest {
             Assertions::ensure
         );
     }
+
+    // ------------------------------------------------------------------------
+    // setFormatter
+    // ------------------------------------------------------------------------
+
+    @Test
+    void givenNullFormatter_whenSetFormatter_thenExceptionThrown() {
+        assertThrows(
+            NullPointerException.class,
+            () -> Assertions.setFormatter(null)
+        );
+    }
+
+    @Test
+    void givenFormatterSet_whenRequireFails_thenFormatterUsed() {
+
+        final Formatter formatter = mock(Formatter.class);
+        final UnaryExpression<Object> expression = expression(Result.FALSE, new Object());
+
+        doReturn("custom").when(formatter).format(any());
+
+        try {
+            Assertions.setFormatter(formatter);
+
+            final PreconditionFailedException exception = assertThrows(
+                PreconditionFailedException.class,
+                () -> Assertions.require(expression)
+            );
+
+            assertTrue(exception.getMessage().contains("custom"));
+        }
+        finally {
+            Assertions.resetFormatter();
+        }
+    }
 }
@@ -2,8 +2,11 @@ package io.github.libzeal.zeal.assertion;
 
 import io.github.libzeal.zeal.assertion.error.PostconditionFailedException;
 import io.github.libzeal.zeal.logic.evaluation.Result;
+import io.github.libzeal.zeal.logic.evaluation.format.Formatter;
 import io.github.libzeal.zeal.logic.evaluation.format.simple.SimpleFormatter;
+import io.github.libzeal.zeal.logic.unary.UnaryExpression;
 import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtensionContext;
 import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.Arguments;
@@ -15,6 +18,10 @@ import java.util.stream.Stream;
 import static io.github.libzeal.zeal.assertion.AssertionExpressionEvaluator.Messages.*;
 import static io.github.libzeal.zeal.assertion.AssertionTestCases.*;
 import static io.github.libzeal.zeal.assertion.test.Expressions.*;
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.doReturn;
+import static org.mockito.Mockito.mock;
 
 @SuppressWarnings("java:S2699")
 class AssuranceTest {
@@ -74,6 +81,36 @@ class AssuranceTest {
         );
     }
 
+    @Test
+    void givenDefaults_whenCreate_thenSharedInstanceReturned() {
+        assertSame(Assurance.create(), Assurance.create());
+    }
+
+    @Test
+    void givenNullFormatter_whenCreate_thenExceptionThrown() {
+        assertThrows(
+            NullPointerException.class,
+            () -> Assurance.create(null)
+        );
+    }
+
+    @Test
+    void givenFormatter_whenCreateAndEvaluationFails_thenFormatterUsed() {
+
+        final Formatter formatter = mock(Formatter.class);
+        final Assurance custom = Assurance.create(formatter);
+        final UnaryExpression<Object> expression = expression(Result.FALSE, new Object());
+
+        doReturn("custom").when(formatter).format(any());
+
+        final PostconditionFailedException exception = assertThrows(
+            PostconditionFailedException.class,
+            () -> custom.ensure(expression)
+        );
+
+        assertTrue(exception.getMessage().contains("custom"));
+    }
+
     static final class ExceptionThrownArgumentsProvider implements ArgumentsProvider {
 
         @Override
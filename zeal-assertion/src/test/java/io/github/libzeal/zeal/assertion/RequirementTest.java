@@ -1,20 +1,33 @@
 package io.github.libzeal.zeal.assertion;
 
 import io.github.libzeal.zeal.assertion.error.PreconditionFailedException;
+import io.github.libzeal.zeal.logic.AsyncExpression;
+import io.github.libzeal.zeal.logic.Expressions;
+import io.github.libzeal.zeal.logic.evaluation.Evaluation;
 import io.github.libzeal.zeal.logic.evaluation.Result;
+import io.github.libzeal.zeal.logic.evaluation.format.Formatter;
 import io.github.libzeal.zeal.logic.evaluation.format.simple.SimpleFormatter;
+import io.github.libzeal.zeal.logic.unary.UnaryExpression;
 import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtensionContext;
 import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.Arguments;
 import org.junit.jupiter.params.provider.ArgumentsProvider;
 import org.junit.jupiter.params.provider.ArgumentsSource;
 
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.CompletionStage;
 import java.util.stream.Stream;
 
 import static io.github.libzeal.zeal.assertion.AssertionExpressionEvaluator.Messages.*;
 import static io.github.libzeal.zeal.assertion.AssertionTestCases.*;
 import static io.github.libzeal.zeal.assertion.test.Expressions.*;
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.doReturn;
+import static org.mockito.Mockito.mock;
 
 @SuppressWarnings("java:S2699")
 class RequirementTest {
@@ -74,6 +87,85 @@ class RequirementTest {
         );
     }
 
+    @Test
+    void givenDefaults_whenCreate_thenSharedInstanceReturned() {
+        assertSame(Requirement.create(), Requirement.create());
+    }
+
+    @Test
+    void givenNullFormatter_whenCreate_thenExceptionThrown() {
+        assertThrows(
+            NullPointerException.class,
+            () -> Requirement.create(null)
+        );
+    }
+
+    @Test
+    void givenFormatter_whenCreateAndEvaluationFails_thenFormatterUsed() {
+
+        final Formatter formatter = mock(Formatter.class);
+        final Requirement custom = Requirement.create(formatter);
+        final UnaryExpression<Object> expression = expression(Result.FALSE, new Object());
+
+        doReturn("custom").when(formatter).format(any());
+
+        final PreconditionFailedException exception = assertThrows(
+            PreconditionFailedException.class,
+            () -> custom.require(expression)
+        );
+
+        assertTrue(exception.getMessage().contains("custom"));
+    }
+
+    @Test
+    void givenNullExpression_whenRequireAsync_thenExceptionThrown() {
+
+        final NullPointerException exception = assertThrows(
+            NullPointerException.class,
+            () -> requirement.requireAsync(null)
+        );
+
+        assertEquals(NULL_EXPRESSION, exception.getMessage());
+    }
+
+    @Test
+    void givenPassingExpression_whenRequireAsync_thenStageCompletesNormally() {
+
+        final CompletionStage<Void> stage = requirement.requireAsync(AsyncExpression.of(Expressions.tautology()));
+
+        assertDoesNotThrow(() -> stage.toCompletableFuture().join());
+    }
+
+    @Test
+    void givenPendingFailingExpression_whenRequireAsync_thenStageCompletesExceptionallyOnceEvaluated() {
+
+        final CompletableFuture<Evaluation> pending = new CompletableFuture<>();
+        final CompletableFuture<Void> stage = requirement.requireAsync(() -> pending, "message")
+            .toCompletableFuture();
+
+        assertFalse(stage.isDone());
+
+        pending.complete(Expressions.contradiction().evaluate());
+
+        final CompletionException exception = assertThrows(CompletionException.class, stage::join);
+
+        assertInstanceOf(PreconditionFailedException.class, exception.getCause());
+        assertTrue(exception.getCause().getMessage().startsWith("message"));
+    }
+
+    @Test
+    void givenNullEvaluation_whenRequireAsync_thenStageCompletesExceptionally() {
+
+        final CompletableFuture<Void> stage = requirement
+            .requireAsync(() -> CompletableFuture.completedFuture(null))
+            .toCompletableFuture();
+
+        final CompletionException exception = assertThrows(CompletionException.class, stage::join);
+
+        assertInstanceOf(NullPointerException.class, exception.getCause());
+        assertEquals(NULL_EVALUATION, exception.getCause().getMessage());
+    }
+
     static final class ExceptionThrownArgumentsProvider implements ArgumentsProvider {
 
         @Override
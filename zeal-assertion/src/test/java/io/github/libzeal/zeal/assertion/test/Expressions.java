@@ -18,6 +18,16 @@ public class Expressions {
         return mock(UnaryExpression.class);
     }
 
+    public static UnaryExpression<Object> passingExpression(final Object subject) {
+
+        final UnaryExpression<Object> expression = expression();
+
+        doReturn(true).when(expression).test();
+        doReturn(subject).when(expression).subject();
+
+        return expression;
+    }
+
     public static UnaryExpression<Object> expressionWithNullEvaluation() {
 
         final UnaryExpression<Object> expression = expression();
@@ -0,0 +1,79 @@
+package io.github.libzeal.zeal.benchmarks;
+
+import io.github.libzeal.zeal.assertion.Assertions;
+import io.github.libzeal.zeal.assertion.Assurance;
+import io.github.libzeal.zeal.assertion.Confirmation;
+import io.github.libzeal.zeal.assertion.Requirement;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmarks for the evaluation paths of the assertion facade and the individual evaluators. Each invocation builds a
+ * new chain and evaluates it, which is how guards are used in application code. Failures are caught and consumed so
+ * that the cost of building the failure message is included in the failing measurements.
+ *
+ * @author Justin Albano
+ * @since 0.5.0
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class AssertionBenchmark {
+
+    private final Requirement requirement = Requirement.create();
+    private final Confirmation confirmation = Confirmation.create();
+    private final Assurance assurance = Assurance.create();
+
+    @Benchmark
+    public void assertionsRequire(final ChainState state, final Blackhole blackhole) {
+        try {
+            blackhole.consume(Assertions.require(state.chain()));
+        }
+        catch (final RuntimeException e) {
+            blackhole.consume(e);
+        }
+    }
+
+    @Benchmark
+    public void requirementRequire(final ChainState state, final Blackhole blackhole) {
+        try {
+            blackhole.consume(requirement.require(state.chain()));
+        }
+        catch (final RuntimeException e) {
+            blackhole.consume(e);
+        }
+    }
+
+    @Benchmark
+    public void confirmationConfirm(final ChainState state, final Blackhole blackhole) {
+        try {
+            blackhole.consume(confirmation.confirm(state.chain()));
+        }
+        catch (final AssertionError e) {
+            blackhole.consume(e);
+        }
+    }
+
+    @Benchmark
+    public void assuranceEnsure(final ChainState state, final Blackhole blackhole) {
+        try {
+            blackhole.consume(assurance.ensure(state.chain()));
+        }
+        catch (final RuntimeException e) {
+            blackhole.consume(e);
+        }
+    }
+}
@@ -0,0 +1,179 @@
+package io.github.libzeal.zeal.benchmarks;
+
+import io.github.libzeal.zeal.logic.unary.UnaryExpression;
+import io.github.libzeal.zeal.values.core.GeneralObjectValue;
+import io.github.libzeal.zeal.values.core.StringValue;
+import io.github.libzeal.zeal.values.core.boxed.BoxedIntegerValue;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.function.Supplier;
+import java.util.function.UnaryOperator;
+
+import static io.github.libzeal.zeal.values.Values.value;
+
+/**
+ * A factory that builds a fresh value chain for each benchmark invocation, mirroring how guards are written in
+ * application code (e.g., {@code require(value(x).isNotNull().isNotBlank())}).
+ *
+ * @author Justin Albano
+ * @since 0.5.0
+ */
+final class Chain {
+
+    private static final String STRING_SUBJECT = "zeal-benchmark";
+    private static final Integer INTEGER_SUBJECT = Integer.valueOf(42);
+    private static final Payload OBJECT_SUBJECT = new Payload(7, "payload");
+
+    private static final List<UnaryOperator<StringValue>> STRING_STEPS = Arrays.asList(
+        StringValue::isNotEmpty,
+        StringValue::isNotBlank,
+        v -> v.isLongerThan(3),
+        v -> v.startsWith("zeal"),
+        v -> v.includes('-'),
+        v -> v.endsWith("mark"),
+        v -> v.isShorterThan(64),
+        v -> v.excludes('#')
+    );
+
+    private static final List<UnaryOperator<BoxedIntegerValue>> INTEGER_STEPS = Arrays.asList(
+        BoxedIntegerValue::isPositive,
+        BoxedIntegerValue::isNotZero,
+        BoxedIntegerValue::isEven,
+        v -> v.isGreaterThan(0),
+        v -> v.isLessThan(100),
+        v -> v.isGreaterThanOrEqualTo(42),
+        v -> v.isLessThanOrEqualTo(42),
+        BoxedIntegerValue::isNotNegative
+    );
+
+    private static final List<UnaryOperator<GeneralObjectValue<Payload>>> OBJECT_STEPS = Arrays.asList(
+        v -> v.isInstanceOf(Payload.class),
+        v -> v.isType(Payload.class),
+        v -> v.isEqualTo(OBJECT_SUBJECT),
+        v -> v.isExactly(OBJECT_SUBJECT),
+        v -> v.isNotEqualTo(new Payload(8, "other")),
+        v -> v.satisfies(p -> p.id() > 0),
+        v -> v.satisfies(p -> !p.label().isEmpty()),
+        v -> v.isNotInstanceOf(String.class)
+    );
+
+    private Chain() {
+    }
+
+    /**
+     * Creates a supplier of chains for the supplied benchmark parameters.
+     *
+     * @param type
+     *     The type of the subject ({@code string}, {@code integer} or {@code object}).
+     * @param length
+     *     The number of predicates in the chain.
+     * @param failing
+     *     True if the last predicate of the chain should fail; false otherwise.
+     *
+     * @return A supplier that creates a new chain each time it is called.
+     */
+    static Supplier<UnaryExpression<?>> of(final String type, final int length, final boolean failing) {
+
+        switch (type) {
+            case "string":
+                return () -> string(length, failing);
+            case "integer":
+                return () -> integer(length, failing);
+            case "object":
+                return () -> object(length, failing);
+            default:
+                throw new IllegalArgumentException("Unknown chain type: " + type);
+        }
+    }
+
+    private static StringValue string(final int length, final boolean failing) {
+
+        StringValue value = value(STRING_SUBJECT);
+
+        for (int i = 0; i < length; i++) {
+            value = isLast(i, length, failing) ?
+                value.isEmpty() :
+                STRING_STEPS.get(i % STRING_STEPS.size()).apply(value);
+        }
+
+        return value;
+    }
+
+    private static BoxedIntegerValue integer(final int length, final boolean failing) {
+
+        BoxedIntegerValue value = value(INTEGER_SUBJECT);
+
+        for (int i = 0; i < length; i++) {
+            value = isLast(i, length, failing) ? value.isNegative() :
+                INTEGER_STEPS.get(i % INTEGER_STEPS.size()).apply(value);
+        }
+
+        return value;
+    }
+
+    private static GeneralObjectValue<Payload> object(final int length, final boolean failing) {
+
+        GeneralObjectValue<Payload> value = value(OBJECT_SUBJECT);
+
+        for (int i = 0; i < length; i++) {
+            value = isLast(i, length, failing) ?
+                value.isNull() :
+                OBJECT_STEPS.get(i % OBJECT_STEPS.size()).apply(value);
+        }
+
+        return value;
+    }
+
+    private static boolean isLast(final int index, final int length, final boolean failing) {
+        return failing && index == length - 1;
+    }
+
+    /**
+     * A small domain object used as the subject of object chains.
+     */
+    static final class Payload {
+
+        private final int id;
+        private final String label;
+
+        Payload(final int id, final String label) {
+            this.id = id;
+            this.label = label;
+        }
+
+        int id() {
+            return id;
+        }
+
+        String label() {
+            return label;
+        }
+
+        @Override
+        public boolean equals(final Object o) {
+
+            if (this == o) {
+                return true;
+            }
+
+            if (!(o instanceof Payload)) {
+                return false;
+            }
+
+            final Payload other = (Payload) o;
+
+            return id == other.id && label.equals(other.label);
+        }
+
+        @Override
+        public int hashCode() {
+            return 31 * id + label.hashCode();
+        }
+
+        @Override
+        public String toString() {
+            return "Payload[id=" + id + ", label=" + label + "]";
+        }
+    }
+}
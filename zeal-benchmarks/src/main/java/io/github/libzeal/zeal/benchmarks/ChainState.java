@@ -0,0 +1,54 @@
+package io.github.libzeal.zeal.benchmarks;
+
+import io.github.libzeal.zeal.logic.unary.UnaryExpression;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.util.function.Supplier;
+
+/**
+ * The benchmark state that determines which chain is built for each invocation.
+ *
+ * @author Justin Albano
+ * @since 0.5.0
+ */
+@State(Scope.Benchmark)
+public class ChainState {
+
+    /**
+     * The type of the subject of the chain.
+     */
+    @Param({"string", "integer", "object"})
+    public String type;
+
+    /**
+     * The number of predicates in the chain.
+     */
+    @Param({"1", "5", "20"})
+    public int length;
+
+    /**
+     * Whether the chain passes or fails. Failing chains fail on their last predicate, so every predicate is evaluated
+     * in both cases.
+     */
+    @Param({"pass", "fail"})
+    public String outcome;
+
+    private Supplier<UnaryExpression<?>> chain;
+
+    @Setup
+    public void setUp() {
+        chain = Chain.of(type, length, "fail".equals(outcome));
+    }
+
+    /**
+     * Creates a new chain for the current parameters.
+     *
+     * @return A new chain.
+     */
+    public UnaryExpression<?> chain() {
+        return chain.get();
+    }
+}
@@ -3,13 +3,14 @@ package io.github.libzeal.zeal.logic;
 import io.github.libzeal.zeal.logic.CompoundEvaluator.CompoundRationaleBuilder;
 import io.github.libzeal.zeal.logic.CompoundEvaluator.Tally;
 import io.github.libzeal.zeal.logic.evaluation.Evaluation;
+import io.github.libzeal.zeal.logic.util.Lazy;
 
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.List;
+import java.util.function.Supplier;
 
 import static io.github.libzeal.zeal.logic.util.ArgumentValidator.requireDoesNotContainNulls;
-import static java.util.Objects.requireNonNull;
 
 /**
  * A compound expression where all sub-expression must be pass for the compound expression to pass.
@@ -20,7 +21,7 @@ import static java.util.Objects.requireNonNull;
 public class AndExpression implements CompoundExpression {
 
     static final String DEFAULT_NAME = "AND";
-    private final String name;
+    private final Lazy<String> name;
     private final List<Expression> children;
 
     /**
@@ -35,10 +36,34 @@ public class AndExpression implements CompoundExpression {
      *     The supplied name is {@code null} or the children contains a {@code null} value.
      */
     public AndExpression(String name, List<Expression> children) {
-        this.name = requireNonNull(name);
+        this(Lazy.value(name), children);
+    }
+
+    private AndExpression(final Lazy<String> name, final List<Expression> children) {
+        this.name = name;
         this.children = requireDoesNotContainNulls(children);
     }
 
+    /**
+     * Creates a new conjunctive expression whose name is computed only when it is first needed, such as when the
+     * evaluation of the expression is formatted.
+     *
+     * @param name
+     *     The supplier used to compute the name of the expression. The supplier must not return {@code null}.
+     * @param children
+     *     The expressions used to initialize the compound expression.
+     *
+     * @return A conjunctive expression with a lazily computed name.
+     *
+     * @throws NullPointerException
+     *     The supplied name supplier is {@code null} or the children contains a {@code null} value.
+     *
+     * @since 0.5.0
+     */
+    public static AndExpression lazilyNamed(final Supplier<String> name, final List<Expression> children) {
+        return new AndExpression(Lazy.of(name), children);
+    }
+
     /**
      * Creates a new conjunctive expression using a default name.
      *
@@ -84,7 +109,7 @@ public class AndExpression implements CompoundExpression {
 
     @Override
     public String name() {
-        return name;
+        return name.get();
     }
 
     @Override
@@ -102,6 +127,19 @@ public class AndExpression implements CompoundExpression {
         return children;
     }
 
+    @Override
+    public boolean test() {
+
+        for (final Expression child : children) {
+
+            if (!child.test()) {
+                return false;
+            }
+        }
+
+        return true;
+    }
+
     @Override
     public Evaluation evaluate() {
 
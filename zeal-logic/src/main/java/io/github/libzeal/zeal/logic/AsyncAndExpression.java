@@ -0,0 +1,86 @@
+package io.github.libzeal.zeal.logic;
+
+import io.github.libzeal.zeal.logic.CompoundEvaluator.CompoundRationaleBuilder;
+import io.github.libzeal.zeal.logic.CompoundEvaluator.Tally;
+import io.github.libzeal.zeal.logic.evaluation.Evaluation;
+import io.github.libzeal.zeal.logic.util.Lazy;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CompletionStage;
+
+import static io.github.libzeal.zeal.logic.util.ArgumentValidator.requireDoesNotContainNulls;
+
+/**
+ * An asynchronous compound expression where all sub-expressions must pass for the compound expression to pass.
+ * <p>
+ * The children are evaluated one at a time, in order, and the evaluation of each child is started only once the
+ * evaluation of the previous child completes. Once the result is decided, the remaining children are skipped without
+ * being evaluated, so the evaluation of this expression has the same result, rationale, and cause as the evaluation of
+ * an {@link AndExpression}. Evaluating this expression never blocks: if the evaluation of a child has not completed,
+ * the remaining children are evaluated on the thread that completes it.
+ *
+ * @author Justin Albano
+ * @since 0.5.0
+ */
+public class AsyncAndExpression implements AsyncCompoundExpression {
+
+    private final Lazy<String> name;
+    private final List<AsyncExpression> children;
+
+    /**
+     * Creates a new conjunctive expression.
+     *
+     * @param name
+     *     The name of the expression.
+     * @param children
+     *     The expressions used to initialize the compound expression.
+     *
+     * @throws NullPointerException
+     *     The supplied name is {@code null} or the children contains a {@code null} value.
+     */
+    public AsyncAndExpression(final String name, final List<AsyncExpression> children) {
+        this.name = Lazy.value(name);
+        this.children = Collections.unmodifiableList(new ArrayList<>(requireDoesNotContainNulls(children)));
+    }
+
+    /**
+     * Creates a new conjunctive expression using a default name.
+     *
+     * @param children
+     *     The expressions used to initialize the compound expression.
+     *
+     * @return A conjunctive expression with a default name.
+     *
+     * @throws NullPointerException
+     *     The children contains a {@code null} value.
+     */
+    public static AsyncAndExpression unnamed(final AsyncExpression... children) {
+        return new AsyncAndExpression(AndExpression.DEFAULT_NAME, Arrays.asList(children));
+    }
+
+    @Override
+    public String name() {
+        return name.get();
+    }
+
+    @Override
+    public List<AsyncExpression> children() {
+        return children;
+    }
+
+    @Override
+    public CompletionStage<Evaluation> evaluateAsync() {
+
+        final CompoundRationaleBuilder builder = CompoundRationaleBuilder.withExpectedPassed(children.size());
+
+        return new CompoundEvaluator(
+            name,
+            Tally::allPassed,
+            Tally::anyFailed,
+            builder
+        ).evaluateAsync(children);
+    }
+}
@@ -0,0 +1,19 @@
+package io.github.libzeal.zeal.logic;
+
+import java.util.List;
+
+/**
+ * An asynchronous expression that is composed of other asynchronous expressions.
+ *
+ * @author Justin Albano
+ * @since 0.5.0
+ */
+public interface AsyncCompoundExpression extends AsyncExpression {
+
+    /**
+     * Obtains the child expressions of this expression.
+     *
+     * @return The child expressions of this expression.
+     */
+    List<AsyncExpression> children();
+}
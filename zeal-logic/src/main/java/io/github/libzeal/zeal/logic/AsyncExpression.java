@@ -0,0 +1,105 @@
+package io.github.libzeal.zeal.logic;
+
+import io.github.libzeal.zeal.logic.evaluation.Evaluation;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.Executor;
+
+import static java.util.Objects.requireNonNull;
+
+/**
+ * An expression that is evaluated asynchronously, such as an expression that depends on a non-blocking lookup. Unlike
+ * {@link Expression#evaluate()}, evaluating an asynchronous expression does not block the calling thread: the
+ * evaluation is provided through a {@link CompletionStage} that completes once the evaluation is available.
+ * <p>
+ * Asynchronous expressions are composed using {@link AsyncAndExpression}, {@link AsyncOrExpression}, and
+ * {@link AsyncNotExpression}, and synchronous expressions are adapted using {@link #of(Expression)} and
+ * {@link #of(Expression, Executor)}.
+ *
+ * @author Justin Albano
+ * @since 0.5.0
+ */
+@FunctionalInterface
+public interface AsyncExpression {
+
+    /**
+     * Obtains the name of the expression.
+     *
+     * @return The name of the expression.
+     */
+    default String name() {
+        return Expression.DEFAULT_NAME;
+    }
+
+    /**
+     * Evaluates the expression asynchronously.
+     *
+     * @return A stage that completes with the evaluation of the expression, or completes exceptionally if the
+     *     expression could not be evaluated.
+     */
+    CompletionStage<Evaluation> evaluateAsync();
+
+    /**
+     * Adapts the supplied synchronous expression, which is evaluated on the thread that calls
+     * {@link #evaluateAsync()}. This is intended for expressions that are cheap to evaluate, such as checks that only
+     * use the CPU, which are composed with asynchronous expressions.
+     *
+     * @param expression
+     *     The expression to adapt.
+     *
+     * @return An asynchronous expression that evaluates the supplied expression on the calling thread.
+     *
+     * @throws NullPointerException
+     *     The supplied expression is {@code null}.
+     */
+    static AsyncExpression of(final Expression expression) {
+
+        requireNonNull(expression);
+
+        return new AsyncExpression() {
+
+            @Override
+            public String name() {
+                return expression.name();
+            }
+
+            @Override
+            public CompletionStage<Evaluation> evaluateAsync() {
+                return CompletableFuture.completedFuture(expression.evaluate());
+            }
+        };
+    }
+
+    /**
+     * Adapts the supplied synchronous expression, which is evaluated using the supplied executor.
+     *
+     * @param expression
+     *     The expression to adapt.
+     * @param executor
+     *     The executor used to evaluate the expression.
+     *
+     * @return An asynchronous expression that evaluates the supplied expression using the supplied executor.
+     *
+     * @throws NullPointerException
+     *     The supplied expression or executor is {@code null}.
+     */
+    static AsyncExpression of(final Expression expression, final Executor executor) {
+
+        requireNonNull(expression);
+        requireNonNull(executor);
+
+        return new AsyncExpression() {
+
+            @Override
+            public String name() {
+                return expression.name();
+            }
+
+            @Override
+            public CompletionStage<Evaluation> evaluateAsync() {
+                return CompletableFuture.supplyAsync(expression::evaluate, executor);
+            }
+        };
+    }
+}
@@ -0,0 +1,76 @@
+package io.github.libzeal.zeal.logic;
+
+import io.github.libzeal.zeal.logic.evaluation.Evaluation;
+import io.github.libzeal.zeal.logic.util.StopWatch;
+import io.github.libzeal.zeal.logic.util.Timing;
+
+import java.util.concurrent.CompletionStage;
+
+import static java.util.Objects.requireNonNull;
+
+/**
+ * An asynchronous expression that negates a wrapped asynchronous expression (a logical <em>not</em>). The evaluation of
+ * this expression has the same result, rationale, and cause as the evaluation of a {@link NotExpression}.
+ *
+ * @author Justin Albano
+ * @since 0.5.0
+ */
+public class AsyncNotExpression implements AsyncExpression {
+
+    private final String name;
+    private final AsyncExpression wrapped;
+
+    /**
+     * Creates a new expression that negates the supplied expression.
+     *
+     * @param name
+     *     The name of the expression.
+     * @param wrapped
+     *     The expression to negate.
+     *
+     * @throws NullPointerException
+     *     The supplied wrapped expression is {@code null}.
+     */
+    public AsyncNotExpression(final String name, final AsyncExpression wrapped) {
+        this.name = name;
+        this.wrapped = requireNonNull(wrapped);
+    }
+
+    /**
+     * Creates a new expression that negates the supplied expression using a default name.
+     *
+     * @param wrapped
+     *     The expression to negate.
+     *
+     * @return A negated expression with a default name.
+     *
+     * @throws NullPointerException
+     *     The supplied wrapped expression is {@code null}.
+     */
+    public static AsyncNotExpression unnamed(final AsyncExpression wrapped) {
+        return new AsyncNotExpression(NotExpression.DEFAULT_NAME, wrapped);
+    }
+
+    @Override
+    public CompletionStage<Evaluation> evaluateAsync() {
+
+        final StopWatch stopWatch = Timing.getDefault().start();
+
+        return wrapped.evaluateAsync()
+            .thenApply(evaluation -> NotExpression.negation(name, requireNonNull(evaluation), stopWatch));
+    }
+
+    @Override
+    public String name() {
+        return name;
+    }
+
+    /**
+     * Obtains the negated expression.
+     *
+     * @return The negated expression.
+     */
+    public AsyncExpression wrapped() {
+        return wrapped;
+    }
+}
@@ -5,6 +5,7 @@ import io.github.libzeal.zeal.logic.evaluation.EvaluatedTerminalEvaluation;
 import io.github.libzeal.zeal.logic.rationale.Rationale;
 import io.github.libzeal.zeal.logic.rationale.SimpleRationale;
 import io.github.libzeal.zeal.logic.util.StopWatch;
+import io.github.libzeal.zeal.logic.util.Timing;
 
 import java.time.Duration;
 import java.util.function.BooleanSupplier;
@@ -58,10 +59,15 @@ public class BooleanExpression implements Expression {
         return name;
     }
 
+    @Override
+    public boolean test() {
+        return predicate.getAsBoolean();
+    }
+
     @Override
     public Evaluation evaluate() {
 
-        final StopWatch stopWatch = StopWatch.started();
+        final StopWatch stopWatch = Timing.getDefault().start();
         final boolean passed = predicate.getAsBoolean();
         final Rationale rationale = new SimpleRationale("true", String.valueOf(passed));
         final Duration elapsedTime = stopWatch.stop();
@@ -6,11 +6,24 @@ import io.github.libzeal.zeal.logic.evaluation.cause.CauseGenerator;
 import io.github.libzeal.zeal.logic.rationale.Rationale;
 import io.github.libzeal.zeal.logic.rationale.SimpleRationale;
 import io.github.libzeal.zeal.logic.util.StopWatch;
+import io.github.libzeal.zeal.logic.util.Timing;
 
 import java.time.Duration;
 import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
 import java.util.List;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.Executor;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.function.IntConsumer;
+import java.util.function.IntFunction;
 import java.util.function.Predicate;
+import java.util.function.Supplier;
 
 import static java.util.Objects.requireNonNull;
 
@@ -22,12 +35,12 @@ import static java.util.Objects.requireNonNull;
  */
 class CompoundEvaluator {
 
-    private final String name;
+    private final Supplier<String> name;
     private final Predicate<Tally> passCondition;
     private final Predicate<Tally> failCondition;
     private final CompoundRationaleBuilder rationaleBuilder;
 
-    public CompoundEvaluator(final String name, final Predicate<Tally> passCondition, final Predicate<Tally> failCondition,
+    public CompoundEvaluator(final Supplier<String> name, final Predicate<Tally> passCondition, final Predicate<Tally> failCondition,
                              final CompoundRationaleBuilder rationaleBuilder) {
         this.name = requireNonNull(name);
         this.passCondition = requireNonNull(passCondition);
@@ -37,20 +50,207 @@ class CompoundEvaluator {
 
     public Evaluation evaluate(final List<Expression> expressions) {
 
-        final StopWatch stopWatch = StopWatch.started();
+        final ParallelEvaluation parallelEvaluation = ParallelEvaluation.getDefault();
+
+        if (parallelEvaluation.appliesTo(expressions.size())) {
+
+            final ChildTasks tasks = new ChildTasks(expressions.size(), parallelEvaluation.interruptsCancelled());
+
+            if (parallelEvaluation.isRacing()) {
+                return evaluateRacing(expressions, tasks, parallelEvaluation.executor());
+            }
+
+            return evaluateInParallel(expressions, tasks, parallelEvaluation.executor());
+        }
+
+        final StopWatch stopWatch = Timing.getDefault().start();
+
+        return evaluateInOrder(stopWatch, expressions, i -> expressions.get(i).evaluate(), i -> {});
+    }
+
+    /**
+     * Evaluates the supplied expressions concurrently using the supplied executor. The evaluations are tallied in
+     * order, as they would be if the expressions were evaluated sequentially, so the deciding evaluation is unchanged.
+     * When the evaluation of a child decides the result on its own (e.g., a failed child of a conjunction), the
+     * children following it are cancelled immediately, since the result is decided at or before that child regardless
+     * of the evaluations of the children preceding it.
+     */
+    private Evaluation evaluateInParallel(final List<Expression> expressions, final ChildTasks tasks,
+                                          final Executor executor) {
+
+        final StopWatch stopWatch = Timing.getDefault().start();
+
+        try {
+            submit(expressions, tasks, executor, index -> tasks.cancelFrom(index + 1));
+
+            return evaluateInOrder(stopWatch, expressions, tasks::join, tasks::cancelFrom);
+        }
+        finally {
+            tasks.cancelFrom(0);
+        }
+    }
+
+    /**
+     * Evaluates the supplied expressions concurrently using the supplied executor, deciding the result using the first
+     * evaluation, in the order the evaluations complete, that decides the result on its own (e.g., a passed child of
+     * a disjunction). The remaining children are cancelled and reported as skipped, with the deciding evaluation as
+     * their cause. If no evaluation decides the result on its own, the result is decided after all children complete,
+     * as if they were evaluated sequentially.
+     */
+    private Evaluation evaluateRacing(final List<Expression> expressions, final ChildTasks tasks,
+                                      final Executor executor) {
+
+        final StopWatch stopWatch = Timing.getDefault().start();
+        final AtomicInteger winner = new AtomicInteger(-1);
+
+        try {
+            submit(expressions, tasks, executor, index -> {
+                if (winner.compareAndSet(-1, index)) {
+                    tasks.cancelAllExcept(index);
+                }
+            });
+
+            tasks.awaitAll();
+
+            final int winnerIndex = winner.get();
+
+            if (winnerIndex < 0) {
+                return evaluateInOrder(stopWatch, expressions, tasks::join, i -> {});
+            }
+
+            return raceEvaluation(stopWatch, expressions, tasks, winnerIndex);
+        }
+        finally {
+            tasks.cancelFrom(0);
+        }
+    }
+
+    private Evaluation raceEvaluation(final StopWatch stopWatch, final List<Expression> expressions,
+                                      final ChildTasks tasks, final int winnerIndex) {
+
         final int total = expressions.size();
+        final Tally tally = new Tally(total);
+        final SummaryRecorder recorder = new SummaryRecorder();
         final List<Evaluation> evaluated = new ArrayList<>(total);
+        final Evaluation winner = tasks.join(winnerIndex);
+        final Cause skipCause = new Cause(winner);
+
+        for (int i = 0; i < total; i++) {
+
+            if (tasks.isCancelled(i)) {
+                tally.incrementSkipped();
+                recorder.recordSkipped(1);
+                evaluated.add(SkippingEvaluator.getDefault().skip(expressions.get(i), skipCause));
+            }
+            else {
+                final Evaluation evaluation = tasks.join(i);
+
+                tally.tally(evaluation.result());
+                recorder.record(i, evaluation);
+                evaluated.add(evaluation);
+            }
+        }
+
+        final CauseGenerator cause = findCause(winner);
+        final Duration elapsedTime = stopWatch.stop();
+
+        return compoundEvaluation(tally, cause, evaluated, elapsedTime, recorder, winnerIndex);
+    }
+
+    /**
+     * Submits the evaluation of each expression to the supplied executor. The supplied callback is called with the
+     * index of each evaluation that decides the result on its own before the evaluation is published, so siblings can
+     * be cancelled before the executor starts evaluating them. Expressions that are cancelled before they are started
+     * are not evaluated.
+     */
+    private void submit(final List<Expression> expressions, final ChildTasks tasks, final Executor executor,
+                        final IntConsumer onDecidedAlone) {
+
+        final int total = expressions.size();
+
+        for (int i = 0; i < total; i++) {
+
+            final Expression expression = expressions.get(i);
+            final int index = i;
+
+            executor.execute(() -> {
+
+                if (!tasks.start(index)) {
+                    return;
+                }
+
+                try {
+                    final Evaluation evaluation = expression.evaluate();
+
+                    if (decidesAlone(total, evaluation.result())) {
+                        onDecidedAlone.accept(index);
+                    }
+
+                    tasks.complete(index, evaluation);
+                }
+                catch (final Throwable e) {
+                    tasks.fail(index, e);
+                }
+                finally {
+                    tasks.finish(index);
+                }
+            });
+        }
+    }
+
+    /**
+     * Evaluates the supplied asynchronous expressions one at a time, in order, starting the evaluation of each
+     * expression only once the evaluation of the previous expression completes. Once the result is decided, the
+     * remaining expressions are skipped without being evaluated. Expressions whose evaluations are already complete
+     * are tallied on the calling thread; otherwise, the remaining expressions are evaluated on the thread that
+     * completes the pending evaluation.
+     *
+     * @param expressions
+     *     The expressions to evaluate.
+     *
+     * @return A stage that completes with the evaluation of the compound expression, or completes exceptionally if
+     *     any of the evaluated expressions completes exceptionally.
+     */
+    public CompletionStage<Evaluation> evaluateAsync(final List<AsyncExpression> expressions) {
+
+        final AsyncEvaluation evaluation = new AsyncEvaluation(expressions);
+        evaluation.advance();
+
+        return evaluation.result;
+    }
+
+    private Evaluation evaluateInOrder(final StopWatch stopWatch, final List<Expression> expressions,
+                                       final IntFunction<Evaluation> evaluator, final IntConsumer onDecided) {
+
+        final int total = expressions.size();
         final Tally tally = new Tally(total);
+        final SummaryRecorder recorder = new SummaryRecorder();
+        List<Evaluation> evaluated = new ArrayList<>(total);
         Evaluation decider = null;
+        int deciderIndex = -1;
+
+        for (int i = 0; i < total; i++) {
+
+            if (decided(tally)) {
+
+                final List<Expression> remaining = expressions.subList(i, total);
 
-        for (Expression expression : expressions) {
+                onDecided.accept(i);
+                tally.incrementSkipped(remaining.size());
+                recorder.recordSkipped(remaining.size());
+                evaluated = SkippingEvaluator.getDefault().skipRemaining(evaluated, remaining, new Cause(decider));
 
-            final Evaluation evaluation = evaluate(expression, tally, decider);
+                break;
+            }
+
+            final Evaluation evaluation = evaluator.apply(i);
 
             tally.tally(evaluation.result());
+            recorder.record(i, evaluation);
 
             if (passes(tally) || fails(tally)) {
                 decider = evaluation;
+                deciderIndex = i;
             }
 
             evaluated.add(evaluation);
@@ -59,30 +259,49 @@ class CompoundEvaluator {
         final CauseGenerator cause = findCause(decider);
         final Duration elapsedTime = stopWatch.stop();
 
-        return compoundEvaluation(tally, cause, evaluated, elapsedTime);
+        return compoundEvaluation(tally, cause, evaluated, elapsedTime, recorder, deciderIndex);
     }
 
-    private boolean fails(final Tally tally) {
-        return failCondition.test(tally);
-    }
+    private boolean decidesAlone(final int total, final Result result) {
 
-    private boolean passes(final Tally tally) {
-        return passCondition.test(tally) && tally.tallySoFar() != tally.total();
+        final Tally tally = new Tally(total);
+        tally.tally(result);
+
+        return decided(tally);
     }
 
-    private Evaluation evaluate(final Expression expression, final Tally tally, final Evaluation decider) {
+    private static Evaluation join(final CompletableFuture<Evaluation> future) {
 
-        if (passCondition.test(tally) || fails(tally)) {
+        try {
+            return future.join();
+        }
+        catch (final CompletionException e) {
 
-            final Cause cause = new Cause(decider);
+            final Throwable cause = e.getCause();
 
-            return new SkippingEvaluator().skip(expression, cause);
-        }
-        else {
-            return expression.evaluate();
+            if (cause instanceof RuntimeException) {
+                throw (RuntimeException) cause;
+            }
+            else if (cause instanceof Error) {
+                throw (Error) cause;
+            }
+
+            throw e;
         }
     }
 
+    private boolean decided(final Tally tally) {
+        return passCondition.test(tally) || fails(tally);
+    }
+
+    private boolean fails(final Tally tally) {
+        return failCondition.test(tally);
+    }
+
+    private boolean passes(final Tally tally) {
+        return passCondition.test(tally) && tally.tallySoFar() != tally.total();
+    }
+
     private static CauseGenerator findCause(final Evaluation decider) {
 
         if (decider == null) {
@@ -94,18 +313,321 @@ class CompoundEvaluator {
     }
 
     private Evaluation compoundEvaluation(final Tally tally, final CauseGenerator causeGenerator,
-                                                  final List<Evaluation> evaluated, final Duration elapsedTime) {
+                                          final List<Evaluation> evaluated, final Duration elapsedTime,
+                                          final SummaryRecorder recorder, final int deciderIndex) {
 
         final Rationale rationale = rationaleBuilder.build(tally);
 
         if (tally.total() == 0 || passCondition.test(tally)) {
-            return EvaluatedCompoundEvaluation.ofTrue(name, rationale, elapsedTime, causeGenerator, evaluated);
+            return EvaluatedCompoundEvaluation.of(Result.TRUE, name, rationale, elapsedTime, causeGenerator, evaluated,
+                recorder.summary(Result.TRUE, deciderIndex));
         }
         else if (tally.skipped() == tally.total()) {
-            return new SkippedCompoundEvaluation(name,causeGenerator, evaluated);
+            return new SkippedCompoundEvaluation(name.get(), causeGenerator, evaluated);
         }
         else {
-            return EvaluatedCompoundEvaluation.ofFalse(name, rationale, elapsedTime, causeGenerator, evaluated);
+            return EvaluatedCompoundEvaluation.of(Result.FALSE, name, rationale, elapsedTime, causeGenerator, evaluated,
+                recorder.summary(Result.FALSE, deciderIndex));
+        }
+    }
+
+    /**
+     * The tasks evaluating the children of a compound expression concurrently. Each child is represented by a future
+     * that is completed with its evaluation, or cancelled if its evaluation is no longer needed. If the tasks interrupt
+     * cancelled children, the thread evaluating each child is tracked so that it can be interrupted when the child is
+     * cancelled.
+     */
+    private static final class ChildTasks {
+
+        private final List<CompletableFuture<Evaluation>> futures;
+        private final AtomicReferenceArray<Thread> runners;
+
+        private ChildTasks(final int total, final boolean interruptsCancelled) {
+
+            this.futures = new ArrayList<>(total);
+            this.runners = interruptsCancelled ? new AtomicReferenceArray<>(total) : null;
+
+            for (int i = 0; i < total; i++) {
+                futures.add(new CompletableFuture<>());
+            }
+        }
+
+        private boolean start(final int index) {
+
+            final CompletableFuture<Evaluation> future = futures.get(index);
+
+            if (future.isDone()) {
+                return false;
+            }
+
+            if (runners != null) {
+
+                runners.set(index, Thread.currentThread());
+
+                if (future.isDone()) {
+                    runners.set(index, null);
+                    return false;
+                }
+            }
+
+            return true;
+        }
+
+        private void complete(final int index, final Evaluation evaluation) {
+            futures.get(index).complete(evaluation);
+        }
+
+        private void fail(final int index, final Throwable failure) {
+            futures.get(index).completeExceptionally(failure);
+        }
+
+        private void finish(final int index) {
+
+            if (runners != null) {
+                runners.set(index, null);
+            }
+        }
+
+        private void cancel(final int index) {
+
+            if (futures.get(index).cancel(false) && runners != null) {
+
+                final Thread runner = runners.get(index);
+
+                if (runner != null) {
+                    runner.interrupt();
+                }
+            }
+        }
+
+        private void cancelFrom(final int index) {
+
+            for (int i = index; i < futures.size(); i++) {
+                cancel(i);
+            }
+        }
+
+        private void cancelAllExcept(final int index) {
+
+            for (int i = 0; i < futures.size(); i++) {
+                if (i != index) {
+                    cancel(i);
+                }
+            }
+        }
+
+        private boolean isCancelled(final int index) {
+            return futures.get(index).isCancelled();
+        }
+
+        private Evaluation join(final int index) {
+            return CompoundEvaluator.join(futures.get(index));
+        }
+
+        private void awaitAll() {
+
+            for (final CompletableFuture<Evaluation> future : futures) {
+                try {
+                    future.join();
+                }
+                catch (final CancellationException | CompletionException e) {
+                    // The outcome of each future is handled once all futures are done
+                }
+            }
+        }
+    }
+
+    /**
+     * The state of an asynchronous evaluation. Each step is performed after the evaluation of the previous child
+     * completes, so the state is never accessed concurrently.
+     */
+    private final class AsyncEvaluation {
+
+        private final List<AsyncExpression> expressions;
+        private final StopWatch stopWatch;
+        private final Tally tally;
+        private final SummaryRecorder recorder;
+        private final List<Evaluation> evaluated;
+        private final CompletableFuture<Evaluation> result;
+        private Evaluation decider;
+        private int deciderIndex;
+        private int index;
+
+        private AsyncEvaluation(final List<AsyncExpression> expressions) {
+            this.expressions = expressions;
+            this.stopWatch = Timing.getDefault().start();
+            this.tally = new Tally(expressions.size());
+            this.recorder = new SummaryRecorder();
+            this.evaluated = new ArrayList<>(expressions.size());
+            this.result = new CompletableFuture<>();
+            this.deciderIndex = -1;
+        }
+
+        private void advance() {
+
+            try {
+                while (index < expressions.size()) {
+
+                    if (decided(tally)) {
+                        skipRemaining();
+                        break;
+                    }
+
+                    final CompletableFuture<Evaluation> next = expressions.get(index)
+                        .evaluateAsync()
+                        .toCompletableFuture();
+
+                    if (!next.isDone()) {
+                        next.whenComplete(this::resume);
+                        return;
+                    }
+
+                    accept(join(next));
+                }
+
+                final CauseGenerator cause = findCause(decider);
+                final Duration elapsedTime = stopWatch.stop();
+
+                result.complete(compoundEvaluation(tally, cause, evaluated, elapsedTime, recorder, deciderIndex));
+            }
+            catch (final Throwable e) {
+                result.completeExceptionally(e);
+            }
+        }
+
+        private void resume(final Evaluation evaluation, final Throwable failure) {
+
+            if (failure != null) {
+                result.completeExceptionally(failure instanceof CompletionException ? failure.getCause() : failure);
+                return;
+            }
+
+            try {
+                accept(evaluation);
+            }
+            catch (final Throwable e) {
+                result.completeExceptionally(e);
+                return;
+            }
+
+            advance();
+        }
+
+        private void accept(final Evaluation evaluation) {
+
+            requireNonNull(evaluation);
+
+            tally.tally(evaluation.result());
+            recorder.record(index, evaluation);
+
+            if (passes(tally) || fails(tally)) {
+                decider = evaluation;
+                deciderIndex = index;
+            }
+
+            evaluated.add(evaluation);
+            index++;
+        }
+
+        private void skipRemaining() {
+
+            final Cause cause = new Cause(decider);
+            final int remaining = expressions.size() - index;
+
+            tally.incrementSkipped(remaining);
+            recorder.recordSkipped(remaining);
+
+            for (int i = index; i < expressions.size(); i++) {
+                evaluated.add(skip(expressions.get(i), cause));
+            }
+        }
+    }
+
+    private static Evaluation skip(final AsyncExpression expression, final Cause cause) {
+
+        if (expression instanceof AsyncNotExpression) {
+
+            final AsyncExpression wrapped = ((AsyncNotExpression) expression).wrapped();
+
+            return new SkippedCompoundEvaluation(expression.name(), e -> cause,
+                Collections.singletonList(skip(wrapped, cause)));
+        }
+        else if (expression instanceof AsyncCompoundExpression) {
+
+            final List<AsyncExpression> children = ((AsyncCompoundExpression) expression).children();
+            final List<Evaluation> skipped = new ArrayList<>(children.size());
+
+            for (final AsyncExpression child : children) {
+                skipped.add(skip(child, cause));
+            }
+
+            return new SkippedCompoundEvaluation(expression.name(), e -> cause, skipped);
+        }
+        else {
+            return new SkippedTerminalEvaluation(expression.name(), e -> cause);
+        }
+    }
+
+    /**
+     * Records the aggregate counts of the evaluation tree and the indices of the failed children while the children
+     * of a compound expression are evaluated.
+     */
+    private static final class SummaryRecorder {
+
+        private int nodes = 1;
+        private int failures;
+        private int skipped;
+        private int maxDepth;
+        private int[] failedChildIndices = new int[0];
+        private int failedChildren;
+
+        public void record(final int index, final Evaluation evaluation) {
+
+            final Result result = evaluation.result();
+
+            if (evaluation instanceof CompoundEvaluation) {
+
+                final EvaluationSummary summary = evaluation.summary();
+
+                nodes += summary.nodes();
+                failures += summary.failures();
+                skipped += summary.skipped();
+                maxDepth = Math.max(maxDepth, summary.maxDepth() + 1);
+            }
+            else {
+                nodes++;
+                maxDepth = Math.max(maxDepth, 1);
+
+                if (result.isFalse()) {
+                    failures++;
+                }
+                else if (result.isSkipped()) {
+                    skipped++;
+                }
+            }
+
+            if (result.isFalse()) {
+
+                if (failedChildren == failedChildIndices.length) {
+                    failedChildIndices = Arrays.copyOf(failedChildIndices, Math.max(4, failedChildren * 2));
+                }
+
+                failedChildIndices[failedChildren++] = index;
+            }
+        }
+
+        public void recordSkipped(final int count) {
+
+            if (count > 0) {
+                nodes += count;
+                skipped += count;
+                maxDepth = Math.max(maxDepth, 1);
+            }
+        }
+
+        public EvaluationSummary summary(final Result result, final int deciderIndex) {
+            return new EvaluationSummary(nodes, result.isFalse() ? failures + 1 : failures, skipped, maxDepth,
+                Arrays.copyOf(failedChildIndices, failedChildren), deciderIndex);
         }
     }
 
@@ -147,6 +669,10 @@ class CompoundEvaluator {
             skipped++;
         }
 
+        public void incrementSkipped(final int count) {
+            skipped += count;
+        }
+
         public int passed() {
             return passed;
         }
@@ -31,4 +31,23 @@ public interface Expression {
      * @return The evaluated expression. This evaluation must not be {@code null}.
      */
     Evaluation evaluate();
+
+    /**
+     * Tests whether the expression passes without creating an {@link Evaluation}.
+     * <p>
+     * This method is a fast path for callers that only need to know if an expression passes, such as assertions, which
+     * only require an evaluation to describe a failure. If this method returns {@code true}, then {@link #evaluate()}
+     * must produce an evaluation with a true result. If this method returns {@code false}, the expression either fails
+     * or cannot determine whether it passes without being evaluated, and {@link #evaluate()} must be called to obtain
+     * the result.
+     * <p>
+     * By default, this method returns {@code false}, which always defers to {@link #evaluate()}.
+     *
+     * @return True if the expression is known to pass; false otherwise.
+     *
+     * @since 0.5.0
+     */
+    default boolean test() {
+        return false;
+    }
 }
@@ -3,11 +3,13 @@ package io.github.libzeal.zeal.logic;
 import io.github.libzeal.zeal.logic.evaluation.cause.Cause;
 import io.github.libzeal.zeal.logic.evaluation.EvaluatedCompoundEvaluation;
 import io.github.libzeal.zeal.logic.evaluation.Evaluation;
+import io.github.libzeal.zeal.logic.evaluation.EvaluationSummary;
 import io.github.libzeal.zeal.logic.evaluation.Result;
 import io.github.libzeal.zeal.logic.evaluation.cause.CauseGenerator;
 import io.github.libzeal.zeal.logic.rationale.Rationale;
 import io.github.libzeal.zeal.logic.rationale.SimpleRationale;
 import io.github.libzeal.zeal.logic.util.StopWatch;
+import io.github.libzeal.zeal.logic.util.Timing;
 
 import java.time.Duration;
 import java.util.ArrayList;
@@ -79,8 +81,26 @@ public class NotExpression implements Expression {
     @Override
     public Evaluation evaluate() {
 
-        final StopWatch stopWatch = StopWatch.started();
+        final StopWatch stopWatch = Timing.getDefault().start();
         final Evaluation wrappedEvaluation = wrapped.evaluate();
+
+        return negation(name(), wrappedEvaluation, stopWatch);
+    }
+
+    /**
+     * Creates the evaluation of a negated expression from the evaluation of the wrapped expression.
+     *
+     * @param name
+     *     The name of the negated expression.
+     * @param wrappedEvaluation
+     *     The evaluation of the wrapped expression.
+     * @param stopWatch
+     *     The stop watch started when the negated expression began evaluating.
+     *
+     * @return The evaluation of the negated expression.
+     */
+    static Evaluation negation(final String name, final Evaluation wrappedEvaluation, final StopWatch stopWatch) {
+
         final Result result = result(wrappedEvaluation);
         final String actualValue = actualValue(wrappedEvaluation);
         final Rationale rationale = new SimpleRationale(ACTUAL_VALUE_WRAPPED_FALSE, actualValue);
@@ -90,15 +110,31 @@ public class NotExpression implements Expression {
 
         children.add(wrappedEvaluation);
 
+        final Result negatedResult = result.isFalse() || result.isSkipped() ? Result.FALSE : Result.TRUE;
+        final EvaluationSummary summary = summary(negatedResult, wrappedEvaluation);
         final Duration elapsedTime = stopWatch.stop();
 
-        if (result.isFalse() || result.isSkipped()) {
-            return EvaluatedCompoundEvaluation.ofFalse(name(), rationale, elapsedTime, CauseGenerator.withUnderlyingCause(cause),
-                children);
-        }
-        else {
-            return EvaluatedCompoundEvaluation.ofTrue(name(), rationale, elapsedTime, CauseGenerator.withUnderlyingCause(cause), children);
-        }
+        return EvaluatedCompoundEvaluation.of(negatedResult, () -> name, rationale, elapsedTime,
+            CauseGenerator.withUnderlyingCause(cause), children, summary);
+    }
+
+    /**
+     * Records the summary of a negation from the summary of its wrapped evaluation, which is itself recorded for
+     * compound evaluations, so that the summary of a negation never requires a traversal of the evaluation tree.
+     */
+    private static EvaluationSummary summary(final Result negatedResult, final Evaluation wrappedEvaluation) {
+
+        final EvaluationSummary wrapped = wrappedEvaluation.summary();
+        final int[] failedChildIndices = wrappedEvaluation.result().isFalse() ? new int[] {0} : new int[0];
+
+        return new EvaluationSummary(
+            wrapped.nodes() + 1,
+            wrapped.failures() + (negatedResult.isFalse() ? 1 : 0),
+            wrapped.skipped(),
+            wrapped.maxDepth() + 1,
+            failedChildIndices,
+            0
+        );
     }
 
     private static Result result(final Evaluation wrappedEvaluation) {
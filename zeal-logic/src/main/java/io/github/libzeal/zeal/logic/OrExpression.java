@@ -3,13 +3,14 @@ package io.github.libzeal.zeal.logic;
 import io.github.libzeal.zeal.logic.CompoundEvaluator.CompoundRationaleBuilder;
 import io.github.libzeal.zeal.logic.CompoundEvaluator.Tally;
 import io.github.libzeal.zeal.logic.evaluation.Evaluation;
+import io.github.libzeal.zeal.logic.util.Lazy;
 
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.List;
+import java.util.function.Supplier;
 
 import static io.github.libzeal.zeal.logic.util.ArgumentValidator.requireDoesNotContainNulls;
-import static java.util.Objects.requireNonNull;
 
 /**
  * A compound expression where at least one sub-expression must be pass for the compound expression to pass.
@@ -20,7 +21,7 @@ import static java.util.Objects.requireNonNull;
 public class OrExpression implements CompoundExpression {
 
     static final String DEFAULT_NAME = "OR";
-    private final String name;
+    private final Lazy<String> name;
     private final List<Expression> children;
 
     /**
@@ -35,10 +36,34 @@ public class OrExpression implements CompoundExpression {
      *     The supplied name is {@code null} or the children contains a {@code null} value.
      */
     public OrExpression(String name, List<Expression> children) {
-        this.name = requireNonNull(name);
+        this(Lazy.value(name), children);
+    }
+
+    private OrExpression(final Lazy<String> name, final List<Expression> children) {
+        this.name = name;
         this.children = requireDoesNotContainNulls(children);
     }
 
+    /**
+     * Creates a new disjunctive expression whose name is computed only when it is first needed, such as when the
+     * evaluation of the expression is formatted.
+     *
+     * @param name
+     *     The supplier used to compute the name of the expression. The supplier must not return {@code null}.
+     * @param children
+     *     The expressions used to initialize the compound expression.
+     *
+     * @return A disjunctive expression with a lazily computed name.
+     *
+     * @throws NullPointerException
+     *     The supplied name supplier is {@code null} or the children contains a {@code null} value.
+     *
+     * @since 0.5.0
+     */
+    public static OrExpression lazilyNamed(final Supplier<String> name, final List<Expression> children) {
+        return new OrExpression(Lazy.of(name), children);
+    }
+
     /**
      * Creates a new disjunctive expression using a default name.
      *
@@ -84,7 +109,7 @@ public class OrExpression implements CompoundExpression {
 
     @Override
     public String name() {
-        return name;
+        return name.get();
     }
 
     @Override
@@ -102,6 +127,23 @@ public class OrExpression implements CompoundExpression {
         return children;
     }
 
+    @Override
+    public boolean test() {
+
+        if (children.isEmpty()) {
+            return true;
+        }
+
+        for (final Expression child : children) {
+
+            if (child.test()) {
+                return true;
+            }
+        }
+
+        return false;
+    }
+
     @Override
     public Evaluation evaluate() {
 
@@ -0,0 +1,224 @@
+package io.github.libzeal.zeal.logic;
+
+import java.util.concurrent.Executor;
+import java.util.concurrent.ForkJoinPool;
+
+import static java.util.Objects.requireNonNull;
+
+/**
+ * A strategy that determines whether the children of compound expressions, such as {@link AndExpression} and
+ * {@link OrExpression}, are evaluated sequentially or in parallel. The following strategies are available:
+ * <ol>
+ *     <li>{@link #sequential()}: Children are evaluated one at a time, in order, on the calling thread (the
+ *     default)</li>
+ *     <li>{@link #on(ForkJoinPool)}: Children are evaluated concurrently on the supplied pool</li>
+ *     <li>{@link #racing(ForkJoinPool)}: Children are evaluated concurrently on the supplied pool and the result is
+ *     decided by the first child to complete whose evaluation decides the result on its own</li>
+ *     <li>{@link #virtualThreads()}: Children are evaluated concurrently, each on its own virtual thread (requires Java
+ *     21 or later)</li>
+ * </ol>
+ * <p>
+ * Evaluation using {@link #on(ForkJoinPool)} does not change the result of a compound expression or its cause: the
+ * evaluations of the children are tallied in order, so the deciding child is the same child that would have decided
+ * the result if the children were evaluated sequentially, and the children following the deciding child are reported
+ * as skipped. Once the result of a compound expression is known to be decided, its outstanding children are
+ * cancelled. Children that have not started are not evaluated, but children that are already being evaluated run to
+ * completion and their evaluations are discarded.
+ * <p>
+ * Racing evaluation trades the deciding semantics of sequential evaluation for latency: the result of a disjunction is
+ * decided as soon as any child passes (and the result of a conjunction as soon as any child fails), regardless of the
+ * order of the children. The children that have not completed when the result is decided are cancelled and reported as
+ * skipped, with the deciding evaluation as their cause. This is intended for compound expressions whose children are
+ * slow or I/O-bound, such as lookups that each independently allow an operation. Since the children of such
+ * expressions usually block, the supplied pool should have enough threads to run all children at once. If no child
+ * decides the result on its own, the result is the same as if the children were evaluated sequentially.
+ * <p>
+ * Evaluation using {@link #virtualThreads()} has the same semantics as evaluation using {@link #on(ForkJoinPool)}, but
+ * is intended for children that block, such as checks that wait on local I/O, since a blocked virtual thread does not
+ * occupy a platform thread. In addition, evaluation on virtual threads is structured: when the result of a compound
+ * expression is decided (e.g., a child of a conjunction fails), children that are still being evaluated are
+ * interrupted, so that blocking children stop waiting as soon as their evaluations are no longer needed.
+ * <p>
+ * Parallel evaluation is only beneficial when evaluating the children is expensive (such as computing checksums or
+ * scanning large collections), since each child is submitted to the pool as a separate task. Compound expressions with
+ * fewer children than {@link #minimumChildren()} are always evaluated sequentially.
+ * <p>
+ * The strategy used by all compound expressions is set globally using {@link #setDefault(ParallelEvaluation)}, which
+ * is intended to be called once at startup. For example:
+ * <pre><code>ParallelEvaluation.setDefault(ParallelEvaluation.on(ForkJoinPool.commonPool()));</code></pre>
+ *
+ * @author Justin Albano
+ * @since 0.5.0
+ */
+public final class ParallelEvaluation {
+
+    private static final int DEFAULT_MINIMUM_CHILDREN = 2;
+    private static final ParallelEvaluation SEQUENTIAL = new ParallelEvaluation(null, Integer.MAX_VALUE, false, false);
+
+    private static volatile ParallelEvaluation defaultEvaluation = SEQUENTIAL;
+
+    private final Executor executor;
+    private final int minimumChildren;
+    private final boolean racing;
+    private final boolean interruptsCancelled;
+
+    private ParallelEvaluation(final Executor executor, final int minimumChildren, final boolean racing,
+                               final boolean interruptsCancelled) {
+        this.executor = executor;
+        this.minimumChildren = minimumChildren;
+        this.racing = racing;
+        this.interruptsCancelled = interruptsCancelled;
+    }
+
+    /**
+     * Obtains a strategy that evaluates the children of compound expressions sequentially.
+     *
+     * @return A sequential strategy.
+     */
+    public static ParallelEvaluation sequential() {
+        return SEQUENTIAL;
+    }
+
+    /**
+     * Creates a strategy that evaluates the children of compound expressions concurrently on the supplied pool.
+     *
+     * @param pool
+     *     The pool used to evaluate the children of compound expressions.
+     *
+     * @return A parallel strategy.
+     *
+     * @throws NullPointerException
+     *     The supplied pool is {@code null}.
+     */
+    public static ParallelEvaluation on(final ForkJoinPool pool) {
+        return new ParallelEvaluation(requireNonNull(pool), DEFAULT_MINIMUM_CHILDREN, false, false);
+    }
+
+    /**
+     * Creates a strategy that evaluates the children of compound expressions concurrently on the supplied pool and
+     * decides the result using the first child to complete whose evaluation decides the result on its own.
+     *
+     * @param pool
+     *     The pool used to evaluate the children of compound expressions.
+     *
+     * @return A racing strategy.
+     *
+     * @throws NullPointerException
+     *     The supplied pool is {@code null}.
+     */
+    public static ParallelEvaluation racing(final ForkJoinPool pool) {
+        return new ParallelEvaluation(requireNonNull(pool), DEFAULT_MINIMUM_CHILDREN, true, false);
+    }
+
+    /**
+     * Obtains a strategy that evaluates the children of compound expressions concurrently, each on its own virtual
+     * thread. Virtual threads are only available in Java 21 and later.
+     *
+     * @return A strategy that evaluates children on virtual threads.
+     *
+     * @throws UnsupportedOperationException
+     *     Virtual threads are not supported by the current Java version.
+     * @see #virtualThreadsSupported()
+     */
+    public static ParallelEvaluation virtualThreads() {
+        return new ParallelEvaluation(VirtualThreads.executor(), DEFAULT_MINIMUM_CHILDREN, false, true);
+    }
+
+    /**
+     * Obtains whether the current Java version supports evaluating children on virtual threads.
+     *
+     * @return True if {@link #virtualThreads()} is supported; false otherwise.
+     */
+    public static boolean virtualThreadsSupported() {
+        return VirtualThreads.isSupported();
+    }
+
+    /**
+     * Obtains the strategy used by all compound expressions.
+     *
+     * @return The default strategy.
+     */
+    public static ParallelEvaluation getDefault() {
+        return defaultEvaluation;
+    }
+
+    /**
+     * Sets the strategy used by all compound expressions.
+     *
+     * @param evaluation
+     *     The new default strategy.
+     *
+     * @throws NullPointerException
+     *     The supplied strategy is {@code null}.
+     */
+    public static void setDefault(final ParallelEvaluation evaluation) {
+        defaultEvaluation = requireNonNull(evaluation);
+    }
+
+    /**
+     * Creates a copy of this strategy that only evaluates compound expressions in parallel if they have at least the
+     * supplied number of children.
+     *
+     * @param minimumChildren
+     *     The minimum number of children a compound expression must have to be evaluated in parallel.
+     *
+     * @return A strategy with the supplied minimum number of children.
+     *
+     * @throws IllegalStateException
+     *     This strategy is sequential.
+     * @throws IllegalArgumentException
+     *     The supplied minimum is less than 2.
+     */
+    public ParallelEvaluation withMinimumChildren(final int minimumChildren) {
+
+        if (!isParallel()) {
+            throw new IllegalStateException("Sequential evaluation does not have a minimum number of children");
+        }
+        else if (minimumChildren < DEFAULT_MINIMUM_CHILDREN) {
+            throw new IllegalArgumentException("Minimum number of children must be greater than or equal to 2");
+        }
+
+        return new ParallelEvaluation(executor, minimumChildren, racing, interruptsCancelled);
+    }
+
+    /**
+     * Obtains whether this strategy evaluates children in parallel.
+     *
+     * @return True if this strategy evaluates children in parallel; false otherwise.
+     */
+    public boolean isParallel() {
+        return executor != null;
+    }
+
+    /**
+     * Obtains whether this strategy decides the result using the first child to complete whose evaluation decides the
+     * result on its own.
+     *
+     * @return True if this strategy races the children of compound expressions; false otherwise.
+     */
+    public boolean isRacing() {
+        return racing;
+    }
+
+    /**
+     * Obtains the minimum number of children a compound expression must have to be evaluated in parallel.
+     *
+     * @return The minimum number of children. If this strategy is sequential, {@link Integer#MAX_VALUE} is
+     *     returned.
+     */
+    public int minimumChildren() {
+        return minimumChildren;
+    }
+
+    boolean appliesTo(final int children) {
+        return isParallel() && children >= minimumChildren;
+    }
+
+    Executor executor() {
+        return executor;
+    }
+
+    boolean interruptsCancelled() {
+        return interruptsCancelled;
+    }
+}
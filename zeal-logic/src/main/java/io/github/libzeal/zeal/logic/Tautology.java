@@ -38,4 +38,9 @@ class Tautology implements Expression {
     public Evaluation evaluate() {
         return EVALUATION;
     }
+
+    @Override
+    public boolean test() {
+        return true;
+    }
 }
@@ -0,0 +1,38 @@
+package io.github.libzeal.zeal.logic;
+
+import java.util.concurrent.Executor;
+
+/**
+ * Access to virtual threads, which are available in Java 21 and later. This class is the implementation used by
+ * earlier Java versions, where virtual threads are not supported. The multi-release JAR of this library contains a
+ * separate implementation of this class, under {@code META-INF/versions/21}, that is used by Java 21 and later.
+ *
+ * @author Justin Albano
+ * @since 0.5.0
+ */
+final class VirtualThreads {
+
+    private VirtualThreads() {
+    }
+
+    /**
+     * Obtains whether virtual threads are supported by the current Java version.
+     *
+     * @return False, since virtual threads are not supported by this Java version.
+     */
+    static boolean isSupported() {
+        return false;
+    }
+
+    /**
+     * Obtains an executor that runs each task on a new virtual thread.
+     *
+     * @return Nothing, since virtual threads are not supported by this Java version.
+     *
+     * @throws UnsupportedOperationException
+     *     Always thrown, since virtual threads are not supported by this Java version.
+     */
+    static Executor executor() {
+        throw new UnsupportedOperationException("Virtual threads require Java 21 or later");
+    }
+}
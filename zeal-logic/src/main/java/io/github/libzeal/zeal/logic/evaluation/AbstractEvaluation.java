@@ -0,0 +1,73 @@
+package io.github.libzeal.zeal.logic.evaluation;
+
+import io.github.libzeal.zeal.logic.evaluation.cause.Cause;
+import io.github.libzeal.zeal.logic.evaluation.cause.CauseGenerator;
+
+import java.util.concurrent.atomic.AtomicReferenceFieldUpdater;
+import java.util.function.Function;
+
+/**
+ * The base class of the evaluations of this package, which generates the cause of an evaluation the first time it is
+ * needed.
+ * <p>
+ * A memoized value, such as the cause, may be computed more than once if it is first needed concurrently, but only the
+ * first computed value is published: every caller obtains the same instance, which allows causes to be compared by
+ * identity.
+ *
+ * @author Justin Albano
+ * @since 0.5.0
+ */
+abstract class AbstractEvaluation implements Evaluation {
+
+    private static final AtomicReferenceFieldUpdater<AbstractEvaluation, Cause> CAUSE =
+        AtomicReferenceFieldUpdater.newUpdater(AbstractEvaluation.class, Cause.class, "cause");
+
+    private final CauseGenerator causeGenerator;
+    private volatile Cause cause;
+
+    /**
+     * Creates a new evaluation.
+     *
+     * @param causeGenerator
+     *     The generator used to generate the cause of the evaluation the first time it is needed.
+     */
+    AbstractEvaluation(final CauseGenerator causeGenerator) {
+        this.causeGenerator = causeGenerator;
+    }
+
+    @Override
+    public final Cause cause() {
+        return memoize(CAUSE, this, causeGenerator::generate);
+    }
+
+    /**
+     * Obtains the value of the supplied field of the supplied evaluation, computing and publishing it if it has not yet
+     * been computed. If the value is computed concurrently, the first published value is returned to every caller.
+     *
+     * @param field
+     *     The updater of the volatile field that stores the value.
+     * @param evaluation
+     *     The evaluation that owns the field.
+     * @param computation
+     *     The computation of the value from the evaluation.
+     * @param <E>
+     *     The type of the evaluation.
+     * @param <V>
+     *     The type of the value.
+     *
+     * @return The published value.
+     */
+    static <E extends Evaluation, V> V memoize(final AtomicReferenceFieldUpdater<E, V> field, final E evaluation,
+                                               final Function<? super E, ? extends V> computation) {
+
+        final V published = field.get(evaluation);
+
+        if (published != null) {
+            return published;
+        }
+
+        field.compareAndSet(evaluation, null, computation.apply(evaluation));
+
+        return field.get(evaluation);
+    }
+}
@@ -1,11 +1,13 @@
 package io.github.libzeal.zeal.logic.evaluation;
 
-import io.github.libzeal.zeal.logic.evaluation.cause.Cause;
 import io.github.libzeal.zeal.logic.evaluation.cause.CauseGenerator;
 import io.github.libzeal.zeal.logic.rationale.Rationale;
+import io.github.libzeal.zeal.logic.util.Lazy;
 
 import java.time.Duration;
 import java.util.List;
+import java.util.concurrent.atomic.AtomicReferenceFieldUpdater;
+import java.util.function.Supplier;
 
 import static java.util.Objects.requireNonNull;
 
@@ -15,24 +17,28 @@ import static java.util.Objects.requireNonNull;
  * @author Justin Albano
  * @since 0.2.1
  */
-public class EvaluatedCompoundEvaluation implements CompoundEvaluation {
+public class EvaluatedCompoundEvaluation extends AbstractEvaluation implements CompoundEvaluation {
+
+    private static final AtomicReferenceFieldUpdater<EvaluatedCompoundEvaluation, EvaluationSummary> SUMMARY =
+        AtomicReferenceFieldUpdater.newUpdater(EvaluatedCompoundEvaluation.class, EvaluationSummary.class, "summary");
 
     private final Result result;
-    private final String name;
+    private final Supplier<String> name;
     private final Rationale rationale;
     private final Duration elapsedTime;
-    private final CauseGenerator causeGenerator;
     private final List<Evaluation> children;
+    private volatile EvaluationSummary summary;
 
-    private EvaluatedCompoundEvaluation(final Result result, final String name, final Rationale rationale,
+    private EvaluatedCompoundEvaluation(final Result result, final Supplier<String> name, final Rationale rationale,
                                         final Duration elapsedTime, final CauseGenerator causeGenerator,
-                                        final List<Evaluation> children) {
+                                        final List<Evaluation> children, final EvaluationSummary summary) {
+        super(requireNonNull(causeGenerator));
         this.result = requireNonNull(result);
         this.name = requireNonNull(name);
         this.rationale = requireNonNull(rationale);
         this.elapsedTime = requireNonNull(elapsedTime);
-        this.causeGenerator = requireNonNull(causeGenerator);
         this.children = requireNonNull(children);
+        this.summary = summary;
     }
 
     /**
@@ -56,7 +62,8 @@ public class EvaluatedCompoundEvaluation implements CompoundEvaluation {
      */
     public static EvaluatedCompoundEvaluation ofTrue(final String name, final Rationale rationale, final Duration elapsedTime,
                                                      final CauseGenerator causeGenerator, final List<Evaluation> children) {
-        return new EvaluatedCompoundEvaluation(Result.TRUE, name, rationale, elapsedTime, causeGenerator, children);
+        return new EvaluatedCompoundEvaluation(Result.TRUE, Lazy.value(name), rationale, elapsedTime,
+            causeGenerator, children, null);
     }
 
     /**
@@ -80,7 +87,73 @@ public class EvaluatedCompoundEvaluation implements CompoundEvaluation {
      */
     public static EvaluatedCompoundEvaluation ofFalse(final String name, final Rationale rationale, final Duration elapsedTime,
                                                       final CauseGenerator causeGenerator, final List<Evaluation> children) {
-        return new EvaluatedCompoundEvaluation(Result.FALSE, name, rationale, elapsedTime, causeGenerator, children);
+        return new EvaluatedCompoundEvaluation(Result.FALSE, Lazy.value(name), rationale, elapsedTime,
+            causeGenerator, children, null);
+    }
+
+    /**
+     * Creates a compound evaluation whose name is computed only when it is first needed, such as when the evaluation
+     * is formatted.
+     *
+     * @param result
+     *     The result of the evaluation.
+     * @param name
+     *     The supplier used to compute the name of the evaluation. The supplier must not return {@code null}.
+     * @param rationale
+     *     The ration for the evaluation.
+     * @param elapsedTime
+     *     The elapsed time of the evaluation.
+     * @param causeGenerator
+     *     The cause generator of the evaluation.
+     * @param children
+     *     The children of the evaluation.
+     *
+     * @return A new compound evaluation.
+     *
+     * @throws NullPointerException
+     *     Any of the supplied arguments are {@code null}.
+     *
+     * @since 0.5.0
+     */
+    public static EvaluatedCompoundEvaluation of(final Result result, final Supplier<String> name,
+                                                 final Rationale rationale, final Duration elapsedTime,
+                                                 final CauseGenerator causeGenerator, final List<Evaluation> children) {
+        return new EvaluatedCompoundEvaluation(result, Lazy.of(name), rationale, elapsedTime, causeGenerator, children,
+            null);
+    }
+
+    /**
+     * Creates a compound evaluation whose name is computed only when it is first needed and whose summary was recorded
+     * while its children were evaluated.
+     *
+     * @param result
+     *     The result of the evaluation.
+     * @param name
+     *     The supplier used to compute the name of the evaluation. The supplier must not return {@code null}.
+     * @param rationale
+     *     The ration for the evaluation.
+     * @param elapsedTime
+     *     The elapsed time of the evaluation.
+     * @param causeGenerator
+     *     The cause generator of the evaluation.
+     * @param children
+     *     The children of the evaluation.
+     * @param summary
+     *     The summary of the evaluation.
+     *
+     * @return A new compound evaluation.
+     *
+     * @throws NullPointerException
+     *     Any of the supplied arguments are {@code null}.
+     *
+     * @since 0.5.0
+     */
+    public static EvaluatedCompoundEvaluation of(final Result result, final Supplier<String> name,
+                                                 final Rationale rationale, final Duration elapsedTime,
+                                                 final CauseGenerator causeGenerator, final List<Evaluation> children,
+                                                 final EvaluationSummary summary) {
+        return new EvaluatedCompoundEvaluation(result, Lazy.of(name), rationale, elapsedTime, causeGenerator, children,
+            requireNonNull(summary));
     }
 
     @Override
@@ -90,7 +163,7 @@ public class EvaluatedCompoundEvaluation implements CompoundEvaluation {
 
     @Override
     public String name() {
-        return name;
+        return name.get();
     }
 
     @Override
@@ -104,12 +177,27 @@ public class EvaluatedCompoundEvaluation implements CompoundEvaluation {
     }
 
     @Override
-    public Cause cause() {
-        return causeGenerator.generate(this);
+    public List<Evaluation> children() {
+        return children;
     }
 
+    /**
+     * {@inheritDoc}
+     * <p>
+     * If the summary was not recorded when this evaluation was created, it is computed the first time it is needed.
+     */
     @Override
-    public List<Evaluation> children() {
-        return children;
+    public EvaluationSummary summary() {
+
+        return memoize(SUMMARY, this, EvaluationSummary::of);
+    }
+
+    /**
+     * Obtains the summary of this evaluation if it has already been recorded or computed.
+     *
+     * @return The summary of this evaluation, or {@code null} if it has not been recorded or computed.
+     */
+    EvaluationSummary recordedSummary() {
+        return summary;
     }
 }
@@ -1,6 +1,5 @@
 package io.github.libzeal.zeal.logic.evaluation;
 
-import io.github.libzeal.zeal.logic.evaluation.cause.Cause;
 import io.github.libzeal.zeal.logic.evaluation.cause.CauseGenerator;
 import io.github.libzeal.zeal.logic.rationale.Rationale;
 
@@ -15,21 +14,20 @@ import static java.util.Objects.requireNonNull;
  * @author Justin Albano
  * @since 0.2.1
  */
-public class EvaluatedTerminalEvaluation implements TerminalEvaluation {
+public class EvaluatedTerminalEvaluation extends AbstractEvaluation implements TerminalEvaluation {
 
     private final Result result;
     private final String name;
     private final Rationale rationale;
     private final Duration elapsedTime;
-    private final CauseGenerator causeGenerator;
 
     EvaluatedTerminalEvaluation(final Result result, final String name, final Rationale rationale,
                                 final Duration elapsedTime, final CauseGenerator causeGenerator) {
+        super(requireNonNull(causeGenerator));
         this.result = requireNonNull(result);
         this.name = requireNonNull(name);
         this.rationale = requireNonNull(rationale);
         this.elapsedTime = requireNonNull(elapsedTime);
-        this.causeGenerator = requireNonNull(causeGenerator);
     }
 
     /**
@@ -102,11 +100,6 @@ public class EvaluatedTerminalEvaluation implements TerminalEvaluation {
         return elapsedTime;
     }
 
-    @Override
-    public Cause cause() {
-        return causeGenerator.generate(this);
-    }
-
     @Override
     public boolean equals(final Object o) {
 
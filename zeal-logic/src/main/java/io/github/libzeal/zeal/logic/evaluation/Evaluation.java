@@ -5,6 +5,8 @@ import io.github.libzeal.zeal.logic.evaluation.cause.Cause;
 import io.github.libzeal.zeal.logic.rationale.Rationale;
 
 import java.time.Duration;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
 
 /**
  * An {@link Expression} that has been evaluated. An evaluated expression contains a state, the name of the evaluation
@@ -54,4 +56,55 @@ public interface Evaluation {
      * @since 0.2.1
      */
     Cause cause();
+
+    /**
+     * Obtains the summary of the evaluation tree rooted at this evaluation.
+     *
+     * @return The summary of this evaluation.
+     *
+     * @see EvaluationSummary#of(Evaluation)
+     * @since 0.5.0
+     */
+    default EvaluationSummary summary() {
+        return EvaluationSummary.of(this);
+    }
+
+    /**
+     * Obtains a stream of this evaluation and all of its descendants, in depth-first pre-order. The evaluation tree is
+     * traversed lazily as the stream is consumed, without first copying the evaluations into a collection. The stream
+     * can be made parallel using {@link Stream#parallel()}, in which case the tree is split between child subtrees.
+     *
+     * @return A stream of this evaluation and all of its descendants.
+     *
+     * @since 0.5.0
+     */
+    default Stream<Evaluation> stream() {
+        return StreamSupport.stream(new EvaluationSpliterator(this), false);
+    }
+
+    /**
+     * Obtains a stream of the evaluations in the tree rooted at this evaluation (including this evaluation) whose
+     * result is {@link Result#FALSE}, in depth-first pre-order.
+     *
+     * @return A stream of the failed evaluations in the tree rooted at this evaluation.
+     *
+     * @since 0.5.0
+     */
+    default Stream<Evaluation> failures() {
+        return stream().filter(e -> e.result().isFalse());
+    }
+
+    /**
+     * Obtains a stream of the evaluations in the tree rooted at this evaluation (including this evaluation) that do
+     * not have children, in depth-first pre-order.
+     *
+     * @return A stream of the leaf evaluations in the tree rooted at this evaluation.
+     *
+     * @since 0.5.0
+     */
+    default Stream<Evaluation> leaves() {
+        return stream().filter(e ->
+            !(e instanceof CompoundEvaluation) || ((CompoundEvaluation) e).children().isEmpty()
+        );
+    }
 }
@@ -0,0 +1,192 @@
+package io.github.libzeal.zeal.logic.evaluation;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.List;
+import java.util.RandomAccess;
+import java.util.Spliterator;
+import java.util.function.Consumer;
+
+import static java.util.Objects.requireNonNull;
+
+/**
+ * A spliterator that lazily visits an evaluation and all of its descendants in depth-first pre-order (i.e., the same
+ * order as {@link io.github.libzeal.zeal.logic.evaluation.traverse.DepthFirstTraverser}).
+ * <p>
+ * The spliterator holds a stack of frames, one for each list of siblings being visited, so the memory it uses is
+ * proportional to the depth of the tree rather than its size. Splitting divides the remaining siblings of the
+ * outermost frame between the two spliterators, so each spliterator visits whole subtrees.
+ *
+ * @author Justin Albano
+ * @since 0.5.0
+ */
+class EvaluationSpliterator implements Spliterator<Evaluation> {
+
+    private ArrayDeque<Frame> stack;
+
+    /**
+     * Creates a spliterator for the supplied evaluation and its descendants.
+     *
+     * @param root
+     *     The evaluation to visit.
+     *
+     * @throws NullPointerException
+     *     The supplied evaluation is {@code null}.
+     */
+    public EvaluationSpliterator(final Evaluation root) {
+        this(new ArrayDeque<>());
+        stack.push(new Frame(Collections.singletonList(requireNonNull(root)), 0, 1, true));
+    }
+
+    private EvaluationSpliterator(final ArrayDeque<Frame> stack) {
+        this.stack = stack;
+    }
+
+    @Override
+    public boolean tryAdvance(final Consumer<? super Evaluation> action) {
+
+        requireNonNull(action);
+
+        while (!stack.isEmpty()) {
+
+            final Frame frame = stack.peek();
+
+            if (frame.remaining() == 0) {
+                stack.pop();
+                continue;
+            }
+
+            final Evaluation evaluation = frame.evaluations.get(frame.index++);
+
+            if (frame.expand && evaluation instanceof CompoundEvaluation) {
+
+                final List<Evaluation> children = childrenOf((CompoundEvaluation) evaluation);
+
+                if (!children.isEmpty()) {
+                    stack.push(new Frame(children, 0, children.size(), true));
+                }
+            }
+
+            action.accept(evaluation);
+
+            return true;
+        }
+
+        return false;
+    }
+
+    @Override
+    public Spliterator<Evaluation> trySplit() {
+
+        while (!stack.isEmpty() && stack.peekLast().remaining() == 0) {
+            stack.pollLast();
+        }
+
+        if (stack.isEmpty()) {
+            return null;
+        }
+
+        final Frame outermost = stack.peekLast();
+        final int remaining = outermost.remaining();
+
+        if (remaining >= 2 || (remaining == 1 && hasInnerRemaining())) {
+
+            final int middle = outermost.index + remaining / 2;
+            final ArrayDeque<Frame> prefix = stack;
+
+            stack = new ArrayDeque<>();
+            stack.push(new Frame(outermost.evaluations, middle, outermost.fence, true));
+            outermost.fence = middle;
+
+            return new EvaluationSpliterator(prefix);
+        }
+        else if (remaining == 1 && stack.size() == 1) {
+            return splitLoneEvaluation(outermost);
+        }
+        else {
+            return null;
+        }
+    }
+
+    private boolean hasInnerRemaining() {
+
+        final Iterator<Frame> frames = stack.iterator();
+
+        for (int i = 0; i < stack.size() - 1; i++) {
+
+            if (frames.next().remaining() > 0) {
+                return true;
+            }
+        }
+
+        return false;
+    }
+
+    /**
+     * Splits the single remaining evaluation of the supplied frame from its children, so the returned spliterator only
+     * visits the evaluation and this spliterator visits its descendants.
+     */
+    private Spliterator<Evaluation> splitLoneEvaluation(final Frame frame) {
+
+        final Evaluation evaluation = frame.evaluations.get(frame.index);
+
+        if (!frame.expand || !(evaluation instanceof CompoundEvaluation)) {
+            return null;
+        }
+
+        final List<Evaluation> children = childrenOf((CompoundEvaluation) evaluation);
+
+        if (children.isEmpty()) {
+            return null;
+        }
+
+        final ArrayDeque<Frame> prefix = new ArrayDeque<>();
+
+        prefix.push(new Frame(frame.evaluations, frame.index, frame.index + 1, false));
+        stack.clear();
+        stack.push(new Frame(children, 0, children.size(), true));
+
+        return new EvaluationSpliterator(prefix);
+    }
+
+    private static List<Evaluation> childrenOf(final CompoundEvaluation evaluation) {
+
+        final List<Evaluation> children = evaluation.children();
+
+        return children instanceof RandomAccess ? children : new ArrayList<>(children);
+    }
+
+    @Override
+    public long estimateSize() {
+        return Long.MAX_VALUE;
+    }
+
+    @Override
+    public int characteristics() {
+        return ORDERED | NONNULL;
+    }
+
+    /**
+     * A range of siblings being visited.
+     */
+    private static final class Frame {
+
+        private final List<Evaluation> evaluations;
+        private final boolean expand;
+        private int index;
+        private int fence;
+
+        private Frame(final List<Evaluation> evaluations, final int index, final int fence, final boolean expand) {
+            this.evaluations = evaluations;
+            this.index = index;
+            this.fence = fence;
+            this.expand = expand;
+        }
+
+        private int remaining() {
+            return fence - index;
+        }
+    }
+}
@@ -0,0 +1,249 @@
+package io.github.libzeal.zeal.logic.evaluation;
+
+import io.github.libzeal.zeal.logic.evaluation.cause.Cause;
+import io.github.libzeal.zeal.logic.evaluation.traverse.DepthFirstTraverser;
+import io.github.libzeal.zeal.logic.evaluation.traverse.PrunableTraverserAction;
+import io.github.libzeal.zeal.logic.evaluation.traverse.TraversalDecision;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.OptionalInt;
+
+/**
+ * A summary of an evaluation tree, containing aggregate counts for the tree and the indices of the children of its
+ * root that failed or decided its result.
+ * <p>
+ * A skipped evaluation is counted as a single skipped evaluation, regardless of its children, since the children of a
+ * skipped evaluation were not evaluated.
+ * <p>
+ * The summaries of compound evaluations created by compound expressions (such as
+ * {@link io.github.libzeal.zeal.logic.AndExpression}) are recorded while the expression is evaluated, so obtaining
+ * the summary, or following the failed or deciding children from the root of the tree to a failed leaf, does not
+ * require a traversal of the tree.
+ *
+ * @author Justin Albano
+ * @since 0.5.0
+ */
+public final class EvaluationSummary {
+
+    private static final int[] NO_INDICES = new int[0];
+    private static final EvaluationSummary TRUE_TERMINAL = new EvaluationSummary(1, 0, 0, 0, NO_INDICES, -1);
+    private static final EvaluationSummary FALSE_TERMINAL = new EvaluationSummary(1, 1, 0, 0, NO_INDICES, -1);
+    private static final EvaluationSummary SKIPPED = new EvaluationSummary(1, 0, 1, 0, NO_INDICES, -1);
+
+    private final int nodes;
+    private final int failures;
+    private final int skipped;
+    private final int maxDepth;
+    private final int[] failedChildIndices;
+    private final int deciderIndex;
+
+    /**
+     * Creates a new summary.
+     *
+     * @param nodes
+     *     The number of evaluations in the tree, including the root.
+     * @param failures
+     *     The number of failed evaluations in the tree.
+     * @param skipped
+     *     The number of skipped evaluations in the tree.
+     * @param maxDepth
+     *     The depth of the deepest evaluation in the tree, where the root has a depth of 0.
+     * @param failedChildIndices
+     *     The indices of the children of the root that failed, in ascending order.
+     * @param deciderIndex
+     *     The index of the child of the root that decided the result of the root, or -1 if no child decided the
+     *     result.
+     *
+     * @throws NullPointerException
+     *     The supplied indices are {@code null}.
+     * @throws IllegalArgumentException
+     *     Any of the supplied counts are negative, or the supplied decider index is less than -1.
+     */
+    public EvaluationSummary(final int nodes, final int failures, final int skipped, final int maxDepth,
+                             final int[] failedChildIndices, final int deciderIndex) {
+
+        if (nodes < 1 || failures < 0 || skipped < 0 || maxDepth < 0) {
+            throw new IllegalArgumentException("Counts cannot be negative and must include the root");
+        }
+
+        if (deciderIndex < -1) {
+            throw new IllegalArgumentException("Decider index cannot be less than -1");
+        }
+
+        this.nodes = nodes;
+        this.failures = failures;
+        this.skipped = skipped;
+        this.maxDepth = maxDepth;
+        this.failedChildIndices = failedChildIndices.length == 0 ? NO_INDICES : failedChildIndices.clone();
+        this.deciderIndex = deciderIndex;
+    }
+
+    /**
+     * Computes the summary of the supplied evaluation. The tree is traversed iteratively, but the recorded summary of
+     * any compound evaluation in the tree is used in place of traversing its children.
+     *
+     * @param evaluation
+     *     The evaluation to summarize.
+     *
+     * @return The summary of the supplied evaluation.
+     *
+     * @throws NullPointerException
+     *     The supplied evaluation is {@code null}.
+     */
+    public static EvaluationSummary of(final Evaluation evaluation) {
+
+        final Result result = evaluation.result();
+
+        if (result.isSkipped()) {
+            return SKIPPED;
+        }
+        else if (!(evaluation instanceof CompoundEvaluation)) {
+            return result.isFalse() ? FALSE_TERMINAL : TRUE_TERMINAL;
+        }
+
+        final CompoundEvaluation compound = (CompoundEvaluation) evaluation;
+        final int[] counts = new int[4];
+
+        new DepthFirstTraverser().traverse(evaluation, (PrunableTraverserAction) (e, context) -> {
+
+            final EvaluationSummary recorded = e == evaluation ? null : recordedSummaryOf(e);
+
+            if (recorded != null) {
+                counts[0] += recorded.nodes;
+                counts[1] += recorded.failures;
+                counts[2] += recorded.skipped;
+                counts[3] = Math.max(counts[3], context.depth() + recorded.maxDepth);
+                return TraversalDecision.SKIP_SUBTREE;
+            }
+
+            counts[0]++;
+            counts[3] = Math.max(counts[3], context.depth());
+
+            if (e.result().isSkipped()) {
+                counts[2]++;
+                return TraversalDecision.SKIP_SUBTREE;
+            }
+
+            if (e.result().isFalse()) {
+                counts[1]++;
+            }
+
+            return TraversalDecision.CONTINUE;
+        });
+
+        return new EvaluationSummary(counts[0], counts[1], counts[2], counts[3], failedChildIndicesOf(compound),
+            deciderIndexOf(compound));
+    }
+
+    private static EvaluationSummary recordedSummaryOf(final Evaluation evaluation) {
+
+        if (evaluation instanceof EvaluatedCompoundEvaluation) {
+            return ((EvaluatedCompoundEvaluation) evaluation).recordedSummary();
+        }
+        else if (evaluation.result().isSkipped()) {
+            return SKIPPED;
+        }
+        else {
+            return null;
+        }
+    }
+
+    private static int[] failedChildIndicesOf(final CompoundEvaluation evaluation) {
+
+        final List<Evaluation> children = evaluation.children();
+        int[] indices = NO_INDICES;
+        int count = 0;
+
+        for (int i = 0; i < children.size(); i++) {
+
+            if (children.get(i).result().isFalse()) {
+
+                if (count == indices.length) {
+                    indices = Arrays.copyOf(indices, Math.max(4, count * 2));
+                }
+
+                indices[count++] = i;
+            }
+        }
+
+        return Arrays.copyOf(indices, count);
+    }
+
+    private static int deciderIndexOf(final CompoundEvaluation evaluation) {
+
+        final Cause cause = evaluation.cause();
+
+        if (cause == null || !cause.underlyingCause().isPresent()) {
+            return -1;
+        }
+
+        final Evaluation decider = cause.underlyingCause().get().evaluation();
+        final List<Evaluation> children = evaluation.children();
+
+        for (int i = 0; i < children.size(); i++) {
+
+            if (children.get(i) == decider) {
+                return i;
+            }
+        }
+
+        return -1;
+    }
+
+    /**
+     * Obtains the number of evaluations in the tree, including the root.
+     *
+     * @return The number of evaluations in the tree.
+     */
+    public int nodes() {
+        return nodes;
+    }
+
+    /**
+     * Obtains the number of failed evaluations in the tree, including the root if it failed.
+     *
+     * @return The number of failed evaluations in the tree.
+     */
+    public int failures() {
+        return failures;
+    }
+
+    /**
+     * Obtains the number of skipped evaluations in the tree.
+     *
+     * @return The number of skipped evaluations in the tree.
+     */
+    public int skipped() {
+        return skipped;
+    }
+
+    /**
+     * Obtains the depth of the deepest evaluation in the tree, where the root has a depth of 0.
+     *
+     * @return The depth of the deepest evaluation in the tree.
+     */
+    public int maxDepth() {
+        return maxDepth;
+    }
+
+    /**
+     * Obtains the indices of the children of the root that failed, in ascending order.
+     *
+     * @return A copy of the indices of the failed children of the root.
+     */
+    public int[] failedChildIndices() {
+        return failedChildIndices.length == 0 ? NO_INDICES : failedChildIndices.clone();
+    }
+
+    /**
+     * Obtains the index of the child of the root that decided the result of the root, such as the first failed child
+     * of a failed AND expression.
+     *
+     * @return An {@link OptionalInt} populated with the index of the deciding child if a child decided the result of
+     *     the root; an empty {@link OptionalInt} otherwise.
+     */
+    public OptionalInt deciderIndex() {
+        return deciderIndex < 0 ? OptionalInt.empty() : OptionalInt.of(deciderIndex);
+    }
+}
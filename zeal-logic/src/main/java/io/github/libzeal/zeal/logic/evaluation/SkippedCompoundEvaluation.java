@@ -1,6 +1,5 @@
 package io.github.libzeal.zeal.logic.evaluation;
 
-import io.github.libzeal.zeal.logic.evaluation.cause.Cause;
 import io.github.libzeal.zeal.logic.evaluation.cause.CauseGenerator;
 import io.github.libzeal.zeal.logic.rationale.Rationale;
 import io.github.libzeal.zeal.logic.rationale.SimpleRationale;
@@ -8,16 +7,15 @@ import io.github.libzeal.zeal.logic.rationale.SimpleRationale;
 import java.time.Duration;
 import java.util.List;
 
-public class SkippedCompoundEvaluation implements CompoundEvaluation {
+public class SkippedCompoundEvaluation extends AbstractEvaluation implements CompoundEvaluation {
 
     private final String name;
-    private final CauseGenerator cause;
     private final List<Evaluation> children;
 
-    public SkippedCompoundEvaluation(final String name, final CauseGenerator cause,
+    public SkippedCompoundEvaluation(final String name, final CauseGenerator causeGenerator,
                                      final List<Evaluation> children) {
+        super(causeGenerator);
         this.name = name;
-        this.cause = cause;
         this.children = children;
     }
 
@@ -41,11 +39,6 @@ public class SkippedCompoundEvaluation implements CompoundEvaluation {
         return Duration.ZERO;
     }
 
-    @Override
-    public Cause cause() {
-        return cause.generate(this);
-    }
-
     @Override
     public List<Evaluation> children() {
         return children;
@@ -1,20 +1,18 @@
 package io.github.libzeal.zeal.logic.evaluation;
 
-import io.github.libzeal.zeal.logic.evaluation.cause.Cause;
 import io.github.libzeal.zeal.logic.evaluation.cause.CauseGenerator;
 import io.github.libzeal.zeal.logic.rationale.Rationale;
 import io.github.libzeal.zeal.logic.rationale.SimpleRationale;
 
 import java.time.Duration;
 
-public class SkippedTerminalEvaluation implements TerminalEvaluation {
+public class SkippedTerminalEvaluation extends AbstractEvaluation implements TerminalEvaluation {
 
     private final String name;
-    private final CauseGenerator cause;
 
-    public SkippedTerminalEvaluation(final String name, final CauseGenerator cause) {
+    public SkippedTerminalEvaluation(final String name, final CauseGenerator causeGenerator) {
+        super(causeGenerator);
         this.name = name;
-        this.cause = cause;
     }
 
     @Override
@@ -36,9 +34,4 @@ public class SkippedTerminalEvaluation implements TerminalEvaluation {
     public Duration elapsedTime() {
         return Duration.ZERO;
     }
-
-    @Override
-    public Cause cause() {
-        return cause.generate(this);
-    }
 }
@@ -5,12 +5,91 @@ import io.github.libzeal.zeal.logic.NotExpression;
 import io.github.libzeal.zeal.logic.CompoundExpression;
 import io.github.libzeal.zeal.logic.evaluation.cause.Cause;
 
+import java.util.AbstractList;
 import java.util.Collections;
 import java.util.List;
+import java.util.RandomAccess;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.concurrent.atomic.AtomicReferenceFieldUpdater;
 import java.util.stream.Collectors;
 
+import static java.util.Objects.requireNonNull;
+
+/**
+ * An evaluator that creates skipped evaluations for expressions that do not need to be evaluated, such as the remaining
+ * children of a compound expression whose result has already been decided. The following modes are available:
+ * <ol>
+ *     <li>{@link #eager()}: The skipped evaluation tree of every skipped expression is created immediately (the
+ *     default)</li>
+ *     <li>{@link #lazy()}: The skipped remainder of a compound expression is represented by a single list that creates
+ *     the skipped evaluation of each expression only when it is accessed (e.g., when a formatter traverses it)</li>
+ * </ol>
+ * <p>
+ * The mode used by all compound expressions is set globally using {@link #setDefault(SkippingEvaluator)}, which is
+ * intended to be called once at startup. For example:
+ * <pre><code>SkippingEvaluator.setDefault(SkippingEvaluator.lazy());</code></pre>
+ * Note that in lazy mode, the skipped evaluations reflect the expressions at the time they are accessed; therefore, if
+ * a skipped compound expression is modified after it is evaluated, the modification may be reflected in the skipped
+ * evaluation.
+ *
+ * @author Justin Albano
+ * @since 0.2.1
+ */
 public class SkippingEvaluator {
 
+    private static final SkippingEvaluator EAGER = new SkippingEvaluator();
+    private static final SkippingEvaluator LAZY = new LazySkippingEvaluator();
+
+    private static volatile SkippingEvaluator defaultEvaluator = EAGER;
+
+    /**
+     * Obtains an evaluator that creates the skipped evaluation tree of every skipped expression immediately.
+     *
+     * @return An eager skipping evaluator.
+     *
+     * @since 0.5.0
+     */
+    public static SkippingEvaluator eager() {
+        return EAGER;
+    }
+
+    /**
+     * Obtains an evaluator that creates skipped evaluations only when they are accessed.
+     *
+     * @return A lazy skipping evaluator.
+     *
+     * @since 0.5.0
+     */
+    public static SkippingEvaluator lazy() {
+        return LAZY;
+    }
+
+    /**
+     * Obtains the skipping evaluator used by all compound expressions.
+     *
+     * @return The default skipping evaluator.
+     *
+     * @since 0.5.0
+     */
+    public static SkippingEvaluator getDefault() {
+        return defaultEvaluator;
+    }
+
+    /**
+     * Sets the skipping evaluator used by all compound expressions.
+     *
+     * @param evaluator
+     *     The new default skipping evaluator.
+     *
+     * @throws NullPointerException
+     *     The supplied evaluator is {@code null}.
+     *
+     * @since 0.5.0
+     */
+    public static void setDefault(final SkippingEvaluator evaluator) {
+        defaultEvaluator = requireNonNull(evaluator);
+    }
+
     public Evaluation skip(final Expression expression, final Cause cause) {
 
         if (expression instanceof NotExpression) {
@@ -36,4 +115,129 @@ public class SkippingEvaluator {
             return new SkippedTerminalEvaluation(expression.name(), e -> cause);
         }
     }
+
+    /**
+     * Appends skipped evaluations for the supplied remaining expressions to the supplied evaluations.
+     *
+     * @param evaluated
+     *     The evaluations of the expressions that were evaluated before the result was decided.
+     * @param remaining
+     *     The remaining expressions to skip.
+     * @param cause
+     *     The cause of the skip.
+     *
+     * @return The evaluations of all expressions, in order, including the skipped evaluations of the remaining
+     *     expressions.
+     *
+     * @since 0.5.0
+     */
+    public List<Evaluation> skipRemaining(final List<Evaluation> evaluated, final List<Expression> remaining,
+                                          final Cause cause) {
+
+        for (final Expression expression : remaining) {
+            evaluated.add(skip(expression, cause));
+        }
+
+        return evaluated;
+    }
+
+    private static final class LazySkippingEvaluator extends SkippingEvaluator {
+
+        @Override
+        public Evaluation skip(final Expression expression, final Cause cause) {
+
+            if (expression instanceof NotExpression) {
+
+                final NotExpression notExpression = (NotExpression) expression;
+
+                return new SkippedCompoundEvaluation(expression.name(), e -> cause,
+                    new SkippedRemainder(this, Collections.emptyList(),
+                        Collections.singletonList(notExpression.wrapped()), cause));
+            }
+            else if (expression instanceof CompoundExpression) {
+
+                final CompoundExpression compoundExpression = (CompoundExpression) expression;
+
+                return new SkippedCompoundEvaluation(expression.name(), e -> cause,
+                    new SkippedRemainder(this, Collections.emptyList(), compoundExpression.children(), cause));
+            }
+            else {
+                return new SkippedTerminalEvaluation(expression.name(), e -> cause);
+            }
+        }
+
+        @Override
+        public List<Evaluation> skipRemaining(final List<Evaluation> evaluated, final List<Expression> remaining,
+                                              final Cause cause) {
+            return new SkippedRemainder(this, evaluated, remaining, cause);
+        }
+    }
+
+    /**
+     * An unmodifiable list containing the evaluations of the expressions evaluated before a result was decided,
+     * followed by the skipped evaluations of the remaining expressions, which are created when first accessed.
+     */
+    private static final class SkippedRemainder extends AbstractList<Evaluation> implements RandomAccess {
+
+        @SuppressWarnings("rawtypes")
+        private static final AtomicReferenceFieldUpdater<SkippedRemainder, AtomicReferenceArray> SKIPPED =
+            AtomicReferenceFieldUpdater.newUpdater(SkippedRemainder.class, AtomicReferenceArray.class, "skipped");
+
+        private final SkippingEvaluator evaluator;
+        private final List<Evaluation> evaluated;
+        private final Expression[] remaining;
+        private final Cause cause;
+        private volatile AtomicReferenceArray<Evaluation> skipped;
+
+        private SkippedRemainder(final SkippingEvaluator evaluator, final List<Evaluation> evaluated,
+                                 final List<Expression> remaining, final Cause cause) {
+            this.evaluator = evaluator;
+            this.evaluated = evaluated;
+            this.remaining = remaining.toArray(new Expression[0]);
+            this.cause = cause;
+        }
+
+        @Override
+        public Evaluation get(final int index) {
+
+            final int offset = evaluated.size();
+
+            if (index < offset) {
+                return evaluated.get(index);
+            }
+
+            final int skippedIndex = index - offset;
+
+            if (skippedIndex >= remaining.length) {
+                throw new IndexOutOfBoundsException("Index: " + index + ", Size: " + size());
+            }
+
+            return skipped(skippedIndex);
+        }
+
+        private Evaluation skipped(final int index) {
+
+            AtomicReferenceArray<Evaluation> evaluations = skipped;
+
+            if (evaluations == null) {
+                SKIPPED.compareAndSet(this, null, new AtomicReferenceArray<Evaluation>(remaining.length));
+                evaluations = skipped;
+            }
+
+            final Evaluation evaluation = evaluations.get(index);
+
+            if (evaluation != null) {
+                return evaluation;
+            }
+
+            evaluations.compareAndSet(index, null, evaluator.skip(remaining[index], cause));
+
+            return evaluations.get(index);
+        }
+
+        @Override
+        public int size() {
+            return evaluated.size() + remaining.length;
+        }
+    }
 }
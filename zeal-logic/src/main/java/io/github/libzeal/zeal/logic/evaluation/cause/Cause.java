@@ -2,8 +2,12 @@ package io.github.libzeal.zeal.logic.evaluation.cause;
 
 import io.github.libzeal.zeal.logic.evaluation.Evaluation;
 
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
 import java.util.Objects;
 import java.util.Optional;
+import java.util.stream.Collectors;
 
 import static java.util.Objects.requireNonNull;
 
@@ -17,6 +21,7 @@ public class Cause {
 
     private final Evaluation evaluation;
     private final Cause underlyingCause;
+    private volatile List<Cause> chain;
 
     /**
      * Creates a cause with an underlying cause.
@@ -77,7 +82,10 @@ public class Cause {
      * @return The root cause of this cause.
      */
     public Cause rootCause() {
-        return rootCauseChain().rootCause();
+
+        final List<Cause> causes = chain();
+
+        return causes.get(causes.size() - 1);
     }
 
     /**
@@ -94,28 +102,60 @@ public class Cause {
      * Obtains a root cause chain for this cause. The chain is created by traversing the underlying cause (if one
      * exists) and finding its transitive underlying causes until a terminal cause is found. If there is no underlying
      * cause, a chain containing only this cause is returned.
+     * <p>
+     * The underlying causes are only traversed the first time the chain is needed; each call returns a new chain
+     * populated with the previously traversed causes, so modifying the returned chain does not affect this cause.
      *
      * @return The root cause chain for this cause.
      */
     public RootCauseChain rootCauseChain() {
+        return new RootCauseChain(new ArrayList<>(chain()));
+    }
+
+    /**
+     * Obtains the causes in the root cause chain of this cause. The chain is computed when it is first needed and is
+     * reused for all subsequent calls, since a cause and its underlying causes are immutable.
+     *
+     * @return The causes in the root cause chain of this cause.
+     */
+    private List<Cause> chain() {
+
+        List<Cause> causes = chain;
+
+        if (causes == null) {
+
+            if (underlyingCause == null) {
+                causes = Collections.singletonList(this);
+            }
+            else {
+                causes = Collections.unmodifiableList(computeRootCauseChain().stream().collect(Collectors.toList()));
+            }
+
+            chain = causes;
+        }
+
+        return causes;
+    }
+
+    private RootCauseChain computeRootCauseChain() {
 
-        final RootCauseChain chain = RootCauseChain.with(this);
+        final RootCauseChain rootCauseChain = RootCauseChain.with(this);
 
         try {
             while (true) {
-                final Cause tail = chain.last();
+                final Cause tail = rootCauseChain.last();
                 final Optional<Cause> next = tail.underlyingCause();
 
                 if (next.isPresent()) {
-                    chain.append(next.get());
+                    rootCauseChain.append(next.get());
                 }
                 else {
-                    return chain;
+                    return rootCauseChain;
                 }
             }
         }
         catch (final MaximumDepthExceededException | CycleDetectedException e) {
-            return chain;
+            return rootCauseChain;
         }
     }
 
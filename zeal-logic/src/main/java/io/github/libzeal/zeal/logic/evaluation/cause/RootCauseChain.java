@@ -1,8 +1,10 @@
 package io.github.libzeal.zeal.logic.evaluation.cause;
 
 import java.util.ArrayList;
+import java.util.IdentityHashMap;
 import java.util.Iterator;
 import java.util.List;
+import java.util.Map;
 import java.util.Spliterator;
 import java.util.function.Consumer;
 import java.util.stream.Collectors;
@@ -21,6 +23,7 @@ public class RootCauseChain implements Iterable<Cause> {
     static final int MAX_DEPTH = 1024;
     private static final int INITIAL_CAPACITY = 5;
     private final List<Cause> chain;
+    private final Map<Cause, Integer> indices;
 
     /**
      * A chain with one element populated with the supplied cause.
@@ -57,6 +60,18 @@ public class RootCauseChain implements Iterable<Cause> {
      */
     public RootCauseChain(final List<Cause> chain) {
         this.chain = validate(chain);
+        this.indices = indicesOf(chain);
+    }
+
+    private static Map<Cause, Integer> indicesOf(final List<Cause> chain) {
+
+        final Map<Cause, Integer> indices = new IdentityHashMap<>();
+
+        for (int i = 0; i < chain.size(); i++) {
+            indices.putIfAbsent(chain.get(i), i);
+        }
+
+        return indices;
     }
 
     private static List<Cause> validate(final List<Cause> chain) {
@@ -80,8 +95,8 @@ public class RootCauseChain implements Iterable<Cause> {
      *     The cause to append.
      *
      * @throws CycleDetectedException
-     *     The supplied cause already exists in the chain. Note: the supplied cause is <em>not</em> added to the chain
-     *     if a cycle is detected.
+     *     The supplied cause already exists in the chain (the same instance, compared by identity). Note: the supplied
+     *     cause is <em>not</em> added to the chain if a cycle is detected.
      */
     public void append(final Cause cause) {
 
@@ -89,12 +104,13 @@ public class RootCauseChain implements Iterable<Cause> {
             throw new MaximumDepthExceededException(MAX_DEPTH);
         }
 
-        final int existingIndex = chain.indexOf(cause);
+        final Integer existingIndex = indices.get(cause);
 
-        if (existingIndex != -1) {
+        if (existingIndex != null) {
             throw new CycleDetectedException(cause, existingIndex);
         }
 
+        indices.put(cause, chain.size());
         chain.add(cause);
     }
 
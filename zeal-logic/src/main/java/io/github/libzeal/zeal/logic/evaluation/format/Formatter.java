@@ -2,6 +2,9 @@ package io.github.libzeal.zeal.logic.evaluation.format;
 
 import io.github.libzeal.zeal.logic.evaluation.Evaluation;
 
+import java.io.IOException;
+import java.io.UncheckedIOException;
+
 /**
  * A service responsible for formatting an {@link Evaluation}.
  *
@@ -19,4 +22,56 @@ public interface Formatter {
      * @return The formatted evaluation.
      */
     String format(Evaluation evaluation);
+
+    /**
+     * Formats the supplied evaluation and writes the result to the supplied output, such as a
+     * {@link java.io.Writer}. The output is not flushed or closed.
+     * <p>
+     * By default, the evaluation is formatted into a string using {@link #format(Evaluation)}, which is then written
+     * to the output. Implementations should override this method to write directly to the output, without building
+     * the entire formatted evaluation in memory.
+     *
+     * @param evaluation
+     *     The evaluation to format.
+     * @param output
+     *     The output to write the formatted evaluation to.
+     *
+     * @throws NullPointerException
+     *     The supplied evaluation or output is {@code null}.
+     * @throws IOException
+     *     An error occurred while writing to the output.
+     *
+     * @since 0.5.0
+     */
+    default void format(final Evaluation evaluation, final Appendable output) throws IOException {
+        output.append(format(evaluation));
+    }
+
+    /**
+     * Formats the supplied evaluation and appends the result to the supplied builder. This method allows a single
+     * builder to be reused for formatting multiple evaluations.
+     *
+     * @param evaluation
+     *     The evaluation to format.
+     * @param builder
+     *     The builder to append the formatted evaluation to.
+     *
+     * @return The supplied builder (fluent interface).
+     *
+     * @throws NullPointerException
+     *     The supplied evaluation or builder is {@code null}.
+     *
+     * @since 0.5.0
+     */
+    default StringBuilder format(final Evaluation evaluation, final StringBuilder builder) {
+
+        try {
+            format(evaluation, (Appendable) builder);
+        }
+        catch (final IOException e) {
+            throw new UncheckedIOException(e);
+        }
+
+        return builder;
+    }
 }
@@ -0,0 +1,161 @@
+package io.github.libzeal.zeal.logic.evaluation.format;
+
+/**
+ * The limits that bound the output of a {@link Formatter}. When a limit is reached, the formatter stops traversing and
+ * formatting the evaluation and writes a truncation marker in place of the omitted output. The following limits are
+ * available:
+ * <ol>
+ *     <li>{@link #maxNodes()}: The maximum number of evaluations included in the evaluation tree</li>
+ *     <li>{@link #maxDepth()}: The maximum depth of the evaluations included in the evaluation tree, where the root
+ *     evaluation has a depth of 0</li>
+ *     <li>{@link #maxValueLength()}: The maximum number of characters of each rationale value (i.e., the expected
+ *     value, actual value, and hint)</li>
+ *     <li>{@link #maxLength()}: The maximum number of characters of the formatted evaluation, not including truncation
+ *     markers</li>
+ * </ol>
+ * <p>
+ * Limits are immutable. For example:
+ * <pre><code>
+ * FormattingLimits limits = FormattingLimits.unlimited()
+ *     .withMaxNodes(100)
+ *     .withMaxLength(16_384);
+ * </code></pre>
+ *
+ * @author Justin Albano
+ * @since 0.5.0
+ */
+public final class FormattingLimits {
+
+    private static final FormattingLimits UNLIMITED = new FormattingLimits(Integer.MAX_VALUE, Integer.MAX_VALUE,
+        Integer.MAX_VALUE, Integer.MAX_VALUE);
+
+    private final int maxNodes;
+    private final int maxDepth;
+    private final int maxValueLength;
+    private final int maxLength;
+
+    private FormattingLimits(final int maxNodes, final int maxDepth, final int maxValueLength, final int maxLength) {
+        this.maxNodes = maxNodes;
+        this.maxDepth = maxDepth;
+        this.maxValueLength = maxValueLength;
+        this.maxLength = maxLength;
+    }
+
+    /**
+     * Obtains limits that do not bound the output of a formatter.
+     *
+     * @return Limits that do not bound the output of a formatter.
+     */
+    public static FormattingLimits unlimited() {
+        return UNLIMITED;
+    }
+
+    private static int requireAtLeast(final int value, final int minimum, final String name) {
+
+        if (value < minimum) {
+            throw new IllegalArgumentException(name + " must be at least " + minimum);
+        }
+
+        return value;
+    }
+
+    /**
+     * Creates a copy of these limits with the supplied maximum number of evaluations.
+     *
+     * @param maxNodes
+     *     The maximum number of evaluations.
+     *
+     * @return A copy of these limits with the supplied maximum number of evaluations.
+     *
+     * @throws IllegalArgumentException
+     *     The supplied maximum is less than 1.
+     */
+    public FormattingLimits withMaxNodes(final int maxNodes) {
+        return new FormattingLimits(requireAtLeast(maxNodes, 1, "Maximum nodes"), maxDepth, maxValueLength,
+            maxLength);
+    }
+
+    /**
+     * Creates a copy of these limits with the supplied maximum depth.
+     *
+     * @param maxDepth
+     *     The maximum depth.
+     *
+     * @return A copy of these limits with the supplied maximum depth.
+     *
+     * @throws IllegalArgumentException
+     *     The supplied maximum is negative.
+     */
+    public FormattingLimits withMaxDepth(final int maxDepth) {
+        return new FormattingLimits(maxNodes, requireAtLeast(maxDepth, 0, "Maximum depth"), maxValueLength,
+            maxLength);
+    }
+
+    /**
+     * Creates a copy of these limits with the supplied maximum number of characters of each rationale value.
+     *
+     * @param maxValueLength
+     *     The maximum number of characters of each rationale value.
+     *
+     * @return A copy of these limits with the supplied maximum number of characters of each rationale value.
+     *
+     * @throws IllegalArgumentException
+     *     The supplied maximum is less than 1.
+     */
+    public FormattingLimits withMaxValueLength(final int maxValueLength) {
+        return new FormattingLimits(maxNodes, maxDepth, requireAtLeast(maxValueLength, 1, "Maximum value length"),
+            maxLength);
+    }
+
+    /**
+     * Creates a copy of these limits with the supplied maximum number of characters of the formatted evaluation.
+     *
+     * @param maxLength
+     *     The maximum number of characters of the formatted evaluation.
+     *
+     * @return A copy of these limits with the supplied maximum number of characters of the formatted evaluation.
+     *
+     * @throws IllegalArgumentException
+     *     The supplied maximum is less than 1.
+     */
+    public FormattingLimits withMaxLength(final int maxLength) {
+        return new FormattingLimits(maxNodes, maxDepth, maxValueLength,
+            requireAtLeast(maxLength, 1, "Maximum length"));
+    }
+
+    /**
+     * Obtains the maximum number of evaluations included in the evaluation tree.
+     *
+     * @return The maximum number of evaluations.
+     */
+    public int maxNodes() {
+        return maxNodes;
+    }
+
+    /**
+     * Obtains the maximum depth of the evaluations included in the evaluation tree.
+     *
+     * @return The maximum depth.
+     */
+    public int maxDepth() {
+        return maxDepth;
+    }
+
+    /**
+     * Obtains the maximum number of characters of each rationale value.
+     *
+     * @return The maximum number of characters of each rationale value.
+     */
+    public int maxValueLength() {
+        return maxValueLength;
+    }
+
+    /**
+     * Obtains the maximum number of characters of the formatted evaluation, not including truncation markers.
+     *
+     * @return The maximum number of characters of the formatted evaluation.
+     */
+    public int maxLength() {
+        return maxLength;
+    }
+}
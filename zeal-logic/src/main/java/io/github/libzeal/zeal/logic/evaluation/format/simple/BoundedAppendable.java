@@ -0,0 +1,93 @@
+package io.github.libzeal.zeal.logic.evaluation.format.simple;
+
+import java.io.IOException;
+
+import static java.util.Objects.requireNonNull;
+
+/**
+ * An appendable that writes at most a maximum number of characters to an underlying appendable. When an append would
+ * exceed the maximum, the characters that fit are written, followed by a truncation marker, and all subsequent appends
+ * are ignored.
+ */
+class BoundedAppendable implements Appendable {
+
+    private final Appendable output;
+    private final int maxLength;
+    private int remaining;
+    private boolean exhausted;
+
+    public BoundedAppendable(final Appendable output, final int maxLength) {
+        this.output = requireNonNull(output);
+        this.maxLength = maxLength;
+        this.remaining = maxLength;
+        this.exhausted = false;
+    }
+
+    @Override
+    public Appendable append(final CharSequence csq) throws IOException {
+
+        final CharSequence value = csq == null ? "null" : csq;
+
+        return append(value, 0, value.length());
+    }
+
+    @Override
+    public Appendable append(final CharSequence csq, final int start, final int end) throws IOException {
+
+        if (exhausted) {
+            return this;
+        }
+
+        final CharSequence value = csq == null ? "null" : csq;
+        final int length = end - start;
+
+        if (length <= remaining) {
+            output.append(value, start, end);
+            remaining -= length;
+        }
+        else {
+            output.append(value, start, start + remaining);
+            exhaust();
+        }
+
+        return this;
+    }
+
+    @Override
+    public Appendable append(final char c) throws IOException {
+
+        if (exhausted) {
+            return this;
+        }
+
+        if (remaining > 0) {
+            output.append(c);
+            remaining--;
+        }
+        else {
+            exhaust();
+        }
+
+        return this;
+    }
+
+    private void exhaust() throws IOException {
+
+        remaining = 0;
+        exhausted = true;
+
+        output.append("\n... (truncated: maximum length of ")
+            .append(String.valueOf(maxLength))
+            .append(" characters reached)");
+    }
+
+    /**
+     * Checks if the maximum number of characters has been exceeded.
+     *
+     * @return True if the maximum number of characters has been exceeded and subsequent appends are ignored; false
+     *     otherwise.
+     */
+    public boolean isExhausted() {
+        return exhausted;
+    }
+}
@@ -1,5 +1,8 @@
 package io.github.libzeal.zeal.logic.evaluation.format.simple;
 
+import java.io.IOException;
+import java.io.UncheckedIOException;
+
 /**
  * A formatted used to format a specific component.
  *
@@ -8,6 +11,21 @@ package io.github.libzeal.zeal.logic.evaluation.format.simple;
  */
 interface ComponentFormatter<T> {
 
+    /**
+     * Formats the supplied component and writes the result to the supplied output.
+     *
+     * @param component
+     *     The component to format.
+     * @param context
+     *     The context to use when formatting the component.
+     * @param output
+     *     The output to write the formatted component to.
+     *
+     * @throws IOException
+     *     An error occurred while writing to the output.
+     */
+    void format(T component, SimpleFormatterContext context, Appendable output) throws IOException;
+
     /**
      * Formats the supplied component.
      *
@@ -18,5 +36,17 @@ interface ComponentFormatter<T> {
      *
      * @return The formatted string for the supplied component.
      */
-    String format(T component, SimpleFormatterContext context);
+    default String format(final T component, final SimpleFormatterContext context) {
+
+        final StringBuilder builder = new StringBuilder();
+
+        try {
+            format(component, context, builder);
+        }
+        catch (final IOException e) {
+            throw new UncheckedIOException(e);
+        }
+
+        return builder.toString();
+    }
 }
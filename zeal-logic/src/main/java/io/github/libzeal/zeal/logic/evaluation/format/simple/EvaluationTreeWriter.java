@@ -0,0 +1,128 @@
+package io.github.libzeal.zeal.logic.evaluation.format.simple;
+
+import io.github.libzeal.zeal.logic.evaluation.Evaluation;
+import io.github.libzeal.zeal.logic.evaluation.format.FormattingLimits;
+
+import java.io.IOException;
+import java.util.List;
+
+import static java.util.Objects.requireNonNull;
+
+/**
+ * A writer that writes the lines of an evaluation tree, one evaluation per line, within the node and depth limits of a
+ * {@link FormattingLimits}. When a limit is reached, a truncation marker is written in place of the omitted
+ * evaluations.
+ */
+class EvaluationTreeWriter {
+
+    private final ComponentFormatter<Evaluation> evaluationFormatter;
+    private final int indentation;
+    private final FormattingLimits limits;
+    private final BoundedAppendable output;
+    private int nodes;
+    private boolean stopped;
+
+    public EvaluationTreeWriter(final ComponentFormatter<Evaluation> evaluationFormatter, final int indentation,
+                                final FormattingLimits limits, final BoundedAppendable output) {
+        this.evaluationFormatter = requireNonNull(evaluationFormatter);
+        this.indentation = indentation;
+        this.limits = requireNonNull(limits);
+        this.output = requireNonNull(output);
+        this.nodes = 0;
+        this.stopped = false;
+    }
+
+    /**
+     * Writes the line for the supplied evaluation. If the maximum number of evaluations has already been written, a
+     * truncation marker is written instead and the writer is stopped.
+     *
+     * @param evaluation
+     *     The evaluation to write.
+     * @param context
+     *     The context of the evaluation.
+     *
+     * @return True if the evaluation was written and the writer has not stopped; false otherwise.
+     *
+     * @throws IOException
+     *     An error occurred while writing to the output.
+     */
+    public boolean node(final Evaluation evaluation, final SimpleFormatterContext context) throws IOException {
+
+        if (isStopped()) {
+            return false;
+        }
+
+        if (nodes >= limits.maxNodes()) {
+            line("... (truncated: maximum of " + limits.maxNodes() + " evaluations reached)", context);
+            stopped = true;
+            return false;
+        }
+
+        newLine();
+        evaluationFormatter.format(evaluation, context, output);
+        nodes++;
+
+        return !isStopped();
+    }
+
+    /**
+     * Checks if the supplied children, whose parent has the supplied context, are within the maximum depth. If not, a
+     * truncation marker is written in place of the children.
+     *
+     * @param children
+     *     The children.
+     * @param context
+     *     The context of the parent.
+     *
+     * @return True if the children are within the maximum depth; false otherwise.
+     *
+     * @throws IOException
+     *     An error occurred while writing to the output.
+     */
+    public boolean descend(final List<Evaluation> children, final SimpleFormatterContext context) throws IOException {
+
+        if (children.isEmpty() || isStopped()) {
+            return false;
+        }
+
+        if (context.depth() >= limits.maxDepth()) {
+            line("... (truncated: " + children.size() + " children beyond maximum depth of " + limits.maxDepth() + ")",
+                context.withDepth(context.depth() + 1));
+            return false;
+        }
+
+        return true;
+    }
+
+    /**
+     * Writes the supplied text as a line at the supplied context.
+     *
+     * @param text
+     *     The text of the line.
+     * @param context
+     *     The context of the line.
+     *
+     * @throws IOException
+     *     An error occurred while writing to the output.
+     */
+    public void line(final String text, final SimpleFormatterContext context) throws IOException {
+        newLine();
+        Line.indent(indentation, text).appendTo(output, context);
+    }
+
+    private void newLine() throws IOException {
+
+        if (nodes > 0) {
+            output.append("\n");
+        }
+    }
+
+    /**
+     * Checks if the writer has stopped because a limit was reached.
+     *
+     * @return True if the writer has stopped; false otherwise.
+     */
+    public boolean isStopped() {
+        return stopped || output.isExhausted();
+    }
+}
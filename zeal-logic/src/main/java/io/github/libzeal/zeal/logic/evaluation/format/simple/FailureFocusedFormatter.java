@@ -0,0 +1,211 @@
+package io.github.libzeal.zeal.logic.evaluation.format.simple;
+
+import io.github.libzeal.zeal.logic.evaluation.CompoundEvaluation;
+import io.github.libzeal.zeal.logic.evaluation.Evaluation;
+import io.github.libzeal.zeal.logic.evaluation.Result;
+import io.github.libzeal.zeal.logic.evaluation.cause.Cause;
+import io.github.libzeal.zeal.logic.evaluation.format.Formatter;
+import io.github.libzeal.zeal.logic.evaluation.format.FormattingLimits;
+import io.github.libzeal.zeal.logic.evaluation.traverse.PrunableTraverserAction;
+import io.github.libzeal.zeal.logic.evaluation.traverse.TraversalContext;
+import io.github.libzeal.zeal.logic.evaluation.traverse.TraversalDecision;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.time.Duration;
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.Set;
+
+import static io.github.libzeal.zeal.logic.evaluation.format.simple.SimpleFormatter.INDENTATION;
+import static java.util.Objects.requireNonNull;
+
+/**
+ * A formatter that provides the same root cause information as {@link SimpleFormatter}, but only includes the parts of
+ * the evaluation tree that lead to a failure.
+ * <p>
+ * The children of an evaluation are only included if the evaluation failed or is part of the root cause chain (e.g.,
+ * a passing expression wrapped by a failing NOT expression). Of those children, only the children that failed or are
+ * part of the root cause chain are included, and the remaining children are summarized by the number of passed and
+ * skipped children that were omitted. The descendants of omitted children are never traversed, so the cost of
+ * formatting an evaluation depends on the number of failures rather than the size of the evaluation tree. For example:
+ * <pre><code>
+ * [F] and[3 children] (10ms)
+ *     [F] isNotNull (1ms)  &lt;---[ Root Cause ]
+ *     (omitted: 1 passed, 1 skipped)
+ * </code></pre>
+ *
+ * @author Justin Albano
+ * @since 0.5.0
+ */
+public class FailureFocusedFormatter implements Formatter {
+
+    private final FormattingLimits limits;
+    private final ComponentFormatter<Evaluation> evaluationFormatter;
+    private final ComponentFormatter<Cause> causeFormatter;
+    private final ComponentFormatter<Heading> headingFormatter;
+
+    /**
+     * Creates a new formatter without output limits.
+     */
+    public FailureFocusedFormatter() {
+        this(FormattingLimits.unlimited());
+    }
+
+    /**
+     * Creates a new formatter whose output is bound by the supplied limits. Omitted children do not count towards the
+     * maximum number of evaluations.
+     *
+     * @param limits
+     *     The limits of the output of the formatter.
+     *
+     * @throws NullPointerException
+     *     The supplied limits are {@code null}.
+     */
+    public FailureFocusedFormatter(final FormattingLimits limits) {
+
+        final ComponentFormatter<Result> resultFormatter = new SimpleResultFormatter();
+        final ComponentFormatter<Duration> durationFormatter = new SimpleDurationFormatter();
+
+        this.limits = requireNonNull(limits);
+        this.evaluationFormatter = new SimpleEvaluationFormatter(INDENTATION, resultFormatter, durationFormatter);
+        this.causeFormatter = new SimpleRootCauseFormatter(INDENTATION, limits.maxValueLength());
+        this.headingFormatter = new SimpleHeadingFormatter(INDENTATION);
+    }
+
+    @Override
+    public String format(final Evaluation evaluation) {
+        return format(evaluation, new StringBuilder()).toString();
+    }
+
+    @Override
+    public void format(final Evaluation evaluation, final Appendable output) throws IOException {
+
+        final BoundedAppendable boundedOutput = new BoundedAppendable(output, limits.maxLength());
+        final Cause cause = evaluation.cause();
+        final SimpleFormatterContext context = new SimpleFormatterContext(cause, 0);
+        final Set<Evaluation> chain = chainOf(cause);
+        final EvaluationTreeWriter writer = new EvaluationTreeWriter(evaluationFormatter, INDENTATION, limits,
+            boundedOutput);
+        final Heading heading = new Heading("Evaluation");
+
+        causeFormatter.format(cause, context, boundedOutput);
+        headingFormatter.format(heading, context, boundedOutput);
+
+        SimpleFormatter.traverse(evaluation, new FocusedFormattingTraverser(context, chain, writer));
+    }
+
+    private static Set<Evaluation> chainOf(final Cause cause) {
+
+        final Set<Evaluation> chain = Collections.newSetFromMap(new IdentityHashMap<>());
+
+        for (final Cause link : cause.rootCauseChain()) {
+            chain.add(link.evaluation());
+        }
+
+        return chain;
+    }
+
+    private static boolean isIncluded(final Evaluation evaluation, final Set<Evaluation> chain) {
+        return evaluation.result().isFalse() || chain.contains(evaluation);
+    }
+
+    private static String omitted(final int passed, final int skipped) {
+
+        final StringBuilder builder = new StringBuilder("(omitted: ");
+
+        if (passed > 0) {
+            builder.append(passed)
+                .append(" passed");
+        }
+
+        if (skipped > 0) {
+
+            if (passed > 0) {
+                builder.append(", ");
+            }
+
+            builder.append(skipped)
+                .append(" skipped");
+        }
+
+        return builder.append(")").toString();
+    }
+
+    private static final class FocusedFormattingTraverser implements PrunableTraverserAction {
+
+        private final SimpleFormatterContext rootContext;
+        private final Set<Evaluation> chain;
+        private final EvaluationTreeWriter writer;
+
+        public FocusedFormattingTraverser(final SimpleFormatterContext rootContext, final Set<Evaluation> chain,
+                                          final EvaluationTreeWriter writer) {
+            this.rootContext = requireNonNull(rootContext);
+            this.chain = requireNonNull(chain);
+            this.writer = requireNonNull(writer);
+        }
+
+        @Override
+        public TraversalDecision visit(final Evaluation evaluation, final TraversalContext context) {
+
+            final boolean included = isIncluded(evaluation, chain);
+
+            if (context.depth() > 0 && !included) {
+                return TraversalDecision.SKIP_SUBTREE;
+            }
+
+            final SimpleFormatterContext componentContext = rootContext.withDepth(context.depth());
+
+            try {
+
+                if (!writer.node(evaluation, componentContext)) {
+                    return TraversalDecision.STOP;
+                }
+
+                if (!(evaluation instanceof CompoundEvaluation) || !included) {
+                    return TraversalDecision.SKIP_SUBTREE;
+                }
+
+                if (!writer.descend(((CompoundEvaluation) evaluation).children(), componentContext)) {
+                    return writer.isStopped() ? TraversalDecision.STOP : TraversalDecision.SKIP_SUBTREE;
+                }
+
+                return TraversalDecision.CONTINUE;
+            }
+            catch (final IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        }
+
+        @Override
+        public void after(final Evaluation evaluation, final TraversalContext context) {
+
+            int passed = 0;
+            int skipped = 0;
+
+            for (final Evaluation child : ((CompoundEvaluation) evaluation).children()) {
+
+                if (isIncluded(child, chain)) {
+                    continue;
+                }
+
+                if (child.result().isSkipped()) {
+                    skipped++;
+                }
+                else {
+                    passed++;
+                }
+            }
+
+            if (passed > 0 || skipped > 0) {
+
+                try {
+                    writer.line(omitted(passed, skipped), rootContext.withDepth(context.depth() + 1));
+                }
+                catch (final IOException e) {
+                    throw new UncheckedIOException(e);
+                }
+            }
+        }
+    }
+}
@@ -1,17 +1,29 @@
 package io.github.libzeal.zeal.logic.evaluation.format.simple;
 
+import java.io.IOException;
+
 import static java.util.Objects.requireNonNull;
 
 class Line {
 
-    private final String indentationFormat;
+    private static final String SPACES = "                                                                ";
+
+    private final int indentation;
+    private final String key;
+    private final int keyWidth;
     private final String content;
 
-    public Line(final int indentation, final String content) {
-        this.indentationFormat = "%-" + indentation + "s";
+    private Line(final int indentation, final String key, final int keyWidth, final String content) {
+        this.indentation = indentation;
+        this.key = key;
+        this.keyWidth = keyWidth;
         this.content = requireNonNull(content);
     }
 
+    public Line(final int indentation, final String content) {
+        this(indentation, null, 0, content);
+    }
+
     public static Line indent(final int indentation) {
         return indent(indentation, "");
     }
@@ -21,28 +33,32 @@ class Line {
     }
 
     public static Line keyValue(final String key, final String value, final int indentation, final int keyWidth) {
-        return new Line(indentation, keyValueContent(key, value, keyWidth));
+        return new Line(indentation, requireNonNull(key), keyWidth, String.valueOf(value));
     }
 
-    private static String keyValueContent(final String key, final String value, final int keyWidth) {
+    private static void pad(final Appendable output, final int width) throws IOException {
 
-        final String format = "%-" + keyWidth + "s : %s";
+        int remaining = width;
 
-        return String.format(format, key, value);
+        while (remaining > 0) {
+
+            final int length = Math.min(remaining, SPACES.length());
+
+            output.append(SPACES, 0, length);
+            remaining -= length;
+        }
     }
 
-    private String createIndent(final int level) {
+    public void appendTo(final Appendable output, final SimpleFormatterContext context) throws IOException {
 
-        final StringBuilder indent = new StringBuilder();
+        pad(output, indentation * context.depth());
 
-        for (int i = 0; i < level; i++) {
-            indent.append(String.format(indentationFormat, " "));
+        if (key != null) {
+            output.append(key);
+            pad(output, keyWidth - key.length());
+            output.append(" : ");
         }
 
-        return indent.toString();
-    }
-
-    public String asString(final SimpleFormatterContext context) {
-        return createIndent(context.depth()) + content;
+        output.append(content);
     }
 }
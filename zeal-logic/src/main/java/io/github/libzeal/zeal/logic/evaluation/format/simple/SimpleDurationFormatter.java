@@ -1,5 +1,6 @@
 package io.github.libzeal.zeal.logic.evaluation.format.simple;
 
+import java.io.IOException;
 import java.time.Duration;
 
 import static java.util.Objects.requireNonNull;
@@ -7,7 +8,12 @@ import static java.util.Objects.requireNonNull;
 class SimpleDurationFormatter implements ComponentFormatter<Duration> {
 
     @Override
-    public String format(final Duration elapsedTime, final SimpleFormatterContext context) {
+    public void format(final Duration elapsedTime, final SimpleFormatterContext context, final Appendable output)
+        throws IOException {
+        output.append(format(elapsedTime));
+    }
+
+    private static String format(final Duration elapsedTime) {
 
         if (elapsedTime == null) {
             return "";
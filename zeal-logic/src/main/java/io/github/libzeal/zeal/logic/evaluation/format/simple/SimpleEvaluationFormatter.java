@@ -3,6 +3,7 @@ package io.github.libzeal.zeal.logic.evaluation.format.simple;
 import io.github.libzeal.zeal.logic.evaluation.Evaluation;
 import io.github.libzeal.zeal.logic.evaluation.Result;
 
+import java.io.IOException;
 import java.time.Duration;
 
 import static java.util.Objects.requireNonNull;
@@ -21,22 +22,19 @@ class SimpleEvaluationFormatter implements ComponentFormatter<Evaluation> {
     }
 
     @Override
-    public String format(final Evaluation evaluation, final SimpleFormatterContext context) {
+    public void format(final Evaluation evaluation, final SimpleFormatterContext context, final Appendable output)
+        throws IOException {
 
-        final StringBuilder builder = new StringBuilder();
-
-        builder.append(Line.indent(indentation).asString(context))
-            .append(resultFormatter.format(evaluation.result(), context))
-            .append(" ")
+        Line.indent(indentation).appendTo(output, context);
+        resultFormatter.format(evaluation.result(), context, output);
+        output.append(" ")
             .append(evaluation.name())
-            .append(" (")
-            .append(elapsedTimeFormatter.format(evaluation.elapsedTime(), context))
-            .append(")");
+            .append(" (");
+        elapsedTimeFormatter.format(evaluation.elapsedTime(), context, output);
+        output.append(")");
 
         if (context.isRootCause(evaluation)) {
-            builder.append("  <---[ Root Cause ]");
+            output.append("  <---[ Root Cause ]");
         }
-
-        return builder.toString();
     }
 }
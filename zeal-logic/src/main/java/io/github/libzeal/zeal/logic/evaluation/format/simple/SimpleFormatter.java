@@ -1,14 +1,20 @@
 package io.github.libzeal.zeal.logic.evaluation.format.simple;
 
+import io.github.libzeal.zeal.logic.evaluation.CompoundEvaluation;
 import io.github.libzeal.zeal.logic.evaluation.Evaluation;
 import io.github.libzeal.zeal.logic.evaluation.Result;
-import io.github.libzeal.zeal.logic.evaluation.traverse.TraversalContext;
-import io.github.libzeal.zeal.logic.evaluation.traverse.DepthFirstTraverser;
 import io.github.libzeal.zeal.logic.evaluation.cause.Cause;
 import io.github.libzeal.zeal.logic.evaluation.format.Formatter;
+import io.github.libzeal.zeal.logic.evaluation.format.FormattingLimits;
+import io.github.libzeal.zeal.logic.evaluation.traverse.DepthFirstTraverser;
+import io.github.libzeal.zeal.logic.evaluation.traverse.PrunableTraverserAction;
+import io.github.libzeal.zeal.logic.evaluation.traverse.TraversalContext;
+import io.github.libzeal.zeal.logic.evaluation.traverse.TraversalDecision;
 import io.github.libzeal.zeal.logic.evaluation.traverse.Traverser;
 import io.github.libzeal.zeal.logic.evaluation.traverse.TraverserAction;
 
+import java.io.IOException;
+import java.io.UncheckedIOException;
 import java.time.Duration;
 
 import static java.util.Objects.requireNonNull;
@@ -23,67 +29,121 @@ import static java.util.Objects.requireNonNull;
 public class SimpleFormatter implements Formatter {
 
     static final int INDENTATION = 4;
+    private final FormattingLimits limits;
     private final ComponentFormatter<Evaluation> evaluationFormatter;
     private final ComponentFormatter<Cause> causeFormatter;
     private final ComponentFormatter<Heading> headingFormatter;
 
     /**
-     * Creates a new formatter.
+     * Creates a new formatter without output limits.
      */
     public SimpleFormatter() {
+        this(FormattingLimits.unlimited());
+    }
+
+    /**
+     * Creates a new formatter whose output is bound by the supplied limits.
+     *
+     * @param limits
+     *     The limits of the output of the formatter.
+     *
+     * @throws NullPointerException
+     *     The supplied limits are {@code null}.
+     *
+     * @since 0.5.0
+     */
+    public SimpleFormatter(final FormattingLimits limits) {
 
         final ComponentFormatter<Result> resultFormatter = new SimpleResultFormatter();
         final ComponentFormatter<Duration> durationFormatter = new SimpleDurationFormatter();
 
+        this.limits = requireNonNull(limits);
         this.evaluationFormatter = new SimpleEvaluationFormatter(INDENTATION, resultFormatter, durationFormatter);
-        this.causeFormatter = new SimpleRootCauseFormatter(INDENTATION);
+        this.causeFormatter = new SimpleRootCauseFormatter(INDENTATION, limits.maxValueLength());
         this.headingFormatter = new SimpleHeadingFormatter(INDENTATION);
     }
 
     @Override
     public String format(final Evaluation evaluation) {
+        return format(evaluation, new StringBuilder()).toString();
+    }
+
+    /**
+     * {@inheritDoc}
+     * <p>
+     * The formatted evaluation is written directly to the supplied output as the evaluation tree is traversed.
+     */
+    @Override
+    public void format(final Evaluation evaluation, final Appendable output) throws IOException {
 
+        final BoundedAppendable boundedOutput = new BoundedAppendable(output, limits.maxLength());
         final Cause cause = evaluation.cause();
         final SimpleFormatterContext context = new SimpleFormatterContext(cause, 0);
-        final StringBuilder builder = new StringBuilder();
-        final Traverser traverser = new DepthFirstTraverser();
-        final TraverserAction action = new FormattingTraverser(evaluation, builder,
-            evaluationFormatter);
+        final EvaluationTreeWriter writer = new EvaluationTreeWriter(evaluationFormatter, INDENTATION, limits,
+            boundedOutput);
         final Heading heading = new Heading("Evaluation");
 
-        builder.append(causeFormatter.format(cause, context))
-            .append(headingFormatter.format(heading, context));
+        causeFormatter.format(cause, context, boundedOutput);
+        headingFormatter.format(heading, context, boundedOutput);
+
+        traverse(evaluation, new FormattingTraverser(context, writer));
+    }
+
+    /**
+     * Traverses the supplied evaluation using the supplied action, rethrowing any {@link IOException} thrown while the
+     * action writes to the output.
+     *
+     * @param evaluation
+     *     The evaluation to traverse.
+     * @param action
+     *     The action that writes each visited evaluation.
+     *
+     * @throws IOException
+     *     An error occurred while writing to the output.
+     */
+    static void traverse(final Evaluation evaluation, final TraverserAction action) throws IOException {
 
-        traverser.traverse(evaluation, action);
+        final Traverser traverser = new DepthFirstTraverser();
 
-        return builder.toString().trim();
+        try {
+            traverser.traverse(evaluation, action);
+        }
+        catch (final UncheckedIOException e) {
+            throw e.getCause();
+        }
     }
 
-    private static final class FormattingTraverser implements TraverserAction {
+    private static final class FormattingTraverser implements PrunableTraverserAction {
 
-        private final Evaluation evaluation;
-        private final StringBuilder builder;
-        private final ComponentFormatter<Evaluation> evaluationFormatter;
+        private final SimpleFormatterContext rootContext;
+        private final EvaluationTreeWriter writer;
 
-        public FormattingTraverser(final Evaluation evaluation, final StringBuilder builder,
-                                   final ComponentFormatter<Evaluation> evaluationFormatter) {
-            this.evaluation = requireNonNull(evaluation);
-            this.builder = requireNonNull(builder);
-            this.evaluationFormatter = requireNonNull(evaluationFormatter);
+        public FormattingTraverser(final SimpleFormatterContext rootContext, final EvaluationTreeWriter writer) {
+            this.rootContext = requireNonNull(rootContext);
+            this.writer = requireNonNull(writer);
         }
 
         @Override
-        public void on(final Evaluation evaluation, final TraversalContext context) {
+        public TraversalDecision visit(final Evaluation evaluation, final TraversalContext context) {
 
-            final SimpleFormatterContext componentContext = createContext(context);
-            final String formattedText = evaluationFormatter.format(evaluation, componentContext);
+            final SimpleFormatterContext componentContext = rootContext.withDepth(context.depth());
 
-            builder.append(formattedText)
-                .append("\n");
-        }
+            try {
+
+                if (!writer.node(evaluation, componentContext)) {
+                    return TraversalDecision.STOP;
+                }
+
+                if (evaluation instanceof CompoundEvaluation
+                    && !writer.descend(((CompoundEvaluation) evaluation).children(), componentContext)) {
+                    return writer.isStopped() ? TraversalDecision.STOP : TraversalDecision.SKIP_SUBTREE;
+                }
 
-        private SimpleFormatterContext createContext(final TraversalContext context) {
-            return new SimpleFormatterContext(evaluation.cause(), context.depth());
+                return TraversalDecision.CONTINUE;
+            }
+            catch (final IOException e) {
+                throw new UncheckedIOException(e);
+            }
         }
     }
 }
@@ -18,6 +18,7 @@ class SimpleFormatterContext {
 
     private final Cause cause;
     private final int depth;
+    private Cause rootCause;
 
     /**
      * Creates a next context.
@@ -31,7 +32,12 @@ class SimpleFormatterContext {
      *     The supplied root cause is {@code null}.
      */
     public SimpleFormatterContext(final Cause cause, final int depth) {
+        this(cause, null, depth);
+    }
+
+    private SimpleFormatterContext(final Cause cause, final Cause rootCause, final int depth) {
         this.cause = requireNonNull(cause);
+        this.rootCause = rootCause;
 
         if (depth < 0) {
             throw new IllegalArgumentException("Depth cannot be negative");
@@ -40,6 +46,34 @@ class SimpleFormatterContext {
         this.depth = depth;
     }
 
+    /**
+     * Creates a context for the same cause at the supplied depth. The root cause of this context is resolved (if it
+     * has not already been resolved) and shared with the new context, so formatting every node of an evaluation tree
+     * resolves the root cause only once.
+     *
+     * @param depth
+     *     The depth of the new context.
+     *
+     * @return A new context at the supplied depth.
+     *
+     * @throws IllegalArgumentException
+     *     The supplied depth is negative.
+     *
+     * @since 0.5.0
+     */
+    public SimpleFormatterContext withDepth(final int depth) {
+        return new SimpleFormatterContext(cause, rootCause(), depth);
+    }
+
+    private Cause rootCause() {
+
+        if (rootCause == null) {
+            rootCause = cause.rootCause();
+        }
+
+        return rootCause;
+    }
+
     /**
      * Checks if the supplied evaluation is the root cause.
      *
@@ -54,7 +88,7 @@ class SimpleFormatterContext {
             return false;
         }
 
-        return cause.rootCause().is(evaluation);
+        return rootCause().is(evaluation);
     }
 
     /**
@@ -1,5 +1,7 @@
 package io.github.libzeal.zeal.logic.evaluation.format.simple;
 
+import java.io.IOException;
+
 class SimpleHeadingFormatter implements ComponentFormatter<Heading> {
 
     private final int indentation;
@@ -9,7 +11,10 @@ class SimpleHeadingFormatter implements ComponentFormatter<Heading> {
     }
 
     @Override
-    public String format(final Heading heading, final SimpleFormatterContext context) {
-        return Line.indent(indentation, heading.text() + ":\n").asString(context);
+    public void format(final Heading heading, final SimpleFormatterContext context, final Appendable output)
+        throws IOException {
+
+        Line.indent(indentation, heading.text()).appendTo(output, context);
+        output.append(":\n");
     }
 }
@@ -2,34 +2,42 @@ package io.github.libzeal.zeal.logic.evaluation.format.simple;
 
 import io.github.libzeal.zeal.logic.rationale.Rationale;
 
+import java.io.IOException;
+import java.util.Optional;
+
+import static io.github.libzeal.zeal.logic.util.Formatter.truncate;
+
 class SimpleRationaleFormatter implements ComponentFormatter<Rationale> {
 
     private final int indentation;
     private final int keyWidth;
+    private final int maxValueLength;
 
-    public SimpleRationaleFormatter(final int indentation, final int keyWidth) {
+    public SimpleRationaleFormatter(final int indentation, final int keyWidth, final int maxValueLength) {
         this.indentation = indentation;
         this.keyWidth = keyWidth;
+        this.maxValueLength = maxValueLength;
     }
 
     @Override
-    public String format(final Rationale rationale, final SimpleFormatterContext context) {
-
-        final StringBuilder builder = new StringBuilder();
+    public void format(final Rationale rationale, final SimpleFormatterContext context, final Appendable output)
+        throws IOException {
 
-        builder.append(line("Expected", rationale.expected(), context))
-            .append("\n")
-            .append(line("Actual", rationale.actual(), context));
+        line("Expected", rationale.expected(), context, output);
+        output.append("\n");
+        line("Actual", rationale.actual(), context, output);
 
-        rationale.hint().ifPresent(hint ->
-            builder.append("\n")
-                .append(line("Hint", hint, context))
-        );
+        final Optional<String> hint = rationale.hint();
 
-        return builder.toString();
+        if (hint.isPresent()) {
+            output.append("\n");
+            line("Hint", hint.get(), context, output);
+        }
     }
 
-    private String line(final String key, final String value, final SimpleFormatterContext context) {
-        return Line.keyValue(key, value, indentation, keyWidth).asString(context);
+    private void line(final String key, final String value, final SimpleFormatterContext context,
+                      final Appendable output) throws IOException {
+        Line.keyValue(key, truncate(String.valueOf(value), maxValueLength), indentation, keyWidth)
+            .appendTo(output, context);
     }
 }
@@ -2,10 +2,17 @@ package io.github.libzeal.zeal.logic.evaluation.format.simple;
 
 import io.github.libzeal.zeal.logic.evaluation.Result;
 
+import java.io.IOException;
+
 class SimpleResultFormatter implements ComponentFormatter<Result> {
 
     @Override
-    public String format(final Result result, final SimpleFormatterContext context) {
+    public void format(final Result result, final SimpleFormatterContext context, final Appendable output)
+        throws IOException {
+        output.append(symbol(result));
+    }
+
+    private static String symbol(final Result result) {
 
         switch (result) {
             case TRUE:
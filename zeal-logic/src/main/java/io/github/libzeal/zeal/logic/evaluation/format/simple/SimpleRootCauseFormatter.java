@@ -6,6 +6,8 @@ import io.github.libzeal.zeal.logic.evaluation.cause.Cause;
 import io.github.libzeal.zeal.logic.evaluation.cause.RootCauseChain;
 import io.github.libzeal.zeal.logic.rationale.Rationale;
 
+import java.io.IOException;
+
 class SimpleRootCauseFormatter implements ComponentFormatter<Cause> {
 
     static final int KEY_WIDTH = 10;
@@ -15,52 +17,44 @@ class SimpleRootCauseFormatter implements ComponentFormatter<Cause> {
     private final ComponentFormatter<Rationale> rationaleFormatter;
     private final ComponentFormatter<Heading> headingFormatter;
 
-    public SimpleRootCauseFormatter(final int indentation) {
+    public SimpleRootCauseFormatter(final int indentation, final int maxValueLength) {
         this.indentation = indentation;
-        this.rationaleFormatter = new SimpleRationaleFormatter(indentation, KEY_WIDTH);
+        this.rationaleFormatter = new SimpleRationaleFormatter(indentation, KEY_WIDTH, maxValueLength);
         this.headingFormatter = new SimpleHeadingFormatter(indentation);
     }
 
     @Override
-    public String format(final Cause cause, final SimpleFormatterContext context) {
+    public void format(final Cause cause, final SimpleFormatterContext context, final Appendable output)
+        throws IOException {
 
         final Result result = cause.evaluation().result();
 
         if (result.isTrue() || result.isSkipped()) {
-            return "";
+            return;
         }
 
-        final StringBuilder builder = new StringBuilder();
         final RootCauseChain chain = cause.rootCauseChain();
         final Cause rootCause = cause.rootCause();
         final Evaluation rootCauseEvaluation = rootCause.evaluation();
         final Heading heading = new Heading("Root Cause");
 
-        builder.append(headingFormatter.format(heading, context))
-            .append(rootCauseLine("Expression", rootCauseEvaluation.name(), context))
-            .append("\n")
-            .append(rationaleFormatter.format(rootCauseEvaluation.rationale(), context))
-            .append("\n")
-            .append(rootCauseLine("Chain", chain.toString(), context));
+        headingFormatter.format(heading, context, output);
+        rootCauseLine("Expression", rootCauseEvaluation.name(), context, output);
+        output.append("\n");
+        rationaleFormatter.format(rootCauseEvaluation.rationale(), context, output);
+        output.append("\n");
+        rootCauseLine("Chain", chain.toString(), context, output);
 
         if (rootCauseEvaluation.result().isTrue()) {
-            builder.append("\n")
-                .append(
-                    rootCauseLine(
-                        "Notes",
-                        TRUE_ROOT_CAUSE_NOTE,
-                        context
-                    )
-                );
+            output.append("\n");
+            rootCauseLine("Notes", TRUE_ROOT_CAUSE_NOTE, context, output);
         }
 
-        builder.append("\n\n");
-
-        return builder.toString();
+        output.append("\n\n");
     }
 
-    private String rootCauseLine(final String key, final String value, final SimpleFormatterContext context) {
-        return Line.keyValue(key, value, indentation, KEY_WIDTH).asString(context);
+    private void rootCauseLine(final String key, final String value, final SimpleFormatterContext context,
+                               final Appendable output) throws IOException {
+        Line.keyValue(key, value, indentation, KEY_WIDTH).appendTo(output, context);
     }
-
 }
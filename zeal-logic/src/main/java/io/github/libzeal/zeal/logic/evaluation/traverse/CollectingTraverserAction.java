@@ -5,6 +5,9 @@ import io.github.libzeal.zeal.logic.evaluation.Evaluation;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Optional;
+import java.util.function.Predicate;
+
+import static java.util.Objects.requireNonNull;
 
 /**
  * A traverser that collects up evaluations in the order in which they were visited.
@@ -12,6 +15,10 @@ import java.util.Optional;
  * This traverser is intended to be supplied to a traversable evaluation exactly once. This traverser assumes that the
  * first evaluation found during traversal is the root (parent) evaluation and all subsequent evaluations are child
  * evaluations.
+ * <p>
+ * When used with a traverser that supports pruning, such as {@link DepthFirstTraverser}, a collector created using
+ * {@link #limitedTo(int)} or {@link #untilFirst(Predicate)} stops the traversal once it has collected the desired
+ * evaluations, rather than collecting the entire evaluation tree.
  *
  * @author Justin Albano
  * @since 0.2.1
@@ -19,12 +26,62 @@ import java.util.Optional;
 public class CollectingTraverserAction implements TraverserAction {
 
     private final List<Evaluation> evaluations;
+    private final int maxEvaluations;
+    private final Predicate<Evaluation> stopCondition;
 
     /**
      * Creates a new traverser with an empty found list.
      */
     public CollectingTraverserAction() {
+        this(Integer.MAX_VALUE, e -> false);
+    }
+
+    private CollectingTraverserAction(final int maxEvaluations, final Predicate<Evaluation> stopCondition) {
         this.evaluations = new ArrayList<>();
+        this.maxEvaluations = maxEvaluations;
+        this.stopCondition = requireNonNull(stopCondition);
+    }
+
+    /**
+     * Creates a new traverser that stops the traversal once the supplied number of evaluations has been found.
+     *
+     * @param maxEvaluations
+     *     The maximum number of evaluations to find.
+     *
+     * @return A new traverser.
+     *
+     * @throws IllegalArgumentException
+     *     The supplied maximum is less than 1.
+     *
+     * @since 0.5.0
+     */
+    public static CollectingTraverserAction limitedTo(final int maxEvaluations) {
+
+        if (maxEvaluations < 1) {
+            throw new IllegalArgumentException("Maximum evaluations must be at least 1");
+        }
+
+        return new CollectingTraverserAction(maxEvaluations, e -> false);
+    }
+
+    /**
+     * Creates a new traverser that stops the traversal once an evaluation that satisfies the supplied condition has
+     * been found. The evaluation that satisfies the condition is the last evaluation in the found list. For example,
+     * the following traverser stops after the first failed evaluation:
+     * <pre><code>CollectingTraverserAction.untilFirst(e -&gt; e.result().isFalse());</code></pre>
+     *
+     * @param condition
+     *     The condition.
+     *
+     * @return A new traverser.
+     *
+     * @throws NullPointerException
+     *     The supplied condition is {@code null}.
+     *
+     * @since 0.5.0
+     */
+    public static CollectingTraverserAction untilFirst(final Predicate<Evaluation> condition) {
+        return new CollectingTraverserAction(Integer.MAX_VALUE, condition);
     }
 
     /**
@@ -75,4 +132,16 @@ public class CollectingTraverserAction implements TraverserAction {
     public void on(final Evaluation evaluation, final TraversalContext context) {
         evaluations.add(evaluation);
     }
+
+    @Override
+    public TraversalDecision visit(final Evaluation evaluation, final TraversalContext context) {
+
+        on(evaluation, context);
+
+        if (evaluations.size() >= maxEvaluations || stopCondition.test(evaluation)) {
+            return TraversalDecision.STOP;
+        }
+
+        return TraversalDecision.CONTINUE;
+    }
 }
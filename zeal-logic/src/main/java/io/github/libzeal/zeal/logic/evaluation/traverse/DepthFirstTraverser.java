@@ -2,10 +2,19 @@ package io.github.libzeal.zeal.logic.evaluation.traverse;
 
 import io.github.libzeal.zeal.logic.evaluation.CompoundEvaluation;
 import io.github.libzeal.zeal.logic.evaluation.Evaluation;
-import io.github.libzeal.zeal.logic.evaluation.TerminalEvaluation;
+
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.Iterator;
 
 /**
  * An entity that traverses the evaluation tree.
+ * <p>
+ * The evaluation tree is traversed in depth-first pre-order using an explicit stack, rather than recursion, so
+ * traversing a deep evaluation tree does not overflow the call stack. The stack holds one entry for each compound
+ * evaluation whose children are being visited, so the memory used by the traversal is proportional to the depth of the
+ * tree. The traversal is pruned according to the {@link TraversalDecision} returned by
+ * {@link TraverserAction#visit(Evaluation, TraversalContext)}.
  *
  * @author Justin Albano
  * @since 0.2.1
@@ -14,25 +23,66 @@ public class DepthFirstTraverser implements Traverser {
 
     @Override
     public void traverse(final Evaluation evaluation, final TraverserAction action) {
-        traverse(evaluation, action, TraversalContext.create());
-    }
 
-    private void traverse(final Evaluation evaluation, final TraverserAction action,
-                          final TraversalContext context) {
+        final Deque<Frame> stack = new ArrayDeque<>();
 
-        if (evaluation instanceof CompoundEvaluation) {
+        if (!visit(evaluation, TraversalContext.create(), action, stack)) {
+            return;
+        }
 
-            final CompoundEvaluation compoundEvaluation = (CompoundEvaluation) evaluation;
-            final TraversalContext childContext = context.withIncrementedDepth();
+        while (!stack.isEmpty()) {
 
-            action.on(evaluation, context);
+            final Frame frame = stack.peek();
 
-            for (final Evaluation child : compoundEvaluation.children()) {
-                traverse(child, action, childContext);
+            if (frame.children.hasNext()) {
+
+                if (!visit(frame.children.next(), frame.childContext, action, stack)) {
+                    return;
+                }
+            }
+            else {
+                stack.pop();
+                action.after(frame.evaluation, frame.context);
             }
         }
-        else {
-            action.on(evaluation, context);
+    }
+
+    /**
+     * Visits the supplied evaluation and, if its children should be visited, pushes a frame for its children.
+     *
+     * @return True if the traversal should continue; false if the traversal should stop.
+     */
+    private static boolean visit(final Evaluation evaluation, final TraversalContext context,
+                                 final TraverserAction action, final Deque<Frame> stack) {
+
+        final TraversalDecision decision = action.visit(evaluation, context);
+
+        if (decision == TraversalDecision.STOP) {
+            return false;
+        }
+
+        if (decision == TraversalDecision.CONTINUE && evaluation instanceof CompoundEvaluation) {
+            stack.push(new Frame((CompoundEvaluation) evaluation, context));
+        }
+
+        return true;
+    }
+
+    /**
+     * A compound evaluation whose children are being visited.
+     */
+    private static final class Frame {
+
+        private final CompoundEvaluation evaluation;
+        private final TraversalContext context;
+        private final TraversalContext childContext;
+        private final Iterator<Evaluation> children;
+
+        private Frame(final CompoundEvaluation evaluation, final TraversalContext context) {
+            this.evaluation = evaluation;
+            this.context = context;
+            this.childContext = context.withIncrementedDepth();
+            this.children = evaluation.children().iterator();
         }
     }
 }
@@ -0,0 +1,27 @@
+package io.github.libzeal.zeal.logic.evaluation.traverse;
+
+import io.github.libzeal.zeal.logic.evaluation.Evaluation;
+
+/**
+ * A traverser action that decides how the traversal proceeds each time an evaluation is visited. For example, the
+ * following action visits evaluations until the first failed evaluation is found:
+ * <pre><code>
+ * traverser.traverse(evaluation, (e, context) -&gt;
+ *     e.result().isFalse() ? TraversalDecision.STOP : TraversalDecision.CONTINUE
+ * );
+ * </code></pre>
+ *
+ * @author Justin Albano
+ * @since 0.5.0
+ */
+@FunctionalInterface
+public interface PrunableTraverserAction extends TraverserAction {
+
+    @Override
+    TraversalDecision visit(Evaluation evaluation, TraversalContext context);
+
+    @Override
+    default void on(final Evaluation evaluation, final TraversalContext context) {
+        visit(evaluation, context);
+    }
+}
@@ -0,0 +1,26 @@
+package io.github.libzeal.zeal.logic.evaluation.traverse;
+
+/**
+ * The decision made by a {@link TraverserAction} after visiting an evaluation, which determines how a
+ * {@link Traverser} proceeds.
+ *
+ * @author Justin Albano
+ * @since 0.5.0
+ */
+public enum TraversalDecision {
+
+    /**
+     * Continue the traversal, including the children of the visited evaluation.
+     */
+    CONTINUE,
+
+    /**
+     * Continue the traversal, but do not visit the children (or any other descendants) of the visited evaluation.
+     */
+    SKIP_SUBTREE,
+
+    /**
+     * Stop the traversal; no further evaluations are visited.
+     */
+    STOP
+}
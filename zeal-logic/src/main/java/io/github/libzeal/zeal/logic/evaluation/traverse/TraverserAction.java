@@ -13,4 +13,38 @@ public interface TraverserAction {
      *     The context of the evaluation that was visited, such as the depth of the evaluation.
      */
     void on(Evaluation evaluation, TraversalContext context);
+
+    /**
+     * Called each time a new evaluation is visited by a traverser that supports pruning (such as
+     * {@link DepthFirstTraverser}), returning how the traversal should proceed. By default, {@link #on} is called and
+     * the traversal continues.
+     *
+     * @param evaluation
+     *     The evaluation that was visited.
+     * @param context
+     *     The context of the evaluation that was visited, such as the depth of the evaluation.
+     *
+     * @return The decision denoting how the traversal should proceed.
+     *
+     * @since 0.5.0
+     */
+    default TraversalDecision visit(final Evaluation evaluation, final TraversalContext context) {
+        on(evaluation, context);
+        return TraversalDecision.CONTINUE;
+    }
+
+    /**
+     * Called after all the children of a compound evaluation have been visited. This method is not called if the
+     * children of the evaluation were skipped or the traversal was stopped before all the children were visited. By
+     * default, this method does nothing.
+     *
+     * @param evaluation
+     *     The compound evaluation whose children were visited.
+     * @param context
+     *     The context of the compound evaluation.
+     *
+     * @since 0.5.0
+     */
+    default void after(final Evaluation evaluation, final TraversalContext context) {
+    }
 }
@@ -16,6 +16,9 @@ import java.util.Optional;
  * </ol>
  * <p>
  * Hints are provided for evaluations that fail for a common reason or are very particular about the expected value.
+ * <p>
+ * Two rationales are equal if their expected values, actual values, and hints are equal, regardless of their
+ * implementation. The hash code of a rationale is {@code Objects.hash(expected(), actual(), hint().orElse(null))}.
  *
  * @author Justin Albano
  * @since 0.2.0
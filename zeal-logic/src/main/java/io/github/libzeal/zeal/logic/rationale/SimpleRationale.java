@@ -84,13 +84,13 @@ public class SimpleRationale implements Rationale {
     public boolean equals(final Object o) {
 
         if (this == o) return true;
-        if (!(o instanceof SimpleRationale)) return false;
+        if (!(o instanceof Rationale)) return false;
 
-        final SimpleRationale rationale = (SimpleRationale) o;
+        final Rationale rationale = (Rationale) o;
 
-        return Objects.equals(expected, rationale.expected) &&
-            Objects.equals(actual, rationale.actual) &&
-            Objects.equals(hint, rationale.hint);
+        return Objects.equals(expected, rationale.expected()) &&
+            Objects.equals(actual, rationale.actual()) &&
+            Objects.equals(hint, rationale.hint().orElse(null));
     }
 
     @Override
@@ -1,7 +1,10 @@
 package io.github.libzeal.zeal.logic.unary.condition;
 
+import java.util.Arrays;
 import java.util.function.Predicate;
 
+import static java.util.Objects.requireNonNull;
+
 /**
  * A set of common conditions.
  *
@@ -227,4 +230,93 @@ public final class Conditions {
     public static <T> Condition<T> noneOf(final Iterable<T> values) {
         return ObjectConditions.noneOf(values);
     }
+
+    /**
+     * Creates a condition that evaluates if the subject is a member of the supplied values. The values are indexed into
+     * a hash-based set (an {@link java.util.EnumSet} if all values are constants of the same enum) when the condition
+     * is created, so the cost of evaluating the condition does not grow with the number of values. The computed
+     * expression is a single expression with a compact rationale, rather than one expression per value (as is the case
+     * for {@link #anyOf(Object[])}).
+     *
+     * @param values
+     *     The values to check.
+     * @param <T>
+     *     The type of the subject.
+     *
+     * @return A new condition that evaluates to true if the subject is equal to any of the supplied values.
+     *
+     * @throws NullPointerException
+     *     The supplied array is {@code null}.
+     *
+     * @since 0.5.0
+     */
+    @SafeVarargs
+    public static <T> Condition<T> memberOf(final T... values) {
+        return MembershipCondition.memberOf(Arrays.asList(requireNonNull(values)));
+    }
+
+    /**
+     * Creates a condition that evaluates if the subject is a member of the supplied values. The values are copied and
+     * indexed when the condition is created; therefore, later changes to the supplied {@link Iterable} are not
+     * reflected in the condition.
+     *
+     * @param values
+     *     The values to check.
+     * @param <T>
+     *     The type of the subject.
+     *
+     * @return A new condition that evaluates to true if the subject is equal to any of the supplied values.
+     *
+     * @throws NullPointerException
+     *     The supplied {@link Iterable} is {@code null}.
+     *
+     * @see #memberOf(Object[])
+     * @since 0.5.0
+     */
+    public static <T> Condition<T> memberOf(final Iterable<? extends T> values) {
+        return MembershipCondition.memberOf(values);
+    }
+
+    /**
+     * Creates a condition that evaluates if the subject is not a member of the supplied values.
+     *
+     * @param values
+     *     The values to check.
+     * @param <T>
+     *     The type of the subject.
+     *
+     * @return A new condition that evaluates to true if the subject is not equal to any of the supplied values.
+     *
+     * @throws NullPointerException
+     *     The supplied array is {@code null}.
+     *
+     * @see #memberOf(Object[])
+     * @since 0.5.0
+     */
+    @SafeVarargs
+    public static <T> Condition<T> notMemberOf(final T... values) {
+        return MembershipCondition.notMemberOf(Arrays.asList(requireNonNull(values)));
+    }
+
+    /**
+     * Creates a condition that evaluates if the subject is not a member of the supplied values. The values are copied
+     * and indexed when the condition is created; therefore, later changes to the supplied {@link Iterable} are not
+     * reflected in the condition.
+     *
+     * @param values
+     *     The values to check.
+     * @param <T>
+     *     The type of the subject.
+     *
+     * @return A new condition that evaluates to true if the subject is not equal to any of the supplied values.
+     *
+     * @throws NullPointerException
+     *     The supplied {@link Iterable} is {@code null}.
+     *
+     * @see #memberOf(Object[])
+     * @since 0.5.0
+     */
+    public static <T> Condition<T> notMemberOf(final Iterable<? extends T> values) {
+        return MembershipCondition.notMemberOf(values);
+    }
 }
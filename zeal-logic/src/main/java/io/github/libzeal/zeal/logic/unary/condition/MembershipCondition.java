@@ -0,0 +1,171 @@
+package io.github.libzeal.zeal.logic.unary.condition;
+
+import io.github.libzeal.zeal.logic.Expression;
+import io.github.libzeal.zeal.logic.unary.future.ComputedExpression;
+import io.github.libzeal.zeal.logic.unary.future.rationale.ComputableRationale;
+import io.github.libzeal.zeal.logic.unary.future.rationale.SimpleComputableRationale;
+
+import java.util.*;
+
+import static io.github.libzeal.zeal.logic.util.Formatter.stringify;
+import static java.util.Objects.requireNonNull;
+
+/**
+ * A condition that checks if the subject is a member of a set of values. The values are indexed once, when the
+ * condition is created, into an {@link EnumSet} (if all values are constants of the same enum) or a {@link HashSet}
+ * (otherwise), so checking membership does not depend on the number of values. Unlike
+ * {@link Conditions#anyOf(Object[])}, the expression computed by this condition is a single expression with a compact
+ * rationale, rather than one child expression per value.
+ *
+ * @param <T>
+ *     The type of the subject.
+ *
+ * @author Justin Albano
+ * @since 0.5.0
+ */
+class MembershipCondition<T> implements Condition<T> {
+
+    static final int DESCRIBED_VALUE_LIMIT = 5;
+
+    private final String name;
+    private final Set<?> members;
+    private final boolean negated;
+    private final ComputableRationale<T> rationale;
+
+    private MembershipCondition(final String name, final Set<?> members, final String expected,
+                                final boolean negated) {
+        this.name = name;
+        this.members = members;
+        this.negated = negated;
+        this.rationale = new SimpleComputableRationale<>(
+            (s, passed) -> expected,
+            (s, passed) -> stringify(s)
+        );
+    }
+
+    /**
+     * Creates a condition that checks if the subject is a member of the supplied values.
+     *
+     * @param values
+     *     The values.
+     * @param <T>
+     *     The type of the subject.
+     *
+     * @return A new condition.
+     *
+     * @throws NullPointerException
+     *     The supplied values are {@code null}.
+     */
+    public static <T> MembershipCondition<T> memberOf(final Iterable<? extends T> values) {
+
+        final List<T> copy = copyOf(values);
+        final String description = describe(copy);
+
+        return new MembershipCondition<>(
+            "memberOf[" + copy.size() + " values]",
+            index(copy),
+            description,
+            false
+        );
+    }
+
+    /**
+     * Creates a condition that checks if the subject is not a member of the supplied values.
+     *
+     * @param values
+     *     The values.
+     * @param <T>
+     *     The type of the subject.
+     *
+     * @return A new condition.
+     *
+     * @throws NullPointerException
+     *     The supplied values are {@code null}.
+     */
+    public static <T> MembershipCondition<T> notMemberOf(final Iterable<? extends T> values) {
+
+        final List<T> copy = copyOf(values);
+        final String description = describe(copy);
+
+        return new MembershipCondition<>(
+            "notMemberOf[" + copy.size() + " values]",
+            index(copy),
+            "not[" + description + "]",
+            true
+        );
+    }
+
+    private static <T> List<T> copyOf(final Iterable<? extends T> values) {
+
+        requireNonNull(values);
+
+        final List<T> copy = new ArrayList<>();
+
+        for (final T value : values) {
+            copy.add(value);
+        }
+
+        return copy;
+    }
+
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    private static Set<?> index(final List<?> values) {
+
+        final Class<?> enumType = commonEnumType(values);
+
+        if (enumType != null) {
+            return EnumSet.copyOf((Collection<Enum>) values);
+        }
+
+        return new HashSet<>(values);
+    }
+
+    private static Class<?> commonEnumType(final List<?> values) {
+
+        Class<?> enumType = null;
+
+        for (final Object value : values) {
+
+            if (!(value instanceof Enum)) {
+                return null;
+            }
+
+            final Class<?> type = ((Enum<?>) value).getDeclaringClass();
+
+            if (enumType == null) {
+                enumType = type;
+            }
+            else if (enumType != type) {
+                return null;
+            }
+        }
+
+        return enumType;
+    }
+
+    static String describe(final List<?> values) {
+
+        final StringJoiner joiner = new StringJoiner(", ", "memberOf[", "]");
+        final int described = Math.min(values.size(), DESCRIBED_VALUE_LIMIT);
+
+        for (int i = 0; i < described; i++) {
+            joiner.add(stringify(values.get(i)));
+        }
+
+        if (values.size() > described) {
+            joiner.add("... (" + (values.size() - described) + " more)");
+        }
+
+        return joiner.toString();
+    }
+
+    @Override
+    public Expression compute(final T subject) {
+        return new ComputedExpression<>(name, subject, this::test, rationale);
+    }
+
+    @Override
+    public boolean test(final T subject) {
+        return members.contains(subject) != negated;
+    }
+}
@@ -49,4 +49,9 @@ class SimpleCondition<T> implements Condition<T> {
 
         return new ComputedExpression<>(name, subject, predicate, generator);
     }
+
+    @Override
+    public boolean test(final T subject) {
+        return predicate.test(subject);
+    }
 }
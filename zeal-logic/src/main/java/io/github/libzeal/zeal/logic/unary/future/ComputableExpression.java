@@ -3,5 +3,22 @@ package io.github.libzeal.zeal.logic.unary.future;
 import io.github.libzeal.zeal.logic.Expression;
 
 public interface ComputableExpression<T> {
+
     Expression compute(T subject);
+
+    /**
+     * Tests whether the expression computed for the supplied subject passes, without creating an evaluation.
+     * Implementations should override this method to test the subject directly, without computing an expression.
+     *
+     * @param subject
+     *     The subject to test.
+     *
+     * @return True if the computed expression is known to pass; false otherwise.
+     *
+     * @see Expression#test()
+     * @since 0.5.0
+     */
+    default boolean test(final T subject) {
+        return compute(subject).test();
+    }
 }
@@ -6,7 +6,9 @@ import io.github.libzeal.zeal.logic.evaluation.Evaluation;
 import io.github.libzeal.zeal.logic.evaluation.Result;
 import io.github.libzeal.zeal.logic.rationale.Rationale;
 import io.github.libzeal.zeal.logic.unary.future.rationale.ComputableRationale;
+import io.github.libzeal.zeal.logic.unary.future.rationale.LazyRationale;
 import io.github.libzeal.zeal.logic.util.StopWatch;
+import io.github.libzeal.zeal.logic.util.Timing;
 
 import java.time.Duration;
 import java.util.function.Predicate;
@@ -40,7 +42,8 @@ public class ComputedExpression<T> implements Expression {
      *     The predicate for the expression. This predicate fails if the supplied subject is {@code null} (a
      *     non-nullable predicate).
      * @param computableRationale
-     *     A generator used to create a rationale for the expression when it is evaluated.
+     *     A generator used to create a rationale for the expression when it is evaluated. The rationale is computed
+     *     lazily, when it is first accessed from the evaluation.
      *
      * @throws NullPointerException
      *     Any of the supplied arguments, other than the subject, are {@code null}.
@@ -58,14 +61,19 @@ public class ComputedExpression<T> implements Expression {
         return name;
     }
 
+    @Override
+    public boolean test() {
+        return predicate.test(subject);
+    }
+
     @Override
     public Evaluation evaluate() {
 
-        final StopWatch stopWatch = StopWatch.started();
+        final StopWatch stopWatch = Timing.getDefault().start();
         final boolean passed = predicate.test(subject);
         final Duration elapsedTime = stopWatch.stop();
 
-        final Rationale rationale = computableRationale.compute(subject, passed);
+        final Rationale rationale = new LazyRationale<>(computableRationale, subject, passed);
         final Result result = Result.from(passed);
 
         return EvaluatedTerminalEvaluation.of(result, name, rationale, elapsedTime);
@@ -24,4 +24,9 @@ public class SimpleComputableExpression<T> implements ComputableExpression<T> {
     public Expression compute(T subject) {
         return new ComputedExpression<>(name, subject, predicate, computableRationale);
     }
+
+    @Override
+    public boolean test(final T subject) {
+        return predicate.test(subject);
+    }
 }
@@ -0,0 +1,132 @@
+package io.github.libzeal.zeal.logic.unary.future.rationale;
+
+import io.github.libzeal.zeal.logic.rationale.Rationale;
+
+import java.util.Objects;
+import java.util.Optional;
+
+import static java.util.Objects.requireNonNull;
+
+/**
+ * A {@link Rationale} that defers computing its expected value, actual value, and hint until one of them is requested.
+ * The underlying {@link ComputableRationale} is computed at most once per rationale (it may be computed more than once
+ * if accessed concurrently before the first computation completes, which is safe for side-effect-free computations)
+ * and the result is reused for all subsequent calls. Once the rationale is computed, the subject and the
+ * {@link ComputableRationale} are released, so that a retained rationale does not keep its subject reachable.
+ * <p>
+ * This allows evaluations that pass, and are therefore never formatted, to avoid the cost of building the strings for
+ * their rationale.
+ * <p>
+ * A lazy rationale is equal to any {@link Rationale} with the same expected value, actual value, and hint, and
+ * comparing or hashing a lazy rationale computes it.
+ *
+ * @param <T>
+ *     The type of the subject.
+ *
+ * @author Justin Albano
+ * @since 0.5.0
+ */
+public class LazyRationale<T> implements Rationale {
+
+    private volatile Pending<T> pending;
+    private volatile Rationale computed;
+
+    /**
+     * Creates a new lazy rationale.
+     *
+     * @param computableRationale
+     *     The generator used to compute the rationale when it is first accessed.
+     * @param subject
+     *     The subject supplied to the generator.
+     * @param passed
+     *     A flag denoting if the evaluation passed.
+     *
+     * @throws NullPointerException
+     *     The supplied generator is {@code null}.
+     */
+    public LazyRationale(final ComputableRationale<T> computableRationale, final T subject, final boolean passed) {
+        this.pending = new Pending<>(requireNonNull(computableRationale), subject, passed);
+    }
+
+    @Override
+    public String expected() {
+        return computed().expected();
+    }
+
+    @Override
+    public String actual() {
+        return computed().actual();
+    }
+
+    @Override
+    public Optional<String> hint() {
+        return computed().hint();
+    }
+
+    private Rationale computed() {
+
+        final Rationale rationale = computed;
+
+        if (rationale != null) {
+            return rationale;
+        }
+
+        final Pending<T> current = pending;
+
+        if (current == null) {
+            return computed;
+        }
+
+        final Rationale result = current.compute();
+
+        computed = result;
+        pending = null;
+
+        return result;
+    }
+
+    /**
+     * Obtains whether this rationale still retains its subject and {@link ComputableRationale}, which are released once
+     * the rationale is computed.
+     *
+     * @return True if the rationale has not been computed; false otherwise.
+     */
+    boolean retainsSubject() {
+        return pending != null;
+    }
+
+    @Override
+    public boolean equals(final Object o) {
+
+        if (this == o) return true;
+        if (!(o instanceof Rationale)) return false;
+
+        final Rationale rationale = (Rationale) o;
+
+        return Objects.equals(expected(), rationale.expected()) &&
+            Objects.equals(actual(), rationale.actual()) &&
+            Objects.equals(hint().orElse(null), rationale.hint().orElse(null));
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(expected(), actual(), hint().orElse(null));
+    }
+
+    private static final class Pending<T> {
+
+        private final ComputableRationale<T> computableRationale;
+        private final T subject;
+        private final boolean passed;
+
+        Pending(final ComputableRationale<T> computableRationale, final T subject, final boolean passed) {
+            this.computableRationale = computableRationale;
+            this.subject = subject;
+            this.passed = passed;
+        }
+
+        Rationale compute() {
+            return requireNonNull(computableRationale.compute(subject, passed), "Computed rationale cannot be null");
+        }
+    }
+}
@@ -1,18 +1,68 @@
 package io.github.libzeal.zeal.logic.util;
 
+import java.util.Collection;
+import java.util.Map;
+
 /**
  * A utility class containing methods that format values.
+ * <p>
+ * Formatted values are limited to a maximum length (see {@link #setMaxLength(int)}), so formatting a very large value,
+ * such as a multi-megabyte string or a collection with many elements, does not produce a formatted value of the same
+ * size. Collections and maps whose formatted elements exceed the maximum length are not converted to a string in
+ * their entirety: each element is formatted within the length that remains, and the elements that do not fit are
+ * described by their number, such as {@code [a, b, ... (3 more elements)]}.
+ * <p>
+ * Collections and maps are always formatted element by element, in the format of
+ * {@link java.util.AbstractCollection#toString()} and {@link java.util.AbstractMap#toString()}, so an override of
+ * {@code toString()} by a custom collection or map is not used.
  *
  * @author Justin Albano
  * @since 0.2.1
  */
 public class Formatter {
 
+    /**
+     * The default maximum length of a formatted value.
+     *
+     * @since 0.5.0
+     */
+    public static final int DEFAULT_MAX_LENGTH = 10_000;
+
+    private static final String SEPARATOR = ", ";
+    private static volatile int maxLength = DEFAULT_MAX_LENGTH;
+
     private Formatter() {
     }
 
     /**
-     * Formats an object as a string.
+     * Obtains the maximum length of a value formatted using {@link #stringify(Object)}.
+     *
+     * @return The maximum length of a formatted value.
+     *
+     * @since 0.5.0
+     */
+    public static int getMaxLength() {
+        return maxLength;
+    }
+
+    /**
+     * Sets the maximum length of a value formatted using {@link #stringify(Object)}. This method is intended to be
+     * called once at startup.
+     *
+     * @param length
+     *     The new maximum length.
+     *
+     * @throws IllegalArgumentException
+     *     The supplied length is less than 1.
+     *
+     * @since 0.5.0
+     */
+    public static void setMaxLength(final int length) {
+        maxLength = requirePositive(length);
+    }
+
+    /**
+     * Formats an object as a string, limited to the maximum length set using {@link #setMaxLength(int)}.
      *
      * @param o
      *     The object to format.
@@ -20,6 +70,169 @@ public class Formatter {
      * @return A formatted object (as a string).
      */
     public static String stringify(Object o) {
-        return o == null ? "(null)" : o.toString();
+        return stringify(o, maxLength);
+    }
+
+    /**
+     * Formats an object as a string, limited to the supplied maximum length. If the formatted object is longer than
+     * the maximum length, it is truncated and followed by a description of the truncated characters or elements. The
+     * elements of a collection or map share the maximum length, and an element that is only partially formatted is
+     * counted as one of the truncated elements.
+     *
+     * @param o
+     *     The object to format.
+     * @param maxLength
+     *     The maximum length of the formatted object, not including the truncation description.
+     *
+     * @return A formatted object (as a string).
+     *
+     * @throws IllegalArgumentException
+     *     The supplied maximum length is less than 1.
+     *
+     * @since 0.5.0
+     */
+    public static String stringify(final Object o, final int maxLength) {
+
+        requirePositive(maxLength);
+
+        if (o == null) {
+            return "(null)";
+        }
+        else if (o instanceof CharSequence) {
+            return truncate((CharSequence) o, maxLength);
+        }
+        else if (o instanceof Collection) {
+            return stringifyElements((Collection<?>) o, maxLength);
+        }
+        else if (o instanceof Map) {
+            return stringifyEntries((Map<?, ?>) o, maxLength);
+        }
+        else {
+            return truncate(o.toString(), maxLength);
+        }
+    }
+
+    private static int requirePositive(final int maxLength) {
+
+        if (maxLength < 1) {
+            throw new IllegalArgumentException("Maximum length must be at least 1");
+        }
+
+        return maxLength;
+    }
+
+    /**
+     * Truncates the supplied value to the supplied maximum length.
+     *
+     * @param value
+     *     The value to truncate.
+     * @param maxLength
+     *     The maximum length of the value, not including the truncation description.
+     *
+     * @return The value, if it does not exceed the maximum length; the truncated value followed by the number of
+     *     truncated characters otherwise.
+     *
+     * @since 0.5.0
+     */
+    public static String truncate(final CharSequence value, final int maxLength) {
+
+        if (value.length() <= maxLength) {
+            return value.toString();
+        }
+
+        return value.subSequence(0, maxLength) + "... (" + count(value.length() - maxLength, "character") + ")";
+    }
+
+    private static String stringifyElements(final Collection<?> collection, final int maxLength) {
+
+        final StringBuilder builder = new StringBuilder("[");
+        int formatted = 0;
+
+        for (final Object element : collection) {
+
+            final int budget = budget(builder, formatted, maxLength);
+
+            if (budget <= 0) {
+                return truncated(builder.append(formatted > 0 ? SEPARATOR : ""), collection.size() - formatted, "]");
+            }
+
+            if (formatted > 0) {
+                builder.append(SEPARATOR);
+            }
+
+            final String value = element == collection ? "(this Collection)" : stringifyElement(element, budget);
+
+            if (value.length() > budget) {
+                return truncated(builder.append(value, 0, budget), collection.size() - formatted, "]");
+            }
+
+            builder.append(value);
+            formatted++;
+        }
+
+        return truncate(builder.append("]"), maxLength);
+    }
+
+    private static String stringifyEntries(final Map<?, ?> map, final int maxLength) {
+
+        final StringBuilder builder = new StringBuilder("{");
+        int formatted = 0;
+
+        for (final Map.Entry<?, ?> entry : map.entrySet()) {
+
+            final int budget = budget(builder, formatted, maxLength);
+
+            if (budget <= 0) {
+                return truncated(builder.append(formatted > 0 ? SEPARATOR : ""), map.size() - formatted, "}");
+            }
+
+            if (formatted > 0) {
+                builder.append(SEPARATOR);
+            }
+
+            final String key = entry.getKey() == map ? "(this Map)" : stringifyElement(entry.getKey(), budget);
+            final int valueBudget = Math.max(1, budget - key.length() - 1);
+            final String value = entry.getValue() == map ?
+                "(this Map)" :
+                stringifyElement(entry.getValue(), valueBudget);
+            final String formattedEntry = key + "=" + value;
+
+            if (formattedEntry.length() > budget) {
+                return truncated(builder.append(formattedEntry, 0, budget), map.size() - formatted, "}");
+            }
+
+            builder.append(formattedEntry);
+            formatted++;
+        }
+
+        return truncate(builder.append("}"), maxLength);
+    }
+
+    /**
+     * Obtains the length that remains for the next element, after the separator that precedes it.
+     */
+    private static int budget(final StringBuilder builder, final int formatted, final int maxLength) {
+        return maxLength - builder.length() - (formatted > 0 ? SEPARATOR.length() : 0);
+    }
+
+    /**
+     * Formats an element of a collection or map. A {@code null} element is formatted as {@code null}, as it would be
+     * by {@link Collection#toString()}, so that formatting a collection that fits within the maximum length produces
+     * the same value as converting it to a string.
+     */
+    private static String stringifyElement(final Object element, final int maxLength) {
+        return element == null ? "null" : stringify(element, maxLength);
+    }
+
+    private static String truncated(final StringBuilder builder, final int remaining, final String suffix) {
+        return builder.append("... (")
+            .append(count(remaining, "element"))
+            .append(")")
+            .append(suffix)
+            .toString();
+    }
+
+    private static String count(final int count, final String noun) {
+        return count + " more " + noun + (count == 1 ? "" : "s");
     }
 }
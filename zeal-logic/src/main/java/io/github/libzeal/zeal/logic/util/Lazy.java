@@ -0,0 +1,90 @@
+package io.github.libzeal.zeal.logic.util;
+
+import java.util.function.Supplier;
+
+import static java.util.Objects.requireNonNull;
+
+/**
+ * A supplier that computes its value on first access and reuses the computed value for all subsequent accesses.
+ * <p>
+ * The value may be computed more than once if it is accessed concurrently before the first computation completes;
+ * therefore, the underlying supplier should be free of side effects. {@code null} values are not supported.
+ *
+ * @param <T>
+ *     The type of the value.
+ *
+ * @author Justin Albano
+ * @since 0.5.0
+ */
+public final class Lazy<T> implements Supplier<T> {
+
+    private final Supplier<? extends T> supplier;
+    private volatile T value;
+
+    private Lazy(final Supplier<? extends T> supplier, final T value) {
+        this.supplier = supplier;
+        this.value = value;
+    }
+
+    /**
+     * Creates a lazy value that is computed by the supplied supplier on first access. If the supplied supplier is
+     * already a lazy value, it is returned as-is.
+     *
+     * @param supplier
+     *     The supplier used to compute the value.
+     * @param <T>
+     *     The type of the value.
+     *
+     * @return A lazy value.
+     *
+     * @throws NullPointerException
+     *     The supplied supplier is {@code null}.
+     */
+    @SuppressWarnings("unchecked")
+    public static <T> Lazy<T> of(final Supplier<? extends T> supplier) {
+
+        if (supplier instanceof Lazy) {
+            return (Lazy<T>) supplier;
+        }
+
+        return new Lazy<>(requireNonNull(supplier), null);
+    }
+
+    /**
+     * Creates a lazy value that has already been computed.
+     *
+     * @param value
+     *     The value.
+     * @param <T>
+     *     The type of the value.
+     *
+     * @return A lazy value that always supplies the supplied value.
+     *
+     * @throws NullPointerException
+     *     The supplied value is {@code null}.
+     */
+    public static <T> Lazy<T> value(final T value) {
+        return new Lazy<>(null, requireNonNull(value));
+    }
+
+    /**
+     * Obtains the value, computing it if it has not yet been computed.
+     *
+     * @return The value.
+     *
+     * @throws NullPointerException
+     *     The underlying supplier computed a {@code null} value.
+     */
+    @Override
+    public T get() {
+
+        T computed = value;
+
+        if (computed == null) {
+            computed = requireNonNull(supplier.get(), "Lazy value cannot be null");
+            value = computed;
+        }
+
+        return computed;
+    }
+}
@@ -1,19 +1,22 @@
 package io.github.libzeal.zeal.logic.util;
 
 import java.time.Duration;
-import java.time.Instant;
 
 /**
- * A utility class that tracks time.
+ * A utility class that tracks time using the monotonic {@link System#nanoTime()} clock.
  *
  * @author Justin Albano
  * @since 0.2.1
  */
 public class StopWatch {
 
-    private Instant start;
+    private static final StopWatch DISABLED = new StopWatch(false);
+    private final boolean enabled;
+    private boolean started;
+    private long start;
 
-    private StopWatch() {
+    private StopWatch(final boolean enabled) {
+        this.enabled = enabled;
     }
 
     /**
@@ -22,7 +25,7 @@ public class StopWatch {
      * @return A new unstarted stop watch.
      */
     public static StopWatch unstarted() {
-        return new StopWatch();
+        return new StopWatch(true);
     }
 
     /**
@@ -31,7 +34,19 @@ public class StopWatch {
      * @return A new started stop watch.
      */
     public static StopWatch started() {
-        return new StopWatch().start();
+        return new StopWatch(true).start();
+    }
+
+    /**
+     * Obtains a stop watch that does not track time. Starting this stop watch has no effect and stopping it always
+     * results in {@link Duration#ZERO}. This stop watch is shared and does not require any allocation.
+     *
+     * @return A disabled stop watch.
+     *
+     * @since 0.5.0
+     */
+    public static StopWatch disabled() {
+        return DISABLED;
     }
 
     /**
@@ -40,16 +55,33 @@ public class StopWatch {
      * @return This stop watch (fluent interface).
      */
     public StopWatch start() {
-        this.start = Instant.now();
+
+        if (enabled) {
+            this.start = System.nanoTime();
+            this.started = true;
+        }
+
         return this;
     }
 
     /**
      * Stops the stop watch and returns the time elapsed since the last time {@link StopWatch#started()}.
      *
-     * @return The time elapsed since the stop watch was started.
+     * @return The time elapsed since the stop watch was started, or {@link Duration#ZERO} if the stop watch is
+     *     disabled.
+     *
+     * @throws IllegalStateException
+     *     The stop watch is enabled but was never started.
      */
     public Duration stop() {
-        return Duration.between(start, Instant.now());
+
+        if (!enabled) {
+            return Duration.ZERO;
+        }
+        else if (!started) {
+            throw new IllegalStateException("Stop watch was not started");
+        }
+
+        return Duration.ofNanos(System.nanoTime() - start);
     }
 }
@@ -0,0 +1,127 @@
+package io.github.libzeal.zeal.logic.util;
+
+import java.util.concurrent.ThreadLocalRandom;
+
+import static java.util.Objects.requireNonNull;
+
+/**
+ * A strategy that determines how the elapsed time of evaluations is measured. The following strategies are available:
+ * <ol>
+ *     <li>{@link #monotonic()}: Every evaluation is timed using the monotonic {@link System#nanoTime()} clock (the
+ *     default)</li>
+ *     <li>{@link #off()}: No evaluation is timed and the elapsed time of every evaluation is
+ *     {@link java.time.Duration#ZERO}</li>
+ *     <li>{@link #sampled(int)}: One in every {@code N} evaluations is timed, at random, and the remaining evaluations
+ *     have an elapsed time of {@link java.time.Duration#ZERO}</li>
+ * </ol>
+ * <p>
+ * The strategy used by all expressions is set globally using {@link #setDefault(Timing)}, which is intended to be
+ * called once at startup. For example, timing can be disabled using:
+ * <pre><code>Timing.setDefault(Timing.off());</code></pre>
+ *
+ * @author Justin Albano
+ * @since 0.5.0
+ */
+public abstract class Timing {
+
+    private static final Timing OFF = new Timing() {
+        @Override
+        public StopWatch start() {
+            return StopWatch.disabled();
+        }
+    };
+
+    private static final Timing MONOTONIC = new Timing() {
+        @Override
+        public StopWatch start() {
+            return StopWatch.started();
+        }
+    };
+
+    private static volatile Timing defaultTiming = MONOTONIC;
+
+    private Timing() {
+    }
+
+    /**
+     * Obtains a timing strategy that does not time evaluations.
+     *
+     * @return A timing strategy that does not time evaluations.
+     */
+    public static Timing off() {
+        return OFF;
+    }
+
+    /**
+     * Obtains a timing strategy that times every evaluation using a monotonic clock.
+     *
+     * @return A timing strategy that times every evaluation.
+     */
+    public static Timing monotonic() {
+        return MONOTONIC;
+    }
+
+    /**
+     * Creates a timing strategy that times one in every {@code interval} evaluations, on average.
+     *
+     * @param interval
+     *     The sampling interval. An interval of 1 times every evaluation.
+     *
+     * @return A timing strategy that samples evaluations.
+     *
+     * @throws IllegalArgumentException
+     *     The supplied interval is less than 1.
+     */
+    public static Timing sampled(final int interval) {
+
+        if (interval < 1) {
+            throw new IllegalArgumentException("Sampling interval must be greater than or equal to 1");
+        }
+        else if (interval == 1) {
+            return MONOTONIC;
+        }
+
+        return new Timing() {
+            @Override
+            public StopWatch start() {
+
+                if (ThreadLocalRandom.current().nextInt(interval) == 0) {
+                    return StopWatch.started();
+                }
+                else {
+                    return StopWatch.disabled();
+                }
+            }
+        };
+    }
+
+    /**
+     * Obtains the timing strategy used by all expressions.
+     *
+     * @return The default timing strategy.
+     */
+    public static Timing getDefault() {
+        return defaultTiming;
+    }
+
+    /**
+     * Sets the timing strategy used by all expressions.
+     *
+     * @param timing
+     *     The new default timing strategy.
+     *
+     * @throws NullPointerException
+     *     The supplied timing strategy is {@code null}.
+     */
+    public static void setDefault(final Timing timing) {
+        defaultTiming = requireNonNull(timing);
+    }
+
+    /**
+     * Obtains a started stop watch for a single evaluation.
+     *
+     * @return A started stop watch. The stop watch may be disabled, in which case it reports an elapsed time of
+     *     {@link java.time.Duration#ZERO}.
+     */
+    public abstract StopWatch start();
+}
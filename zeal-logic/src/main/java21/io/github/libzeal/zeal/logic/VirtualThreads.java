@@ -0,0 +1,41 @@
+package io.github.libzeal.zeal.logic;
+
+import java.util.concurrent.Executor;
+import java.util.concurrent.ThreadFactory;
+
+/**
+ * Access to virtual threads, which are available in Java 21 and later. This class is the implementation used by Java
+ * 21 and later and is packaged under {@code META-INF/versions/21} in the multi-release JAR of this library.
+ *
+ * @author Justin Albano
+ * @since 0.5.0
+ */
+final class VirtualThreads {
+
+    private static final ThreadFactory FACTORY = Thread.ofVirtual()
+        .name("zeal-evaluation-", 0)
+        .factory();
+
+    private static final Executor EXECUTOR = task -> FACTORY.newThread(task).start();
+
+    private VirtualThreads() {
+    }
+
+    /**
+     * Obtains whether virtual threads are supported by the current Java version.
+     *
+     * @return True, since virtual threads are supported by this Java version.
+     */
+    static boolean isSupported() {
+        return true;
+    }
+
+    /**
+     * Obtains an executor that runs each task on a new virtual thread.
+     *
+     * @return An executor that runs each task on a new virtual thread.
+     */
+    static Executor executor() {
+        return EXECUTOR;
+    }
+}
@@ -12,6 +12,7 @@ import org.junit.jupiter.api.Test;
 
 import java.util.ArrayList;
 import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
 
 import static io.github.libzeal.zeal.logic.CompoundEvaluator.CompoundRationaleBuilder.format;
 import static io.github.libzeal.zeal.logic.CompoundEvaluator.CompoundRationaleBuilder.formatPassed;
@@ -222,6 +223,54 @@ class AndExpressionTest {
         assertIsNotSkipped(failingSubExpression);
     }
 
+    @Test
+    void givenNameSupplier_whenLazilyNamed_thenNameComputedWhenNeeded() {
+
+        final AtomicInteger calls = new AtomicInteger();
+        final AndExpression lazilyNamed = AndExpression.lazilyNamed(
+            () -> name + calls.incrementAndGet(),
+            new ArrayList<>()
+        );
+        final Evaluation evaluation = lazilyNamed.evaluate();
+
+        assertEquals(0, calls.get());
+        assertEquals(name + 1, evaluation.name());
+        assertEquals(name + 1, lazilyNamed.name());
+        assertEquals(1, calls.get());
+    }
+
+    @Test
+    void givenNoSubExpression_whenTest_thenPasses() {
+        assertTrue(expression.test());
+    }
+
+    @Test
+    void givenAllSubExpressionsPass_whenTest_thenPassesWithoutEvaluating() {
+
+        final Expression first = Expressions.testedExpression(true);
+        final Expression second = Expressions.testedExpression(true);
+
+        expression.append(first);
+        expression.append(second);
+
+        assertTrue(expression.test());
+        assertIsSkipped(first);
+        assertIsSkipped(second);
+    }
+
+    @Test
+    void givenOneSubExpressionDoesNotPass_whenTest_thenDoesNotPass() {
+
+        final Expression failing = Expressions.testedExpression(false);
+        final Expression passing = Expressions.testedExpression(true);
+
+        expression.append(failing);
+        expression.append(passing);
+
+        assertFalse(expression.test());
+        verify(passing, never()).test();
+    }
+
     private static Cause rootCause() {
         return mock(Cause.class);
     }
@@ -239,4 +288,18 @@ class AndExpressionTest {
 
         assertEquals(subExpression.name(), evaluation.cause().rootCause().evaluation().name());
     }
+
+    @Test
+    void givenFailingExpressionBeforeSkippedExpressions_whenEvaluate_thenRootCauseIsFailingExpression() {
+
+        final Expression failing = Expressions.expressionWithRootCause("failing", Result.FALSE, CauseGenerator.self());
+
+        expression.append(failing);
+        expression.append(Expressions.expression("first skipped", Result.TRUE));
+        expression.append(Expressions.expression("second skipped", Result.TRUE));
+
+        final Evaluation evaluation = expression.evaluate();
+
+        assertEquals(failing.name(), evaluation.cause().rootCause().evaluation().name());
+    }
 }
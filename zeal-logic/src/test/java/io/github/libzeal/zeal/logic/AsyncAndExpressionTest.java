@@ -0,0 +1,158 @@
+package io.github.libzeal.zeal.logic;
+
+import io.github.libzeal.zeal.logic.evaluation.CompoundEvaluation;
+import io.github.libzeal.zeal.logic.evaluation.Evaluation;
+import io.github.libzeal.zeal.logic.evaluation.Result;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class AsyncAndExpressionTest {
+
+    @Test
+    void givenNullChildren_whenConstruct_thenExceptionThrown() {
+        assertThrows(
+            NullPointerException.class,
+            () -> new AsyncAndExpression("foo", null)
+        );
+    }
+
+    @Test
+    void givenChildrenWithNull_whenConstruct_thenExceptionThrown() {
+
+        final List<AsyncExpression> children = Collections.singletonList(null);
+
+        assertThrows(
+            NullPointerException.class,
+            () -> new AsyncAndExpression("foo", children)
+        );
+    }
+
+    @Test
+    void givenNoChildren_whenEvaluateAsync_thenTrue() {
+
+        final Evaluation evaluation = AsyncAndExpression.unnamed().evaluateAsync().toCompletableFuture().join();
+
+        assertEquals(Result.TRUE, evaluation.result());
+        assertEquals(AndExpression.DEFAULT_NAME, evaluation.name());
+    }
+
+    @Test
+    void givenCompletedChildren_whenEvaluateAsync_thenSameEvaluationAsSynchronousExpression() {
+
+        final Expression passing = Expressions.tautology();
+        final Expression failing = Expressions.contradiction();
+
+        final Evaluation expected = AndExpression.unnamed(passing, failing, passing).evaluate();
+        final Evaluation actual = AsyncAndExpression.unnamed(
+            AsyncExpression.of(passing),
+            AsyncExpression.of(failing),
+            AsyncExpression.of(passing)
+        ).evaluateAsync().toCompletableFuture().join();
+
+        assertEquals(expected.result(), actual.result());
+        assertEquals(expected.rationale(), actual.rationale());
+        assertEquals(expected.summary().deciderIndex(), actual.summary().deciderIndex());
+        assertEquals(Result.SKIPPED, ((CompoundEvaluation) actual).children().get(2).result());
+    }
+
+    @Test
+    void givenPendingChild_whenEvaluateAsync_thenNextChildEvaluatedOnlyOnceChildCompletes() {
+
+        final CompletableFuture<Evaluation> pending = new CompletableFuture<>();
+        final AtomicInteger evaluated = new AtomicInteger();
+        final AsyncExpression counting = () -> {
+            evaluated.incrementAndGet();
+            return CompletableFuture.completedFuture(Expressions.tautology().evaluate());
+        };
+
+        final CompletableFuture<Evaluation> result = AsyncAndExpression.unnamed(() -> pending, counting)
+            .evaluateAsync()
+            .toCompletableFuture();
+
+        assertFalse(result.isDone());
+        assertEquals(0, evaluated.get());
+
+        pending.complete(Expressions.tautology().evaluate());
+
+        assertEquals(Result.TRUE, result.join().result());
+        assertEquals(1, evaluated.get());
+    }
+
+    @Test
+    void givenFailingChild_whenEvaluateAsync_thenRemainingChildrenSkippedWithoutEvaluation() {
+
+        final AtomicInteger evaluated = new AtomicInteger();
+        final AsyncExpression counting = () -> {
+            evaluated.incrementAndGet();
+            return CompletableFuture.completedFuture(Expressions.tautology().evaluate());
+        };
+        final AsyncExpression nested = AsyncOrExpression.unnamed(counting, AsyncNotExpression.unnamed(counting));
+
+        final Evaluation evaluation = AsyncAndExpression.unnamed(AsyncExpression.of(Expressions.contradiction()),
+            counting, nested).evaluateAsync().toCompletableFuture().join();
+
+        final List<Evaluation> children = ((CompoundEvaluation) evaluation).children();
+
+        assertEquals(Result.FALSE, evaluation.result());
+        assertEquals(0, evaluated.get());
+        assertEquals(Result.SKIPPED, children.get(1).result());
+        assertEquals(Result.SKIPPED, children.get(2).result());
+        assertEquals(2, ((CompoundEvaluation) children.get(2)).children().size());
+        assertSame(children.get(0), children.get(2).cause().evaluation());
+    }
+
+    @Test
+    void givenChildCompletesExceptionally_whenEvaluateAsync_thenStageCompletesExceptionally() {
+
+        final IllegalStateException exception = new IllegalStateException("failed");
+        final CompletableFuture<Evaluation> pending = new CompletableFuture<>();
+
+        final CompletableFuture<Evaluation> result = AsyncAndExpression.unnamed(() -> pending)
+            .evaluateAsync()
+            .toCompletableFuture();
+
+        pending.completeExceptionally(exception);
+
+        final CompletionException thrown = assertThrows(CompletionException.class, result::join);
+
+        assertSame(exception, thrown.getCause());
+    }
+
+    @Test
+    void givenManyCompletedChildren_whenEvaluateAsync_thenEvaluatedWithoutRecursion() {
+
+        final List<AsyncExpression> children = new ArrayList<>(
+            Collections.nCopies(100_000, AsyncExpression.of(Expressions.tautology()))
+        );
+
+        final Evaluation evaluation = new AsyncAndExpression("foo", children)
+            .evaluateAsync()
+            .toCompletableFuture()
+            .join();
+
+        assertEquals(Result.TRUE, evaluation.result());
+        assertEquals("foo", evaluation.name());
+    }
+
+    @Test
+    void givenChildren_whenChildren_thenChildrenUnmodifiable() {
+
+        final AsyncAndExpression expression = new AsyncAndExpression("foo",
+            Arrays.asList(AsyncExpression.of(Expressions.tautology())));
+        final List<AsyncExpression> children = expression.children();
+
+        assertThrows(
+            UnsupportedOperationException.class,
+            () -> children.add(AsyncExpression.of(Expressions.tautology()))
+        );
+    }
+}
@@ -0,0 +1,52 @@
+package io.github.libzeal.zeal.logic;
+
+import io.github.libzeal.zeal.logic.evaluation.Evaluation;
+import io.github.libzeal.zeal.logic.evaluation.Result;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.CompletableFuture;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class AsyncNotExpressionTest {
+
+    @Test
+    void givenNullWrapped_whenConstruct_thenExceptionThrown() {
+        assertThrows(
+            NullPointerException.class,
+            () -> new AsyncNotExpression("foo", null)
+        );
+    }
+
+    @Test
+    void givenPassingWrapped_whenEvaluateAsync_thenSameEvaluationAsSynchronousExpression() {
+
+        final Evaluation expected = NotExpression.unnamed(Expressions.tautology()).evaluate();
+        final Evaluation actual = AsyncNotExpression.unnamed(AsyncExpression.of(Expressions.tautology()))
+            .evaluateAsync()
+            .toCompletableFuture()
+            .join();
+
+        assertEquals(Result.FALSE, actual.result());
+        assertEquals(expected.name(), actual.name());
+        assertEquals(expected.rationale(), actual.rationale());
+    }
+
+    @Test
+    void givenPendingFailingWrapped_whenEvaluateAsync_thenTrueOnceWrappedCompletes() {
+
+        final CompletableFuture<Evaluation> pending = new CompletableFuture<>();
+        final AsyncNotExpression expression = new AsyncNotExpression("foo", () -> pending);
+
+        final CompletableFuture<Evaluation> result = expression.evaluateAsync().toCompletableFuture();
+
+        assertFalse(result.isDone());
+
+        final Evaluation wrapped = Expressions.contradiction().evaluate();
+        pending.complete(wrapped);
+
+        assertEquals(Result.TRUE, result.join().result());
+        assertEquals("foo", result.join().name());
+        assertSame(wrapped, result.join().cause().rootCause().evaluation());
+    }
+}
@@ -0,0 +1,69 @@
+package io.github.libzeal.zeal.logic;
+
+import io.github.libzeal.zeal.logic.evaluation.CompoundEvaluation;
+import io.github.libzeal.zeal.logic.evaluation.Evaluation;
+import io.github.libzeal.zeal.logic.evaluation.Result;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class AsyncOrExpressionTest {
+
+    @Test
+    void givenNoChildren_whenEvaluateAsync_thenTrue() {
+
+        final Evaluation evaluation = AsyncOrExpression.unnamed().evaluateAsync().toCompletableFuture().join();
+
+        assertEquals(Result.TRUE, evaluation.result());
+        assertEquals(OrExpression.DEFAULT_NAME, evaluation.name());
+    }
+
+    @Test
+    void givenAllFailingChildren_whenEvaluateAsync_thenSameEvaluationAsSynchronousExpression() {
+
+        final Expression failing = Expressions.contradiction();
+
+        final Evaluation expected = OrExpression.unnamed(failing, failing).evaluate();
+        final Evaluation actual = AsyncOrExpression.unnamed(AsyncExpression.of(failing), AsyncExpression.of(failing))
+            .evaluateAsync()
+            .toCompletableFuture()
+            .join();
+
+        assertEquals(expected.result(), actual.result());
+        assertEquals(expected.rationale(), actual.rationale());
+        assertEquals(expected.summary().deciderIndex(), actual.summary().deciderIndex());
+    }
+
+    @Test
+    void givenPendingPassingChild_whenEvaluateAsync_thenRemainingChildrenSkippedOnceChildCompletes() {
+
+        final CompletableFuture<Evaluation> pending = new CompletableFuture<>();
+        final AtomicInteger evaluated = new AtomicInteger();
+        final AsyncExpression counting = () -> {
+            evaluated.incrementAndGet();
+            return CompletableFuture.completedFuture(Expressions.contradiction().evaluate());
+        };
+
+        final CompletableFuture<Evaluation> result = AsyncOrExpression.unnamed(
+            AsyncExpression.of(Expressions.contradiction()),
+            () -> pending,
+            counting
+        ).evaluateAsync().toCompletableFuture();
+
+        assertFalse(result.isDone());
+
+        pending.complete(Expressions.tautology().evaluate());
+
+        final Evaluation evaluation = result.join();
+        final List<Evaluation> children = ((CompoundEvaluation) evaluation).children();
+
+        assertEquals(Result.TRUE, evaluation.result());
+        assertEquals(0, evaluated.get());
+        assertEquals(1, evaluation.summary().deciderIndex().getAsInt());
+        assertEquals(Result.SKIPPED, children.get(2).result());
+    }
+}
@@ -9,6 +9,7 @@ import org.junit.jupiter.api.Test;
 
 import static io.github.libzeal.zeal.logic.test.Assertions.*;
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.mockito.Mockito.mock;
 
 class ContradictionTest {
@@ -38,4 +39,9 @@ class ContradictionTest {
         assertEquals(evaluation, evaluation.cause().evaluation());
         assertDepthFirstTraversalIsTerminal(evaluation);
     }
+
+    @Test
+    void givenDefault_whenTest_thenDoesNotPass() {
+        assertFalse(contradiction.test());
+    }
 }
@@ -221,6 +221,34 @@ class OrExpressionTest {
         assertIsSkipped(failingSubPredicate);
     }
 
+    @Test
+    void givenNoSubExpression_whenTest_thenPasses() {
+        assertTrue(expression.test());
+    }
+
+    @Test
+    void givenOneSubExpressionPasses_whenTest_thenPassesWithoutEvaluating() {
+
+        final Expression failing = Expressions.testedExpression(false);
+        final Expression passing = Expressions.testedExpression(true);
+
+        expression.append(failing);
+        expression.append(passing);
+
+        assertTrue(expression.test());
+        assertIsSkipped(failing);
+        assertIsSkipped(passing);
+    }
+
+    @Test
+    void givenNoSubExpressionPasses_whenTest_thenDoesNotPass() {
+
+        expression.append(Expressions.testedExpression(false));
+        expression.append(Expressions.testedExpression(false));
+
+        assertFalse(expression.test());
+    }
+
     private static Cause rootCause() {
         return mock(Cause.class);
     }
@@ -0,0 +1,321 @@
+package io.github.libzeal.zeal.logic;
+
+import io.github.libzeal.zeal.logic.evaluation.CompoundEvaluation;
+import io.github.libzeal.zeal.logic.evaluation.Evaluation;
+import io.github.libzeal.zeal.logic.evaluation.Result;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ParallelEvaluationTest {
+
+    private ForkJoinPool pool;
+
+    @BeforeEach
+    void setUp() {
+        pool = new ForkJoinPool(4);
+    }
+
+    @AfterEach
+    void tearDown() {
+        ParallelEvaluation.setDefault(ParallelEvaluation.sequential());
+        pool.shutdownNow();
+    }
+
+    @Test
+    void givenDefaults_whenGetDefault_thenSequentialReturned() {
+        assertSame(ParallelEvaluation.sequential(), ParallelEvaluation.getDefault());
+        assertFalse(ParallelEvaluation.getDefault().isParallel());
+    }
+
+    @Test
+    void givenNullStrategy_whenSetDefault_thenExceptionThrown() {
+        assertThrows(
+            NullPointerException.class,
+            () -> ParallelEvaluation.setDefault(null)
+        );
+    }
+
+    @Test
+    void givenNullPool_whenOn_thenExceptionThrown() {
+        assertThrows(
+            NullPointerException.class,
+            () -> ParallelEvaluation.on(null)
+        );
+    }
+
+    @Test
+    void givenSequential_whenWithMinimumChildren_thenExceptionThrown() {
+
+        final ParallelEvaluation sequential = ParallelEvaluation.sequential();
+
+        assertThrows(
+            IllegalStateException.class,
+            () -> sequential.withMinimumChildren(4)
+        );
+    }
+
+    @Test
+    void givenMinimumLessThanTwo_whenWithMinimumChildren_thenExceptionThrown() {
+
+        final ParallelEvaluation parallel = ParallelEvaluation.on(pool);
+
+        assertThrows(
+            IllegalArgumentException.class,
+            () -> parallel.withMinimumChildren(1)
+        );
+    }
+
+    @Test
+    void givenMinimumChildren_whenEvaluateSmallerCompound_thenEvaluatedOnCallingThread() {
+
+        final Thread caller = Thread.currentThread();
+        final Expression onCaller = new BooleanExpression(() -> Thread.currentThread() == caller);
+
+        ParallelEvaluation.setDefault(ParallelEvaluation.on(pool).withMinimumChildren(3));
+
+        final Evaluation evaluation = AndExpression.unnamed(onCaller, onCaller).evaluate();
+
+        assertEquals(3, ParallelEvaluation.getDefault().minimumChildren());
+        assertEquals(Result.TRUE, evaluation.result());
+    }
+
+    @Test
+    void givenAllPassingChildren_whenEvaluateInParallel_thenEvaluatedOnPool() {
+
+        final Expression onPool = new BooleanExpression(ForkJoinTask::inForkJoinPool);
+
+        ParallelEvaluation.setDefault(ParallelEvaluation.on(pool));
+
+        final Evaluation evaluation = AndExpression.unnamed(onPool, onPool, onPool).evaluate();
+
+        assertEquals(Result.TRUE, evaluation.result());
+        assertEquals(4, evaluation.summary().nodes());
+        assertSame(evaluation, evaluation.cause().rootCause().evaluation());
+    }
+
+    @Test
+    void givenLaterChildFailsFirst_whenEvaluateInParallel_thenFirstFailingChildInOrderDecides() {
+
+        final CountDownLatch laterFailed = new CountDownLatch(1);
+
+        final Expression passing = new BooleanExpression("passing", () -> true);
+        final Expression slowFailing = new BooleanExpression("slowFailing", () -> await(laterFailed) && false);
+        final Expression fastFailing = new BooleanExpression("fastFailing", () -> {
+            laterFailed.countDown();
+            return false;
+        });
+
+        ParallelEvaluation.setDefault(ParallelEvaluation.on(pool));
+
+        final Evaluation evaluation = AndExpression.unnamed(passing, slowFailing, fastFailing).evaluate();
+
+        assertEquals(Result.FALSE, evaluation.result());
+        assertEquals(1, evaluation.summary().deciderIndex().getAsInt());
+        assertEquals("slowFailing", evaluation.cause().rootCause().evaluation().name());
+
+        assertEquals(Result.TRUE, childResult(evaluation, 0));
+        assertEquals(Result.FALSE, childResult(evaluation, 1));
+        assertEquals(Result.SKIPPED, childResult(evaluation, 2));
+    }
+
+    @Test
+    void givenEarlierPassingChildInDisjunction_whenEvaluateInParallel_thenSameDeciderAsSequential() {
+
+        final Expression failing = new BooleanExpression("failing", () -> false);
+        final Expression firstPassing = new BooleanExpression("firstPassing", () -> true);
+        final Expression secondPassing = new BooleanExpression("secondPassing", () -> true);
+
+        final Evaluation sequential = OrExpression.unnamed(failing, firstPassing, secondPassing).evaluate();
+
+        ParallelEvaluation.setDefault(ParallelEvaluation.on(pool));
+
+        final Evaluation parallel = OrExpression.unnamed(failing, firstPassing, secondPassing).evaluate();
+
+        assertEquals(sequential.result(), parallel.result());
+        assertEquals(sequential.summary().deciderIndex(), parallel.summary().deciderIndex());
+        assertEquals(sequential.cause().rootCause().evaluation().name(),
+            parallel.cause().rootCause().evaluation().name());
+        assertEquals(sequential.rationale().actual(), parallel.rationale().actual());
+    }
+
+    @Test
+    void givenDecidingChild_whenEvaluateInParallel_thenUnstartedSiblingsCancelled() throws Exception {
+
+        final ForkJoinPool singleThreadPool = new ForkJoinPool(1);
+        final ExecutorService caller = Executors.newSingleThreadExecutor();
+        final CountDownLatch release = new CountDownLatch(1);
+        final AtomicInteger evaluatedSiblings = new AtomicInteger();
+
+        final Expression blockingFailing = new BooleanExpression("blockingFailing", () -> await(release) && false);
+        final Expression sibling = new BooleanExpression("sibling", () -> evaluatedSiblings.incrementAndGet() < 0);
+
+        try {
+            ParallelEvaluation.setDefault(ParallelEvaluation.on(singleThreadPool));
+
+            final AndExpression expression = AndExpression.unnamed(blockingFailing, sibling, sibling, sibling);
+            final CompletableFuture<Thread> evaluatingThread = new CompletableFuture<>();
+            final CompletableFuture<Evaluation> result = CompletableFuture.supplyAsync(() -> {
+                evaluatingThread.complete(Thread.currentThread());
+                return expression.evaluate();
+            }, caller);
+
+            awaitWaiting(evaluatingThread.get(5, TimeUnit.SECONDS));
+            release.countDown();
+
+            final Evaluation evaluation = result.get(5, TimeUnit.SECONDS);
+
+            assertEquals(Result.FALSE, evaluation.result());
+            assertEquals(3, evaluation.summary().skipped());
+            assertEquals(0, evaluatedSiblings.get());
+        }
+        finally {
+            caller.shutdownNow();
+            singleThreadPool.shutdownNow();
+        }
+    }
+
+    @Test
+    void givenChildThrowsException_whenEvaluateInParallel_thenExceptionRethrown() {
+
+        final IllegalStateException exception = new IllegalStateException("failed");
+        final Expression throwing = new BooleanExpression(() -> {
+            throw exception;
+        });
+
+        ParallelEvaluation.setDefault(ParallelEvaluation.on(pool));
+
+        final AndExpression expression = AndExpression.unnamed(new BooleanExpression(() -> true), throwing);
+        final IllegalStateException thrown = assertThrows(IllegalStateException.class, expression::evaluate);
+
+        assertSame(exception, thrown);
+    }
+
+    @Test
+    void givenNullPool_whenRacing_thenExceptionThrown() {
+        assertThrows(
+            NullPointerException.class,
+            () -> ParallelEvaluation.racing(null)
+        );
+    }
+
+    @Test
+    void givenRacingStrategy_whenWithMinimumChildren_thenStillRacing() {
+
+        final ParallelEvaluation racing = ParallelEvaluation.racing(pool).withMinimumChildren(3);
+
+        assertTrue(racing.isParallel());
+        assertTrue(racing.isRacing());
+        assertFalse(ParallelEvaluation.on(pool).isRacing());
+    }
+
+    @Test
+    void givenSlowChildAndFastPassingChild_whenEvaluateRacingDisjunction_thenFastChildDecides() {
+
+        final CountDownLatch release = new CountDownLatch(1);
+
+        final Expression slow = new BooleanExpression("slow", () -> await(release));
+        final Expression failing = new BooleanExpression("failing", () -> false);
+        final Expression fast = new BooleanExpression("fast", () -> true);
+
+        ParallelEvaluation.setDefault(ParallelEvaluation.racing(pool));
+
+        try {
+            final Evaluation evaluation = OrExpression.unnamed(slow, failing, fast).evaluate();
+            final Evaluation winner = ((CompoundEvaluation) evaluation).children().get(2);
+            final Evaluation skipped = ((CompoundEvaluation) evaluation).children().get(0);
+
+            assertEquals(Result.TRUE, evaluation.result());
+            assertEquals(2, evaluation.summary().deciderIndex().getAsInt());
+            assertSame(winner, evaluation.cause().rootCause().evaluation());
+            assertEquals(Result.SKIPPED, skipped.result());
+            assertEquals("slow", skipped.name());
+            assertSame(winner, skipped.cause().evaluation());
+        }
+        finally {
+            release.countDown();
+        }
+    }
+
+    @Test
+    void givenNoDecidingChild_whenEvaluateRacingDisjunction_thenAllChildrenEvaluated() {
+
+        final Expression failing = new BooleanExpression("failing", () -> false);
+
+        ParallelEvaluation.setDefault(ParallelEvaluation.racing(pool));
+
+        final Evaluation evaluation = OrExpression.unnamed(failing, failing, failing).evaluate();
+
+        assertEquals(Result.FALSE, evaluation.result());
+        assertEquals(3, evaluation.summary().failedChildIndices().length);
+        assertEquals(0, evaluation.summary().skipped());
+        assertEquals(2, evaluation.summary().deciderIndex().getAsInt());
+    }
+
+    @Test
+    void givenFailingChild_whenEvaluateRacingConjunction_thenFailingChildDecides() {
+
+        final CountDownLatch release = new CountDownLatch(1);
+
+        final Expression slow = new BooleanExpression("slow", () -> await(release));
+        final Expression failing = new BooleanExpression("failing", () -> false);
+
+        ParallelEvaluation.setDefault(ParallelEvaluation.racing(pool));
+
+        try {
+            final Evaluation evaluation = AndExpression.unnamed(slow, failing).evaluate();
+
+            assertEquals(Result.FALSE, evaluation.result());
+            assertEquals("failing", evaluation.cause().rootCause().evaluation().name());
+            assertEquals(Result.SKIPPED, childResult(evaluation, 0));
+        }
+        finally {
+            release.countDown();
+        }
+    }
+
+    @Test
+    void givenJava8Implementation_whenVirtualThreads_thenExceptionThrown() {
+
+        assertFalse(ParallelEvaluation.virtualThreadsSupported());
+        assertThrows(
+            UnsupportedOperationException.class,
+            ParallelEvaluation::virtualThreads
+        );
+    }
+
+    private static boolean await(final CountDownLatch latch) {
+
+        try {
+            return latch.await(5, TimeUnit.SECONDS);
+        }
+        catch (final InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return false;
+        }
+    }
+
+    private static void awaitWaiting(final Thread thread) throws InterruptedException {
+
+        final long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+
+        while (thread.getState() != Thread.State.WAITING && System.nanoTime() < deadline) {
+            Thread.sleep(1);
+        }
+    }
+
+    private static Result childResult(final Evaluation evaluation, final int index) {
+        return ((CompoundEvaluation) evaluation).children().get(index).result();
+    }
+}
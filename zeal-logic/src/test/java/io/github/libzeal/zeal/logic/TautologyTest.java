@@ -9,6 +9,7 @@ import org.junit.jupiter.api.Test;
 
 import static io.github.libzeal.zeal.logic.test.Assertions.*;
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.Mockito.mock;
 
 class TautologyTest {
@@ -38,4 +39,9 @@ class TautologyTest {
         assertEquals(evaluation, evaluation.cause().evaluation());
         assertDepthFirstTraversalIsTerminal(evaluation);
     }
+
+    @Test
+    void givenDefault_whenTest_thenPasses() {
+        assertTrue(tautology.test());
+    }
 }
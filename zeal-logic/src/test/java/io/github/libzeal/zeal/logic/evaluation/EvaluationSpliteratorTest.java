@@ -0,0 +1,185 @@
+package io.github.libzeal.zeal.logic.evaluation;
+
+import io.github.libzeal.zeal.logic.evaluation.cause.CauseGenerator;
+import io.github.libzeal.zeal.logic.evaluation.traverse.CollectingTraverserAction;
+import io.github.libzeal.zeal.logic.evaluation.traverse.DepthFirstTraverser;
+import io.github.libzeal.zeal.logic.rationale.SimpleRationale;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Spliterator;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class EvaluationSpliteratorTest {
+
+    private Evaluation tree;
+
+    @BeforeEach
+    void setUp() {
+        tree = tree("root", 4, 3);
+    }
+
+    private static Evaluation tree(final String name, final int depth, final int breadth) {
+
+        if (depth == 0) {
+            return name.endsWith("1") ? falseTerminal(name) : trueTerminal(name);
+        }
+
+        final List<Evaluation> children = new ArrayList<>();
+
+        for (int i = 0; i < breadth; i++) {
+            children.add(tree(name + "." + i, depth - 1, breadth));
+        }
+
+        return EvaluatedCompoundEvaluation.ofFalse(name, new SimpleRationale("", ""), Duration.ZERO,
+            CauseGenerator.self(), children);
+    }
+
+    private static Evaluation trueTerminal(final String name) {
+        return EvaluatedTerminalEvaluation.ofTrue(name, new SimpleRationale("", ""), Duration.ZERO);
+    }
+
+    private static Evaluation falseTerminal(final String name) {
+        return EvaluatedTerminalEvaluation.ofFalse(name, new SimpleRationale("", ""), Duration.ZERO);
+    }
+
+    private static List<Evaluation> traverse(final Evaluation evaluation) {
+
+        final CollectingTraverserAction collector = new CollectingTraverserAction();
+
+        new DepthFirstTraverser().traverse(evaluation, collector);
+
+        return collector.found();
+    }
+
+    @Test
+    void givenTree_whenStream_thenSameOrderAsDepthFirstTraverser() {
+        assertEquals(traverse(tree), tree.stream().collect(Collectors.toList()));
+    }
+
+    @Test
+    void givenTree_whenParallelStream_thenSameOrderAsDepthFirstTraverser() {
+        assertEquals(traverse(tree), tree.stream().parallel().collect(Collectors.toList()));
+    }
+
+    @Test
+    void givenTree_whenFailures_thenOnlyFailedEvaluationsStreamed() {
+
+        final List<Evaluation> expected = traverse(tree).stream()
+            .filter(e -> e.result().isFalse())
+            .collect(Collectors.toList());
+
+        final List<Evaluation> failures = tree.failures().collect(Collectors.toList());
+
+        assertEquals(expected, failures);
+        assertTrue(failures.stream().anyMatch(e -> e instanceof TerminalEvaluation));
+    }
+
+    @Test
+    void givenTree_whenLeaves_thenOnlyTerminalEvaluationsStreamed() {
+
+        final List<Evaluation> leaves = tree.leaves().collect(Collectors.toList());
+
+        assertEquals(81, leaves.size());
+        assertTrue(leaves.stream().allMatch(e -> e instanceof TerminalEvaluation));
+    }
+
+    @Test
+    void givenEmptyCompound_whenLeaves_thenCompoundIsLeaf() {
+
+        final Evaluation empty = EvaluatedCompoundEvaluation.ofTrue("empty", new SimpleRationale("", ""),
+            Duration.ZERO, CauseGenerator.self(), Collections.emptyList());
+
+        assertEquals(Collections.singletonList(empty), empty.leaves().collect(Collectors.toList()));
+    }
+
+    @Test
+    void givenTree_whenSplitRepeatedly_thenSplitsCoverTreeInOrder() {
+
+        final List<Evaluation> visited = new ArrayList<>();
+
+        split(new EvaluationSpliterator(tree), visited);
+
+        assertEquals(traverse(tree), visited);
+    }
+
+    private static void split(final Spliterator<Evaluation> spliterator, final List<Evaluation> visited) {
+
+        final Spliterator<Evaluation> prefix = spliterator.trySplit();
+
+        if (prefix != null) {
+            split(prefix, visited);
+            split(spliterator, visited);
+        }
+        else if (spliterator.tryAdvance(visited::add)) {
+            split(spliterator, visited);
+        }
+    }
+
+    @Test
+    void givenRoot_whenTrySplit_thenPrefixContainsOnlyRoot() {
+
+        final EvaluationSpliterator spliterator = new EvaluationSpliterator(tree);
+        final List<Evaluation> prefixVisited = new ArrayList<>();
+
+        final Spliterator<Evaluation> prefix = spliterator.trySplit();
+
+        assertNotNull(prefix);
+        prefix.forEachRemaining(prefixVisited::add);
+        assertEquals(Collections.singletonList(tree), prefixVisited);
+    }
+
+    @Test
+    void givenTerminal_whenTrySplit_thenNoSplit() {
+        assertNull(new EvaluationSpliterator(trueTerminal("foo")).trySplit());
+    }
+
+    @Test
+    void givenDeepTree_whenStream_thenAllEvaluationsStreamed() {
+
+        final int depth = 100_000;
+        Evaluation current = trueTerminal("leaf");
+
+        for (int i = 0; i < depth; i++) {
+            current = EvaluatedCompoundEvaluation.ofTrue("node", new SimpleRationale("", ""), Duration.ZERO,
+                CauseGenerator.self(), Collections.singletonList(current));
+        }
+
+        assertEquals(depth + 1, current.stream().count());
+    }
+
+    @Test
+    void givenNullRoot_whenConstruct_thenExceptionThrown() {
+        assertThrows(
+            NullPointerException.class,
+            () -> new EvaluationSpliterator(null)
+        );
+    }
+
+    @Test
+    void givenNullAction_whenTryAdvance_thenExceptionThrown() {
+        assertThrows(
+            NullPointerException.class,
+            () -> new EvaluationSpliterator(tree).tryAdvance(null)
+        );
+    }
+
+    @Test
+    void givenSiblings_whenStream_thenSiblingsInOrder() {
+
+        final Evaluation first = trueTerminal("first");
+        final Evaluation second = falseTerminal("second");
+        final Evaluation parent = EvaluatedCompoundEvaluation.ofFalse("parent", new SimpleRationale("", ""),
+            Duration.ZERO, CauseGenerator.self(), Arrays.asList(first, second));
+
+        assertEquals(Arrays.asList(parent, first, second), parent.stream().collect(Collectors.toList()));
+        assertEquals(Arrays.asList(parent, second), parent.failures().collect(Collectors.toList()));
+    }
+}
@@ -0,0 +1,189 @@
+package io.github.libzeal.zeal.logic.evaluation;
+
+import io.github.libzeal.zeal.logic.evaluation.cause.Cause;
+import io.github.libzeal.zeal.logic.evaluation.cause.CauseGenerator;
+import io.github.libzeal.zeal.logic.rationale.SimpleRationale;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.OptionalInt;
+
+import static io.github.libzeal.zeal.logic.Expressions.*;
+import static org.junit.jupiter.api.Assertions.*;
+
+class EvaluationSummaryTest {
+
+    private static Evaluation trueTerminal() {
+        return EvaluatedTerminalEvaluation.ofTrue("true", new SimpleRationale("", ""), Duration.ZERO);
+    }
+
+    private static Evaluation falseTerminal() {
+        return EvaluatedTerminalEvaluation.ofFalse("false", new SimpleRationale("", ""), Duration.ZERO);
+    }
+
+    @Test
+    void givenInvalidCounts_whenConstruct_thenExceptionThrown() {
+        assertThrows(IllegalArgumentException.class, () -> new EvaluationSummary(0, 0, 0, 0, new int[0], -1));
+        assertThrows(IllegalArgumentException.class, () -> new EvaluationSummary(1, -1, 0, 0, new int[0], -1));
+        assertThrows(IllegalArgumentException.class, () -> new EvaluationSummary(1, 0, -1, 0, new int[0], -1));
+        assertThrows(IllegalArgumentException.class, () -> new EvaluationSummary(1, 0, 0, -1, new int[0], -1));
+        assertThrows(IllegalArgumentException.class, () -> new EvaluationSummary(1, 0, 0, 0, new int[0], -2));
+    }
+
+    @Test
+    void givenNullIndices_whenConstruct_thenExceptionThrown() {
+        assertThrows(NullPointerException.class, () -> new EvaluationSummary(1, 0, 0, 0, null, -1));
+    }
+
+    @Test
+    void givenIndices_whenFailedChildIndices_thenCopyReturned() {
+
+        final int[] indices = {1, 3};
+        final EvaluationSummary summary = new EvaluationSummary(5, 2, 0, 1, indices, 1);
+
+        indices[0] = 7;
+        summary.failedChildIndices()[1] = 7;
+
+        assertArrayEquals(new int[] {1, 3}, summary.failedChildIndices());
+        assertEquals(OptionalInt.of(1), summary.deciderIndex());
+    }
+
+    @Test
+    void givenTerminals_whenSummary_thenSingleNodeSummaryReturned() {
+
+        final EvaluationSummary passed = trueTerminal().summary();
+        final EvaluationSummary failed = falseTerminal().summary();
+        final EvaluationSummary skipped = new SkippedTerminalEvaluation("skipped", CauseGenerator.self()).summary();
+
+        assertEquals(1, passed.nodes());
+        assertEquals(0, passed.failures());
+        assertEquals(1, failed.failures());
+        assertEquals(1, skipped.skipped());
+        assertEquals(0, skipped.maxDepth());
+        assertFalse(passed.deciderIndex().isPresent());
+    }
+
+    @Test
+    void givenConstructedTree_whenSummary_thenSummaryComputed() {
+
+        final Evaluation failing = falseTerminal();
+        final Evaluation child = EvaluatedCompoundEvaluation.ofFalse("child", new SimpleRationale("", ""),
+            Duration.ZERO, CauseGenerator.withUnderlyingCause(new Cause(failing)),
+            Arrays.asList(trueTerminal(), failing));
+        final Evaluation skipped = new SkippedCompoundEvaluation("skipped", CauseGenerator.self(),
+            Collections.singletonList(trueTerminal()));
+        final Evaluation root = EvaluatedCompoundEvaluation.ofFalse("root", new SimpleRationale("", ""),
+            Duration.ZERO, CauseGenerator.withUnderlyingCause(child.cause()),
+            Arrays.asList(trueTerminal(), child, skipped));
+
+        final EvaluationSummary summary = root.summary();
+
+        assertEquals(6, summary.nodes());
+        assertEquals(3, summary.failures());
+        assertEquals(1, summary.skipped());
+        assertEquals(2, summary.maxDepth());
+        assertArrayEquals(new int[] {1}, summary.failedChildIndices());
+        assertEquals(OptionalInt.of(1), summary.deciderIndex());
+        assertSame(summary, root.summary());
+    }
+
+    @Test
+    void givenFailedAndExpression_whenEvaluate_thenSummaryRecorded() {
+
+        final Evaluation evaluation = and(
+            tautology(),
+            and(tautology(), contradiction()),
+            contradiction(),
+            tautology()
+        ).evaluate();
+
+        final EvaluationSummary summary = evaluation.summary();
+
+        assertEquals(Result.FALSE, evaluation.result());
+        assertEquals(7, summary.nodes());
+        assertEquals(3, summary.failures());
+        assertEquals(2, summary.skipped());
+        assertEquals(2, summary.maxDepth());
+        assertArrayEquals(new int[] {1}, summary.failedChildIndices());
+        assertEquals(OptionalInt.of(1), summary.deciderIndex());
+    }
+
+    @Test
+    void givenEvaluatedExpression_whenSummary_thenRecordedSummaryMatchesComputedSummary() {
+
+        final Evaluation evaluation = or(
+            contradiction(),
+            and(tautology(), not(contradiction()), or(contradiction(), contradiction())),
+            tautology()
+        ).evaluate();
+
+        final EvaluationSummary recorded = evaluation.summary();
+        final EvaluationSummary computed = EvaluationSummary.of(evaluation);
+
+        assertEquals(computed.nodes(), recorded.nodes());
+        assertEquals(computed.failures(), recorded.failures());
+        assertEquals(computed.skipped(), recorded.skipped());
+        assertEquals(computed.maxDepth(), recorded.maxDepth());
+        assertArrayEquals(computed.failedChildIndices(), recorded.failedChildIndices());
+        assertEquals(computed.deciderIndex(), recorded.deciderIndex());
+    }
+
+    @Test
+    void givenAndOverNot_whenEvaluate_thenNotSummaryRecorded() {
+
+        final Evaluation evaluation = and(tautology(), not(tautology())).evaluate();
+        final Evaluation negation = ((CompoundEvaluation) evaluation).children().get(1);
+        final EvaluationSummary recorded = ((EvaluatedCompoundEvaluation) negation).recordedSummary();
+
+        assertNotNull(recorded);
+        assertNotNull(((EvaluatedCompoundEvaluation) evaluation).recordedSummary());
+        assertEquals(2, recorded.nodes());
+        assertEquals(1, recorded.failures());
+        assertEquals(0, recorded.skipped());
+        assertEquals(1, recorded.maxDepth());
+        assertArrayEquals(new int[0], recorded.failedChildIndices());
+        assertEquals(OptionalInt.of(0), recorded.deciderIndex());
+
+        final EvaluationSummary summary = evaluation.summary();
+
+        assertEquals(4, summary.nodes());
+        assertEquals(2, summary.failures());
+        assertEquals(2, summary.maxDepth());
+        assertArrayEquals(new int[] {1}, summary.failedChildIndices());
+    }
+
+    @Test
+    void givenNotOverCompound_whenEvaluate_thenRecordedSummaryMatchesComputedCounts() {
+
+        final Evaluation evaluation = not(and(tautology(), contradiction(), tautology())).evaluate();
+        final EvaluationSummary recorded = ((EvaluatedCompoundEvaluation) evaluation).recordedSummary();
+        final EvaluationSummary computed = EvaluationSummary.of(evaluation);
+
+        assertEquals(Result.TRUE, evaluation.result());
+        assertEquals(computed.nodes(), recorded.nodes());
+        assertEquals(computed.failures(), recorded.failures());
+        assertEquals(computed.skipped(), recorded.skipped());
+        assertEquals(computed.maxDepth(), recorded.maxDepth());
+        assertArrayEquals(computed.failedChildIndices(), recorded.failedChildIndices());
+    }
+
+    @Test
+    void givenFailedExpression_whenFollowingFailedChildren_thenFailedLeafFound() {
+
+        final Evaluation evaluation = and(
+            tautology(),
+            and(tautology(), and(tautology(), contradiction()))
+        ).evaluate();
+
+        Evaluation current = evaluation;
+
+        while (current instanceof CompoundEvaluation) {
+            current = ((CompoundEvaluation) current).children().get(current.summary().failedChildIndices()[0]);
+        }
+
+        assertEquals(Result.FALSE, current.result());
+        assertFalse(current instanceof CompoundEvaluation);
+    }
+}
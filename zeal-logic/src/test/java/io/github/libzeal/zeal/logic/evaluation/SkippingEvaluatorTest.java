@@ -0,0 +1,115 @@
+package io.github.libzeal.zeal.logic.evaluation;
+
+import io.github.libzeal.zeal.logic.AndExpression;
+import io.github.libzeal.zeal.logic.Expression;
+import io.github.libzeal.zeal.logic.Expressions;
+import io.github.libzeal.zeal.logic.evaluation.cause.Cause;
+import io.github.libzeal.zeal.logic.evaluation.format.simple.SimpleFormatter;
+import io.github.libzeal.zeal.logic.util.Timing;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+class SkippingEvaluatorTest {
+
+    @AfterEach
+    void tearDown() {
+        SkippingEvaluator.setDefault(SkippingEvaluator.eager());
+        Timing.setDefault(Timing.monotonic());
+    }
+
+    @Test
+    void givenDefaults_whenGetDefault_thenEagerReturned() {
+        assertSame(SkippingEvaluator.eager(), SkippingEvaluator.getDefault());
+    }
+
+    @Test
+    void givenNullEvaluator_whenSetDefault_thenExceptionThrown() {
+        assertThrows(
+            NullPointerException.class,
+            () -> SkippingEvaluator.setDefault(null)
+        );
+    }
+
+    @Test
+    void givenLazyEvaluator_whenSetDefault_thenDefaultUpdated() {
+
+        SkippingEvaluator.setDefault(SkippingEvaluator.lazy());
+
+        assertSame(SkippingEvaluator.lazy(), SkippingEvaluator.getDefault());
+    }
+
+    @Test
+    void givenLazyEvaluator_whenSkipRemaining_thenRemainingNotSkippedUntilAccessed() {
+
+        final Evaluation decider = Expressions.contradiction().evaluate();
+        final Expression remaining = spy(Expressions.tautology());
+        final List<Evaluation> evaluated = new ArrayList<>();
+
+        evaluated.add(decider);
+
+        final List<Evaluation> evaluations = SkippingEvaluator.lazy()
+            .skipRemaining(evaluated, Arrays.asList(remaining, Expressions.tautology()), new Cause(decider));
+
+        assertEquals(3, evaluations.size());
+        assertSame(decider, evaluations.get(0));
+        verify(remaining, never()).name();
+
+        final Evaluation skipped = evaluations.get(1);
+
+        assertEquals(Result.SKIPPED, skipped.result());
+        assertEquals(Expressions.tautology().name(), skipped.name());
+        assertSame(decider, skipped.cause().evaluation());
+        assertSame(skipped, evaluations.get(1));
+        verify(remaining, times(1)).name();
+    }
+
+    @Test
+    void givenLazyEvaluator_whenSkipRemainingAccessedOutOfBounds_thenExceptionThrown() {
+
+        final Evaluation decider = Expressions.contradiction().evaluate();
+        final List<Evaluation> evaluations = SkippingEvaluator.lazy()
+            .skipRemaining(new ArrayList<>(), Arrays.asList(Expressions.tautology()), new Cause(decider));
+
+        assertThrows(
+            IndexOutOfBoundsException.class,
+            () -> evaluations.get(1)
+        );
+    }
+
+    @Test
+    void givenLazyEvaluator_whenEvaluateAndFormat_thenOutputMatchesEagerEvaluator() {
+
+        Timing.setDefault(Timing.off());
+
+        final String eager = new SimpleFormatter().format(deepExpression().evaluate());
+
+        SkippingEvaluator.setDefault(SkippingEvaluator.lazy());
+
+        final String lazy = new SimpleFormatter().format(deepExpression().evaluate());
+
+        assertEquals(eager, lazy);
+    }
+
+    private static Expression deepExpression() {
+
+        final AndExpression nested = new AndExpression("nested", new ArrayList<>());
+
+        nested.append(Expressions.tautology());
+        nested.append(Expressions.not(Expressions.contradiction()));
+
+        final AndExpression root = new AndExpression("root", new ArrayList<>());
+
+        root.append(Expressions.contradiction());
+        root.append(nested);
+        root.append(Expressions.not(new AndExpression("inner", Arrays.asList(Expressions.tautology()))));
+
+        return root;
+    }
+}
@@ -93,6 +93,34 @@ class TerminalEvaluationTest {
         assertEquals(Duration.ofMillis(elapsedTimeMs), evaluation.elapsedTime());
     }
 
+    @Test
+    void givenEvaluation_whenCauseCalledRepeatedly_thenSameCauseReturned() {
+
+        final EvaluatedTerminalEvaluation evaluation =
+            EvaluatedTerminalEvaluation.ofFalse("foo", mock(Rationale.class), Duration.ZERO);
+
+        final Cause cause = evaluation.cause();
+
+        assertSame(cause, evaluation.cause());
+        assertSame(evaluation, cause.evaluation());
+        assertEquals(evaluation.hashCode(), evaluation.hashCode());
+    }
+
+    @Test
+    void givenSkippedEvaluation_whenCauseCalledRepeatedly_thenCauseGeneratedOnce() {
+
+        final CauseGenerator generator = mock(CauseGenerator.class);
+        final Cause cause = mock(Cause.class);
+
+        doReturn(cause).when(generator).generate(any());
+
+        final SkippedTerminalEvaluation evaluation = new SkippedTerminalEvaluation("foo", generator);
+
+        assertSame(cause, evaluation.cause());
+        assertSame(cause, evaluation.cause());
+        verify(generator, times(1)).generate(evaluation);
+    }
+
     private static CauseGenerator generator(final Cause cause) {
 
         final CauseGenerator generator = mock(CauseGenerator.class);
@@ -0,0 +1,43 @@
+package io.github.libzeal.zeal.logic.evaluation.cause;
+
+import io.github.libzeal.zeal.logic.evaluation.Evaluation;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.mock;
+
+class CauseTest {
+
+    @Test
+    void givenNoUnderlyingCause_whenRootCause_thenSelfReturned() {
+
+        final Cause cause = new Cause(mock(Evaluation.class));
+
+        assertSame(cause, cause.rootCause());
+        assertEquals(1, cause.rootCauseChain().length());
+    }
+
+    @Test
+    void givenUnderlyingCauses_whenRootCause_thenTerminalCauseReturned() {
+
+        final Cause root = new Cause(mock(Evaluation.class));
+        final Cause middle = new Cause(mock(Evaluation.class), root);
+        final Cause top = new Cause(mock(Evaluation.class), middle);
+
+        assertSame(root, top.rootCause());
+        assertSame(root, top.rootCause());
+        assertEquals(3, top.rootCauseChain().length());
+    }
+
+    @Test
+    void givenReturnedChainModified_whenRootCauseChain_thenChainOfCauseUnaffected() {
+
+        final Cause root = new Cause(mock(Evaluation.class));
+        final Cause top = new Cause(mock(Evaluation.class), root);
+
+        top.rootCauseChain().append(new Cause(mock(Evaluation.class)));
+
+        assertEquals(2, top.rootCauseChain().length());
+        assertSame(root, top.rootCause());
+    }
+}
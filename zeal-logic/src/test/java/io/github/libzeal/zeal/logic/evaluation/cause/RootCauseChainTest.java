@@ -0,0 +1,74 @@
+package io.github.libzeal.zeal.logic.evaluation.cause;
+
+import io.github.libzeal.zeal.logic.evaluation.Evaluation;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+
+import static java.util.Arrays.asList;
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.mock;
+
+class RootCauseChainTest {
+
+    @Test
+    void givenCauseAlreadyInChain_whenAppend_thenCycleDetected() {
+
+        final Cause first = new Cause(mock(Evaluation.class));
+        final Cause second = new Cause(mock(Evaluation.class));
+        final RootCauseChain chain = new RootCauseChain(new ArrayList<>(asList(first, second)));
+
+        final CycleDetectedException exception = assertThrows(
+            CycleDetectedException.class,
+            () -> chain.append(second)
+        );
+
+        assertNotNull(exception);
+        assertEquals(2, chain.length());
+    }
+
+    @Test
+    void givenEqualButDistinctCause_whenAppend_thenCauseAppended() {
+
+        final Evaluation evaluation = mock(Evaluation.class);
+        final Cause first = new AlwaysEqualCause(evaluation);
+        final RootCauseChain chain = RootCauseChain.with(first);
+
+        chain.append(new AlwaysEqualCause(evaluation));
+
+        assertEquals(2, chain.length());
+    }
+
+    @Test
+    void givenMaximumDepth_whenAppend_thenExceptionThrown() {
+
+        final RootCauseChain chain = RootCauseChain.with(new Cause(mock(Evaluation.class)));
+        final Evaluation evaluation = mock(Evaluation.class);
+
+        for (int i = 1; i < RootCauseChain.MAX_DEPTH; i++) {
+            chain.append(new Cause(evaluation));
+        }
+
+        assertThrows(
+            MaximumDepthExceededException.class,
+            () -> chain.append(new Cause(evaluation))
+        );
+    }
+
+    private static final class AlwaysEqualCause extends Cause {
+
+        AlwaysEqualCause(final Evaluation evaluation) {
+            super(evaluation);
+        }
+
+        @Override
+        public boolean equals(final Object o) {
+            return o instanceof AlwaysEqualCause;
+        }
+
+        @Override
+        public int hashCode() {
+            return 0;
+        }
+    }
+}
@@ -0,0 +1,36 @@
+package io.github.libzeal.zeal.logic.evaluation.format;
+
+import io.github.libzeal.zeal.logic.evaluation.Evaluation;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.io.StringWriter;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.mock;
+
+class FormatterTest {
+
+    @Test
+    void givenFormatter_whenFormatToAppendable_thenFormattedEvaluationWritten() throws IOException {
+
+        final Formatter formatter = evaluation -> "formatted";
+        final StringWriter writer = new StringWriter();
+
+        formatter.format(mock(Evaluation.class), writer);
+
+        assertEquals("formatted", writer.toString());
+    }
+
+    @Test
+    void givenFormatter_whenFormatToBuilder_thenFormattedEvaluationAppended() {
+
+        final Formatter formatter = evaluation -> "formatted";
+        final StringBuilder builder = new StringBuilder("prefix:");
+
+        final StringBuilder result = formatter.format(mock(Evaluation.class), builder);
+
+        assertSame(builder, result);
+        assertEquals("prefix:formatted", result.toString());
+    }
+}
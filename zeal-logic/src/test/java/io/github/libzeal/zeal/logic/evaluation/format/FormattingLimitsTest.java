@@ -0,0 +1,47 @@
+package io.github.libzeal.zeal.logic.evaluation.format;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class FormattingLimitsTest {
+
+    @Test
+    void givenUnlimited_whenLimits_thenAllLimitsAreMaximum() {
+
+        final FormattingLimits limits = FormattingLimits.unlimited();
+
+        assertEquals(Integer.MAX_VALUE, limits.maxNodes());
+        assertEquals(Integer.MAX_VALUE, limits.maxDepth());
+        assertEquals(Integer.MAX_VALUE, limits.maxValueLength());
+        assertEquals(Integer.MAX_VALUE, limits.maxLength());
+    }
+
+    @Test
+    void givenLimits_whenWith_thenCopyHasLimitsAndOriginalUnchanged() {
+
+        final FormattingLimits original = FormattingLimits.unlimited();
+
+        final FormattingLimits limits = original.withMaxNodes(1)
+            .withMaxDepth(0)
+            .withMaxValueLength(3)
+            .withMaxLength(4);
+
+        assertEquals(1, limits.maxNodes());
+        assertEquals(0, limits.maxDepth());
+        assertEquals(3, limits.maxValueLength());
+        assertEquals(4, limits.maxLength());
+        assertEquals(Integer.MAX_VALUE, original.maxNodes());
+    }
+
+    @Test
+    void givenInvalidLimits_whenWith_thenExceptionThrown() {
+
+        final FormattingLimits limits = FormattingLimits.unlimited();
+
+        assertThrows(IllegalArgumentException.class, () -> limits.withMaxNodes(0));
+        assertThrows(IllegalArgumentException.class, () -> limits.withMaxDepth(-1));
+        assertThrows(IllegalArgumentException.class, () -> limits.withMaxValueLength(0));
+        assertThrows(IllegalArgumentException.class, () -> limits.withMaxLength(0));
+    }
+}
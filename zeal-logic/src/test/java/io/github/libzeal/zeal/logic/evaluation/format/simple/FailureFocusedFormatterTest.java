@@ -0,0 +1,179 @@
+package io.github.libzeal.zeal.logic.evaluation.format.simple;
+
+import io.github.libzeal.zeal.logic.evaluation.CompoundEvaluation;
+import io.github.libzeal.zeal.logic.evaluation.EvaluatedCompoundEvaluation;
+import io.github.libzeal.zeal.logic.evaluation.EvaluatedTerminalEvaluation;
+import io.github.libzeal.zeal.logic.evaluation.Evaluation;
+import io.github.libzeal.zeal.logic.evaluation.Result;
+import io.github.libzeal.zeal.logic.evaluation.SkippedTerminalEvaluation;
+import io.github.libzeal.zeal.logic.evaluation.cause.Cause;
+import io.github.libzeal.zeal.logic.evaluation.cause.CauseGenerator;
+import io.github.libzeal.zeal.logic.rationale.Rationale;
+import io.github.libzeal.zeal.logic.rationale.SimpleRationale;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.io.StringWriter;
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.Collections;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+class FailureFocusedFormatterTest {
+
+    private static final Duration ELAPSED_TIME = Duration.ofMillis(10);
+    private static final Rationale RATIONALE = new SimpleRationale("someExpected", "someActual");
+
+    private FailureFocusedFormatter formatter;
+
+    @BeforeEach
+    void setUp() {
+        formatter = new FailureFocusedFormatter();
+    }
+
+    @Test
+    void givenNullEvaluation_whenFormat_thenExceptionThrown() {
+        assertThrows(
+            NullPointerException.class,
+            () -> formatter.format(null)
+        );
+    }
+
+    @Test
+    void givenOnePassingEvaluation_whenFormat_thenSameAsSimpleFormatter() {
+
+        final Evaluation evaluation = EvaluatedTerminalEvaluation.ofTrue("foo", RATIONALE, ELAPSED_TIME);
+
+        assertEquals(new SimpleFormatter().format(evaluation), formatter.format(evaluation));
+    }
+
+    @Test
+    void givenFailingCompoundEvaluation_whenFormat_thenPassingAndSkippedChildrenOmitted() {
+
+        final Evaluation failing = EvaluatedTerminalEvaluation.ofFalse("failing", RATIONALE, ELAPSED_TIME);
+        final Evaluation passing = EvaluatedTerminalEvaluation.ofTrue("passing", RATIONALE, ELAPSED_TIME);
+        final Evaluation skipped = new SkippedTerminalEvaluation("skipped", CauseGenerator.self());
+        final Evaluation parent = EvaluatedCompoundEvaluation.ofFalse(
+            "parent",
+            RATIONALE,
+            ELAPSED_TIME,
+            CauseGenerator.withUnderlyingCause(new Cause(failing)),
+            Arrays.asList(passing, failing, passing, skipped)
+        );
+
+        final String result = formatter.format(parent);
+
+        assertTrue(
+            result.endsWith(
+                "Evaluation:\n" +
+                    "[F] parent (10ms)\n" +
+                    "    [F] failing (10ms)  <---[ Root Cause ]\n" +
+                    "    (omitted: 2 passed, 1 skipped)"
+            ),
+            "Was: " + result
+        );
+        assertFalse(result.contains("passing"));
+    }
+
+    @Test
+    void givenNestedFailures_whenFormat_thenOnlyFailingPathsIncluded() {
+
+        final Evaluation firstFailing = EvaluatedTerminalEvaluation.ofFalse("first", RATIONALE, ELAPSED_TIME);
+        final Evaluation secondFailing = EvaluatedTerminalEvaluation.ofFalse("second", RATIONALE, ELAPSED_TIME);
+        final Evaluation passing = EvaluatedTerminalEvaluation.ofTrue("passing", RATIONALE, ELAPSED_TIME);
+        final Evaluation child = EvaluatedCompoundEvaluation.ofFalse(
+            "child",
+            RATIONALE,
+            ELAPSED_TIME,
+            CauseGenerator.withUnderlyingCause(new Cause(secondFailing)),
+            Arrays.asList(secondFailing, passing)
+        );
+        final Evaluation parent = EvaluatedCompoundEvaluation.ofFalse(
+            "parent",
+            RATIONALE,
+            ELAPSED_TIME,
+            CauseGenerator.withUnderlyingCause(new Cause(firstFailing)),
+            Arrays.asList(firstFailing, child)
+        );
+
+        final String result = formatter.format(parent);
+
+        assertTrue(
+            result.endsWith(
+                "Evaluation:\n" +
+                    "[F] parent (10ms)\n" +
+                    "    [F] first (10ms)  <---[ Root Cause ]\n" +
+                    "    [F] child (10ms)\n" +
+                    "        [F] second (10ms)\n" +
+                    "        (omitted: 1 passed)"
+            ),
+            "Was: " + result
+        );
+    }
+
+    @Test
+    void givenPassingRootCauseOfFailingEvaluation_whenFormat_thenRootCauseIncluded() {
+
+        final Evaluation passing = EvaluatedTerminalEvaluation.ofTrue("passing", RATIONALE, ELAPSED_TIME);
+        final Evaluation parent = EvaluatedCompoundEvaluation.ofFalse(
+            "not",
+            RATIONALE,
+            ELAPSED_TIME,
+            CauseGenerator.withUnderlyingCause(new Cause(passing)),
+            Collections.singletonList(passing)
+        );
+
+        final String result = formatter.format(parent);
+
+        assertTrue(
+            result.endsWith(
+                "Evaluation:\n" +
+                    "[F] not (10ms)\n" +
+                    "    [T] passing (10ms)  <---[ Root Cause ]"
+            ),
+            "Was: " + result
+        );
+    }
+
+    @Test
+    void givenPassingCompoundChild_whenFormat_thenChildrenOfPassingChildNotVisited() {
+
+        final Evaluation failing = EvaluatedTerminalEvaluation.ofFalse("failing", RATIONALE, ELAPSED_TIME);
+        final CompoundEvaluation passing = mock(CompoundEvaluation.class);
+        final Evaluation parent = EvaluatedCompoundEvaluation.ofFalse(
+            "parent",
+            RATIONALE,
+            ELAPSED_TIME,
+            CauseGenerator.withUnderlyingCause(new Cause(failing)),
+            Arrays.asList(failing, passing)
+        );
+
+        doReturn(Result.TRUE).when(passing).result();
+
+        final String result = formatter.format(parent);
+
+        assertTrue(result.endsWith("    (omitted: 1 passed)"), "Was: " + result);
+        verify(passing, never()).children();
+    }
+
+    @Test
+    void givenFailingEvaluation_whenFormatToWriter_thenSameAsFormat() throws IOException {
+
+        final Evaluation failing = EvaluatedTerminalEvaluation.ofFalse("failing", RATIONALE, ELAPSED_TIME);
+        final Evaluation parent = EvaluatedCompoundEvaluation.ofFalse(
+            "parent",
+            RATIONALE,
+            ELAPSED_TIME,
+            CauseGenerator.withUnderlyingCause(new Cause(failing)),
+            Collections.singletonList(failing)
+        );
+        final StringWriter writer = new StringWriter();
+
+        formatter.format(parent, writer);
+
+        assertEquals(formatter.format(parent), writer.toString());
+    }
+}
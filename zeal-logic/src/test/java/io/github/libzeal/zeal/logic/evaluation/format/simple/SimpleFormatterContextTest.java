@@ -6,7 +6,7 @@ import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 
 import static org.junit.jupiter.api.Assertions.*;
-import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.*;
 
 class SimpleFormatterContextTest {
 
@@ -63,4 +63,29 @@ class SimpleFormatterContextTest {
 
         assertEquals(depth, validContext.depth());
     }
+
+    @Test
+    void givenContext_whenWithDepth_thenRootCauseResolvedOnceAndShared() {
+
+        final Cause spiedCause = spy(cause);
+        final SimpleFormatterContext rootContext = new SimpleFormatterContext(spiedCause, 0);
+
+        final SimpleFormatterContext first = rootContext.withDepth(1);
+        final SimpleFormatterContext second = rootContext.withDepth(2);
+
+        assertEquals(1, first.depth());
+        assertEquals(2, second.depth());
+        assertTrue(first.isRootCause(evaluation));
+        assertTrue(second.isRootCause(evaluation));
+        assertFalse(second.isRootCause(mock(Evaluation.class)));
+        verify(spiedCause, times(1)).rootCause();
+    }
+
+    @Test
+    void givenNegativeDepth_whenWithDepth_thenExceptionThrown() {
+        assertThrows(
+            IllegalArgumentException.class,
+            () -> context.withDepth(-1)
+        );
+    }
 }
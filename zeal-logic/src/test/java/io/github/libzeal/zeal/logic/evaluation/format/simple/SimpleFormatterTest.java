@@ -6,12 +6,17 @@ import io.github.libzeal.zeal.logic.evaluation.SkippedTerminalEvaluation;
 import io.github.libzeal.zeal.logic.evaluation.EvaluatedTerminalEvaluation;
 import io.github.libzeal.zeal.logic.evaluation.cause.Cause;
 import io.github.libzeal.zeal.logic.evaluation.cause.CauseGenerator;
+import io.github.libzeal.zeal.logic.evaluation.format.FormattingLimits;
 import io.github.libzeal.zeal.logic.rationale.Rationale;
 import io.github.libzeal.zeal.logic.rationale.SimpleRationale;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 
+import java.io.IOException;
+import java.io.StringWriter;
+import java.io.Writer;
 import java.time.Duration;
+import java.util.Arrays;
 import java.util.Collections;
 
 import static org.junit.jupiter.api.Assertions.*;
@@ -165,4 +170,160 @@ class SimpleFormatterTest {
 
         assertEquals(expected, result);
     }
+
+    @Test
+    void givenNestedEvaluation_whenFormatToWriter_thenSameAsFormat() throws IOException {
+
+        final Evaluation evaluation = nestedFailingEvaluation();
+        final StringWriter writer = new StringWriter();
+
+        formatter.format(evaluation, writer);
+
+        assertEquals(formatter.format(evaluation), writer.toString());
+    }
+
+    @Test
+    void givenReusedBuilder_whenFormatToBuilder_thenFormattedEvaluationAppended() {
+
+        final Evaluation evaluation = nestedFailingEvaluation();
+        final StringBuilder builder = new StringBuilder("prefix:");
+
+        final StringBuilder result = formatter.format(evaluation, builder);
+
+        assertSame(builder, result);
+        assertEquals("prefix:" + formatter.format(evaluation), builder.toString());
+
+        builder.setLength(0);
+        formatter.format(evaluation, builder);
+
+        assertEquals(formatter.format(evaluation), builder.toString());
+    }
+
+    @Test
+    void givenNullOutput_whenFormatToAppendable_thenExceptionThrown() {
+
+        final Evaluation evaluation = nestedFailingEvaluation();
+
+        assertThrows(
+            NullPointerException.class,
+            () -> formatter.format(evaluation, (Appendable) null)
+        );
+    }
+
+    @Test
+    void givenFailingOutput_whenFormatToAppendable_thenIOExceptionThrown() {
+
+        final Evaluation evaluation = nestedFailingEvaluation();
+        final IOException failure = new IOException("failed");
+        final Writer writer = new Writer() {
+
+            @Override
+            public void write(final char[] buffer, final int offset, final int length) throws IOException {
+                throw failure;
+            }
+
+            @Override
+            public void flush() {
+            }
+
+            @Override
+            public void close() {
+            }
+        };
+
+        final IOException exception = assertThrows(
+            IOException.class,
+            () -> formatter.format(evaluation, writer)
+        );
+
+        assertSame(failure, exception);
+    }
+
+    @Test
+    void givenMaxNodes_whenFormat_thenEvaluationTreeTruncated() {
+
+        final SimpleFormatter limitedFormatter = new SimpleFormatter(FormattingLimits.unlimited().withMaxNodes(2));
+
+        final String result = limitedFormatter.format(nestedFailingEvaluation());
+
+        assertTrue(
+            result.endsWith(
+                "Evaluation:\n" +
+                    "[F] parent (20ms)\n" +
+                    "    [F] child (10ms)  <---[ Root Cause ]\n" +
+                    "    ... (truncated: maximum of 2 evaluations reached)"
+            ),
+            "Was: " + result
+        );
+    }
+
+    @Test
+    void givenMaxDepth_whenFormat_thenChildrenTruncated() {
+
+        final SimpleFormatter limitedFormatter = new SimpleFormatter(FormattingLimits.unlimited().withMaxDepth(0));
+
+        final String result = limitedFormatter.format(nestedFailingEvaluation());
+
+        assertTrue(
+            result.endsWith(
+                "Evaluation:\n" +
+                    "[F] parent (20ms)\n" +
+                    "    ... (truncated: 2 children beyond maximum depth of 0)"
+            ),
+            "Was: " + result
+        );
+    }
+
+    @Test
+    void givenMaxValueLength_whenFormat_thenRationaleValuesTruncated() {
+
+        final SimpleFormatter limitedFormatter = new SimpleFormatter(
+            FormattingLimits.unlimited().withMaxValueLength(4)
+        );
+
+        final String result = limitedFormatter.format(nestedFailingEvaluation());
+
+        assertTrue(result.contains("Expected   : some... (13 more characters)\n"), "Was: " + result);
+        assertTrue(result.contains("Actual     : some... (11 more characters)\n"), "Was: " + result);
+    }
+
+    @Test
+    void givenMaxLength_whenFormat_thenOutputTruncated() {
+
+        final SimpleFormatter limitedFormatter = new SimpleFormatter(FormattingLimits.unlimited().withMaxLength(5));
+
+        final String result = limitedFormatter.format(nestedFailingEvaluation());
+
+        assertEquals("Root \n... (truncated: maximum length of 5 characters reached)", result);
+    }
+
+    @Test
+    void givenMaxLengthOfFormattedEvaluation_whenFormat_thenOutputNotTruncated() {
+
+        final Evaluation evaluation = nestedFailingEvaluation();
+        final String expected = formatter.format(evaluation);
+        final SimpleFormatter limitedFormatter = new SimpleFormatter(
+            FormattingLimits.unlimited().withMaxLength(expected.length())
+        );
+
+        assertEquals(expected, limitedFormatter.format(evaluation));
+    }
+
+    private static Evaluation nestedFailingEvaluation() {
+
+        final Rationale childRationale = new SimpleRationale("someExpectedChild", "someActualChild", "someHintChild");
+        final Evaluation childEvaluation = EvaluatedTerminalEvaluation.ofFalse("child", childRationale,
+            Duration.ofMillis(10));
+
+        final Rationale parentRationale = new SimpleRationale("someExpectedParent", "someActualParent",
+            "someHintParent");
+
+        return EvaluatedCompoundEvaluation.ofFalse(
+            "parent",
+            parentRationale,
+            Duration.ofMillis(20),
+            CauseGenerator.withUnderlyingCause(new Cause(childEvaluation)),
+            Arrays.asList(childEvaluation, childEvaluation)
+        );
+    }
 }
@@ -126,4 +126,51 @@ class CollectingTraverserActionTest {
         assertEquals(evaluation1, action.get(0).get());
         assertEquals(evaluation2, action.get(1).get());
     }
+
+    @Test
+    void givenInvalidLimit_whenLimitedTo_thenExceptionThrown() {
+        assertThrows(
+            IllegalArgumentException.class,
+            () -> CollectingTraverserAction.limitedTo(0)
+        );
+    }
+
+    @Test
+    void givenLimit_whenVisit_thenStopOnceLimitReached() {
+
+        final CollectingTraverserAction limited = CollectingTraverserAction.limitedTo(2);
+        final TraversalContext context = mock(TraversalContext.class);
+
+        assertEquals(TraversalDecision.CONTINUE, limited.visit(mock(Evaluation.class), context));
+        assertEquals(TraversalDecision.STOP, limited.visit(mock(Evaluation.class), context));
+        assertEquals(2, limited.found().size());
+    }
+
+    @Test
+    void givenNullCondition_whenUntilFirst_thenExceptionThrown() {
+        assertThrows(
+            NullPointerException.class,
+            () -> CollectingTraverserAction.untilFirst(null)
+        );
+    }
+
+    @Test
+    void givenCondition_whenVisit_thenStopOnceConditionSatisfied() {
+
+        final Evaluation match = mock(Evaluation.class);
+        final CollectingTraverserAction untilMatch = CollectingTraverserAction.untilFirst(e -> e == match);
+        final TraversalContext context = mock(TraversalContext.class);
+
+        assertEquals(TraversalDecision.CONTINUE, untilMatch.visit(mock(Evaluation.class), context));
+        assertEquals(TraversalDecision.STOP, untilMatch.visit(match, context));
+        assertEquals(match, untilMatch.found().get(1));
+    }
+
+    @Test
+    void givenUnlimited_whenVisit_thenContinue() {
+        assertEquals(
+            TraversalDecision.CONTINUE,
+            action.visit(mock(Evaluation.class), mock(TraversalContext.class))
+        );
+    }
 }
@@ -0,0 +1,155 @@
+package io.github.libzeal.zeal.logic.evaluation.traverse;
+
+import io.github.libzeal.zeal.logic.evaluation.EvaluatedCompoundEvaluation;
+import io.github.libzeal.zeal.logic.evaluation.EvaluatedTerminalEvaluation;
+import io.github.libzeal.zeal.logic.evaluation.Evaluation;
+import io.github.libzeal.zeal.logic.evaluation.cause.CauseGenerator;
+import io.github.libzeal.zeal.logic.rationale.SimpleRationale;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class DepthFirstTraverserTest {
+
+    private DepthFirstTraverser traverser;
+    private Evaluation leaf1;
+    private Evaluation leaf2;
+    private Evaluation leaf3;
+    private Evaluation child;
+    private Evaluation root;
+
+    @BeforeEach
+    void setUp() {
+
+        traverser = new DepthFirstTraverser();
+        leaf1 = terminal("leaf1");
+        leaf2 = terminal("leaf2");
+        leaf3 = terminal("leaf3");
+        child = compound("child", leaf1, leaf2);
+        root = compound("root", child, leaf3);
+    }
+
+    private static Evaluation terminal(final String name) {
+        return EvaluatedTerminalEvaluation.ofTrue(name, new SimpleRationale("", ""), Duration.ZERO);
+    }
+
+    private static Evaluation compound(final String name, final Evaluation... children) {
+        return EvaluatedCompoundEvaluation.ofTrue(name, new SimpleRationale("", ""), Duration.ZERO,
+            CauseGenerator.self(), Arrays.asList(children));
+    }
+
+    @Test
+    void givenTree_whenTraverse_thenEvaluationsVisitedInPreOrderWithDepth() {
+
+        final List<Evaluation> visited = new ArrayList<>();
+        final List<Integer> depths = new ArrayList<>();
+
+        traverser.traverse(root, (evaluation, context) -> {
+            visited.add(evaluation);
+            depths.add(context.depth());
+        });
+
+        assertEquals(Arrays.asList(root, child, leaf1, leaf2, leaf3), visited);
+        assertEquals(Arrays.asList(0, 1, 2, 2, 1), depths);
+    }
+
+    @Test
+    void givenSkipSubtree_whenTraverse_thenChildrenNotVisited() {
+
+        final List<Evaluation> visited = new ArrayList<>();
+
+        traverser.traverse(root, (PrunableTraverserAction) (evaluation, context) -> {
+
+            visited.add(evaluation);
+
+            return evaluation == child ? TraversalDecision.SKIP_SUBTREE : TraversalDecision.CONTINUE;
+        });
+
+        assertEquals(Arrays.asList(root, child, leaf3), visited);
+    }
+
+    @Test
+    void givenStop_whenTraverse_thenNoFurtherEvaluationsVisited() {
+
+        final List<Evaluation> visited = new ArrayList<>();
+
+        traverser.traverse(root, (PrunableTraverserAction) (evaluation, context) -> {
+
+            visited.add(evaluation);
+
+            return evaluation == leaf1 ? TraversalDecision.STOP : TraversalDecision.CONTINUE;
+        });
+
+        assertEquals(Arrays.asList(root, child, leaf1), visited);
+    }
+
+    @Test
+    void givenTree_whenTraverse_thenAfterCalledOnceChildrenVisited() {
+
+        final List<String> events = new ArrayList<>();
+
+        traverser.traverse(root, new TraverserAction() {
+
+            @Override
+            public void on(final Evaluation evaluation, final TraversalContext context) {
+                events.add("on:" + evaluation.name());
+            }
+
+            @Override
+            public void after(final Evaluation evaluation, final TraversalContext context) {
+                events.add("after:" + evaluation.name() + "@" + context.depth());
+            }
+        });
+
+        assertEquals(
+            Arrays.asList("on:root", "on:child", "on:leaf1", "on:leaf2", "after:child@1", "on:leaf3", "after:root@0"),
+            events
+        );
+    }
+
+    @Test
+    void givenDeepTree_whenTraverse_thenAllEvaluationsVisited() {
+
+        final int depth = 100_000;
+        Evaluation current = terminal("leaf");
+
+        for (int i = 0; i < depth; i++) {
+            current = compound("node" + i, current);
+        }
+
+        final CollectingTraverserAction collector = new CollectingTraverserAction();
+
+        traverser.traverse(current, collector);
+
+        assertEquals(depth + 1, collector.found().size());
+    }
+
+    @Test
+    void givenEmptyCompound_whenTraverse_thenAfterCalled() {
+
+        final Evaluation empty = EvaluatedCompoundEvaluation.ofTrue("empty", new SimpleRationale("", ""),
+            Duration.ZERO, CauseGenerator.self(), Collections.emptyList());
+        final List<Evaluation> completed = new ArrayList<>();
+
+        traverser.traverse(empty, new TraverserAction() {
+
+            @Override
+            public void on(final Evaluation evaluation, final TraversalContext context) {
+            }
+
+            @Override
+            public void after(final Evaluation evaluation, final TraversalContext context) {
+                completed.add(evaluation);
+            }
+        });
+
+        assertEquals(Collections.singletonList(empty), completed);
+    }
+}
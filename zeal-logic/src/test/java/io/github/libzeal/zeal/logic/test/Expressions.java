@@ -41,4 +41,12 @@ public class Expressions {
 
         return expression;
     }
+
+    public static Expression testedExpression(final boolean passes) {
+
+        final Expression expression = mock(Expression.class);
+        doReturn(passes).when(expression).test();
+
+        return expression;
+    }
 }
@@ -3,8 +3,11 @@ package io.github.libzeal.zeal.logic.unary.condition;
 import io.github.libzeal.zeal.logic.Expression;
 import io.github.libzeal.zeal.logic.evaluation.Evaluation;
 import io.github.libzeal.zeal.logic.evaluation.Result;
+import io.github.libzeal.zeal.logic.evaluation.TerminalEvaluation;
 import org.junit.jupiter.api.Test;
 
+import java.util.ArrayList;
+import java.util.List;
 import java.util.Objects;
 
 import static java.util.Arrays.asList;
@@ -1031,4 +1034,103 @@ class ConditionsTest {
 
         assertEquals(Result.TRUE, evaluation.result());
     }
+
+    // ------------------------------------------------------------------------
+    // Conditions#memberOf / Conditions#notMemberOf
+    // ------------------------------------------------------------------------
+
+    @Test
+    void givenNullValues_whenMemberOfValues_thenExceptionThrown() {
+        assertThrows(
+            NullPointerException.class,
+            () -> Conditions.memberOf((Object[]) null)
+        );
+    }
+
+    @Test
+    void givenNullIterable_whenMemberOfIterable_thenExceptionThrown() {
+        assertThrows(
+            NullPointerException.class,
+            () -> Conditions.memberOf((Iterable<Object>) null)
+        );
+    }
+
+    @Test
+    void givenSubjectIsMember_whenMemberOf_thenMatchesWithSingleExpression() {
+
+        final Condition<String> condition = Conditions.memberOf("a", "b", "c", "d", "e", "f");
+
+        final Evaluation evaluation = condition.compute("b").evaluate();
+
+        assertTrue(condition.test("b"));
+        assertEquals(Result.TRUE, evaluation.result());
+        assertEquals("memberOf[6 values]", evaluation.name());
+        assertEquals("memberOf[a, b, c, d, e, ... (1 more)]", evaluation.rationale().expected());
+        assertEquals("b", evaluation.rationale().actual());
+        assertTrue(evaluation instanceof TerminalEvaluation);
+    }
+
+    @Test
+    void givenSubjectIsNotMember_whenMemberOf_thenDoesNotMatch() {
+
+        final Condition<String> condition = Conditions.memberOf(asList("a", "b"));
+
+        final Evaluation evaluation = condition.compute("z").evaluate();
+
+        assertFalse(condition.test("z"));
+        assertEquals(Result.FALSE, evaluation.result());
+        assertEquals("memberOf[a, b]", evaluation.rationale().expected());
+    }
+
+    @Test
+    void givenNullSubjectAndNullMember_whenMemberOf_thenMatches() {
+
+        final Condition<String> condition = Conditions.memberOf("a", null);
+
+        assertTrue(condition.test(null));
+    }
+
+    @Test
+    void givenEnumValues_whenMemberOf_thenMatchesMembersOnly() {
+
+        final Condition<Result> condition = Conditions.memberOf(Result.TRUE, Result.SKIPPED);
+
+        assertTrue(condition.test(Result.TRUE));
+        assertTrue(condition.test(Result.SKIPPED));
+        assertFalse(condition.test(Result.FALSE));
+        assertFalse(condition.test(null));
+    }
+
+    @Test
+    void givenIterableModifiedAfterCreation_whenMemberOf_thenModificationIgnored() {
+
+        final List<String> values = new ArrayList<>(singletonList("a"));
+        final Condition<String> condition = Conditions.memberOf(values);
+
+        values.add("b");
+
+        assertFalse(condition.test("b"));
+    }
+
+    @Test
+    void givenSubjectIsMember_whenNotMemberOf_thenDoesNotMatch() {
+
+        final Condition<String> condition = Conditions.notMemberOf("a", "b");
+
+        final Evaluation evaluation = condition.compute("a").evaluate();
+
+        assertFalse(condition.test("a"));
+        assertEquals(Result.FALSE, evaluation.result());
+        assertEquals("notMemberOf[2 values]", evaluation.name());
+        assertEquals("not[memberOf[a, b]]", evaluation.rationale().expected());
+    }
+
+    @Test
+    void givenSubjectIsNotMember_whenNotMemberOf_thenMatches() {
+
+        final Condition<String> condition = Conditions.notMemberOf(asList("a", "b"));
+
+        assertTrue(condition.test("z"));
+        assertEquals(Result.TRUE, condition.compute("z").evaluate().result());
+    }
 }
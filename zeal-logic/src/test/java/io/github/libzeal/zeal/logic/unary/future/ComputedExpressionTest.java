@@ -12,6 +12,8 @@ import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyBoolean;
 import static org.mockito.Mockito.doReturn;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
 
 class ComputedExpressionTest {
 
@@ -138,4 +140,36 @@ class ComputedExpressionTest {
         assertEquals(Result.TRUE, evaluation.result());
         assertRationaleIsCorrect(evaluation.rationale());
     }
+
+    @Test
+    void givenPassingPredicate_whenTest_thenPassesWithoutComputingRationale() {
+
+        final ComputableRationale<Object> generator = generator();
+        final ComputedExpression<Object> expression = new ComputedExpression<>("someName", new Object(),
+            s -> true, generator);
+
+        assertTrue(expression.test());
+        verify(generator, never()).compute(any(), anyBoolean());
+    }
+
+    @Test
+    void givenFailingPredicate_whenTest_thenDoesNotPass() {
+
+        final ComputedExpression<Object> expression = new ComputedExpression<>("someName", new Object(),
+            s -> false, generator());
+
+        assertFalse(expression.test());
+    }
+
+    @Test
+    void givenEvaluated_whenRationaleNotAccessed_thenRationaleNotComputed() {
+
+        final ComputableRationale<Object> generator = generator();
+        final ComputedExpression<Object> expression = new ComputedExpression<>("someName", new Object(),
+            s -> true, generator);
+        final Evaluation evaluation = expression.evaluate();
+
+        verify(generator, never()).compute(any(), anyBoolean());
+        assertEquals(EXPECTED, evaluation.rationale().expected());
+    }
 }
@@ -0,0 +1,131 @@
+package io.github.libzeal.zeal.logic.unary.future.rationale;
+
+import io.github.libzeal.zeal.logic.rationale.Rationale;
+import io.github.libzeal.zeal.logic.rationale.SimpleRationale;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+class LazyRationaleTest {
+
+    private static final String EXPECTED = "foo";
+    private static final String ACTUAL = "bar";
+    private static final String HINT = "baz";
+
+    @SuppressWarnings("unchecked")
+    private static ComputableRationale<Object> generator() {
+
+        final ComputableRationale<Object> generator = mock(ComputableRationale.class);
+
+        doReturn(new SimpleRationale(EXPECTED, ACTUAL, HINT)).when(generator).compute(any(), anyBoolean());
+
+        return generator;
+    }
+
+    @Test
+    void givenNullGenerator_whenConstruct_thenExceptionThrown() {
+
+        final Object subject = new Object();
+
+        assertThrows(
+            NullPointerException.class,
+            () -> new LazyRationale<>(null, subject, true)
+        );
+    }
+
+    @Test
+    void givenNullSubject_whenConstruct_thenExceptionNotThrown() {
+
+        final ComputableRationale<Object> generator = generator();
+
+        assertDoesNotThrow(
+            () -> new LazyRationale<>(generator, null, true)
+        );
+    }
+
+    @Test
+    void givenRationaleNotAccessed_whenConstruct_thenRationaleNotComputed() {
+
+        final ComputableRationale<Object> generator = generator();
+
+        new LazyRationale<>(generator, new Object(), true);
+
+        verify(generator, never()).compute(any(), anyBoolean());
+    }
+
+    @Test
+    void givenRationaleAccessedMultipleTimes_whenAccess_thenRationaleComputedOnce() {
+
+        final Object subject = new Object();
+        final ComputableRationale<Object> generator = generator();
+        final Rationale rationale = new LazyRationale<>(generator, subject, false);
+
+        assertEquals(EXPECTED, rationale.expected());
+        assertEquals(ACTUAL, rationale.actual());
+        assertEquals(HINT, rationale.hint().orElse(null));
+        assertEquals(EXPECTED, rationale.expected());
+
+        verify(generator, times(1)).compute(subject, false);
+    }
+
+    @Test
+    void givenNullComputedRationale_whenAccess_thenExceptionThrown() {
+
+        final Rationale rationale = new LazyRationale<>((s, passed) -> null, new Object(), true);
+
+        assertThrows(
+            NullPointerException.class,
+            rationale::expected
+        );
+    }
+
+    @Test
+    void givenSameComputedValues_whenEquals_thenEqual() {
+
+        final Object subject = new Object();
+        final Rationale first = new LazyRationale<>(generator(), subject, true);
+        final Rationale second = new LazyRationale<>(generator(), subject, true);
+
+        assertEquals(first, second);
+        assertEquals(first.hashCode(), second.hashCode());
+    }
+
+    @Test
+    void givenSimpleRationaleWithSameValues_whenEquals_thenEqualInBothDirections() {
+
+        final Rationale lazy = new LazyRationale<>(generator(), new Object(), true);
+        final Rationale simple = new SimpleRationale(EXPECTED, ACTUAL, HINT);
+
+        assertEquals(lazy, simple);
+        assertEquals(simple, lazy);
+        assertEquals(simple.hashCode(), lazy.hashCode());
+    }
+
+    @Test
+    void givenDifferentComputedValues_whenEquals_thenNotEqual() {
+
+        final Rationale lazy = new LazyRationale<>(generator(), new Object(), true);
+
+        assertNotEquals(lazy, new SimpleRationale(EXPECTED, ACTUAL));
+        assertNotEquals(new SimpleRationale(EXPECTED, ACTUAL), lazy);
+    }
+
+    @Test
+    void givenRationaleNotAccessed_whenConstruct_thenSubjectRetained() {
+
+        final LazyRationale<Object> rationale = new LazyRationale<>(generator(), new Object(), true);
+
+        assertTrue(rationale.retainsSubject());
+    }
+
+    @Test
+    void givenRationaleComputed_whenAccess_thenSubjectReleased() {
+
+        final LazyRationale<Object> rationale = new LazyRationale<>(generator(), new Object(), false);
+
+        assertEquals(EXPECTED, rationale.expected());
+        assertFalse(rationale.retainsSubject());
+        assertEquals(ACTUAL, rationale.actual());
+    }
+}
@@ -0,0 +1,227 @@
+package io.github.libzeal.zeal.logic.util;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.AbstractCollection;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class FormatterTest {
+
+    @Test
+    void givenNull_whenStringify_thenNullStringReturned() {
+        assertEquals("(null)", Formatter.stringify(null));
+    }
+
+    @Test
+    void givenShortValue_whenStringify_thenToStringReturned() {
+        assertEquals("foo", Formatter.stringify("foo", 3));
+        assertEquals("[1, 2, 3]", Formatter.stringify(Arrays.asList(1, 2, 3), 9));
+    }
+
+    @Test
+    void givenInvalidMaxLength_whenStringify_thenExceptionThrown() {
+        assertThrows(
+            IllegalArgumentException.class,
+            () -> Formatter.stringify("foo", 0)
+        );
+    }
+
+    @Test
+    void givenLongString_whenStringify_thenStringTruncated() {
+        assertEquals("abc... (3 more characters)", Formatter.stringify("abcdef", 3));
+    }
+
+    @Test
+    void givenLongObject_whenStringify_thenToStringTruncated() {
+
+        final Object o = new Object() {
+            @Override
+            public String toString() {
+                return "abcdef";
+            }
+        };
+
+        assertEquals("abcd... (2 more characters)", Formatter.stringify(o, 4));
+    }
+
+    @Test
+    void givenLargeCollection_whenStringify_thenOnlyElementsWithinMaxLengthIterated() {
+
+        final List<Integer> values = new ArrayList<>();
+
+        for (int i = 0; i < 1000; i++) {
+            values.add(i);
+        }
+
+        final CountingCollection collection = new CountingCollection(values);
+
+        final String result = Formatter.stringify(collection, 10);
+
+        assertEquals("[0, 1, 2, ... (997 more elements)]", result);
+        assertTrue(collection.iterated < 10);
+    }
+
+    @Test
+    void givenLargeMap_whenStringify_thenMapTruncated() {
+
+        final Map<String, Integer> map = new LinkedHashMap<>();
+
+        for (int i = 0; i < 100; i++) {
+            map.put("k" + i, i);
+        }
+
+        assertEquals("{k0=0, k1=... (99 more elements)}", Formatter.stringify(map, 10));
+    }
+
+    @Test
+    void givenElementsLongerThanMaxLength_whenStringify_thenContentLimitedToMaxLength() {
+
+        final String result = Formatter.stringify(Arrays.asList("aaaaaaaaa", "bbbbbbbbb", "ccccccccc", "d"), 10);
+
+        assertEquals("[aaaaaaaaa, ... (3 more elements)]", result);
+    }
+
+    @Test
+    void givenNestedCollection_whenStringify_thenNestedCollectionLimitedToRemainingLength() {
+
+        final List<List<Integer>> values = Arrays.asList(Arrays.asList(1, 2, 3), Arrays.asList(4, 5, 6));
+
+        assertEquals("[[1, 2, 3], [4, 5... (1 more element)]", Formatter.stringify(values, 17));
+    }
+
+    @Test
+    void givenSelfReferencingCollection_whenStringify_thenNoInfiniteRecursion() {
+
+        final List<Object> values = new ArrayList<>();
+
+        values.add(values);
+        values.add("foo");
+
+        assertEquals("[(this Collection), foo]", Formatter.stringify(values, 100));
+    }
+
+    @Test
+    void givenFittingCollection_whenStringify_thenCollectionToStringNotCalled() {
+
+        final Collection<Integer> collection = new AbstractCollection<Integer>() {
+
+            private final List<Integer> values = Arrays.asList(1, 2);
+
+            @Override
+            public Iterator<Integer> iterator() {
+                return values.iterator();
+            }
+
+            @Override
+            public int size() {
+                return values.size();
+            }
+
+            @Override
+            public String toString() {
+                throw new AssertionError("Collection converted to a string in its entirety");
+            }
+        };
+
+        assertEquals("[1, 2]", Formatter.stringify(collection, 100));
+    }
+
+    @Test
+    void givenCollectionWithLargeLastElement_whenStringify_thenCollectionTruncated() {
+
+        final StringBuilder large = new StringBuilder();
+
+        for (int i = 0; i < 1000; i++) {
+            large.append('a');
+        }
+
+        final String result = Formatter.stringify(Arrays.asList("b", large.toString()), 10);
+
+        assertEquals("[b, aaaaaa... (1 more element)]", result);
+    }
+
+    @Test
+    void givenMapWithLargeOnlyValue_whenStringify_thenMapTruncated() {
+
+        final Map<String, String> map = new LinkedHashMap<>();
+
+        map.put("k", "abcdefghijklmnopqrstuvwxyz");
+
+        final String result = Formatter.stringify(map, 10);
+
+        assertEquals("{k=abcdefg... (1 more element)}", result);
+    }
+
+    @Test
+    void givenCollectionWithNullElement_whenStringify_thenSameAsToString() {
+
+        final List<String> values = Arrays.asList("foo", null);
+
+        assertEquals(values.toString(), Formatter.stringify(values, 100));
+    }
+
+    @Test
+    void givenInvalidMaxLength_whenSetMaxLength_thenExceptionThrown() {
+        assertThrows(
+            IllegalArgumentException.class,
+            () -> Formatter.setMaxLength(0)
+        );
+    }
+
+    @Test
+    void givenMaxLength_whenStringify_thenMaxLengthUsed() {
+
+        try {
+            Formatter.setMaxLength(2);
+
+            assertEquals(2, Formatter.getMaxLength());
+            assertEquals("ab... (1 more character)", Formatter.stringify("abc"));
+        }
+        finally {
+            Formatter.setMaxLength(Formatter.DEFAULT_MAX_LENGTH);
+        }
+    }
+
+    private static final class CountingCollection extends AbstractCollection<Integer> {
+
+        private final Collection<Integer> values;
+        private int iterated;
+
+        private CountingCollection(final Collection<Integer> values) {
+            this.values = values;
+        }
+
+        @Override
+        public Iterator<Integer> iterator() {
+
+            final Iterator<Integer> iterator = values.iterator();
+
+            return new Iterator<Integer>() {
+
+                @Override
+                public boolean hasNext() {
+                    return iterator.hasNext();
+                }
+
+                @Override
+                public Integer next() {
+                    iterated++;
+                    return iterator.next();
+                }
+            };
+        }
+
+        @Override
+        public int size() {
+            return values.size();
+        }
+    }
+}
@@ -0,0 +1,59 @@
+package io.github.libzeal.zeal.logic.util;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class LazyTest {
+
+    @Test
+    void givenNullSupplier_whenOf_thenExceptionThrown() {
+        assertThrows(
+            NullPointerException.class,
+            () -> Lazy.of(null)
+        );
+    }
+
+    @Test
+    void givenNullValue_whenValue_thenExceptionThrown() {
+        assertThrows(
+            NullPointerException.class,
+            () -> Lazy.value(null)
+        );
+    }
+
+    @Test
+    void givenSupplier_whenGetMultipleTimes_thenValueComputedOnce() {
+
+        final AtomicInteger calls = new AtomicInteger();
+        final Lazy<String> lazy = Lazy.of(() -> "foo" + calls.incrementAndGet());
+
+        assertEquals(0, calls.get());
+        assertEquals("foo1", lazy.get());
+        assertEquals("foo1", lazy.get());
+        assertEquals(1, calls.get());
+    }
+
+    @Test
+    void givenLazy_whenOf_thenSameLazyReturned() {
+
+        final Lazy<String> lazy = Lazy.value("foo");
+        final Supplier<String> supplier = lazy;
+
+        assertSame(lazy, Lazy.of(supplier));
+    }
+
+    @Test
+    void givenSupplierReturnsNull_whenGet_thenExceptionThrown() {
+
+        final Lazy<String> lazy = Lazy.of(() -> null);
+
+        assertThrows(
+            NullPointerException.class,
+            lazy::get
+        );
+    }
+}
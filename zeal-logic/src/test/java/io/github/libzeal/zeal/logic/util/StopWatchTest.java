@@ -0,0 +1,31 @@
+package io.github.libzeal.zeal.logic.util;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class StopWatchTest {
+
+    @Test
+    void givenStarted_whenStop_thenElapsedTimeIsNotNegative() {
+        assertFalse(StopWatch.started().stop().isNegative());
+    }
+
+    @Test
+    void givenUnstarted_whenStop_thenExceptionThrown() {
+
+        final StopWatch stopWatch = StopWatch.unstarted();
+
+        assertThrows(
+            IllegalStateException.class,
+            stopWatch::stop
+        );
+    }
+
+    @Test
+    void givenDisabled_whenStartAndStop_thenElapsedTimeIsZero() {
+        assertEquals(Duration.ZERO, StopWatch.disabled().start().stop());
+    }
+}
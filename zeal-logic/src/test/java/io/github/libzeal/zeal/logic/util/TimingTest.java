@@ -0,0 +1,83 @@
+package io.github.libzeal.zeal.logic.util;
+
+import io.github.libzeal.zeal.logic.BooleanExpression;
+import io.github.libzeal.zeal.logic.evaluation.Evaluation;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class TimingTest {
+
+    @AfterEach
+    void tearDown() {
+        Timing.setDefault(Timing.monotonic());
+    }
+
+    @Test
+    void givenDefaults_whenGetDefault_thenMonotonic() {
+        assertSame(Timing.monotonic(), Timing.getDefault());
+    }
+
+    @Test
+    void givenNullTiming_whenSetDefault_thenExceptionThrown() {
+        assertThrows(
+            NullPointerException.class,
+            () -> Timing.setDefault(null)
+        );
+    }
+
+    @Test
+    void givenOff_whenStart_thenDisabledStopWatchReturned() {
+
+        final StopWatch stopWatch = Timing.off().start();
+
+        assertSame(StopWatch.disabled(), stopWatch);
+        assertEquals(Duration.ZERO, stopWatch.stop());
+    }
+
+    @Test
+    void givenMonotonic_whenStart_thenEnabledStopWatchReturned() {
+        assertNotSame(StopWatch.disabled(), Timing.monotonic().start());
+    }
+
+    @Test
+    void givenIntervalLessThanOne_whenSampled_thenExceptionThrown() {
+        assertThrows(
+            IllegalArgumentException.class,
+            () -> Timing.sampled(0)
+        );
+    }
+
+    @Test
+    void givenIntervalOfOne_whenSampled_thenMonotonic() {
+        assertSame(Timing.monotonic(), Timing.sampled(1));
+    }
+
+    @Test
+    void givenLargeInterval_whenStartManyTimes_thenSomeStopWatchesDisabled() {
+
+        final Timing timing = Timing.sampled(1_000_000);
+        int disabled = 0;
+
+        for (int i = 0; i < 100; i++) {
+            if (timing.start() == StopWatch.disabled()) {
+                disabled++;
+            }
+        }
+
+        assertTrue(disabled > 0);
+    }
+
+    @Test
+    void givenOffDefault_whenEvaluate_thenElapsedTimeIsZero() {
+
+        Timing.setDefault(Timing.off());
+
+        final Evaluation evaluation = new BooleanExpression(() -> true).evaluate();
+
+        assertEquals(Duration.ZERO, evaluation.elapsedTime());
+    }
+}
@@ -0,0 +1,103 @@
+package io.github.libzeal.zeal.logic;
+
+import io.github.libzeal.zeal.logic.evaluation.CompoundEvaluation;
+import io.github.libzeal.zeal.logic.evaluation.Evaluation;
+import io.github.libzeal.zeal.logic.evaluation.Result;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests the Java 21 implementation of {@link VirtualThreads}. These tests are run by the failsafe plugin against the
+ * packaged multi-release JAR, since the Java 21 classes are only loaded from {@code META-INF/versions/21}.
+ */
+class VirtualThreadsIT {
+
+    @AfterEach
+    void tearDown() {
+        ParallelEvaluation.setDefault(ParallelEvaluation.sequential());
+    }
+
+    @Test
+    void givenJava21_whenVirtualThreadsSupported_thenTrueReturned() {
+        assertTrue(ParallelEvaluation.virtualThreadsSupported());
+    }
+
+    @Test
+    void givenJava21_whenVirtualThreads_thenParallelAndNotRacing() {
+
+        final ParallelEvaluation virtualThreads = ParallelEvaluation.virtualThreads();
+
+        assertTrue(virtualThreads.isParallel());
+        assertFalse(virtualThreads.isRacing());
+    }
+
+    @Test
+    void givenVirtualThreadsDefault_whenEvaluate_thenChildrenEvaluatedOnVirtualThreads() {
+
+        final AtomicBoolean firstVirtual = new AtomicBoolean();
+        final AtomicBoolean secondVirtual = new AtomicBoolean();
+
+        final Expression first = new BooleanExpression("first", () -> record(firstVirtual));
+        final Expression second = new BooleanExpression("second", () -> record(secondVirtual));
+
+        ParallelEvaluation.setDefault(ParallelEvaluation.virtualThreads());
+
+        final Evaluation evaluation = AndExpression.unnamed(first, second).evaluate();
+
+        assertEquals(Result.TRUE, evaluation.result());
+        assertTrue(firstVirtual.get());
+        assertTrue(secondVirtual.get());
+    }
+
+    @Test
+    void givenBlockingSiblingAndFailingChild_whenEvaluateOnVirtualThreads_thenBlockingSiblingInterrupted()
+        throws InterruptedException {
+
+        final CountDownLatch never = new CountDownLatch(1);
+        final CountDownLatch blocking = new CountDownLatch(1);
+        final CountDownLatch interrupted = new CountDownLatch(1);
+
+        final Expression failing = new BooleanExpression("failing", () -> await(blocking) && false);
+        final Expression blocked = new BooleanExpression("blocked", () -> {
+            try {
+                blocking.countDown();
+                return never.await(5, TimeUnit.SECONDS);
+            }
+            catch (final InterruptedException e) {
+                interrupted.countDown();
+                return false;
+            }
+        });
+
+        ParallelEvaluation.setDefault(ParallelEvaluation.virtualThreads());
+
+        final Evaluation evaluation = AndExpression.unnamed(failing, blocked).evaluate();
+
+        assertEquals(Result.FALSE, evaluation.result());
+        assertEquals("failing", evaluation.cause().rootCause().evaluation().name());
+        assertEquals(Result.SKIPPED, ((CompoundEvaluation) evaluation).children().get(1).result());
+        assertTrue(interrupted.await(4, TimeUnit.SECONDS));
+    }
+
+    private static boolean record(final AtomicBoolean virtual) {
+        virtual.set(Thread.currentThread().isVirtual());
+        return true;
+    }
+
+    private static boolean await(final CountDownLatch latch) {
+
+        try {
+            return latch.await(5, TimeUnit.SECONDS);
+        }
+        catch (final InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return false;
+        }
+    }
+}
@@ -1,9 +1,19 @@
 package io.github.libzeal.zeal.values;
 
+import io.github.libzeal.zeal.values.core.GeneralCollectionValue;
 import io.github.libzeal.zeal.values.core.GeneralEnumValue;
 import io.github.libzeal.zeal.values.core.GeneralObjectValue;
+import io.github.libzeal.zeal.values.core.ListValue;
+import io.github.libzeal.zeal.values.core.MapValue;
 import io.github.libzeal.zeal.values.core.StringValue;
 import io.github.libzeal.zeal.values.core.boxed.*;
+import io.github.libzeal.zeal.values.core.primitive.DoubleValue;
+import io.github.libzeal.zeal.values.core.primitive.IntValue;
+import io.github.libzeal.zeal.values.core.primitive.LongValue;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
 
 /**
  * A class containing static methods that wrap common values as unary expressions.
@@ -139,4 +149,102 @@ public class Values {
     public static BoxedCharacterValue value(final Character value) {
         return new BoxedCharacterValue(value);
     }
+
+    /**
+     * Wraps an {@code int} as a primitive expression. The predicates of the returned expression operate on the
+     * primitive value, so testing a passing expression does not box the value. Unlike {@link #value(Integer)}, the
+     * returned expression is not an {@link io.github.libzeal.zeal.values.api.ObjectValue}.
+     *
+     * @param value
+     *     The {@code int} to wrap.
+     *
+     * @return An expression that wraps the supplied {@code int}.
+     *
+     * @since 0.5.0
+     */
+    public static IntValue intValue(final int value) {
+        return new IntValue(value);
+    }
+
+    /**
+     * Wraps a {@code long} as a primitive expression. The predicates of the returned expression operate on the
+     * primitive value, so testing a passing expression does not box the value. Unlike {@link #value(Long)}, the
+     * returned expression is not an {@link io.github.libzeal.zeal.values.api.ObjectValue}.
+     *
+     * @param value
+     *     The {@code long} to wrap.
+     *
+     * @return An expression that wraps the supplied {@code long}.
+     *
+     * @since 0.5.0
+     */
+    public static LongValue longValue(final long value) {
+        return new LongValue(value);
+    }
+
+    /**
+     * Wraps a {@code double} as a primitive expression. The predicates of the returned expression operate on the
+     * primitive value, so testing a passing expression does not box the value. Unlike {@link #value(Double)}, the
+     * returned expression is not an {@link io.github.libzeal.zeal.values.api.ObjectValue}.
+     *
+     * @param value
+     *     The {@code double} to wrap.
+     *
+     * @return An expression that wraps the supplied {@code double}.
+     *
+     * @since 0.5.0
+     */
+    public static DoubleValue doubleValue(final double value) {
+        return new DoubleValue(value);
+    }
+
+    /**
+     * Wraps a {@link Collection} as an expression.
+     *
+     * @param value
+     *     The {@link Collection} to wrap.
+     * @param <T>
+     *     The type of the elements of the collection.
+     *
+     * @return An expression that wraps the supplied {@link Collection}.
+     *
+     * @since 0.5.0
+     */
+    public static <T> GeneralCollectionValue<T> value(final Collection<T> value) {
+        return new GeneralCollectionValue<>(value);
+    }
+
+    /**
+     * Wraps a {@link List} as an expression.
+     *
+     * @param value
+     *     The {@link List} to wrap.
+     * @param <T>
+     *     The type of the elements of the list.
+     *
+     * @return An expression that wraps the supplied {@link List}.
+     *
+     * @since 0.5.0
+     */
+    public static <T> ListValue<T> value(final List<T> value) {
+        return new ListValue<>(value);
+    }
+
+    /**
+     * Wraps a {@link Map} as an expression.
+     *
+     * @param value
+     *     The {@link Map} to wrap.
+     * @param <K>
+     *     The type of the keys of the map.
+     * @param <V>
+     *     The type of the values of the map.
+     *
+     * @return An expression that wraps the supplied {@link Map}.
+     *
+     * @since 0.5.0
+     */
+    public static <K, V> MapValue<K, V> value(final Map<K, V> value) {
+        return new MapValue<>(value);
+    }
 }
@@ -0,0 +1,220 @@
+package io.github.libzeal.zeal.values.api;
+
+import io.github.libzeal.zeal.logic.evaluation.Evaluation;
+
+import java.util.AbstractList;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+/**
+ * The result of applying a {@link Validator} to many subjects at once.
+ * <p>
+ * A bulk validation only retains the subjects that failed the compiled chain, along with their indices. No evaluation
+ * is created while the subjects are validated: the evaluation of a failing subject is only created when it is first
+ * obtained, such as through {@link #evaluation(int)} or {@link #evaluations()}, and is reused thereafter. For example:
+ * <pre><code>
+ * BulkValidation&lt;Record&gt; validation = RECORD.validateAll(records);
+ *
+ * if (!validation.passed()) {
+ *     log.warn("{} of {} records are invalid", validation.failures(), validation.size());
+ *     log.debug("First invalid record: {}", validation.evaluations().get(0));
+ * }
+ * </code></pre>
+ * <p>
+ * Bulk validations are thread-safe.
+ *
+ * @param <T>
+ *     The type of the subjects.
+ *
+ * @author Justin Albano
+ * @since 0.5.0
+ */
+public final class BulkValidation<T> {
+
+    private final Validator<T> validator;
+    private final int size;
+    private final int[] failingIndices;
+    private final List<T> failingSubjects;
+    private final AtomicReferenceArray<Evaluation> evaluations;
+
+    private BulkValidation(final Validator<T> validator, final int size, final BitSet failingIndices,
+                           final List<T> failingSubjects) {
+        this.validator = validator;
+        this.size = size;
+        this.failingIndices = failingIndices.stream().toArray();
+        this.failingSubjects = failingSubjects;
+        this.evaluations = new AtomicReferenceArray<>(this.failingIndices.length);
+    }
+
+    /**
+     * Obtains the number of subjects that were validated.
+     *
+     * @return The number of subjects.
+     */
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Obtains the number of subjects that failed the compiled chain.
+     *
+     * @return The number of failing subjects.
+     */
+    public int failures() {
+        return failingIndices.length;
+    }
+
+    /**
+     * Obtains whether every subject passed the compiled chain.
+     *
+     * @return True if no subject failed; false otherwise.
+     */
+    public boolean passed() {
+        return failingIndices.length == 0;
+    }
+
+    /**
+     * Obtains the indices of the subjects that failed the compiled chain. The index of a subject is its position in
+     * the order the subjects were supplied.
+     *
+     * @return A copy of the indices of the failing subjects.
+     */
+    public BitSet failingIndices() {
+
+        final BitSet indices = new BitSet(size);
+
+        for (final int index : failingIndices) {
+            indices.set(index);
+        }
+
+        return indices;
+    }
+
+    /**
+     * Obtains the failing subject at the supplied index.
+     *
+     * @param index
+     *     The index of the subject, in the order the subjects were supplied.
+     *
+     * @return The failing subject at the supplied index.
+     *
+     * @throws IllegalArgumentException
+     *     The subject at the supplied index did not fail.
+     */
+    public T failingSubject(final int index) {
+        return failingSubjects.get(position(index));
+    }
+
+    /**
+     * Obtains the evaluation of the failing subject at the supplied index. The evaluation is created when it is first
+     * obtained.
+     *
+     * @param index
+     *     The index of the subject, in the order the subjects were supplied.
+     *
+     * @return The evaluation of the failing subject at the supplied index.
+     *
+     * @throws IllegalArgumentException
+     *     The subject at the supplied index did not fail.
+     */
+    public Evaluation evaluation(final int index) {
+        return evaluationAt(position(index));
+    }
+
+    /**
+     * Obtains the evaluations of the failing subjects, in the order the subjects were supplied. Each evaluation is
+     * created when it is first obtained from the returned list.
+     *
+     * @return An unmodifiable list of the evaluations of the failing subjects.
+     */
+    public List<Evaluation> evaluations() {
+        return new AbstractList<Evaluation>() {
+
+            @Override
+            public Evaluation get(final int position) {
+                return evaluationAt(position);
+            }
+
+            @Override
+            public int size() {
+                return failingIndices.length;
+            }
+        };
+    }
+
+    private int position(final int index) {
+
+        final int position = Arrays.binarySearch(failingIndices, index);
+
+        if (position < 0) {
+            throw new IllegalArgumentException("Subject at index " + index + " did not fail");
+        }
+
+        return position;
+    }
+
+    private Evaluation evaluationAt(final int position) {
+
+        final Evaluation evaluated = evaluations.get(position);
+
+        if (evaluated != null) {
+            return evaluated;
+        }
+
+        evaluations.compareAndSet(position, null, validator.evaluate(failingSubjects.get(position)));
+
+        return evaluations.get(position);
+    }
+
+    /**
+     * A mutable accumulation of the subjects tested against a compiled chain, which retains only the failing subjects.
+     * Accumulations of consecutive subjects can be combined, which allows subjects to be tested in parallel.
+     *
+     * @param <T>
+     *     The type of the subjects.
+     */
+    static final class Accumulator<T> {
+
+        private final Validator<T> validator;
+        private final BitSet failingIndices;
+        private final List<T> failingSubjects;
+        private int size;
+
+        Accumulator(final Validator<T> validator) {
+            this.validator = validator;
+            this.failingIndices = new BitSet();
+            this.failingSubjects = new ArrayList<>();
+        }
+
+        void accept(final T subject) {
+
+            if (!validator.test(subject)) {
+                failingIndices.set(size);
+                failingSubjects.add(subject);
+            }
+
+            size++;
+        }
+
+        Accumulator<T> combine(final Accumulator<T> following) {
+
+            final BitSet followingIndices = following.failingIndices;
+
+            for (int i = followingIndices.nextSetBit(0); i >= 0; i = followingIndices.nextSetBit(i + 1)) {
+                failingIndices.set(size + i);
+            }
+
+            failingSubjects.addAll(following.failingSubjects);
+            size += following.size;
+
+            return this;
+        }
+
+        BulkValidation<T> finish() {
+            return new BulkValidation<>(validator, size, failingIndices, failingSubjects);
+        }
+    }
+}
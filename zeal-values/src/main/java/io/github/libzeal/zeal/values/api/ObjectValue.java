@@ -5,16 +5,17 @@ import io.github.libzeal.zeal.logic.evaluation.Evaluation;
 import io.github.libzeal.zeal.logic.unary.future.ComputableExpression;
 import io.github.libzeal.zeal.logic.unary.UnaryExpression;
 import io.github.libzeal.zeal.logic.unary.future.rationale.ComputableField;
+import io.github.libzeal.zeal.logic.util.Lazy;
 import io.github.libzeal.zeal.values.core.ValueBuilder;
 
 import java.util.Comparator;
 import java.util.Objects;
 import java.util.function.Predicate;
+import java.util.function.Supplier;
 
 import static io.github.libzeal.zeal.logic.unary.condition.Conditions.equalTo;
 import static io.github.libzeal.zeal.logic.unary.condition.Conditions.exactly;
 import static io.github.libzeal.zeal.logic.util.Formatter.stringify;
-import static java.util.Objects.requireNonNull;
 
 /**
  * The abstract base class for all Object-based (non-primitive) expressions.
@@ -55,18 +56,20 @@ public class ObjectValue<T, E extends ObjectValue<T, E>> implements UnaryExpress
     static final String CANNOT_CHECK_USING_NULL_CONDITION =
         "Evaluation will always fail when checking a (null) condition";
 
-    private final String name;
+    private final Lazy<String> name;
     private final T subject;
     private final UnaryExpressionChain<T> children;
 
     /**
-     * Creates an object expression with the supplied subject. This constructor uses a default name for the expression.
+     * Creates an object expression with the supplied subject. This constructor uses a default name for the expression,
+     * which includes the string representation of the subject. This name is only computed when it is first needed,
+     * such as when the evaluation of the expression is formatted.
      *
      * @param subject
      *     The subject of the expression.
      */
     protected ObjectValue(T subject) {
-        this(subject, "Object[" + stringify(subject) + "] value");
+        this(subject, () -> "Object[" + stringify(subject) + "] value");
     }
 
     /**
@@ -78,7 +81,22 @@ public class ObjectValue<T, E extends ObjectValue<T, E>> implements UnaryExpress
      *     The name of the expression.
      */
     protected ObjectValue(T subject, String name) {
-        this.name = requireNonNull(name);
+        this(subject, Lazy.value(name));
+    }
+
+    /**
+     * Creates an object expression with the supplied subject and a name that is computed only when it is first needed,
+     * such as when the evaluation of the expression is formatted.
+     *
+     * @param subject
+     *     The subject of the expression.
+     * @param name
+     *     The supplier used to compute the name of the expression. The supplier must not return {@code null}.
+     *
+     * @since 0.5.0
+     */
+    protected ObjectValue(T subject, Supplier<String> name) {
+        this.name = Lazy.of(name);
         this.subject = subject;
         this.children = new UnaryExpressionChain<>();
     }
@@ -111,6 +129,10 @@ public class ObjectValue<T, E extends ObjectValue<T, E>> implements UnaryExpress
         return (E) ObjectValue.this;
     }
 
+    final UnaryExpressionChain<T> children() {
+        return children;
+    }
+
     @Override
     public final T subject() {
         return subject;
@@ -118,7 +140,7 @@ public class ObjectValue<T, E extends ObjectValue<T, E>> implements UnaryExpress
 
     @Override
     public final String name() {
-        return name;
+        return name.get();
     }
 
     @Override
@@ -126,6 +148,11 @@ public class ObjectValue<T, E extends ObjectValue<T, E>> implements UnaryExpress
         return children.evaluate(name, subject);
     }
 
+    @Override
+    public final boolean test() {
+        return children.test(subject);
+    }
+
     /**
      * Creates a builder for a new evaluation.
      *
@@ -6,7 +6,9 @@ import io.github.libzeal.zeal.logic.evaluation.Evaluation;
 import io.github.libzeal.zeal.logic.unary.future.ComputableExpression;
 
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.List;
+import java.util.function.Supplier;
 import java.util.stream.Collectors;
 
 import static java.util.Objects.requireNonNull;
@@ -37,13 +39,29 @@ class UnaryExpressionChain<T> {
         return this;
     }
 
-    public Evaluation evaluate(final String name, final T subject) {
+    public UnaryExpressionChain<T> freeze() {
+        return new UnaryExpressionChain<>(Collections.unmodifiableList(new ArrayList<>(expressions)));
+    }
+
+    public boolean test(final T subject) {
+
+        for (final ComputableExpression<T> expression : expressions) {
+
+            if (!expression.test(subject)) {
+                return false;
+            }
+        }
+
+        return true;
+    }
+
+    public Evaluation evaluate(final Supplier<String> name, final T subject) {
 
         final List<Expression> expressionsWithSubject = expressions.stream()
                 .map(e -> e.compute(subject))
                 .collect(Collectors.toList());
 
-        final AndExpression and = new AndExpression(name, expressionsWithSubject);
+        final AndExpression and = AndExpression.lazilyNamed(name, expressionsWithSubject);
 
         return and.evaluate();
     }
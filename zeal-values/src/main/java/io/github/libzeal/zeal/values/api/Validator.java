@@ -0,0 +1,243 @@
+package io.github.libzeal.zeal.values.api;
+
+import io.github.libzeal.zeal.logic.evaluation.Evaluation;
+import io.github.libzeal.zeal.logic.unary.UnaryExpression;
+
+import java.util.function.Function;
+import java.util.function.UnaryOperator;
+import java.util.stream.Collector;
+import java.util.stream.Stream;
+
+import static java.util.Objects.requireNonNull;
+
+/**
+ * A compiled chain of expressions that can be applied to many subjects.
+ * <p>
+ * A validator is declared once against a value type and its chain is frozen into an immutable list of expressions. The
+ * validator can then be applied to any number of subjects, without rebuilding the chain for each subject. For example:
+ * <pre><code>
+ * private static final Validator&lt;String&gt; USERNAME = Validator.of(
+ *     Values::value,
+ *     value -&gt; value.isNotNull().isNotBlank().isShorterThan(32)
+ * );
+ *
+ * public void register(String username) {
+ *     require(USERNAME.apply(username));
+ * }
+ * </code></pre>
+ * <p>
+ * A validator can also be applied to many subjects at once, such as a batch of records, using
+ * {@link #validateAll(Iterable)}. Each subject is tested against the compiled chain without creating an evaluation, and
+ * only the failing subjects are retained in the resulting {@link BulkValidation}.
+ * <p>
+ * Validators are immutable and thread-safe, provided that the expressions declared on the chain (such as custom
+ * conditions or predicates) are themselves thread-safe.
+ *
+ * @param <T>
+ *     The type of the subject.
+ *
+ * @author Justin Albano
+ * @since 0.5.0
+ */
+public final class Validator<T> implements Function<T, UnaryExpression<T>> {
+
+    private final Function<T, ? extends ObjectValue<T, ?>> factory;
+    private final UnaryExpressionChain<T> children;
+
+    private Validator(final Function<T, ? extends ObjectValue<T, ?>> factory, final UnaryExpressionChain<T> children) {
+        this.factory = factory;
+        this.children = children;
+    }
+
+    /**
+     * Compiles a validator from the supplied value factory and declaration.
+     * <p>
+     * The supplied declaration is called exactly once, with a value created by the supplied factory from a
+     * {@code null} subject, and the expressions it adds to the value are frozen into the validator. Therefore, the
+     * declaration must not depend on the subject of the value it is supplied. The supplied factory is used again only
+     * when an applied validator must be named, such as when its evaluation is formatted.
+     *
+     * @param factory
+     *     A factory that creates a value for a subject, such as {@code Values::value}.
+     * @param declaration
+     *     A function that adds the expressions of the chain to the supplied value.
+     * @param <T>
+     *     The type of the subject.
+     * @param <E>
+     *     The type of the value.
+     *
+     * @return A validator with the declared chain.
+     *
+     * @throws NullPointerException
+     *     Any of the supplied arguments are {@code null} or the supplied factory or declaration returns {@code null}.
+     */
+    public static <T, E extends ObjectValue<T, E>> Validator<T> of(final Function<T, E> factory,
+                                                                  final UnaryOperator<E> declaration) {
+
+        requireNonNull(factory);
+        requireNonNull(declaration);
+
+        final E template = requireNonNull(factory.apply(null), "Factory cannot create null value");
+        final E declared = requireNonNull(declaration.apply(template), "Declaration cannot return null value");
+
+        return new Validator<>(factory, declared.children().freeze());
+    }
+
+    /**
+     * Applies the compiled chain to the supplied subject.
+     *
+     * @param subject
+     *     The subject of the expression.
+     *
+     * @return An expression that evaluates the compiled chain against the supplied subject.
+     */
+    @Override
+    public UnaryExpression<T> apply(final T subject) {
+        return new CompiledExpression<>(this, subject);
+    }
+
+    /**
+     * Tests whether the supplied subject passes the compiled chain, without creating an evaluation.
+     *
+     * @param subject
+     *     The subject to test.
+     *
+     * @return True if the subject passes the compiled chain; false otherwise.
+     */
+    public boolean test(final T subject) {
+        return children.test(subject);
+    }
+
+    /**
+     * Evaluates the compiled chain against the supplied subject.
+     *
+     * @param subject
+     *     The subject to evaluate.
+     *
+     * @return The evaluation of the compiled chain.
+     */
+    public Evaluation evaluate(final T subject) {
+        return children.evaluate(() -> name(subject), subject);
+    }
+
+    /**
+     * Validates each of the supplied subjects against the compiled chain. Evaluations are only created for failing
+     * subjects, and only when they are obtained from the returned validation.
+     *
+     * @param subjects
+     *     The subjects to validate.
+     *
+     * @return The result of validating the supplied subjects.
+     *
+     * @throws NullPointerException
+     *     The supplied subjects are {@code null}.
+     */
+    public BulkValidation<T> validateAll(final Iterable<? extends T> subjects) {
+
+        requireNonNull(subjects);
+
+        final BulkValidation.Accumulator<T> accumulator = new BulkValidation.Accumulator<>(this);
+
+        for (final T subject : subjects) {
+            accumulator.accept(subject);
+        }
+
+        return accumulator.finish();
+    }
+
+    /**
+     * Validates each of the supplied subjects against the compiled chain. Evaluations are only created for failing
+     * subjects, and only when they are obtained from the returned validation.
+     *
+     * @param subjects
+     *     The subjects to validate.
+     *
+     * @return The result of validating the supplied subjects.
+     *
+     * @throws NullPointerException
+     *     The supplied subjects are {@code null}.
+     */
+    public BulkValidation<T> validateAll(final T[] subjects) {
+
+        requireNonNull(subjects);
+
+        final BulkValidation.Accumulator<T> accumulator = new BulkValidation.Accumulator<>(this);
+
+        for (final T subject : subjects) {
+            accumulator.accept(subject);
+        }
+
+        return accumulator.finish();
+    }
+
+    /**
+     * Validates each of the subjects in the supplied stream against the compiled chain. Evaluations are only created
+     * for failing subjects, and only when they are obtained from the returned validation.
+     * <p>
+     * If the supplied stream is parallel, the subjects are tested in parallel. The index of each subject is its
+     * position in the encounter order of the stream, so the indices of failing subjects are only meaningful for
+     * ordered streams. For example, a list of records can be validated in parallel using:
+     * <pre><code>BulkValidation&lt;Record&gt; validation = RECORD.validateAll(records.parallelStream());</code></pre>
+     *
+     * @param subjects
+     *     The stream of subjects to validate.
+     *
+     * @return The result of validating the supplied subjects.
+     *
+     * @throws NullPointerException
+     *     The supplied stream is {@code null}.
+     */
+    public BulkValidation<T> validateAll(final Stream<? extends T> subjects) {
+        return requireNonNull(subjects).collect(toBulkValidation());
+    }
+
+    private Collector<T, BulkValidation.Accumulator<T>, BulkValidation<T>> toBulkValidation() {
+        return Collector.of(
+            () -> new BulkValidation.Accumulator<>(this),
+            BulkValidation.Accumulator::accept,
+            BulkValidation.Accumulator::combine,
+            BulkValidation.Accumulator::finish
+        );
+    }
+
+    private String name(final T subject) {
+        return factory.apply(subject).name();
+    }
+
+    /**
+     * An expression that evaluates a compiled chain against a single subject.
+     *
+     * @param <T>
+     *     The type of the subject.
+     */
+    private static final class CompiledExpression<T> implements UnaryExpression<T> {
+
+        private final Validator<T> validator;
+        private final T subject;
+
+        private CompiledExpression(final Validator<T> validator, final T subject) {
+            this.validator = validator;
+            this.subject = subject;
+        }
+
+        @Override
+        public T subject() {
+            return subject;
+        }
+
+        @Override
+        public String name() {
+            return validator.name(subject);
+        }
+
+        @Override
+        public boolean test() {
+            return validator.test(subject);
+        }
+
+        @Override
+        public Evaluation evaluate() {
+            return validator.evaluate(subject);
+        }
+    }
+}
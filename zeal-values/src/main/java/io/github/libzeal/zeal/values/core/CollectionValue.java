@@ -0,0 +1,279 @@
+package io.github.libzeal.zeal.values.core;
+
+import io.github.libzeal.zeal.logic.rationale.Rationale;
+import io.github.libzeal.zeal.logic.rationale.SimpleRationale;
+import io.github.libzeal.zeal.values.api.ObjectValue;
+
+import java.util.Collection;
+import java.util.LinkedHashSet;
+import java.util.Set;
+import java.util.function.Predicate;
+
+import static io.github.libzeal.zeal.logic.util.Formatter.stringify;
+import static java.util.Objects.requireNonNull;
+
+/**
+ * The abstract base class for all Collection-based expressions.
+ * <p>
+ * The size predicates of this class use {@link Collection#size()} and {@link Collection#isEmpty()}, which do not
+ * iterate the subject for common collections. The element predicates, such as {@link #allMatch(Predicate)}, stop
+ * iterating the subject as soon as their result is known, and their rationales report the index of the first offending
+ * element, in the iteration order of the subject. At most 5 offending elements are listed in a rationale, and the
+ * offending elements and the index of the first are found in a single pass when the rationale is computed.
+ *
+ * @param <T>
+ *     The type of the elements of the collection.
+ * @param <C>
+ *     The type of the collection.
+ * @param <B>
+ *     The type of the subclass. This type is an example of the
+ *     <a href="https://stackoverflow.com/q/4173254/2403253">Curiously Recurring Template Pattern (CRTP)</a>. For more
+ *     information, see {@link ObjectValue}.
+ *
+ * @author Justin Albano
+ * @see ObjectValue
+ * @see Collection
+ * @since 0.5.0
+ */
+public abstract class CollectionValue<T, C extends Collection<T>, B extends CollectionValue<T, C, B>>
+    extends ObjectValue<C, B> {
+
+    private static final String SIZE_EQUAL_PREFIX = "size := ";
+    private static final String ALL_MATCH = "all match";
+    private static final String ANY_MATCH = "any match";
+    private static final String NONE_MATCH = "none match";
+
+    /**
+     * Creates an object expression with the supplied subject and name.
+     *
+     * @param subject
+     *     The subject of the expression.
+     * @param name
+     *     The name of the expression.
+     */
+    protected CollectionValue(final C subject, final String name) {
+        super(subject, name);
+    }
+
+    /**
+     * Adds a predicate to the expression that checks if the subject is empty.
+     *
+     * @return This expression (fluent interface).
+     *
+     * @see Collection#isEmpty()
+     */
+    public B isEmpty() {
+        return append(
+            expression(Collection::isEmpty)
+                .name("isEmpty")
+                .expected(SIZE_EQUAL_PREFIX + 0)
+                .actual((s, passed) -> SIZE_EQUAL_PREFIX + s.size())
+        );
+    }
+
+    /**
+     * Adds a predicate to the expression that checks if the subject is not empty.
+     *
+     * @return This expression (fluent interface).
+     *
+     * @see Collection#isEmpty()
+     */
+    public B isNotEmpty() {
+        return append(
+            expression(s -> !s.isEmpty())
+                .name("isNotEmpty")
+                .expected("size > 0")
+                .actual((s, passed) -> SIZE_EQUAL_PREFIX + s.size())
+        );
+    }
+
+    /**
+     * Adds a predicate to the expression that checks if the size of the subject matches the supplied size.
+     *
+     * @param size
+     *     The desired size of the subject.
+     *
+     * @return This expression (fluent interface).
+     */
+    public B hasSizeOf(final int size) {
+        return append(
+            expression(s -> s.size() == size)
+                .name("hasSizeOf[" + size + "]")
+                .expected(SIZE_EQUAL_PREFIX + size)
+                .actual((s, passed) -> SIZE_EQUAL_PREFIX + s.size())
+        );
+    }
+
+    /**
+     * Adds a predicate to the expression that checks if the size of the subject is between the supplied bounds
+     * (inclusive).
+     *
+     * @param min
+     *     The lower bound (inclusive).
+     * @param max
+     *     The upper bound (inclusive).
+     *
+     * @return This expression (fluent interface).
+     */
+    public B hasSizeBetween(final int min, final int max) {
+        return append(
+            expression(s -> s.size() >= min && s.size() <= max)
+                .name("hasSizeBetween[" + min + ", " + max + "]")
+                .expected("size in [" + min + ", " + max + "]")
+                .actual((s, passed) -> SIZE_EQUAL_PREFIX + s.size())
+        );
+    }
+
+    /**
+     * Adds a predicate to the expression that checks if the subject contains the supplied element.
+     *
+     * @param element
+     *     The element that the subject should contain.
+     *
+     * @return This expression (fluent interface).
+     *
+     * @see Collection#contains(Object)
+     */
+    public B contains(final Object element) {
+        return append(
+            expression(s -> s.contains(element))
+                .name("contains[" + stringify(element) + "]")
+                .expected("contains[" + stringify(element) + "]")
+                .actual((s, passed) -> Elements.describe("elements", s))
+        );
+    }
+
+    /**
+     * Adds a predicate to the expression that checks if the subject does not contain the supplied element.
+     *
+     * @param element
+     *     The element that the subject should not contain.
+     *
+     * @return This expression (fluent interface).
+     *
+     * @see Collection#contains(Object)
+     */
+    public B doesNotContain(final Object element) {
+        return append(
+            expression(s -> !s.contains(element))
+                .name("not[contains[" + stringify(element) + "]]")
+                .expected("not[contains[" + stringify(element) + "]]")
+                .actual((s, passed) -> Elements.describe("elements", s))
+        );
+    }
+
+    /**
+     * Adds a predicate to the expression that checks if the subject contains all of the supplied elements.
+     * <p>
+     * The supplied elements are copied when this method is called. If the subject is not a {@link Set}, its elements
+     * are copied into a hash set when the predicate is tested, so that each supplied element is found using a hash
+     * lookup rather than a scan of the subject.
+     *
+     * @param elements
+     *     The elements that the subject should contain.
+     *
+     * @return This expression (fluent interface).
+     *
+     * @throws NullPointerException
+     *     The supplied elements are {@code null}.
+     */
+    public B containsAll(final Collection<?> elements) {
+
+        final Set<Object> required = new LinkedHashSet<>(requireNonNull(elements));
+
+        return append(
+            expression(s -> Elements.containsAll(s, required))
+                .name("containsAll[" + required.size() + " elements]")
+                .expected(Elements.describe("containsAll", required))
+                .actual((s, passed) -> passed ? "contains all" : describeMissing(s, required))
+        );
+    }
+
+    private static String describeMissing(final Collection<?> subject, final Set<?> required) {
+        return Elements.describe("missing", Elements.missing(subject, required));
+    }
+
+    /**
+     * Adds a predicate to the expression that checks if every element of the subject satisfies the supplied predicate.
+     * The elements of the subject are only tested until an element does not satisfy the supplied predicate.
+     *
+     * @param predicate
+     *     The predicate to test each element against.
+     *
+     * @return This expression (fluent interface).
+     *
+     * @throws NullPointerException
+     *     The supplied predicate is {@code null}.
+     */
+    public B allMatch(final Predicate<? super T> predicate) {
+
+        requireNonNull(predicate);
+
+        final Predicate<T> mismatch = e -> !predicate.test(e);
+
+        return append(
+            expression(s -> Elements.indexOfFirst(s, mismatch) == Elements.NOT_FOUND)
+                .name("allMatch")
+                .rationale((s, passed) -> passed ?
+                    new SimpleRationale(ALL_MATCH, ALL_MATCH) :
+                    describeSelected(ALL_MATCH, "mismatches", "First mismatch at index ", s, mismatch))
+        );
+    }
+
+    /**
+     * Adds a predicate to the expression that checks if at least one element of the subject satisfies the supplied
+     * predicate. The elements of the subject are only tested until an element satisfies the supplied predicate.
+     *
+     * @param predicate
+     *     The predicate to test each element against.
+     *
+     * @return This expression (fluent interface).
+     *
+     * @throws NullPointerException
+     *     The supplied predicate is {@code null}.
+     */
+    public B anyMatch(final Predicate<? super T> predicate) {
+
+        requireNonNull(predicate);
+
+        return append(
+            expression(s -> Elements.indexOfFirst(s, predicate) != Elements.NOT_FOUND)
+                .name("anyMatch")
+                .expected(ANY_MATCH)
+                .actual((s, passed) -> passed ? ANY_MATCH : NONE_MATCH + " (" + s.size() + " elements)")
+        );
+    }
+
+    /**
+     * Adds a predicate to the expression that checks if no element of the subject satisfies the supplied predicate.
+     * The elements of the subject are only tested until an element satisfies the supplied predicate.
+     *
+     * @param predicate
+     *     The predicate to test each element against.
+     *
+     * @return This expression (fluent interface).
+     *
+     * @throws NullPointerException
+     *     The supplied predicate is {@code null}.
+     */
+    public B noneMatch(final Predicate<? super T> predicate) {
+
+        requireNonNull(predicate);
+
+        return append(
+            expression(s -> Elements.indexOfFirst(s, predicate) == Elements.NOT_FOUND)
+                .name("noneMatch")
+                .rationale((s, passed) -> passed ?
+                    new SimpleRationale(NONE_MATCH, NONE_MATCH) :
+                    describeSelected(NONE_MATCH, "matches", "First match at index ", s, predicate))
+        );
+    }
+
+    private static <T> Rationale describeSelected(final String expected, final String prefix, final String hint,
+                                                  final Collection<T> subject, final Predicate<? super T> predicate) {
+
+        final Elements.Selection selection = Elements.select(prefix, subject, predicate);
+
+        return new SimpleRationale(expected, selection.description(), hint + selection.first());
+    }
+}
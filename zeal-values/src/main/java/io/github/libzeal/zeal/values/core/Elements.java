@@ -0,0 +1,226 @@
+package io.github.libzeal.zeal.values.core;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.Set;
+import java.util.StringJoiner;
+import java.util.function.Predicate;
+
+import static io.github.libzeal.zeal.logic.util.Formatter.stringify;
+
+/**
+ * Utility methods shared by the expressions whose subjects contain elements, such as collections and maps.
+ * <p>
+ * The rationales of these expressions list at most {@link #DESCRIBED_ELEMENT_LIMIT} elements, so that the rationale of
+ * an expression whose subject contains many elements remains readable and inexpensive to compute.
+ *
+ * @author Justin Albano
+ * @since 0.5.0
+ */
+final class Elements {
+
+    static final int DESCRIBED_ELEMENT_LIMIT = 5;
+    static final int NOT_FOUND = -1;
+
+    private Elements() {
+    }
+
+    /**
+     * Describes the supplied elements, listing at most {@link #DESCRIBED_ELEMENT_LIMIT} elements.
+     *
+     * @param prefix
+     *     The prefix of the description.
+     * @param elements
+     *     The elements to describe.
+     *
+     * @return A description of the supplied elements, such as {@code prefix[a, b, ... (3 more)]}.
+     */
+    static String describe(final String prefix, final Collection<?> elements) {
+
+        final StringJoiner joiner = new StringJoiner(", ", prefix + "[", "]");
+        int described = 0;
+
+        for (final Object element : elements) {
+
+            if (described == DESCRIBED_ELEMENT_LIMIT) {
+                joiner.add("... (" + (elements.size() - described) + " more)");
+                break;
+            }
+
+            joiner.add(stringify(element));
+            described++;
+        }
+
+        return joiner.toString();
+    }
+
+    /**
+     * Finds the elements that satisfy the supplied predicate in a single pass, recording the index of the first
+     * satisfying element and describing the satisfying elements, along with their indices, listing at most
+     * {@link #DESCRIBED_ELEMENT_LIMIT} elements. The supplied elements are only iterated until the limit is exceeded.
+     *
+     * @param prefix
+     *     The prefix of the description.
+     * @param elements
+     *     The elements to search.
+     * @param predicate
+     *     The predicate that selects the elements to describe.
+     * @param <T>
+     *     The type of the elements.
+     *
+     * @return The selected elements, described such as {@code prefix[1: a, 4: b, ...]}.
+     */
+    static <T> Selection select(final String prefix, final Iterable<T> elements, final Predicate<? super T> predicate) {
+
+        final StringJoiner joiner = new StringJoiner(", ", prefix + "[", "]");
+        int first = NOT_FOUND;
+        int described = 0;
+        int index = 0;
+
+        for (final T element : elements) {
+
+            if (predicate.test(element)) {
+
+                if (described == DESCRIBED_ELEMENT_LIMIT) {
+                    joiner.add("...");
+                    break;
+                }
+
+                if (first == NOT_FOUND) {
+                    first = index;
+                }
+
+                joiner.add(index + ": " + stringify(element));
+                described++;
+            }
+
+            index++;
+        }
+
+        return new Selection(first, joiner.toString());
+    }
+
+    /**
+     * Finds the index of the first element that satisfies the supplied predicate. The supplied elements are only
+     * iterated until a satisfying element is found.
+     *
+     * @param elements
+     *     The elements to search.
+     * @param predicate
+     *     The predicate to test each element against.
+     * @param <T>
+     *     The type of the elements.
+     *
+     * @return The index of the first satisfying element, or {@link #NOT_FOUND} if no element satisfies the supplied
+     *     predicate.
+     */
+    static <T> int indexOfFirst(final Iterable<T> elements, final Predicate<? super T> predicate) {
+
+        int index = 0;
+
+        for (final T element : elements) {
+
+            if (predicate.test(element)) {
+                return index;
+            }
+
+            index++;
+        }
+
+        return NOT_FOUND;
+    }
+
+    /**
+     * Obtains the elements of the supplied set of required elements that are not contained in the supplied subject.
+     * If the subject is not a {@link Set}, its elements are copied into a hash set, so that checking each required
+     * element is a hash lookup rather than a scan of the subject.
+     *
+     * @param subject
+     *     The collection to search.
+     * @param required
+     *     The required elements.
+     *
+     * @return The required elements that are missing from the subject, in the iteration order of the required
+     *     elements.
+     */
+    static Collection<Object> missing(final Collection<?> subject, final Set<?> required) {
+
+        final Collection<?> lookup = lookup(subject, required.size());
+        final Collection<Object> missing = new ArrayList<>();
+
+        for (final Object element : required) {
+            if (!lookup.contains(element)) {
+                missing.add(element);
+            }
+        }
+
+        return missing;
+    }
+
+    /**
+     * Checks whether the supplied subject contains all of the supplied required elements, stopping at the first
+     * missing element. If the subject is not a {@link Set}, its elements are copied into a hash set, so that checking
+     * each required element is a hash lookup rather than a scan of the subject.
+     *
+     * @param subject
+     *     The collection to search.
+     * @param required
+     *     The required elements.
+     *
+     * @return True if the subject contains every required element; false otherwise.
+     */
+    static boolean containsAll(final Collection<?> subject, final Set<?> required) {
+
+        final Collection<?> lookup = lookup(subject, required.size());
+
+        for (final Object element : required) {
+            if (!lookup.contains(element)) {
+                return false;
+            }
+        }
+
+        return true;
+    }
+
+    private static Collection<?> lookup(final Collection<?> subject, final int lookups) {
+
+        if (subject instanceof Set || lookups <= 1) {
+            return subject;
+        }
+
+        return new HashSet<>(subject);
+    }
+
+    /**
+     * The elements of a subject selected by a predicate, as found by {@link #select(String, Iterable, Predicate)}.
+     */
+    static final class Selection {
+
+        private final int first;
+        private final String description;
+
+        private Selection(final int first, final String description) {
+            this.first = first;
+            this.description = description;
+        }
+
+        /**
+         * Obtains the index of the first selected element.
+         *
+         * @return The index of the first selected element, or {@link #NOT_FOUND} if no element was selected.
+         */
+        int first() {
+            return first;
+        }
+
+        /**
+         * Obtains the description of the selected elements.
+         *
+         * @return The description of the selected elements.
+         */
+        String description() {
+            return description;
+        }
+    }
+}
@@ -0,0 +1,25 @@
+package io.github.libzeal.zeal.values.core;
+
+import java.util.Collection;
+
+/**
+ * An expression used to evaluate {@link Collection} instances.
+ *
+ * @param <T>
+ *     The type of the elements of the collection.
+ *
+ * @author Justin Albano
+ * @since 0.5.0
+ */
+public final class GeneralCollectionValue<T> extends CollectionValue<T, Collection<T>, GeneralCollectionValue<T>> {
+
+    /**
+     * Creates a new expression for the supplied subject.
+     *
+     * @param subject
+     *     The subject of the expression.
+     */
+    public GeneralCollectionValue(final Collection<T> subject) {
+        super(subject, "Collection value");
+    }
+}
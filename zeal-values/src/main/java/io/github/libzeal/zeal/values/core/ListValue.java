@@ -0,0 +1,57 @@
+package io.github.libzeal.zeal.values.core;
+
+import java.util.List;
+import java.util.Objects;
+
+import static io.github.libzeal.zeal.logic.util.Formatter.stringify;
+
+/**
+ * An expression used to evaluate {@link List} instances. The indices reported by the rationales of the element
+ * predicates of this expression are the indices of the offending elements in the subject.
+ *
+ * @param <T>
+ *     The type of the elements of the list.
+ *
+ * @author Justin Albano
+ * @since 0.5.0
+ */
+public final class ListValue<T> extends CollectionValue<T, List<T>, ListValue<T>> {
+
+    /**
+     * Creates a new expression for the supplied subject.
+     *
+     * @param subject
+     *     The subject of the expression.
+     */
+    public ListValue(final List<T> subject) {
+        super(subject, "List value");
+    }
+
+    /**
+     * Adds a predicate to the expression that checks if the subject has the supplied element at the supplied index.
+     *
+     * @param element
+     *     The element expected at the supplied index.
+     * @param index
+     *     The index of the element.
+     *
+     * @return This expression (fluent interface).
+     */
+    public ListValue<T> hasAtIndex(final Object element, final int index) {
+        return append(
+            expression(s -> index >= 0 && index < s.size() && Objects.equals(s.get(index), element))
+                .name("hasAtIndex[" + stringify(element) + ", " + index + "]")
+                .expected("[" + index + "] := " + stringify(element))
+                .actual((s, passed) -> describeAtIndex(s, index))
+        );
+    }
+
+    private static String describeAtIndex(final List<?> subject, final int index) {
+
+        if (index < 0 || index >= subject.size()) {
+            return "index " + index + " out of bounds (size := " + subject.size() + ")";
+        }
+
+        return "[" + index + "] := " + stringify(subject.get(index));
+    }
+}
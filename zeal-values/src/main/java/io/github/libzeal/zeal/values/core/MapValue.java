@@ -0,0 +1,208 @@
+package io.github.libzeal.zeal.values.core;
+
+import io.github.libzeal.zeal.values.api.ObjectValue;
+
+import java.util.Collection;
+import java.util.LinkedHashSet;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+
+import static io.github.libzeal.zeal.logic.util.Formatter.stringify;
+import static java.util.Objects.requireNonNull;
+
+/**
+ * An expression used to evaluate {@link Map} instances.
+ * <p>
+ * The size predicates of this class use {@link Map#size()} and {@link Map#isEmpty()}, and the key predicates use
+ * {@link Map#containsKey(Object)}, so none of these predicates iterate the subject for common maps. At most 5 keys are
+ * listed in a rationale.
+ *
+ * @param <K>
+ *     The type of the keys of the map.
+ * @param <V>
+ *     The type of the values of the map.
+ *
+ * @author Justin Albano
+ * @see ObjectValue
+ * @see Map
+ * @since 0.5.0
+ */
+public final class MapValue<K, V> extends ObjectValue<Map<K, V>, MapValue<K, V>> {
+
+    private static final String SIZE_EQUAL_PREFIX = "size := ";
+    private static final String KEYS = "keys";
+
+    /**
+     * Creates a new expression for the supplied subject.
+     *
+     * @param subject
+     *     The subject of the expression.
+     */
+    public MapValue(final Map<K, V> subject) {
+        super(subject, "Map value");
+    }
+
+    /**
+     * Adds a predicate to the expression that checks if the subject is empty.
+     *
+     * @return This expression (fluent interface).
+     *
+     * @see Map#isEmpty()
+     */
+    public MapValue<K, V> isEmpty() {
+        return append(
+            expression(Map::isEmpty)
+                .name("isEmpty")
+                .expected(SIZE_EQUAL_PREFIX + 0)
+                .actual((s, passed) -> SIZE_EQUAL_PREFIX + s.size())
+        );
+    }
+
+    /**
+     * Adds a predicate to the expression that checks if the subject is not empty.
+     *
+     * @return This expression (fluent interface).
+     *
+     * @see Map#isEmpty()
+     */
+    public MapValue<K, V> isNotEmpty() {
+        return append(
+            expression(s -> !s.isEmpty())
+                .name("isNotEmpty")
+                .expected("size > 0")
+                .actual((s, passed) -> SIZE_EQUAL_PREFIX + s.size())
+        );
+    }
+
+    /**
+     * Adds a predicate to the expression that checks if the size of the subject matches the supplied size.
+     *
+     * @param size
+     *     The desired size of the subject.
+     *
+     * @return This expression (fluent interface).
+     */
+    public MapValue<K, V> hasSizeOf(final int size) {
+        return append(
+            expression(s -> s.size() == size)
+                .name("hasSizeOf[" + size + "]")
+                .expected(SIZE_EQUAL_PREFIX + size)
+                .actual((s, passed) -> SIZE_EQUAL_PREFIX + s.size())
+        );
+    }
+
+    /**
+     * Adds a predicate to the expression that checks if the size of the subject is between the supplied bounds
+     * (inclusive).
+     *
+     * @param min
+     *     The lower bound (inclusive).
+     * @param max
+     *     The upper bound (inclusive).
+     *
+     * @return This expression (fluent interface).
+     */
+    public MapValue<K, V> hasSizeBetween(final int min, final int max) {
+        return append(
+            expression(s -> s.size() >= min && s.size() <= max)
+                .name("hasSizeBetween[" + min + ", " + max + "]")
+                .expected("size in [" + min + ", " + max + "]")
+                .actual((s, passed) -> SIZE_EQUAL_PREFIX + s.size())
+        );
+    }
+
+    /**
+     * Adds a predicate to the expression that checks if the subject contains the supplied key.
+     *
+     * @param key
+     *     The key that the subject should contain.
+     *
+     * @return This expression (fluent interface).
+     *
+     * @see Map#containsKey(Object)
+     */
+    public MapValue<K, V> containsKey(final Object key) {
+        return append(
+            expression(s -> s.containsKey(key))
+                .name("containsKey[" + stringify(key) + "]")
+                .expected("containsKey[" + stringify(key) + "]")
+                .actual((s, passed) -> Elements.describe(KEYS, s.keySet()))
+        );
+    }
+
+    /**
+     * Adds a predicate to the expression that checks if the subject does not contain the supplied key.
+     *
+     * @param key
+     *     The key that the subject should not contain.
+     *
+     * @return This expression (fluent interface).
+     *
+     * @see Map#containsKey(Object)
+     */
+    public MapValue<K, V> doesNotContainKey(final Object key) {
+        return append(
+            expression(s -> !s.containsKey(key))
+                .name("not[containsKey[" + stringify(key) + "]]")
+                .expected("not[containsKey[" + stringify(key) + "]]")
+                .actual((s, passed) -> Elements.describe(KEYS, s.keySet()))
+        );
+    }
+
+    /**
+     * Adds a predicate to the expression that checks if the subject contains all of the supplied keys. The supplied
+     * keys are copied when this method is called.
+     *
+     * @param keys
+     *     The keys that the subject should contain.
+     *
+     * @return This expression (fluent interface).
+     *
+     * @throws NullPointerException
+     *     The supplied keys are {@code null}.
+     */
+    public MapValue<K, V> containsAllKeys(final Collection<?> keys) {
+
+        final Set<Object> required = new LinkedHashSet<>(requireNonNull(keys));
+
+        return append(
+            expression(s -> Elements.containsAll(s.keySet(), required))
+                .name("containsAllKeys[" + required.size() + " keys]")
+                .expected(Elements.describe("containsAllKeys", required))
+                .actual((s, passed) -> passed ? "contains all" : describeMissing(s, required))
+        );
+    }
+
+    private static String describeMissing(final Map<?, ?> subject, final Set<?> required) {
+        return Elements.describe("missing", Elements.missing(subject.keySet(), required));
+    }
+
+    /**
+     * Adds a predicate to the expression that checks if the subject maps the supplied key to the supplied value.
+     *
+     * @param key
+     *     The key of the entry.
+     * @param value
+     *     The value that the supplied key should be mapped to.
+     *
+     * @return This expression (fluent interface).
+     */
+    public MapValue<K, V> containsEntry(final Object key, final Object value) {
+        return append(
+            expression(s -> s.containsKey(key) && Objects.equals(s.get(key), value))
+                .name("containsEntry[" + stringify(key) + ", " + stringify(value) + "]")
+                .expected(stringify(key) + " -> " + stringify(value))
+                .actual((s, passed) -> describeEntry(s, key))
+        );
+    }
+
+    private static String describeEntry(final Map<?, ?> subject, final Object key) {
+
+        if (!subject.containsKey(key)) {
+            return "missing[" + stringify(key) + "]";
+        }
+
+        return stringify(key) + " -> " + stringify(subject.get(key));
+    }
+}
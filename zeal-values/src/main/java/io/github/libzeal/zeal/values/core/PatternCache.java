@@ -0,0 +1,157 @@
+package io.github.libzeal.zeal.values.core;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.regex.Pattern;
+
+import static java.util.Objects.requireNonNull;
+
+/**
+ * A bounded, thread-safe cache of compiled regular expressions, keyed by the regular expression string.
+ * <p>
+ * Obtaining a pattern never locks: the patterns are stored in a {@link ConcurrentHashMap}, and a cache hit only marks
+ * the pattern as referenced. When the cache is full, the patterns are evicted using the clock (second-chance)
+ * algorithm, which approximates least-recently-used eviction: a pattern that has been referenced since it was last
+ * scanned is spared once, and the first pattern that has not been referenced is evicted. If every pattern is
+ * referenced again before it is scanned a second time, the scanned patterns are evicted regardless. Since the patterns
+ * are scanned in the iteration order of the map, and concurrent insertions may evict concurrently, eviction is
+ * approximate.
+ *
+ * @author Justin Albano
+ * @since 0.5.0
+ */
+final class PatternCache {
+
+    static final int DEFAULT_CAPACITY = 256;
+    private static final PatternCache SHARED = new PatternCache(DEFAULT_CAPACITY);
+    private static final int EVICTION_PASSES = 2;
+
+    private final int capacity;
+    private final ConcurrentMap<String, Entry> entries;
+
+    /**
+     * Creates a new cache.
+     *
+     * @param capacity
+     *     The maximum number of patterns retained by the cache.
+     *
+     * @throws IllegalArgumentException
+     *     The supplied capacity is less than {@code 1}.
+     */
+    PatternCache(final int capacity) {
+
+        if (capacity < 1) {
+            throw new IllegalArgumentException("Capacity must be greater than 0");
+        }
+
+        this.capacity = capacity;
+        this.entries = new ConcurrentHashMap<>();
+    }
+
+    /**
+     * Obtains the cache shared by all values.
+     *
+     * @return The shared cache.
+     */
+    static PatternCache shared() {
+        return SHARED;
+    }
+
+    /**
+     * Obtains the compiled pattern for the supplied regular expression, compiling and caching it if it has not already
+     * been cached.
+     *
+     * @param regex
+     *     The regular expression.
+     *
+     * @return The compiled pattern.
+     *
+     * @throws NullPointerException
+     *     The supplied regular expression is {@code null}.
+     * @throws java.util.regex.PatternSyntaxException
+     *     The supplied regular expression is not valid.
+     */
+    Pattern get(final String regex) {
+
+        requireNonNull(regex);
+
+        final Entry cached = entries.get(regex);
+
+        if (cached != null) {
+            return cached.reference();
+        }
+
+        final Entry compiled = new Entry(Pattern.compile(regex));
+        final Entry existing = entries.putIfAbsent(regex, compiled);
+
+        if (existing != null) {
+            return existing.reference();
+        }
+
+        evictExcept(regex);
+
+        return compiled.pattern;
+    }
+
+    private void evictExcept(final String retained) {
+
+        for (int pass = 0; pass < EVICTION_PASSES && entries.size() > capacity; pass++) {
+
+            final boolean lastPass = pass == EVICTION_PASSES - 1;
+
+            for (final Map.Entry<String, Entry> candidate : entries.entrySet()) {
+
+                if (entries.size() <= capacity) {
+                    return;
+                }
+
+                if (candidate.getKey().equals(retained)) {
+                    continue;
+                }
+
+                if (!candidate.getValue().clearReferenced() || lastPass) {
+                    entries.remove(candidate.getKey(), candidate.getValue());
+                }
+            }
+        }
+    }
+
+    /**
+     * Obtains the number of patterns currently cached.
+     *
+     * @return The number of patterns currently cached.
+     */
+    int size() {
+        return entries.size();
+    }
+
+    private static final class Entry {
+
+        private final Pattern pattern;
+        private volatile boolean referenced;
+
+        Entry(final Pattern pattern) {
+            this.pattern = pattern;
+        }
+
+        Pattern reference() {
+
+            if (!referenced) {
+                referenced = true;
+            }
+
+            return pattern;
+        }
+
+        boolean clearReferenced() {
+
+            if (referenced) {
+                referenced = false;
+                return true;
+            }
+
+            return false;
+        }
+    }
+}
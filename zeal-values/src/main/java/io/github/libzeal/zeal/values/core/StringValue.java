@@ -1,8 +1,12 @@
 package io.github.libzeal.zeal.values.core;
 
 import io.github.libzeal.zeal.logic.unary.future.rationale.ComputableField;
+import io.github.libzeal.zeal.logic.util.Lazy;
 import io.github.libzeal.zeal.values.api.ObjectValue;
 
+import java.util.function.Supplier;
+import java.util.regex.Pattern;
+
 /**
  * An expression used to evaluate {@link String} instances.
  *
@@ -468,7 +472,9 @@ public class StringValue extends ObjectValue<String, StringValue> {
     }
 
     /**
-     * Adds a predicate to the expression that checks if the supplied regular expression matches the subject.
+     * Adds a predicate to the expression that checks if the supplied regular expression matches the subject. The
+     * regular expression is compiled once, on first evaluation, and the compiled pattern is shared with other
+     * expressions using the same regular expression.
      *
      * @param regex
      *     The regular expression to match.
@@ -476,8 +482,27 @@ public class StringValue extends ObjectValue<String, StringValue> {
      * @return This expression (fluent interface).
      */
     public StringValue matches(final String regex) {
+        return matches(regex, compiled(regex));
+    }
+
+    /**
+     * Adds a predicate to the expression that checks if the supplied pattern matches the subject.
+     *
+     * @param pattern
+     *     The pattern to match.
+     *
+     * @return This expression (fluent interface).
+     *
+     * @throws NullPointerException
+     *     The supplied pattern is {@code null}.
+     */
+    public StringValue matches(final Pattern pattern) {
+        return matches(pattern.pattern(), () -> pattern);
+    }
+
+    private StringValue matches(final String regex, final Supplier<Pattern> pattern) {
         return append(
-            expression(s -> s.matches(regex))
+            expression(s -> pattern.get().matcher(s).matches())
                 .name("matches[" + regex + "]")
                 .expected("matches[" + regex + "]")
         );
@@ -485,6 +510,8 @@ public class StringValue extends ObjectValue<String, StringValue> {
 
     /**
      * Adds a predicate to the expression that checks if the supplied regular expression does not match the subject.
+     * The regular expression is compiled once, on first evaluation, and the compiled pattern is shared with other
+     * expressions using the same regular expression.
      *
      * @param regex
      *     The regular expression to not match.
@@ -492,13 +519,36 @@ public class StringValue extends ObjectValue<String, StringValue> {
      * @return This expression (fluent interface).
      */
     public StringValue doesNotMatch(final String regex) {
+        return doesNotMatch(regex, compiled(regex));
+    }
+
+    /**
+     * Adds a predicate to the expression that checks if the supplied pattern does not match the subject.
+     *
+     * @param pattern
+     *     The pattern to not match.
+     *
+     * @return This expression (fluent interface).
+     *
+     * @throws NullPointerException
+     *     The supplied pattern is {@code null}.
+     */
+    public StringValue doesNotMatch(final Pattern pattern) {
+        return doesNotMatch(pattern.pattern(), () -> pattern);
+    }
+
+    private StringValue doesNotMatch(final String regex, final Supplier<Pattern> pattern) {
         return append(
-            expression(s -> !s.matches(regex))
+            expression(s -> !pattern.get().matcher(s).matches())
                 .name("doesNotMatch[" + regex + "]")
                 .expected("not[matches[" + regex + "]]")
         );
     }
 
+    private static Supplier<Pattern> compiled(final String regex) {
+        return Lazy.of(() -> PatternCache.shared().get(regex));
+    }
+
     /**
      * Adds a predicate to the expression that checks if the supplied argument equals the subject, ignoring case.
      *
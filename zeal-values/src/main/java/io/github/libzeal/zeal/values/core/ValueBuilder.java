@@ -30,6 +30,7 @@ public class ValueBuilder<T, E extends ObjectValue<T, E>> {
     private ComputableField<T> expected = (s, passed) -> "<not set>";
     private ComputableField<T> actual = (s, passed) -> Formatter.stringify(s);
     private ComputableField<T> hint = null;
+    private ComputableRationale<T> rationale = null;
 
     /**
      * Creates a builder for expressions that can accept a null subject.
@@ -177,9 +178,26 @@ public class ValueBuilder<T, E extends ObjectValue<T, E>> {
         return hint((s, passed) -> hint);
     }
 
+    /**
+     * Sets the generator that computes the expected value, actual value, and hint of the evaluation together, which
+     * allows the values to share a single computation. The supplied generator takes precedence over the expected value,
+     * actual value, and hint set on this builder.
+     *
+     * @param rationale
+     *     The generator for the rationale of the evaluation.
+     *
+     * @return This builder (fluent interface).
+     */
+    public ValueBuilder<T, E> rationale(final ComputableRationale<T> rationale) {
+        this.rationale = rationale;
+        return this;
+    }
+
     public ComputableExpression<T> build() {
 
-        final ComputableRationale<T> computableRationale = new SimpleComputableRationale<>(expected, actual, hint);
+        final ComputableRationale<T> computableRationale = rationale != null ?
+            rationale :
+            new SimpleComputableRationale<>(expected, actual, hint);
         final Predicate<T> predicate = predicate();
 
         return new SimpleComputableExpression<>(name, predicate, computableRationale);
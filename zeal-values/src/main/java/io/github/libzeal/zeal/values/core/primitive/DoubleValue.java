@@ -0,0 +1,355 @@
+package io.github.libzeal.zeal.values.core.primitive;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.DoublePredicate;
+
+/**
+ * An expression used to evaluate {@code double} values.
+ * <p>
+ * Unlike {@link io.github.libzeal.zeal.values.core.boxed.BoxedDoubleValue}, the predicates of this expression operate
+ * directly on the primitive subject, so testing a passing expression does not box the subject. Equality predicates
+ * compare values in the same way as {@link Double#equals(Object)}: {@link Double#NaN} is equal to itself, and
+ * {@code 0.0} is not equal to {@code -0.0}.
+ *
+ * @author Justin Albano
+ * @since 0.5.0
+ */
+public class DoubleValue extends PrimitiveValue<Double, DoubleValue> {
+
+    private final double subject;
+    private final List<DoublePredicate> predicates;
+
+    /**
+     * Creates a new expression.
+     *
+     * @param subject
+     *     The subject of the expression.
+     */
+    public DoubleValue(final double subject) {
+        super("double value");
+        this.subject = subject;
+        this.predicates = new ArrayList<>();
+    }
+
+    private DoubleValue check(final String name, final String expected, final DoublePredicate predicate) {
+
+        predicates.add(predicate);
+
+        return append(name, expected, d -> predicate.test(d));
+    }
+
+    private static boolean same(final double a, final double b) {
+        return Double.compare(a, b) == 0;
+    }
+
+    @Override
+    public Double subject() {
+        return subject;
+    }
+
+    @Override
+    public boolean test() {
+
+        for (int i = 0; i < predicates.size(); i++) {
+
+            if (!predicates.get(i).test(subject)) {
+                return false;
+            }
+        }
+
+        return true;
+    }
+
+    /**
+     * Adds a predicate to the expression that checks if the subject is equal to the supplied value.
+     *
+     * @param value
+     *     The value to compare.
+     *
+     * @return This expression (fluent interface).
+     */
+    public DoubleValue isEqualTo(final double value) {
+        return check("isEqualTo[" + value + "]", String.valueOf(value), d -> same(d, value));
+    }
+
+    /**
+     * Adds a predicate to the expression that checks if the subject is not equal to the supplied value.
+     *
+     * @param value
+     *     The value to compare.
+     *
+     * @return This expression (fluent interface).
+     */
+    public DoubleValue isNotEqualTo(final double value) {
+        return check("isNotEqualTo[" + value + "]", "not[" + value + "]", d -> !same(d, value));
+    }
+
+    /**
+     * Adds a predicate to the expression that checks if the subject is less than the supplied value.
+     *
+     * @param value
+     *     The value to compare.
+     *
+     * @return This expression (fluent interface).
+     */
+    public DoubleValue isLessThan(final double value) {
+        return check("isLessThan[" + value + "]", "< " + value, d -> d < value);
+    }
+
+    /**
+     * Alias for {@link #isLessThan}
+     *
+     * @param value
+     *     The value to compare.
+     *
+     * @return This expression (fluent interface).
+     *
+     * @see #isLessThan
+     */
+    public DoubleValue lt(final double value) {
+        return isLessThan(value);
+    }
+
+    /**
+     * Adds a predicate to the expression that checks if the subject is greater than the supplied value.
+     *
+     * @param value
+     *     The value to compare.
+     *
+     * @return This expression (fluent interface).
+     */
+    public DoubleValue isGreaterThan(final double value) {
+        return check("isGreaterThan[" + value + "]", "> " + value, d -> d > value);
+    }
+
+    /**
+     * Alias for {@link #isGreaterThan}
+     *
+     * @param value
+     *     The value to compare.
+     *
+     * @return This expression (fluent interface).
+     *
+     * @see #isGreaterThan
+     */
+    public DoubleValue gt(final double value) {
+        return isGreaterThan(value);
+    }
+
+    /**
+     * Adds a predicate to the expression that checks if the subject is less than or equal to the supplied value.
+     *
+     * @param value
+     *     The value to compare.
+     *
+     * @return This expression (fluent interface).
+     */
+    public DoubleValue isLessThanOrEqualTo(final double value) {
+        return check("isLessThanOrEqualTo[" + value + "]", "<= " + value, d -> d <= value);
+    }
+
+    /**
+     * Alias for {@link #isLessThanOrEqualTo}
+     *
+     * @param value
+     *     The value to compare.
+     *
+     * @return This expression (fluent interface).
+     *
+     * @see #isLessThanOrEqualTo
+     */
+    public DoubleValue lte(final double value) {
+        return isLessThanOrEqualTo(value);
+    }
+
+    /**
+     * Adds a predicate to the expression that checks if the subject is greater than or equal to the supplied value.
+     *
+     * @param value
+     *     The value to compare.
+     *
+     * @return This expression (fluent interface).
+     */
+    public DoubleValue isGreaterThanOrEqualTo(final double value) {
+        return check("isGreaterThanOrEqualTo[" + value + "]", ">= " + value, d -> d >= value);
+    }
+
+    /**
+     * Alias for {@link #isGreaterThanOrEqualTo}
+     *
+     * @param value
+     *     The value to compare.
+     *
+     * @return This expression (fluent interface).
+     *
+     * @see #isGreaterThanOrEqualTo
+     */
+    public DoubleValue gte(final double value) {
+        return isGreaterThanOrEqualTo(value);
+    }
+
+    /**
+     * Adds a predicate to the expression that checks if the subject is between the supplied bounds (inclusive).
+     *
+     * @param min
+     *     The lower bound (inclusive).
+     * @param max
+     *     The upper bound (inclusive).
+     *
+     * @return This expression (fluent interface).
+     */
+    public DoubleValue isBetween(final double min, final double max) {
+        return check(
+            "isBetween[" + min + ", " + max + "]",
+            "[" + min + ", " + max + "]",
+            d -> d >= min && d <= max
+        );
+    }
+
+    /**
+     * Adds a predicate to the expression that checks if the subject is equal to {@link Double#MAX_VALUE}.
+     *
+     * @return This expression (fluent interface).
+     */
+    public DoubleValue isMaxValue() {
+        return check("isMax", String.valueOf(Double.MAX_VALUE), d -> same(d, Double.MAX_VALUE));
+    }
+
+    /**
+     * Adds a predicate to the expression that checks if the subject is equal to {@link Double#MIN_VALUE} (the smallest
+     * positive {@code double} value), which is consistent with
+     * {@link io.github.libzeal.zeal.values.core.boxed.BoxedDoubleValue#isMinValue()}.
+     *
+     * @return This expression (fluent interface).
+     */
+    public DoubleValue isMinValue() {
+        return check("isMin", String.valueOf(Double.MIN_VALUE), d -> same(d, Double.MIN_VALUE));
+    }
+
+    /**
+     * Adds a predicate to the expression that checks if the subject is equal to 0.
+     *
+     * @return This expression (fluent interface).
+     */
+    public DoubleValue isZero() {
+        return check("isZero", "0.0", d -> same(d, 0.0));
+    }
+
+    /**
+     * Adds a predicate to the expression that checks if the subject is not equal to 0.
+     *
+     * @return This expression (fluent interface).
+     */
+    public DoubleValue isNotZero() {
+        return check("isNotZero", "not[0.0]", d -> !same(d, 0.0));
+    }
+
+    /**
+     * Adds a predicate to the expression that checks if the subject is positive (greater than 0).
+     *
+     * @return This expression (fluent interface).
+     */
+    public DoubleValue isPositive() {
+        return check("isPositive", "> 0.0", d -> d > 0.0);
+    }
+
+    /**
+     * Adds a predicate to the expression that checks if the subject is not positive (less than or equal to 0).
+     *
+     * @return This expression (fluent interface).
+     */
+    public DoubleValue isNotPositive() {
+        return check("isNotPositive", "<= 0.0", d -> d <= 0.0);
+    }
+
+    /**
+     * Adds a predicate to the expression that checks if the subject is negative (less than 0).
+     *
+     * @return This expression (fluent interface).
+     */
+    public DoubleValue isNegative() {
+        return check("isNegative", "< 0.0", d -> d < 0.0);
+    }
+
+    /**
+     * Adds a predicate to the expression that checks if the subject is not negative (greater than or equal to 0).
+     *
+     * @return This expression (fluent interface).
+     */
+    public DoubleValue isNotNegative() {
+        return check("isNotNegative", ">= 0.0", d -> d >= 0.0);
+    }
+
+    /**
+     * Adds a predicate to the expression that checks if the subject is equal within the supplied delta.
+     * <p>
+     * Note: The formula used to evaluate the predicate is:
+     * <pre><code>abs(subject - value) &lt;= delta</code></pre>
+     *
+     * @param value
+     *     The value to compare to the subject.
+     * @param delta
+     *     The delta used to compare the expected value to the subject.
+     *
+     * @return This expression (fluent interface).
+     */
+    public DoubleValue isEqualTo(final double value, final double delta) {
+        return check(
+            "isEqualTo[" + value + " +/- " + delta + "]",
+            value + " +/- " + delta,
+            d -> Math.abs(d - value) <= delta
+        );
+    }
+
+    /**
+     * Adds a predicate to the expression that checks if the subject is finite.
+     *
+     * @return This expression (fluent interface).
+     */
+    public DoubleValue isFinite() {
+        return check("isFinite", "finite", Double::isFinite);
+    }
+
+    /**
+     * Adds a predicate to the expression that checks if the subject is infinite.
+     *
+     * @return This expression (fluent interface).
+     */
+    public DoubleValue isInfinite() {
+        return check("isInfinite", "infinite", Double::isInfinite);
+    }
+
+    /**
+     * Adds a predicate to the expression that checks if the subject is not a number (NaN).
+     *
+     * @return This expression (fluent interface).
+     */
+    public DoubleValue isNaN() {
+        return check("isNaN", "NaN", Double::isNaN);
+    }
+
+    /**
+     * Adds a predicate to the expression that checks if the supplied predicate is true.
+     *
+     * @param predicate
+     *     The predicate to test.
+     *
+     * @return This expression (fluent interface).
+     */
+    public DoubleValue satisfies(final DoublePredicate predicate) {
+        return check("predicate", "Predicate satisfied", predicate);
+    }
+
+    /**
+     * Adds a predicate to the expression that checks if the supplied predicate is false.
+     *
+     * @param predicate
+     *     The predicate to test.
+     *
+     * @return This expression (fluent interface).
+     */
+    public DoubleValue doesNotSatisfy(final DoublePredicate predicate) {
+        return check("not[predicate]", "Predicate unsatisfied", predicate.negate());
+    }
+}
@@ -0,0 +1,101 @@
+package io.github.libzeal.zeal.values.core.primitive;
+
+/**
+ * An immutable, open-addressing hash set of {@code int} values, which checks membership without boxing.
+ *
+ * @author Justin Albano
+ * @since 0.5.0
+ */
+final class IntHashSet {
+
+    private static final int EMPTY = 0;
+
+    private final int[] slots;
+    private final int mask;
+    private final boolean containsEmpty;
+
+    /**
+     * Creates a set containing the supplied values.
+     *
+     * @param values
+     *     The values of the set.
+     *
+     * @throws NullPointerException
+     *     The supplied values are {@code null}.
+     */
+    IntHashSet(final int... values) {
+
+        final int capacity = capacityFor(values.length);
+        boolean empty = false;
+
+        this.slots = new int[capacity];
+        this.mask = capacity - 1;
+
+        for (final int value : values) {
+
+            if (value == EMPTY) {
+                empty = true;
+            }
+            else {
+                insert(value);
+            }
+        }
+
+        this.containsEmpty = empty;
+    }
+
+    static int capacityFor(final int size) {
+        return Integer.highestOneBit(Math.max(size, 1) * 2 - 1) << 1;
+    }
+
+    private static int hash(final int value) {
+
+        final int h = value * 0x9E3779B9;
+
+        return h ^ (h >>> 16);
+    }
+
+    private void insert(final int value) {
+
+        int index = hash(value) & mask;
+
+        while (slots[index] != EMPTY) {
+
+            if (slots[index] == value) {
+                return;
+            }
+
+            index = (index + 1) & mask;
+        }
+
+        slots[index] = value;
+    }
+
+    /**
+     * Checks if the supplied value is contained in the set.
+     *
+     * @param value
+     *     The value to check.
+     *
+     * @return True if the supplied value is contained in the set; false otherwise.
+     */
+    boolean contains(final int value) {
+
+        if (value == EMPTY) {
+            return containsEmpty;
+        }
+
+        int index = hash(value) & mask;
+
+        while (slots[index] != EMPTY) {
+
+            if (slots[index] == value) {
+                return true;
+            }
+
+            index = (index + 1) & mask;
+        }
+
+        return false;
+    }
+}
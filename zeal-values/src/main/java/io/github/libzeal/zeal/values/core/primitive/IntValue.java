@@ -0,0 +1,378 @@
+package io.github.libzeal.zeal.values.core.primitive;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.StringJoiner;
+import java.util.function.IntPredicate;
+
+/**
+ * An expression used to evaluate {@code int} values.
+ * <p>
+ * Unlike {@link io.github.libzeal.zeal.values.core.boxed.BoxedIntegerValue}, the predicates of this expression operate
+ * directly on the primitive subject, so testing a passing expression does not box the subject.
+ *
+ * @author Justin Albano
+ * @since 0.5.0
+ */
+public class IntValue extends PrimitiveValue<Integer, IntValue> {
+
+    private final int subject;
+    private final List<IntPredicate> predicates;
+
+    /**
+     * Creates a new expression.
+     *
+     * @param subject
+     *     The subject of the expression.
+     */
+    public IntValue(final int subject) {
+        super("int value");
+        this.subject = subject;
+        this.predicates = new ArrayList<>();
+    }
+
+    private IntValue check(final String name, final String expected, final IntPredicate predicate) {
+
+        predicates.add(predicate);
+
+        return append(name, expected, i -> predicate.test(i));
+    }
+
+    @Override
+    public Integer subject() {
+        return subject;
+    }
+
+    @Override
+    public boolean test() {
+
+        for (int i = 0; i < predicates.size(); i++) {
+
+            if (!predicates.get(i).test(subject)) {
+                return false;
+            }
+        }
+
+        return true;
+    }
+
+    /**
+     * Adds a predicate to the expression that checks if the subject is equal to the supplied value.
+     *
+     * @param value
+     *     The value to compare.
+     *
+     * @return This expression (fluent interface).
+     */
+    public IntValue isEqualTo(final int value) {
+        return check("isEqualTo[" + value + "]", String.valueOf(value), i -> i == value);
+    }
+
+    /**
+     * Adds a predicate to the expression that checks if the subject is not equal to the supplied value.
+     *
+     * @param value
+     *     The value to compare.
+     *
+     * @return This expression (fluent interface).
+     */
+    public IntValue isNotEqualTo(final int value) {
+        return check("isNotEqualTo[" + value + "]", "not[" + value + "]", i -> i != value);
+    }
+
+    /**
+     * Adds a predicate to the expression that checks if the subject is less than the supplied value.
+     *
+     * @param value
+     *     The value to compare.
+     *
+     * @return This expression (fluent interface).
+     */
+    public IntValue isLessThan(final int value) {
+        return check("isLessThan[" + value + "]", "< " + value, i -> i < value);
+    }
+
+    /**
+     * Alias for {@link #isLessThan}
+     *
+     * @param value
+     *     The value to compare.
+     *
+     * @return This expression (fluent interface).
+     *
+     * @see #isLessThan
+     */
+    public IntValue lt(final int value) {
+        return isLessThan(value);
+    }
+
+    /**
+     * Adds a predicate to the expression that checks if the subject is greater than the supplied value.
+     *
+     * @param value
+     *     The value to compare.
+     *
+     * @return This expression (fluent interface).
+     */
+    public IntValue isGreaterThan(final int value) {
+        return check("isGreaterThan[" + value + "]", "> " + value, i -> i > value);
+    }
+
+    /**
+     * Alias for {@link #isGreaterThan}
+     *
+     * @param value
+     *     The value to compare.
+     *
+     * @return This expression (fluent interface).
+     *
+     * @see #isGreaterThan
+     */
+    public IntValue gt(final int value) {
+        return isGreaterThan(value);
+    }
+
+    /**
+     * Adds a predicate to the expression that checks if the subject is less than or equal to the supplied value.
+     *
+     * @param value
+     *     The value to compare.
+     *
+     * @return This expression (fluent interface).
+     */
+    public IntValue isLessThanOrEqualTo(final int value) {
+        return check("isLessThanOrEqualTo[" + value + "]", "<= " + value, i -> i <= value);
+    }
+
+    /**
+     * Alias for {@link #isLessThanOrEqualTo}
+     *
+     * @param value
+     *     The value to compare.
+     *
+     * @return This expression (fluent interface).
+     *
+     * @see #isLessThanOrEqualTo
+     */
+    public IntValue lte(final int value) {
+        return isLessThanOrEqualTo(value);
+    }
+
+    /**
+     * Adds a predicate to the expression that checks if the subject is greater than or equal to the supplied value.
+     *
+     * @param value
+     *     The value to compare.
+     *
+     * @return This expression (fluent interface).
+     */
+    public IntValue isGreaterThanOrEqualTo(final int value) {
+        return check("isGreaterThanOrEqualTo[" + value + "]", ">= " + value, i -> i >= value);
+    }
+
+    /**
+     * Alias for {@link #isGreaterThanOrEqualTo}
+     *
+     * @param value
+     *     The value to compare.
+     *
+     * @return This expression (fluent interface).
+     *
+     * @see #isGreaterThanOrEqualTo
+     */
+    public IntValue gte(final int value) {
+        return isGreaterThanOrEqualTo(value);
+    }
+
+    /**
+     * Adds a predicate to the expression that checks if the subject is between the supplied bounds (inclusive).
+     *
+     * @param min
+     *     The lower bound (inclusive).
+     * @param max
+     *     The upper bound (inclusive).
+     *
+     * @return This expression (fluent interface).
+     */
+    public IntValue isBetween(final int min, final int max) {
+        return check(
+            "isBetween[" + min + ", " + max + "]",
+            "[" + min + ", " + max + "]",
+            i -> i >= min && i <= max
+        );
+    }
+
+    /**
+     * Adds a predicate to the expression that checks if the subject is equal to {@link Integer#MAX_VALUE}.
+     *
+     * @return This expression (fluent interface).
+     */
+    public IntValue isMaxValue() {
+        return check("isMax", String.valueOf(Integer.MAX_VALUE), i -> i == Integer.MAX_VALUE);
+    }
+
+    /**
+     * Adds a predicate to the expression that checks if the subject is equal to {@link Integer#MIN_VALUE}.
+     *
+     * @return This expression (fluent interface).
+     */
+    public IntValue isMinValue() {
+        return check("isMin", String.valueOf(Integer.MIN_VALUE), i -> i == Integer.MIN_VALUE);
+    }
+
+    /**
+     * Adds a predicate to the expression that checks if the subject is equal to 0.
+     *
+     * @return This expression (fluent interface).
+     */
+    public IntValue isZero() {
+        return check("isZero", "0", i -> i == 0);
+    }
+
+    /**
+     * Adds a predicate to the expression that checks if the subject is not equal to 0.
+     *
+     * @return This expression (fluent interface).
+     */
+    public IntValue isNotZero() {
+        return check("isNotZero", "not[0]", i -> i != 0);
+    }
+
+    /**
+     * Adds a predicate to the expression that checks if the subject is positive (greater than 0).
+     *
+     * @return This expression (fluent interface).
+     */
+    public IntValue isPositive() {
+        return check("isPositive", "> 0", i -> i > 0);
+    }
+
+    /**
+     * Adds a predicate to the expression that checks if the subject is not positive (less than or equal to 0).
+     *
+     * @return This expression (fluent interface).
+     */
+    public IntValue isNotPositive() {
+        return check("isNotPositive", "<= 0", i -> i <= 0);
+    }
+
+    /**
+     * Adds a predicate to the expression that checks if the subject is negative (less than 0).
+     *
+     * @return This expression (fluent interface).
+     */
+    public IntValue isNegative() {
+        return check("isNegative", "< 0", i -> i < 0);
+    }
+
+    /**
+     * Adds a predicate to the expression that checks if the subject is not negative (greater than or equal to 0).
+     *
+     * @return This expression (fluent interface).
+     */
+    public IntValue isNotNegative() {
+        return check("isNotNegative", ">= 0", i -> i >= 0);
+    }
+
+    /**
+     * Adds a predicate to the expression that checks if the subject is even.
+     *
+     * @return This expression (fluent interface).
+     */
+    public IntValue isEven() {
+        return check("isEven", "% 2 := 0", i -> i % 2 == 0);
+    }
+
+    /**
+     * Adds a predicate to the expression that checks if the subject is odd.
+     *
+     * @return This expression (fluent interface).
+     */
+    public IntValue isOdd() {
+        return check("isOdd", "% 2 != 0", i -> i % 2 != 0);
+    }
+
+    /**
+     * Adds a predicate to the expression that checks if the subject is equal to any of the supplied values. The values
+     * are indexed into a hash set when the predicate is added, so checking the subject neither boxes the subject nor
+     * depends on the number of values.
+     *
+     * @param values
+     *     The values to check.
+     *
+     * @return This expression (fluent interface).
+     *
+     * @throws NullPointerException
+     *     The supplied values are {@code null}.
+     */
+    public IntValue isMemberOf(final int... values) {
+
+        final IntHashSet members = new IntHashSet(values);
+
+        return check("memberOf[" + values.length + " values]", describe(values), members::contains);
+    }
+
+    /**
+     * Adds a predicate to the expression that checks if the subject is not equal to any of the supplied values.
+     *
+     * @param values
+     *     The values to check.
+     *
+     * @return This expression (fluent interface).
+     *
+     * @throws NullPointerException
+     *     The supplied values are {@code null}.
+     *
+     * @see #isMemberOf
+     */
+    public IntValue isNotMemberOf(final int... values) {
+
+        final IntHashSet members = new IntHashSet(values);
+
+        return check(
+            "notMemberOf[" + values.length + " values]",
+            "not[" + describe(values) + "]",
+            i -> !members.contains(i)
+        );
+    }
+
+    private static String describe(final int[] values) {
+
+        final StringJoiner joiner = new StringJoiner(", ", "memberOf[", "]");
+        final int described = Math.min(values.length, DESCRIBED_VALUE_LIMIT);
+
+        for (int i = 0; i < described; i++) {
+            joiner.add(String.valueOf(values[i]));
+        }
+
+        if (values.length > described) {
+            joiner.add("... (" + (values.length - described) + " more)");
+        }
+
+        return joiner.toString();
+    }
+
+    /**
+     * Adds a predicate to the expression that checks if the supplied predicate is true.
+     *
+     * @param predicate
+     *     The predicate to test.
+     *
+     * @return This expression (fluent interface).
+     */
+    public IntValue satisfies(final IntPredicate predicate) {
+        return check("predicate", "Predicate satisfied", predicate);
+    }
+
+    /**
+     * Adds a predicate to the expression that checks if the supplied predicate is false.
+     *
+     * @param predicate
+     *     The predicate to test.
+     *
+     * @return This expression (fluent interface).
+     */
+    public IntValue doesNotSatisfy(final IntPredicate predicate) {
+        return check("not[predicate]", "Predicate unsatisfied", predicate.negate());
+    }
+}
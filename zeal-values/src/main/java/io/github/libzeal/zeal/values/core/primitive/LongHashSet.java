@@ -0,0 +1,97 @@
+package io.github.libzeal.zeal.values.core.primitive;
+
+/**
+ * An immutable, open-addressing hash set of {@code long} values, which checks membership without boxing.
+ *
+ * @author Justin Albano
+ * @since 0.5.0
+ */
+final class LongHashSet {
+
+    private static final long EMPTY = 0L;
+
+    private final long[] slots;
+    private final int mask;
+    private final boolean containsEmpty;
+
+    /**
+     * Creates a set containing the supplied values.
+     *
+     * @param values
+     *     The values of the set.
+     *
+     * @throws NullPointerException
+     *     The supplied values are {@code null}.
+     */
+    LongHashSet(final long... values) {
+
+        final int capacity = IntHashSet.capacityFor(values.length);
+        boolean empty = false;
+
+        this.slots = new long[capacity];
+        this.mask = capacity - 1;
+
+        for (final long value : values) {
+
+            if (value == EMPTY) {
+                empty = true;
+            }
+            else {
+                insert(value);
+            }
+        }
+
+        this.containsEmpty = empty;
+    }
+
+    private static int hash(final long value) {
+
+        final long h = value * 0x9E3779B97F4A7C15L;
+
+        return (int) (h ^ (h >>> 32));
+    }
+
+    private void insert(final long value) {
+
+        int index = hash(value) & mask;
+
+        while (slots[index] != EMPTY) {
+
+            if (slots[index] == value) {
+                return;
+            }
+
+            index = (index + 1) & mask;
+        }
+
+        slots[index] = value;
+    }
+
+    /**
+     * Checks if the supplied value is contained in the set.
+     *
+     * @param value
+     *     The value to check.
+     *
+     * @return True if the supplied value is contained in the set; false otherwise.
+     */
+    boolean contains(final long value) {
+
+        if (value == EMPTY) {
+            return containsEmpty;
+        }
+
+        int index = hash(value) & mask;
+
+        while (slots[index] != EMPTY) {
+
+            if (slots[index] == value) {
+                return true;
+            }
+
+            index = (index + 1) & mask;
+        }
+
+        return false;
+    }
+}
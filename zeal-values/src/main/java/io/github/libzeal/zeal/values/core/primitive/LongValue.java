@@ -0,0 +1,378 @@
+package io.github.libzeal.zeal.values.core.primitive;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.StringJoiner;
+import java.util.function.LongPredicate;
+
+/**
+ * An expression used to evaluate {@code long} values.
+ * <p>
+ * Unlike {@link io.github.libzeal.zeal.values.core.boxed.BoxedLongValue}, the predicates of this expression operate
+ * directly on the primitive subject, so testing a passing expression does not box the subject.
+ *
+ * @author Justin Albano
+ * @since 0.5.0
+ */
+public class LongValue extends PrimitiveValue<Long, LongValue> {
+
+    private final long subject;
+    private final List<LongPredicate> predicates;
+
+    /**
+     * Creates a new expression.
+     *
+     * @param subject
+     *     The subject of the expression.
+     */
+    public LongValue(final long subject) {
+        super("long value");
+        this.subject = subject;
+        this.predicates = new ArrayList<>();
+    }
+
+    private LongValue check(final String name, final String expected, final LongPredicate predicate) {
+
+        predicates.add(predicate);
+
+        return append(name, expected, l -> predicate.test(l));
+    }
+
+    @Override
+    public Long subject() {
+        return subject;
+    }
+
+    @Override
+    public boolean test() {
+
+        for (int i = 0; i < predicates.size(); i++) {
+
+            if (!predicates.get(i).test(subject)) {
+                return false;
+            }
+        }
+
+        return true;
+    }
+
+    /**
+     * Adds a predicate to the expression that checks if the subject is equal to the supplied value.
+     *
+     * @param value
+     *     The value to compare.
+     *
+     * @return This expression (fluent interface).
+     */
+    public LongValue isEqualTo(final long value) {
+        return check("isEqualTo[" + value + "]", String.valueOf(value), l -> l == value);
+    }
+
+    /**
+     * Adds a predicate to the expression that checks if the subject is not equal to the supplied value.
+     *
+     * @param value
+     *     The value to compare.
+     *
+     * @return This expression (fluent interface).
+     */
+    public LongValue isNotEqualTo(final long value) {
+        return check("isNotEqualTo[" + value + "]", "not[" + value + "]", l -> l != value);
+    }
+
+    /**
+     * Adds a predicate to the expression that checks if the subject is less than the supplied value.
+     *
+     * @param value
+     *     The value to compare.
+     *
+     * @return This expression (fluent interface).
+     */
+    public LongValue isLessThan(final long value) {
+        return check("isLessThan[" + value + "]", "< " + value, l -> l < value);
+    }
+
+    /**
+     * Alias for {@link #isLessThan}
+     *
+     * @param value
+     *     The value to compare.
+     *
+     * @return This expression (fluent interface).
+     *
+     * @see #isLessThan
+     */
+    public LongValue lt(final long value) {
+        return isLessThan(value);
+    }
+
+    /**
+     * Adds a predicate to the expression that checks if the subject is greater than the supplied value.
+     *
+     * @param value
+     *     The value to compare.
+     *
+     * @return This expression (fluent interface).
+     */
+    public LongValue isGreaterThan(final long value) {
+        return check("isGreaterThan[" + value + "]", "> " + value, l -> l > value);
+    }
+
+    /**
+     * Alias for {@link #isGreaterThan}
+     *
+     * @param value
+     *     The value to compare.
+     *
+     * @return This expression (fluent interface).
+     *
+     * @see #isGreaterThan
+     */
+    public LongValue gt(final long value) {
+        return isGreaterThan(value);
+    }
+
+    /**
+     * Adds a predicate to the expression that checks if the subject is less than or equal to the supplied value.
+     *
+     * @param value
+     *     The value to compare.
+     *
+     * @return This expression (fluent interface).
+     */
+    public LongValue isLessThanOrEqualTo(final long value) {
+        return check("isLessThanOrEqualTo[" + value + "]", "<= " + value, l -> l <= value);
+    }
+
+    /**
+     * Alias for {@link #isLessThanOrEqualTo}
+     *
+     * @param value
+     *     The value to compare.
+     *
+     * @return This expression (fluent interface).
+     *
+     * @see #isLessThanOrEqualTo
+     */
+    public LongValue lte(final long value) {
+        return isLessThanOrEqualTo(value);
+    }
+
+    /**
+     * Adds a predicate to the expression that checks if the subject is greater than or equal to the supplied value.
+     *
+     * @param value
+     *     The value to compare.
+     *
+     * @return This expression (fluent interface).
+     */
+    public LongValue isGreaterThanOrEqualTo(final long value) {
+        return check("isGreaterThanOrEqualTo[" + value + "]", ">= " + value, l -> l >= value);
+    }
+
+    /**
+     * Alias for {@link #isGreaterThanOrEqualTo}
+     *
+     * @param value
+     *     The value to compare.
+     *
+     * @return This expression (fluent interface).
+     *
+     * @see #isGreaterThanOrEqualTo
+     */
+    public LongValue gte(final long value) {
+        return isGreaterThanOrEqualTo(value);
+    }
+
+    /**
+     * Adds a predicate to the expression that checks if the subject is between the supplied bounds (inclusive).
+     *
+     * @param min
+     *     The lower bound (inclusive).
+     * @param max
+     *     The upper bound (inclusive).
+     *
+     * @return This expression (fluent interface).
+     */
+    public LongValue isBetween(final long min, final long max) {
+        return check(
+            "isBetween[" + min + ", " + max + "]",
+            "[" + min + ", " + max + "]",
+            l -> l >= min && l <= max
+        );
+    }
+
+    /**
+     * Adds a predicate to the expression that checks if the subject is equal to {@link Long#MAX_VALUE}.
+     *
+     * @return This expression (fluent interface).
+     */
+    public LongValue isMaxValue() {
+        return check("isMax", String.valueOf(Long.MAX_VALUE), l -> l == Long.MAX_VALUE);
+    }
+
+    /**
+     * Adds a predicate to the expression that checks if the subject is equal to {@link Long#MIN_VALUE}.
+     *
+     * @return This expression (fluent interface).
+     */
+    public LongValue isMinValue() {
+        return check("isMin", String.valueOf(Long.MIN_VALUE), l -> l == Long.MIN_VALUE);
+    }
+
+    /**
+     * Adds a predicate to the expression that checks if the subject is equal to 0.
+     *
+     * @return This expression (fluent interface).
+     */
+    public LongValue isZero() {
+        return check("isZero", "0", l -> l == 0);
+    }
+
+    /**
+     * Adds a predicate to the expression that checks if the subject is not equal to 0.
+     *
+     * @return This expression (fluent interface).
+     */
+    public LongValue isNotZero() {
+        return check("isNotZero", "not[0]", l -> l != 0);
+    }
+
+    /**
+     * Adds a predicate to the expression that checks if the subject is positive (greater than 0).
+     *
+     * @return This expression (fluent interface).
+     */
+    public LongValue isPositive() {
+        return check("isPositive", "> 0", l -> l > 0);
+    }
+
+    /**
+     * Adds a predicate to the expression that checks if the subject is not positive (less than or equal to 0).
+     *
+     * @return This expression (fluent interface).
+     */
+    public LongValue isNotPositive() {
+        return check("isNotPositive", "<= 0", l -> l <= 0);
+    }
+
+    /**
+     * Adds a predicate to the expression that checks if the subject is negative (less than 0).
+     *
+     * @return This expression (fluent interface).
+     */
+    public LongValue isNegative() {
+        return check("isNegative", "< 0", l -> l < 0);
+    }
+
+    /**
+     * Adds a predicate to the expression that checks if the subject is not negative (greater than or equal to 0).
+     *
+     * @return This expression (fluent interface).
+     */
+    public LongValue isNotNegative() {
+        return check("isNotNegative", ">= 0", l -> l >= 0);
+    }
+
+    /**
+     * Adds a predicate to the expression that checks if the subject is even.
+     *
+     * @return This expression (fluent interface).
+     */
+    public LongValue isEven() {
+        return check("isEven", "% 2 := 0", l -> l % 2 == 0);
+    }
+
+    /**
+     * Adds a predicate to the expression that checks if the subject is odd.
+     *
+     * @return This expression (fluent interface).
+     */
+    public LongValue isOdd() {
+        return check("isOdd", "% 2 != 0", l -> l % 2 != 0);
+    }
+
+    /**
+     * Adds a predicate to the expression that checks if the subject is equal to any of the supplied values. The values
+     * are indexed into a hash set when the predicate is added, so checking the subject neither boxes the subject nor
+     * depends on the number of values.
+     *
+     * @param values
+     *     The values to check.
+     *
+     * @return This expression (fluent interface).
+     *
+     * @throws NullPointerException
+     *     The supplied values are {@code null}.
+     */
+    public LongValue isMemberOf(final long... values) {
+
+        final LongHashSet members = new LongHashSet(values);
+
+        return check("memberOf[" + values.length + " values]", describe(values), members::contains);
+    }
+
+    /**
+     * Adds a predicate to the expression that checks if the subject is not equal to any of the supplied values.
+     *
+     * @param values
+     *     The values to check.
+     *
+     * @return This expression (fluent interface).
+     *
+     * @throws NullPointerException
+     *     The supplied values are {@code null}.
+     *
+     * @see #isMemberOf
+     */
+    public LongValue isNotMemberOf(final long... values) {
+
+        final LongHashSet members = new LongHashSet(values);
+
+        return check(
+            "notMemberOf[" + values.length + " values]",
+            "not[" + describe(values) + "]",
+            l -> !members.contains(l)
+        );
+    }
+
+    private static String describe(final long[] values) {
+
+        final StringJoiner joiner = new StringJoiner(", ", "memberOf[", "]");
+        final int described = Math.min(values.length, DESCRIBED_VALUE_LIMIT);
+
+        for (int i = 0; i < described; i++) {
+            joiner.add(String.valueOf(values[i]));
+        }
+
+        if (values.length > described) {
+            joiner.add("... (" + (values.length - described) + " more)");
+        }
+
+        return joiner.toString();
+    }
+
+    /**
+     * Adds a predicate to the expression that checks if the supplied predicate is true.
+     *
+     * @param predicate
+     *     The predicate to test.
+     *
+     * @return This expression (fluent interface).
+     */
+    public LongValue satisfies(final LongPredicate predicate) {
+        return check("predicate", "Predicate satisfied", predicate);
+    }
+
+    /**
+     * Adds a predicate to the expression that checks if the supplied predicate is false.
+     *
+     * @param predicate
+     *     The predicate to test.
+     *
+     * @return This expression (fluent interface).
+     */
+    public LongValue doesNotSatisfy(final LongPredicate predicate) {
+        return check("not[predicate]", "Predicate unsatisfied", predicate.negate());
+    }
+}
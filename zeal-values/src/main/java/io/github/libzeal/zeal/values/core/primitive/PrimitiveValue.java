@@ -0,0 +1,105 @@
+package io.github.libzeal.zeal.values.core.primitive;
+
+import io.github.libzeal.zeal.logic.AndExpression;
+import io.github.libzeal.zeal.logic.Expression;
+import io.github.libzeal.zeal.logic.evaluation.Evaluation;
+import io.github.libzeal.zeal.logic.unary.UnaryExpression;
+import io.github.libzeal.zeal.logic.unary.future.ComputableExpression;
+import io.github.libzeal.zeal.logic.unary.future.SimpleComputableExpression;
+import io.github.libzeal.zeal.logic.unary.future.rationale.SimpleComputableRationale;
+import io.github.libzeal.zeal.logic.util.Formatter;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Predicate;
+
+/**
+ * The abstract base class for expressions whose subject is a primitive value.
+ * <p>
+ * Subclasses store their subject as a primitive and check it using primitive predicates (such as
+ * {@link java.util.function.IntPredicate}), so testing a passing expression never boxes the subject. The subject is
+ * only boxed when it is explicitly obtained through {@link #subject()} or when the expression is evaluated, which
+ * typically only occurs when a rationale for a failure is needed.
+ *
+ * @param <T>
+ *     The boxed type of the subject.
+ * @param <E>
+ *     The type of the subclass.
+ *
+ * @author Justin Albano
+ * @since 0.5.0
+ */
+public abstract class PrimitiveValue<T, E extends PrimitiveValue<T, E>> implements UnaryExpression<T> {
+
+    static final int DESCRIBED_VALUE_LIMIT = 5;
+
+    private final String name;
+    private final List<ComputableExpression<T>> expressions;
+
+    /**
+     * Creates a new expression.
+     *
+     * @param name
+     *     The name of the expression.
+     */
+    protected PrimitiveValue(final String name) {
+        this.name = name;
+        this.expressions = new ArrayList<>();
+    }
+
+    /**
+     * Adds the boxed form of a predicate, which is used when the expression is evaluated. Subclasses are responsible
+     * for retaining the primitive form of the predicate, which is used when the expression is tested.
+     *
+     * @param name
+     *     The name of the predicate.
+     * @param expected
+     *     The expected value of the predicate.
+     * @param predicate
+     *     The boxed form of the predicate.
+     *
+     * @return This expression (fluent interface).
+     */
+    @SuppressWarnings("unchecked")
+    protected final E append(final String name, final String expected, final Predicate<T> predicate) {
+
+        expressions.add(
+            new SimpleComputableExpression<>(
+                name,
+                predicate,
+                new SimpleComputableRationale<>(
+                    (s, passed) -> expected,
+                    (s, passed) -> Formatter.stringify(s)
+                )
+            )
+        );
+
+        return (E) this;
+    }
+
+    /**
+     * Tests the subject against the primitive form of each predicate, without boxing the subject.
+     *
+     * @return True if the subject satisfies every predicate; false otherwise.
+     */
+    @Override
+    public abstract boolean test();
+
+    @Override
+    public final String name() {
+        return name;
+    }
+
+    @Override
+    public final Evaluation evaluate() {
+
+        final T boxed = subject();
+        final List<Expression> computed = new ArrayList<>(expressions.size());
+
+        for (final ComputableExpression<T> expression : expressions) {
+            computed.add(expression.compute(boxed));
+        }
+
+        return new AndExpression(name, computed).evaluate();
+    }
+}
@@ -2,8 +2,19 @@ package io.github.libzeal.zeal.values;
 
 import io.github.libzeal.zeal.logic.evaluation.Result;
 import io.github.libzeal.zeal.logic.unary.UnaryExpression;
+import io.github.libzeal.zeal.values.core.GeneralObjectValue;
+import io.github.libzeal.zeal.values.core.boxed.BoxedByteValue;
+import io.github.libzeal.zeal.values.core.boxed.BoxedCharacterValue;
+import io.github.libzeal.zeal.values.core.boxed.BoxedDoubleValue;
+import io.github.libzeal.zeal.values.core.boxed.BoxedFloatValue;
+import io.github.libzeal.zeal.values.core.boxed.BoxedIntegerValue;
+import io.github.libzeal.zeal.values.core.boxed.BoxedLongValue;
+import io.github.libzeal.zeal.values.core.primitive.DoubleValue;
+import io.github.libzeal.zeal.values.core.primitive.IntValue;
+import io.github.libzeal.zeal.values.core.primitive.LongValue;
 import org.junit.jupiter.api.Test;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
 
 class ValuesTest {
@@ -103,4 +114,42 @@ class ValuesTest {
 
         assertNotNull(expression);
     }
+
+    @Test
+    void givenPrimitiveInt_whenValue_thenBoxedIntegerValueReturned() {
+        assertEquals(BoxedIntegerValue.class, Values.value(1).getClass());
+    }
+
+    @Test
+    void givenPrimitiveLong_whenValue_thenBoxedLongValueReturned() {
+        assertEquals(BoxedLongValue.class, Values.value(1L).getClass());
+    }
+
+    @Test
+    void givenPrimitiveDouble_whenValue_thenBoxedDoubleValueReturned() {
+        assertEquals(BoxedDoubleValue.class, Values.value(1.0).getClass());
+    }
+
+    @Test
+    void givenNarrowPrimitives_whenValue_thenBoxedValuesReturned() {
+        assertEquals(BoxedFloatValue.class, Values.value(1.0f).getClass());
+        assertEquals(GeneralObjectValue.class, Values.value((short) 1).getClass());
+        assertEquals(BoxedByteValue.class, Values.value((byte) 0x01).getClass());
+        assertEquals(BoxedCharacterValue.class, Values.value('c').getClass());
+    }
+
+    @Test
+    void givenPrimitiveInt_whenIntValue_thenIntValueReturned() {
+        assertEquals(IntValue.class, Values.intValue(1).getClass());
+    }
+
+    @Test
+    void givenPrimitiveLong_whenLongValue_thenLongValueReturned() {
+        assertEquals(LongValue.class, Values.longValue(1L).getClass());
+    }
+
+    @Test
+    void givenPrimitiveDouble_whenDoubleValue_thenDoubleValueReturned() {
+        assertEquals(DoubleValue.class, Values.doubleValue(1.0).getClass());
+    }
 }
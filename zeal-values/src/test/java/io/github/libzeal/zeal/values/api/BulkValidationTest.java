@@ -0,0 +1,164 @@
+package io.github.libzeal.zeal.values.api;
+
+import io.github.libzeal.zeal.logic.evaluation.Evaluation;
+import io.github.libzeal.zeal.logic.evaluation.Result;
+import io.github.libzeal.zeal.values.core.StringValue;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class BulkValidationTest {
+
+    private Validator<String> validator;
+
+    @BeforeEach
+    void setUp() {
+        validator = Validator.of(StringValue::new, v -> v.isNotNull().isLongerThan(2));
+    }
+
+    @Test
+    void givenNullIterable_whenValidateAll_thenExceptionThrown() {
+        assertThrows(
+            NullPointerException.class,
+            () -> validator.validateAll((Iterable<String>) null)
+        );
+    }
+
+    @Test
+    void givenNullArray_whenValidateAll_thenExceptionThrown() {
+        assertThrows(
+            NullPointerException.class,
+            () -> validator.validateAll((String[]) null)
+        );
+    }
+
+    @Test
+    void givenNullStream_whenValidateAll_thenExceptionThrown() {
+        assertThrows(
+            NullPointerException.class,
+            () -> validator.validateAll((Stream<String>) null)
+        );
+    }
+
+    @Test
+    void givenAllPassingSubjects_whenValidateAll_thenPassed() {
+
+        final BulkValidation<String> validation = validator.validateAll(Arrays.asList("foo", "bar", "baz"));
+
+        assertTrue(validation.passed());
+        assertEquals(3, validation.size());
+        assertEquals(0, validation.failures());
+        assertTrue(validation.failingIndices().isEmpty());
+        assertTrue(validation.evaluations().isEmpty());
+    }
+
+    @Test
+    void givenFailingSubjects_whenValidateAllIterable_thenFailingIndicesReturned() {
+
+        final BulkValidation<String> validation = validator.validateAll(Arrays.asList("foo", "ba", null, "baz"));
+
+        assertFalse(validation.passed());
+        assertEquals(4, validation.size());
+        assertEquals(2, validation.failures());
+        assertEquals(bitSet(1, 2), validation.failingIndices());
+        assertEquals("ba", validation.failingSubject(1));
+        assertNull(validation.failingSubject(2));
+    }
+
+    @Test
+    void givenFailingSubjects_whenValidateAllArray_thenFailingIndicesReturned() {
+
+        final BulkValidation<String> validation = validator.validateAll(new String[] { "a", "foo", "bar", "b" });
+
+        assertEquals(4, validation.size());
+        assertEquals(bitSet(0, 3), validation.failingIndices());
+    }
+
+    @Test
+    void givenFailingSubjects_whenValidateAllStream_thenFailingIndicesReturned() {
+
+        final BulkValidation<String> validation = validator.validateAll(Stream.of("foo", "a", "bar"));
+
+        assertEquals(3, validation.size());
+        assertEquals(bitSet(1), validation.failingIndices());
+    }
+
+    @Test
+    void givenManySubjects_whenValidateAllParallelStream_thenSameResultAsSequential() {
+
+        final List<String> subjects = IntStream.range(0, 10_000)
+            .mapToObj(i -> i % 7 == 0 ? "a" : "foo")
+            .collect(Collectors.toList());
+
+        final BulkValidation<String> sequential = validator.validateAll(subjects);
+        final BulkValidation<String> parallel = validator.validateAll(subjects.parallelStream());
+
+        assertEquals(sequential.size(), parallel.size());
+        assertEquals(sequential.failures(), parallel.failures());
+        assertEquals(sequential.failingIndices(), parallel.failingIndices());
+        assertEquals("a", parallel.failingSubject(9_996));
+    }
+
+    @Test
+    void givenFailingSubject_whenEvaluation_thenFailingEvaluationReturnedAndReused() {
+
+        final BulkValidation<String> validation = validator.validateAll(Arrays.asList("foo", "ba"));
+
+        final Evaluation evaluation = validation.evaluation(1);
+
+        assertEquals(Result.FALSE, evaluation.result());
+        assertSame(evaluation, validation.evaluation(1));
+        assertSame(evaluation, validation.evaluations().get(0));
+    }
+
+    @Test
+    void givenPassingSubject_whenEvaluation_thenExceptionThrown() {
+
+        final BulkValidation<String> validation = validator.validateAll(Arrays.asList("foo", "ba"));
+
+        assertThrows(
+            IllegalArgumentException.class,
+            () -> validation.evaluation(0)
+        );
+    }
+
+    @Test
+    void givenOutOfRangeIndex_whenFailingSubject_thenExceptionThrown() {
+
+        final BulkValidation<String> validation = validator.validateAll(Arrays.asList("foo", "ba"));
+
+        assertThrows(
+            IllegalArgumentException.class,
+            () -> validation.failingSubject(5)
+        );
+    }
+
+    @Test
+    void givenFailingIndices_whenModifyReturnedBitSet_thenValidationUnchanged() {
+
+        final BulkValidation<String> validation = validator.validateAll(Arrays.asList("foo", "ba"));
+
+        validation.failingIndices().set(0);
+
+        assertEquals(bitSet(1), validation.failingIndices());
+    }
+
+    private static BitSet bitSet(final int... indices) {
+
+        final BitSet bitSet = new BitSet();
+
+        for (final int index : indices) {
+            bitSet.set(index);
+        }
+
+        return bitSet;
+    }
+}
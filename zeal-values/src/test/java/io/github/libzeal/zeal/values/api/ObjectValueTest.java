@@ -129,6 +129,8 @@ public abstract class ObjectValueTest<T, E extends ObjectValue<T, E>> {
         final Traverser traverser = new DepthFirstTraverser();
         final CollectingTraverserAction collector = new CollectingTraverserAction();
 
+        assertEquals(eval.result().isTrue(), expression.test());
+
         traverser.traverse(eval, collector);
 
         final Evaluation first = collector.get(1).orElse(null);
@@ -0,0 +1,109 @@
+package io.github.libzeal.zeal.values.api;
+
+import io.github.libzeal.zeal.logic.evaluation.Evaluation;
+import io.github.libzeal.zeal.logic.evaluation.Result;
+import io.github.libzeal.zeal.logic.unary.UnaryExpression;
+import io.github.libzeal.zeal.values.Values;
+import io.github.libzeal.zeal.values.core.GeneralObjectValue;
+import io.github.libzeal.zeal.values.core.StringValue;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ValidatorTest {
+
+    @Test
+    void givenNullFactory_whenOf_thenExceptionThrown() {
+        assertThrows(
+            NullPointerException.class,
+            () -> Validator.<String, StringValue>of(null, v -> v)
+        );
+    }
+
+    @Test
+    void givenNullDeclaration_whenOf_thenExceptionThrown() {
+        assertThrows(
+            NullPointerException.class,
+            () -> Validator.of(StringValue::new, null)
+        );
+    }
+
+    @Test
+    void givenDeclarationReturnsNull_whenOf_thenExceptionThrown() {
+        assertThrows(
+            NullPointerException.class,
+            () -> Validator.of(StringValue::new, v -> null)
+        );
+    }
+
+    @Test
+    void givenValidator_whenApplyToManySubjects_thenDeclarationCalledOnce() {
+
+        final AtomicInteger declarations = new AtomicInteger();
+        final Validator<String> validator = Validator.of(StringValue::new, v -> {
+            declarations.incrementAndGet();
+            return v.isNotNull().isLongerThan(2);
+        });
+
+        validator.apply("foo").evaluate();
+        validator.apply("ba").evaluate();
+        validator.apply(null).evaluate();
+
+        assertEquals(1, declarations.get());
+    }
+
+    @Test
+    void givenPassingSubject_whenApply_thenEvaluationPasses() {
+
+        final Validator<String> validator = Validator.of(Values::value, v -> v.isNotNull().isLongerThan(2));
+        final UnaryExpression<String> expression = validator.apply("foo");
+        final Evaluation evaluation = expression.evaluate();
+
+        assertEquals("foo", expression.subject());
+        assertTrue(expression.test());
+        assertTrue(validator.test("foo"));
+        assertEquals(Result.TRUE, evaluation.result());
+    }
+
+    @Test
+    void givenFailingSubject_whenApply_thenEvaluationFails() {
+
+        final Validator<String> validator = Validator.of(Values::value, v -> v.isNotNull().isLongerThan(2));
+        final UnaryExpression<String> expression = validator.apply("fo");
+        final Evaluation evaluation = expression.evaluate();
+
+        assertFalse(expression.test());
+        assertFalse(validator.test("fo"));
+        assertEquals(Result.FALSE, evaluation.result());
+    }
+
+    @Test
+    void givenSubject_whenApply_thenNameMatchesUncompiledValue() {
+
+        final Function<Object, GeneralObjectValue<Object>> factory = GeneralObjectValue::new;
+        final Validator<Object> validator = Validator.of(factory, ObjectValue::isNotNull);
+        final Object subject = new Object();
+
+        assertEquals(Values.value(subject).name(), validator.apply(subject).name());
+        assertEquals(Values.value(subject).name(), validator.evaluate(subject).name());
+    }
+
+    @Test
+    void givenCompiledChain_whenEvaluate_thenMatchesUncompiledChain() {
+
+        final Validator<String> validator = Validator.of(StringValue::new, v -> v.isNotNull().isNotBlank());
+
+        for (String subject : new String[]{"foo", " ", "", null}) {
+
+            final Evaluation compiled = validator.evaluate(subject);
+            final Evaluation uncompiled = Values.value(subject).isNotNull().isNotBlank().evaluate();
+
+            assertEquals(uncompiled.result(), compiled.result());
+            assertEquals(uncompiled.name(), compiled.name());
+            assertEquals(uncompiled.rationale(), compiled.rationale());
+        }
+    }
+}
@@ -0,0 +1,292 @@
+package io.github.libzeal.zeal.values.core;
+
+import io.github.libzeal.zeal.logic.evaluation.CompoundEvaluation;
+import io.github.libzeal.zeal.logic.evaluation.Evaluation;
+import io.github.libzeal.zeal.values.api.ObjectValueTest;
+import io.github.libzeal.zeal.values.core.test.ExpressionTestCaseBuilder;
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Predicate;
+
+import static io.github.libzeal.zeal.logic.evaluation.Result.FALSE;
+import static io.github.libzeal.zeal.logic.evaluation.Result.TRUE;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+@SuppressWarnings("java:S2187")
+abstract class CollectionValueTest<C extends Collection<String>, E extends CollectionValue<String, C, E>>
+    extends ObjectValueTest<C, E> {
+
+    private static final Predicate<String> STARTS_WITH_A = s -> s.startsWith("a");
+
+    protected abstract C subjectOf(String... elements);
+
+    @Override
+    protected C exampleValue1() {
+        return subjectOf("foo", "bar");
+    }
+
+    @Override
+    protected C exampleValue2() {
+        return subjectOf("baz");
+    }
+
+    @Override
+    protected void extendTestCases(ExpressionTestCaseBuilder<C, E> builder) {
+        isEmptyTestCases(builder);
+        isNotEmptyTestCases(builder);
+        hasSizeOfTestCases(builder);
+        hasSizeBetweenTestCases(builder);
+        containsTestCases(builder);
+        doesNotContainTestCases(builder);
+        containsAllTestCases(builder);
+        allMatchTestCases(builder);
+        anyMatchTestCases(builder);
+        noneMatchTestCases(builder);
+    }
+
+    @Test
+    void givenMismatchingFirstElement_whenAllMatch_thenRemainingElementsNotTested() {
+
+        final AtomicInteger tested = new AtomicInteger();
+        final E expression = expression(subjectOf("b", "a1", "a2", "a3"))
+            .allMatch(s -> tested.incrementAndGet() > 0 && s.startsWith("a"));
+
+        assertFalse(expression.test());
+        assertEquals(1, tested.get());
+    }
+
+    @Test
+    void givenMismatches_whenEvaluateAllMatch_thenRationaleComputedInSinglePass() {
+
+        final AtomicInteger tested = new AtomicInteger();
+        final E expression = expression(subjectOf("a1", "b", "a2", "c"))
+            .allMatch(s -> tested.incrementAndGet() > 0 && s.startsWith("a"));
+
+        final Evaluation evaluation = ((CompoundEvaluation) expression.evaluate()).children().get(0);
+
+        assertEquals("mismatches[1: b, 3: c]", evaluation.rationale().actual());
+        assertEquals("First mismatch at index 1", evaluation.rationale().hint().orElse(null));
+        assertEquals(2 + 4, tested.get());
+    }
+
+    @Test
+    void givenNullPredicate_whenAllMatch_thenExceptionThrown() {
+
+        final E expression = expression(exampleValue1());
+
+        assertThrows(
+            NullPointerException.class,
+            () -> expression.allMatch(null)
+        );
+    }
+
+    @Test
+    void givenNullElements_whenContainsAll_thenExceptionThrown() {
+
+        final E expression = expression(exampleValue1());
+
+        assertThrows(
+            NullPointerException.class,
+            () -> expression.containsAll(null)
+        );
+    }
+
+    private void isEmptyTestCases(ExpressionTestCaseBuilder<C, E> builder) {
+        builder.newTest((expression, value) -> expression.isEmpty())
+                .subject(subjectOf())
+                .expectedState(TRUE)
+                .expectedName("isEmpty")
+                .expectedExpected("size := 0")
+                .expectedActual("size := 0")
+                .addTest()
+            .newTest((expression, value) -> expression.isEmpty())
+                .subject(subjectOf("a"))
+                .expectedState(FALSE)
+                .expectedName("isEmpty")
+                .expectedExpected("size := 0")
+                .expectedActual("size := 1")
+                .addTest();
+    }
+
+    private void isNotEmptyTestCases(ExpressionTestCaseBuilder<C, E> builder) {
+        builder.newTest((expression, value) -> expression.isNotEmpty())
+                .subject(subjectOf("a"))
+                .expectedState(TRUE)
+                .expectedName("isNotEmpty")
+                .expectedExpected("size > 0")
+                .expectedActual("size := 1")
+                .addTest()
+            .newTest((expression, value) -> expression.isNotEmpty())
+                .subject(subjectOf())
+                .expectedState(FALSE)
+                .expectedName("isNotEmpty")
+                .expectedExpected("size > 0")
+                .expectedActual("size := 0")
+                .addTest();
+    }
+
+    private void hasSizeOfTestCases(ExpressionTestCaseBuilder<C, E> builder) {
+        builder.newTest((expression, value) -> expression.hasSizeOf(2))
+                .subject(subjectOf("a", "b"))
+                .expectedState(TRUE)
+                .expectedName("hasSizeOf[2]")
+                .expectedExpected("size := 2")
+                .expectedActual("size := 2")
+                .addTest()
+            .newTest((expression, value) -> expression.hasSizeOf(2))
+                .subject(subjectOf("a"))
+                .expectedState(FALSE)
+                .expectedName("hasSizeOf[2]")
+                .expectedExpected("size := 2")
+                .expectedActual("size := 1")
+                .addTest();
+    }
+
+    private void hasSizeBetweenTestCases(ExpressionTestCaseBuilder<C, E> builder) {
+        builder.newTest((expression, value) -> expression.hasSizeBetween(1, 2))
+                .subject(subjectOf())
+                .expectedState(FALSE)
+                .expectedName("hasSizeBetween[1, 2]")
+                .expectedExpected("size in [1, 2]")
+                .expectedActual("size := 0")
+                .addTest()
+            .newTest((expression, value) -> expression.hasSizeBetween(1, 2))
+                .subject(subjectOf("a", "b"))
+                .expectedState(TRUE)
+                .expectedName("hasSizeBetween[1, 2]")
+                .expectedExpected("size in [1, 2]")
+                .expectedActual("size := 2")
+                .addTest()
+            .newTest((expression, value) -> expression.hasSizeBetween(1, 2))
+                .subject(subjectOf("a", "b", "c"))
+                .expectedState(FALSE)
+                .expectedName("hasSizeBetween[1, 2]")
+                .expectedExpected("size in [1, 2]")
+                .expectedActual("size := 3")
+                .addTest();
+    }
+
+    private void containsTestCases(ExpressionTestCaseBuilder<C, E> builder) {
+        builder.newTest((expression, value) -> expression.contains("a"))
+                .subject(subjectOf("a", "b"))
+                .expectedState(TRUE)
+                .expectedName("contains[a]")
+                .expectedExpected("contains[a]")
+                .expectedActual("elements[a, b]")
+                .addTest()
+            .newTest((expression, value) -> expression.contains("a"))
+                .subject(subjectOf("b", "c", "d", "e", "f", "g", "h"))
+                .expectedState(FALSE)
+                .expectedName("contains[a]")
+                .expectedExpected("contains[a]")
+                .expectedActual("elements[b, c, d, e, f, ... (2 more)]")
+                .addTest();
+    }
+
+    private void doesNotContainTestCases(ExpressionTestCaseBuilder<C, E> builder) {
+        builder.newTest((expression, value) -> expression.doesNotContain("a"))
+                .subject(subjectOf("b"))
+                .expectedState(TRUE)
+                .expectedName("not[contains[a]]")
+                .expectedExpected("not[contains[a]]")
+                .expectedActual("elements[b]")
+                .addTest()
+            .newTest((expression, value) -> expression.doesNotContain("a"))
+                .subject(subjectOf("a", "b"))
+                .expectedState(FALSE)
+                .expectedName("not[contains[a]]")
+                .expectedExpected("not[contains[a]]")
+                .expectedActual("elements[a, b]")
+                .addTest();
+    }
+
+    private void containsAllTestCases(ExpressionTestCaseBuilder<C, E> builder) {
+        builder.newTest((expression, value) -> expression.containsAll(Arrays.asList("a", "b")))
+                .subject(subjectOf("a", "b", "c"))
+                .expectedState(TRUE)
+                .expectedName("containsAll[2 elements]")
+                .expectedExpected("containsAll[a, b]")
+                .expectedActual("contains all")
+                .addTest()
+            .newTest((expression, value) -> expression.containsAll(Arrays.asList("a", "b")))
+                .subject(subjectOf("a", "c"))
+                .expectedState(FALSE)
+                .expectedName("containsAll[2 elements]")
+                .expectedExpected("containsAll[a, b]")
+                .expectedActual("missing[b]")
+                .addTest()
+            .newTest((expression, value) -> expression.containsAll(Arrays.asList("a", "b", "c", "d", "e", "f", "g")))
+                .subject(subjectOf())
+                .expectedState(FALSE)
+                .expectedName("containsAll[7 elements]")
+                .expectedExpected("containsAll[a, b, c, d, e, ... (2 more)]")
+                .expectedActual("missing[a, b, c, d, e, ... (2 more)]")
+                .addTest();
+    }
+
+    private void allMatchTestCases(ExpressionTestCaseBuilder<C, E> builder) {
+        builder.newTest((expression, value) -> expression.allMatch(STARTS_WITH_A))
+                .subject(subjectOf("a1", "a2"))
+                .expectedState(TRUE)
+                .expectedName("allMatch")
+                .expectedExpected("all match")
+                .expectedActual("all match")
+                .addTest()
+            .newTest((expression, value) -> expression.allMatch(STARTS_WITH_A))
+                .subject(subjectOf("a1", "b", "a2", "c"))
+                .expectedState(FALSE)
+                .expectedName("allMatch")
+                .expectedExpected("all match")
+                .expectedActual("mismatches[1: b, 3: c]")
+                .expectedHint("First mismatch at index 1")
+                .addTest()
+            .newTest((expression, value) -> expression.allMatch(STARTS_WITH_A))
+                .subject(subjectOf("b0", "b1", "b2", "b3", "b4", "b5", "b6"))
+                .expectedState(FALSE)
+                .expectedName("allMatch")
+                .expectedExpected("all match")
+                .expectedActual("mismatches[0: b0, 1: b1, 2: b2, 3: b3, 4: b4, ...]")
+                .expectedHint("First mismatch at index 0")
+                .addTest();
+    }
+
+    private void anyMatchTestCases(ExpressionTestCaseBuilder<C, E> builder) {
+        builder.newTest((expression, value) -> expression.anyMatch(STARTS_WITH_A))
+                .subject(subjectOf("b", "a1"))
+                .expectedState(TRUE)
+                .expectedName("anyMatch")
+                .expectedExpected("any match")
+                .expectedActual("any match")
+                .addTest()
+            .newTest((expression, value) -> expression.anyMatch(STARTS_WITH_A))
+                .subject(subjectOf("b", "c"))
+                .expectedState(FALSE)
+                .expectedName("anyMatch")
+                .expectedExpected("any match")
+                .expectedActual("none match (2 elements)")
+                .addTest();
+    }
+
+    private void noneMatchTestCases(ExpressionTestCaseBuilder<C, E> builder) {
+        builder.newTest((expression, value) -> expression.noneMatch(STARTS_WITH_A))
+                .subject(subjectOf("b", "c"))
+                .expectedState(TRUE)
+                .expectedName("noneMatch")
+                .expectedExpected("none match")
+                .expectedActual("none match")
+                .addTest()
+            .newTest((expression, value) -> expression.noneMatch(STARTS_WITH_A))
+                .subject(subjectOf("b", "a1", "c"))
+                .expectedState(FALSE)
+                .expectedName("noneMatch")
+                .expectedExpected("none match")
+                .expectedActual("matches[1: a1]")
+                .expectedHint("First match at index 1")
+                .addTest();
+    }
+}
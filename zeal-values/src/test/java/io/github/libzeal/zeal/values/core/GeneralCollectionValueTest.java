@@ -0,0 +1,19 @@
+package io.github.libzeal.zeal.values.core;
+
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.LinkedHashSet;
+
+@SuppressWarnings("java:S2187")
+class GeneralCollectionValueTest extends CollectionValueTest<Collection<String>, GeneralCollectionValue<String>> {
+
+    @Override
+    protected GeneralCollectionValue<String> expression(Collection<String> value) {
+        return new GeneralCollectionValue<>(value);
+    }
+
+    @Override
+    protected Collection<String> subjectOf(String... elements) {
+        return new LinkedHashSet<>(Arrays.asList(elements));
+    }
+}
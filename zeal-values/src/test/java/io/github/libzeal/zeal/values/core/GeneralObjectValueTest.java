@@ -1,6 +1,13 @@
 package io.github.libzeal.zeal.values.core;
 
+import io.github.libzeal.zeal.logic.evaluation.Evaluation;
 import io.github.libzeal.zeal.values.api.ObjectValueTest;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 
 @SuppressWarnings("java:S2187")
 class GeneralObjectValueTest extends ObjectValueTest<Object, GeneralObjectValue<Object>> {
@@ -19,4 +26,31 @@ class GeneralObjectValueTest extends ObjectValueTest<Object, GeneralObjectValue<
     protected Object exampleValue2() {
         return "bar";
     }
+
+    @Test
+    void givenSubject_whenConstructAndEvaluate_thenToStringNotCalledUntilNameNeeded() {
+
+        final CountingToString subject = new CountingToString();
+        final GeneralObjectValue<Object> value = expression(subject).isNotNull();
+
+        assertTrue(value.test());
+
+        final Evaluation evaluation = value.evaluate();
+
+        assertEquals(0, subject.calls.get());
+        assertEquals("Object[counted] value", evaluation.name());
+        assertEquals("Object[counted] value", value.name());
+        assertEquals(1, subject.calls.get());
+    }
+
+    private static final class CountingToString {
+
+        private final AtomicInteger calls = new AtomicInteger();
+
+        @Override
+        public String toString() {
+            calls.incrementAndGet();
+            return "counted";
+        }
+    }
 }
@@ -0,0 +1,53 @@
+package io.github.libzeal.zeal.values.core;
+
+import io.github.libzeal.zeal.values.core.test.ExpressionTestCaseBuilder;
+
+import java.util.Arrays;
+import java.util.List;
+
+import static io.github.libzeal.zeal.logic.evaluation.Result.FALSE;
+import static io.github.libzeal.zeal.logic.evaluation.Result.TRUE;
+
+@SuppressWarnings("java:S2187")
+class ListValueTest extends CollectionValueTest<List<String>, ListValue<String>> {
+
+    @Override
+    protected ListValue<String> expression(List<String> value) {
+        return new ListValue<>(value);
+    }
+
+    @Override
+    protected List<String> subjectOf(String... elements) {
+        return Arrays.asList(elements);
+    }
+
+    @Override
+    protected void extendTestCases(ExpressionTestCaseBuilder<List<String>, ListValue<String>> builder) {
+        super.extendTestCases(builder);
+        hasAtIndexTestCases(builder);
+    }
+
+    private void hasAtIndexTestCases(ExpressionTestCaseBuilder<List<String>, ListValue<String>> builder) {
+        builder.newTest((expression, value) -> expression.hasAtIndex("b", 1))
+                .subject(subjectOf("a", "b"))
+                .expectedState(TRUE)
+                .expectedName("hasAtIndex[b, 1]")
+                .expectedExpected("[1] := b")
+                .expectedActual("[1] := b")
+                .addTest()
+            .newTest((expression, value) -> expression.hasAtIndex("b", 1))
+                .subject(subjectOf("b", "a"))
+                .expectedState(FALSE)
+                .expectedName("hasAtIndex[b, 1]")
+                .expectedExpected("[1] := b")
+                .expectedActual("[1] := a")
+                .addTest()
+            .newTest((expression, value) -> expression.hasAtIndex("b", 1))
+                .subject(subjectOf("b"))
+                .expectedState(FALSE)
+                .expectedName("hasAtIndex[b, 1]")
+                .expectedExpected("[1] := b")
+                .expectedActual("index 1 out of bounds (size := 1)")
+                .addTest();
+    }
+}
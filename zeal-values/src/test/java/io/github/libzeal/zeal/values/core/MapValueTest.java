@@ -0,0 +1,210 @@
+package io.github.libzeal.zeal.values.core;
+
+import io.github.libzeal.zeal.values.api.ObjectValueTest;
+import io.github.libzeal.zeal.values.core.test.ExpressionTestCaseBuilder;
+
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import static io.github.libzeal.zeal.logic.evaluation.Result.FALSE;
+import static io.github.libzeal.zeal.logic.evaluation.Result.TRUE;
+
+@SuppressWarnings("java:S2187")
+class MapValueTest extends ObjectValueTest<Map<String, Integer>, MapValue<String, Integer>> {
+
+    @Override
+    protected MapValue<String, Integer> expression(Map<String, Integer> value) {
+        return new MapValue<>(value);
+    }
+
+    @Override
+    protected Map<String, Integer> exampleValue1() {
+        return mapOf("foo", "bar");
+    }
+
+    @Override
+    protected Map<String, Integer> exampleValue2() {
+        return mapOf("baz");
+    }
+
+    @Override
+    protected void extendTestCases(ExpressionTestCaseBuilder<Map<String, Integer>, MapValue<String, Integer>> builder) {
+        isEmptyTestCases(builder);
+        isNotEmptyTestCases(builder);
+        hasSizeOfTestCases(builder);
+        hasSizeBetweenTestCases(builder);
+        containsKeyTestCases(builder);
+        doesNotContainKeyTestCases(builder);
+        containsAllKeysTestCases(builder);
+        containsEntryTestCases(builder);
+    }
+
+    private void isEmptyTestCases(ExpressionTestCaseBuilder<Map<String, Integer>, MapValue<String, Integer>> builder) {
+        builder.newTest((expression, value) -> expression.isEmpty())
+                .subject(mapOf())
+                .expectedState(TRUE)
+                .expectedName("isEmpty")
+                .expectedExpected("size := 0")
+                .expectedActual("size := 0")
+                .addTest()
+            .newTest((expression, value) -> expression.isEmpty())
+                .subject(mapOf("a"))
+                .expectedState(FALSE)
+                .expectedName("isEmpty")
+                .expectedExpected("size := 0")
+                .expectedActual("size := 1")
+                .addTest();
+    }
+
+    private void isNotEmptyTestCases(
+        ExpressionTestCaseBuilder<Map<String, Integer>, MapValue<String, Integer>> builder) {
+
+        builder.newTest((expression, value) -> expression.isNotEmpty())
+                .subject(mapOf("a"))
+                .expectedState(TRUE)
+                .expectedName("isNotEmpty")
+                .expectedExpected("size > 0")
+                .expectedActual("size := 1")
+                .addTest()
+            .newTest((expression, value) -> expression.isNotEmpty())
+                .subject(mapOf())
+                .expectedState(FALSE)
+                .expectedName("isNotEmpty")
+                .expectedExpected("size > 0")
+                .expectedActual("size := 0")
+                .addTest();
+    }
+
+    private void hasSizeOfTestCases(
+        ExpressionTestCaseBuilder<Map<String, Integer>, MapValue<String, Integer>> builder) {
+
+        builder.newTest((expression, value) -> expression.hasSizeOf(2))
+                .subject(mapOf("a", "b"))
+                .expectedState(TRUE)
+                .expectedName("hasSizeOf[2]")
+                .expectedExpected("size := 2")
+                .expectedActual("size := 2")
+                .addTest()
+            .newTest((expression, value) -> expression.hasSizeOf(2))
+                .subject(mapOf("a"))
+                .expectedState(FALSE)
+                .expectedName("hasSizeOf[2]")
+                .expectedExpected("size := 2")
+                .expectedActual("size := 1")
+                .addTest();
+    }
+
+    private void hasSizeBetweenTestCases(
+        ExpressionTestCaseBuilder<Map<String, Integer>, MapValue<String, Integer>> builder) {
+
+        builder.newTest((expression, value) -> expression.hasSizeBetween(1, 2))
+                .subject(mapOf("a", "b"))
+                .expectedState(TRUE)
+                .expectedName("hasSizeBetween[1, 2]")
+                .expectedExpected("size in [1, 2]")
+                .expectedActual("size := 2")
+                .addTest()
+            .newTest((expression, value) -> expression.hasSizeBetween(1, 2))
+                .subject(mapOf("a", "b", "c"))
+                .expectedState(FALSE)
+                .expectedName("hasSizeBetween[1, 2]")
+                .expectedExpected("size in [1, 2]")
+                .expectedActual("size := 3")
+                .addTest();
+    }
+
+    private void containsKeyTestCases(
+        ExpressionTestCaseBuilder<Map<String, Integer>, MapValue<String, Integer>> builder) {
+
+        builder.newTest((expression, value) -> expression.containsKey("a"))
+                .subject(mapOf("a", "b"))
+                .expectedState(TRUE)
+                .expectedName("containsKey[a]")
+                .expectedExpected("containsKey[a]")
+                .expectedActual("keys[a, b]")
+                .addTest()
+            .newTest((expression, value) -> expression.containsKey("a"))
+                .subject(mapOf("b", "c", "d", "e", "f", "g"))
+                .expectedState(FALSE)
+                .expectedName("containsKey[a]")
+                .expectedExpected("containsKey[a]")
+                .expectedActual("keys[b, c, d, e, f, ... (1 more)]")
+                .addTest();
+    }
+
+    private void doesNotContainKeyTestCases(
+        ExpressionTestCaseBuilder<Map<String, Integer>, MapValue<String, Integer>> builder) {
+
+        builder.newTest((expression, value) -> expression.doesNotContainKey("a"))
+                .subject(mapOf("b"))
+                .expectedState(TRUE)
+                .expectedName("not[containsKey[a]]")
+                .expectedExpected("not[containsKey[a]]")
+                .expectedActual("keys[b]")
+                .addTest()
+            .newTest((expression, value) -> expression.doesNotContainKey("a"))
+                .subject(mapOf("a"))
+                .expectedState(FALSE)
+                .expectedName("not[containsKey[a]]")
+                .expectedExpected("not[containsKey[a]]")
+                .expectedActual("keys[a]")
+                .addTest();
+    }
+
+    private void containsAllKeysTestCases(
+        ExpressionTestCaseBuilder<Map<String, Integer>, MapValue<String, Integer>> builder) {
+
+        builder.newTest((expression, value) -> expression.containsAllKeys(Arrays.asList("a", "b")))
+                .subject(mapOf("a", "b", "c"))
+                .expectedState(TRUE)
+                .expectedName("containsAllKeys[2 keys]")
+                .expectedExpected("containsAllKeys[a, b]")
+                .expectedActual("contains all")
+                .addTest()
+            .newTest((expression, value) -> expression.containsAllKeys(Arrays.asList("a", "b", "c")))
+                .subject(mapOf("b"))
+                .expectedState(FALSE)
+                .expectedName("containsAllKeys[3 keys]")
+                .expectedExpected("containsAllKeys[a, b, c]")
+                .expectedActual("missing[a, c]")
+                .addTest();
+    }
+
+    private void containsEntryTestCases(
+        ExpressionTestCaseBuilder<Map<String, Integer>, MapValue<String, Integer>> builder) {
+
+        builder.newTest((expression, value) -> expression.containsEntry("b", 1))
+                .subject(mapOf("a", "b"))
+                .expectedState(TRUE)
+                .expectedName("containsEntry[b, 1]")
+                .expectedExpected("b -> 1")
+                .expectedActual("b -> 1")
+                .addTest()
+            .newTest((expression, value) -> expression.containsEntry("a", 1))
+                .subject(mapOf("a", "b"))
+                .expectedState(FALSE)
+                .expectedName("containsEntry[a, 1]")
+                .expectedExpected("a -> 1")
+                .expectedActual("a -> 0")
+                .addTest()
+            .newTest((expression, value) -> expression.containsEntry("c", 1))
+                .subject(mapOf("a", "b"))
+                .expectedState(FALSE)
+                .expectedName("containsEntry[c, 1]")
+                .expectedExpected("c -> 1")
+                .expectedActual("missing[c]")
+                .addTest();
+    }
+
+    private static Map<String, Integer> mapOf(String... keys) {
+
+        final Map<String, Integer> map = new LinkedHashMap<>();
+
+        for (int i = 0; i < keys.length; i++) {
+            map.put(keys[i], i);
+        }
+
+        return map;
+    }
+}
@@ -0,0 +1,100 @@
+package io.github.libzeal.zeal.values.core;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.regex.Pattern;
+import java.util.regex.PatternSyntaxException;
+import java.util.stream.IntStream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class PatternCacheTest {
+
+    @Test
+    void givenInvalidCapacity_whenConstruct_thenExceptionThrown() {
+        assertThrows(
+            IllegalArgumentException.class,
+            () -> new PatternCache(0)
+        );
+    }
+
+    @Test
+    void givenNullRegex_whenGet_thenExceptionThrown() {
+
+        final PatternCache cache = new PatternCache(1);
+
+        assertThrows(
+            NullPointerException.class,
+            () -> cache.get(null)
+        );
+    }
+
+    @Test
+    void givenInvalidRegex_whenGet_thenExceptionThrown() {
+
+        final PatternCache cache = new PatternCache(1);
+
+        assertThrows(
+            PatternSyntaxException.class,
+            () -> cache.get("[")
+        );
+        assertEquals(0, cache.size());
+    }
+
+    @Test
+    void givenSameRegex_whenGet_thenSamePatternReturned() {
+
+        final PatternCache cache = new PatternCache(1);
+        final Pattern pattern = cache.get("a*b");
+
+        assertEquals("a*b", pattern.pattern());
+        assertSame(pattern, cache.get("a*b"));
+    }
+
+    @Test
+    void givenCapacityExceeded_whenGet_thenLeastRecentlyUsedEvicted() {
+
+        final PatternCache cache = new PatternCache(2);
+        final Pattern first = cache.get("a");
+        final Pattern second = cache.get("b");
+
+        cache.get("a");
+        cache.get("c");
+
+        assertEquals(2, cache.size());
+        assertSame(first, cache.get("a"));
+        assertNotSame(second, cache.get("b"));
+    }
+
+    @Test
+    void givenManyRegexes_whenGet_thenSizeBoundedByCapacity() {
+
+        final PatternCache cache = new PatternCache(3);
+
+        for (int i = 0; i < 100; i++) {
+            assertEquals("a{" + i + "}", cache.get("a{" + i + "}").pattern());
+        }
+
+        assertEquals(3, cache.size());
+    }
+
+    @Test
+    void givenConcurrentGets_whenGet_thenCorrectPatternsReturnedAndSizeBounded() {
+
+        final PatternCache cache = new PatternCache(8);
+
+        IntStream.range(0, 10_000)
+            .parallel()
+            .forEach(i -> {
+                final String regex = "b{" + (i % 32) + "}";
+                assertEquals(regex, cache.get(regex).pattern());
+            });
+
+        assertTrue(cache.size() <= 8);
+    }
+
+    @Test
+    void givenDefaults_whenShared_thenSameCacheReturned() {
+        assertSame(PatternCache.shared(), PatternCache.shared());
+    }
+}
@@ -3,6 +3,8 @@ package io.github.libzeal.zeal.values.core;
 import io.github.libzeal.zeal.values.api.ObjectValueTest;
 import io.github.libzeal.zeal.values.core.test.ExpressionTestCaseBuilder;
 
+import java.util.regex.Pattern;
+
 import static io.github.libzeal.zeal.logic.evaluation.Result.FALSE;
 import static io.github.libzeal.zeal.logic.evaluation.Result.TRUE;
 
@@ -537,6 +539,20 @@ class StringValueTest extends ObjectValueTest<String, StringValue> {
                 .expectedActual("aab")
                 .addTest()
             .newTest((expression, value) -> expression.matches("a*b"))
+                .subject("ccc")
+                .expectedState(FALSE)
+                .expectedName("matches[a*b]")
+                .expectedExpected("matches[a*b]")
+                .expectedActual("ccc")
+                .addTest()
+            .newTest((expression, value) -> expression.matches(Pattern.compile("a*b")))
+                .subject("aab")
+                .expectedState(TRUE)
+                .expectedName("matches[a*b]")
+                .expectedExpected("matches[a*b]")
+                .expectedActual("aab")
+                .addTest()
+            .newTest((expression, value) -> expression.matches(Pattern.compile("a*b")))
                 .subject("ccc")
                 .expectedState(FALSE)
                 .expectedName("matches[a*b]")
@@ -554,6 +570,20 @@ class StringValueTest extends ObjectValueTest<String, StringValue> {
                 .expectedActual("aab")
                 .addTest()
             .newTest((expression, value) -> expression.doesNotMatch("a*b"))
+                .subject("ccc")
+                .expectedState(TRUE)
+                .expectedName("doesNotMatch[a*b]")
+                .expectedExpected("not[matches[a*b]]")
+                .expectedActual("ccc")
+                .addTest()
+            .newTest((expression, value) -> expression.doesNotMatch(Pattern.compile("a*b")))
+                .subject("aab")
+                .expectedState(FALSE)
+                .expectedName("doesNotMatch[a*b]")
+                .expectedExpected("not[matches[a*b]]")
+                .expectedActual("aab")
+                .addTest()
+            .newTest((expression, value) -> expression.doesNotMatch(Pattern.compile("a*b")))
                 .subject("ccc")
                 .expectedState(TRUE)
                 .expectedName("doesNotMatch[a*b]")
@@ -0,0 +1,135 @@
+package io.github.libzeal.zeal.values.core.primitive;
+
+import io.github.libzeal.zeal.logic.evaluation.Evaluation;
+import io.github.libzeal.zeal.logic.evaluation.Result;
+import io.github.libzeal.zeal.logic.evaluation.traverse.CollectingTraverserAction;
+import io.github.libzeal.zeal.logic.evaluation.traverse.DepthFirstTraverser;
+import io.github.libzeal.zeal.values.core.test.EvaluatedExpressionAssertion;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.Arguments;
+import org.junit.jupiter.params.provider.MethodSource;
+
+import java.util.function.UnaryOperator;
+import java.util.stream.Stream;
+
+import static io.github.libzeal.zeal.logic.evaluation.Result.FALSE;
+import static io.github.libzeal.zeal.logic.evaluation.Result.TRUE;
+import static org.junit.jupiter.api.Assertions.*;
+
+class DoubleValueTest {
+
+    @Test
+    void givenNoPredicates_whenEvaluate_thenPasses() {
+
+        final DoubleValue value = new DoubleValue(1);
+        final EvaluatedExpressionAssertion<?> assertion = new EvaluatedExpressionAssertion<>(value.evaluate());
+
+        assertEquals(1.0, value.subject());
+        assertEquals("double value", value.name());
+        assertTrue(value.test());
+        assertion.assertStateIs(TRUE);
+        assertion.assertCompoundActualValueIs(0, 0, 0);
+    }
+
+    @Test
+    void givenFailingPredicateBeforePassingPredicate_whenTest_thenLaterPredicateNotTested() {
+
+        final DoubleValue value = new DoubleValue(1)
+            .isNegative()
+            .satisfies(i -> {
+                throw new IllegalStateException();
+            });
+
+        assertFalse(value.test());
+    }
+
+    @ParameterizedTest(name = "{0}")
+    @MethodSource("testCases")
+    void whenEvaluate_thenCorrectEvaluation(final String testCaseName, final UnaryOperator<DoubleValue> modifier,
+                                            final double subject, final Result expectedState, final String expectedName,
+                                            final String expectedExpected) {
+
+        final DoubleValue value = new DoubleValue(subject);
+
+        assertSame(value, modifier.apply(value));
+
+        final Evaluation evaluation = value.evaluate();
+        final CollectingTraverserAction collector = new CollectingTraverserAction();
+
+        new DepthFirstTraverser().traverse(evaluation, collector);
+
+        final EvaluatedExpressionAssertion<?> assertion =
+            new EvaluatedExpressionAssertion<>(collector.get(1).orElse(null));
+
+        assertEquals(evaluation.result().isTrue(), value.test());
+        assertion.assertStateIs(expectedState);
+        assertion.assertNameIs(expectedName);
+        assertion.assertExpectedIs(expectedExpected);
+        assertion.assertActualIs(String.valueOf(subject));
+    }
+
+    static Stream<Arguments> testCases() {
+        return Stream.of(
+            testCase(v -> v.isEqualTo(1.0), 1.0, TRUE, "isEqualTo[1.0]", "1.0"),
+            testCase(v -> v.isEqualTo(1.0), 2.0, FALSE, "isEqualTo[1.0]", "1.0"),
+            testCase(v -> v.isEqualTo(Double.NaN), Double.NaN, TRUE, "isEqualTo[NaN]", "NaN"),
+            testCase(v -> v.isEqualTo(0.0), -0.0, FALSE, "isEqualTo[0.0]", "0.0"),
+            testCase(v -> v.isEqualTo(1.0, 0.5), 1.25, TRUE, "isEqualTo[1.0 +/- 0.5]", "1.0 +/- 0.5"),
+            testCase(v -> v.isEqualTo(1.0, 0.5), 2.0, FALSE, "isEqualTo[1.0 +/- 0.5]", "1.0 +/- 0.5"),
+            testCase(v -> v.isNotEqualTo(1.0), 2.0, TRUE, "isNotEqualTo[1.0]", "not[1.0]"),
+            testCase(v -> v.isNotEqualTo(1.0), 1.0, FALSE, "isNotEqualTo[1.0]", "not[1.0]"),
+            testCase(v -> v.isNotEqualTo(Double.NaN), Double.NaN, FALSE, "isNotEqualTo[NaN]", "not[NaN]"),
+            testCase(v -> v.isLessThan(1.0), 0.5, TRUE, "isLessThan[1.0]", "< 1.0"),
+            testCase(v -> v.lt(1.0), 1.0, FALSE, "isLessThan[1.0]", "< 1.0"),
+            testCase(v -> v.isGreaterThan(1.0), 1.5, TRUE, "isGreaterThan[1.0]", "> 1.0"),
+            testCase(v -> v.gt(1.0), 1.0, FALSE, "isGreaterThan[1.0]", "> 1.0"),
+            testCase(v -> v.isLessThanOrEqualTo(1.0), 1.0, TRUE, "isLessThanOrEqualTo[1.0]", "<= 1.0"),
+            testCase(v -> v.lte(1.0), 1.5, FALSE, "isLessThanOrEqualTo[1.0]", "<= 1.0"),
+            testCase(v -> v.isGreaterThanOrEqualTo(1.0), 1.0, TRUE, "isGreaterThanOrEqualTo[1.0]", ">= 1.0"),
+            testCase(v -> v.gte(1.0), 0.5, FALSE, "isGreaterThanOrEqualTo[1.0]", ">= 1.0"),
+            testCase(v -> v.isBetween(1.0, 3.0), 3.0, TRUE, "isBetween[1.0, 3.0]", "[1.0, 3.0]"),
+            testCase(v -> v.isBetween(1.0, 3.0), 3.5, FALSE, "isBetween[1.0, 3.0]", "[1.0, 3.0]"),
+            testCase(DoubleValue::isMaxValue, Double.MAX_VALUE, TRUE, "isMax", String.valueOf(Double.MAX_VALUE)),
+            testCase(DoubleValue::isMaxValue, 0.0, FALSE, "isMax", String.valueOf(Double.MAX_VALUE)),
+            testCase(DoubleValue::isMinValue, Double.MIN_VALUE, TRUE, "isMin", String.valueOf(Double.MIN_VALUE)),
+            testCase(DoubleValue::isMinValue, -Double.MAX_VALUE, FALSE, "isMin", String.valueOf(Double.MIN_VALUE)),
+            testCase(DoubleValue::isZero, 0.0, TRUE, "isZero", "0.0"),
+            testCase(DoubleValue::isZero, 1.0, FALSE, "isZero", "0.0"),
+            testCase(DoubleValue::isZero, -0.0, FALSE, "isZero", "0.0"),
+            testCase(DoubleValue::isNotZero, 1.0, TRUE, "isNotZero", "not[0.0]"),
+            testCase(DoubleValue::isNotZero, 0.0, FALSE, "isNotZero", "not[0.0]"),
+            testCase(DoubleValue::isPositive, 1.0, TRUE, "isPositive", "> 0.0"),
+            testCase(DoubleValue::isPositive, 0.0, FALSE, "isPositive", "> 0.0"),
+            testCase(DoubleValue::isNotPositive, 0.0, TRUE, "isNotPositive", "<= 0.0"),
+            testCase(DoubleValue::isNotPositive, 1.0, FALSE, "isNotPositive", "<= 0.0"),
+            testCase(DoubleValue::isNegative, -1.0, TRUE, "isNegative", "< 0.0"),
+            testCase(DoubleValue::isNegative, 0.0, FALSE, "isNegative", "< 0.0"),
+            testCase(DoubleValue::isNotNegative, 0.0, TRUE, "isNotNegative", ">= 0.0"),
+            testCase(DoubleValue::isNotNegative, -1.0, FALSE, "isNotNegative", ">= 0.0"),
+            testCase(DoubleValue::isFinite, 1.0, TRUE, "isFinite", "finite"),
+            testCase(DoubleValue::isFinite, Double.POSITIVE_INFINITY, FALSE, "isFinite", "finite"),
+            testCase(DoubleValue::isInfinite, Double.NEGATIVE_INFINITY, TRUE, "isInfinite", "infinite"),
+            testCase(DoubleValue::isInfinite, 1.0, FALSE, "isInfinite", "infinite"),
+            testCase(DoubleValue::isNaN, Double.NaN, TRUE, "isNaN", "NaN"),
+            testCase(DoubleValue::isNaN, 1.0, FALSE, "isNaN", "NaN"),
+            testCase(v -> v.satisfies(d -> d == 1.0), 1.0, TRUE, "predicate", "Predicate satisfied"),
+            testCase(v -> v.satisfies(d -> d == 1.0), 2.0, FALSE, "predicate", "Predicate satisfied"),
+            testCase(v -> v.doesNotSatisfy(d -> d == 1.0), 2.0, TRUE, "not[predicate]", "Predicate unsatisfied"),
+            testCase(v -> v.doesNotSatisfy(d -> d == 1.0), 1.0, FALSE, "not[predicate]", "Predicate unsatisfied")
+        );
+    }
+
+    private static Arguments testCase(final UnaryOperator<DoubleValue> modifier, final double subject,
+                                      final Result expectedState, final String expectedName,
+                                      final String expectedExpected) {
+        return Arguments.of(
+            expectedName + " with subject " + subject,
+            modifier,
+            subject,
+            expectedState,
+            expectedName,
+            expectedExpected
+        );
+    }
+}
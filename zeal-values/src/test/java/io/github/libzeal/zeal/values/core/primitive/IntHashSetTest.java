@@ -0,0 +1,64 @@
+package io.github.libzeal.zeal.values.core.primitive;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class IntHashSetTest {
+
+    @Test
+    void givenNullValues_whenConstruct_thenExceptionThrown() {
+        assertThrows(
+            NullPointerException.class,
+            () -> new IntHashSet((int[]) null)
+        );
+    }
+
+    @Test
+    void givenNoValues_whenContains_thenNotContained() {
+
+        final IntHashSet set = new IntHashSet();
+
+        assertFalse(set.contains(0));
+        assertFalse(set.contains(1));
+    }
+
+    @Test
+    void givenValues_whenContains_thenOnlyValuesContained() {
+
+        final IntHashSet set = new IntHashSet(0, -1, Integer.MIN_VALUE, Integer.MAX_VALUE, 7, 7);
+
+        assertTrue(set.contains(0));
+        assertTrue(set.contains(-1));
+        assertTrue(set.contains(Integer.MIN_VALUE));
+        assertTrue(set.contains(Integer.MAX_VALUE));
+        assertTrue(set.contains(7));
+        assertFalse(set.contains(1));
+        assertFalse(set.contains(8));
+    }
+
+    @Test
+    void givenManyValues_whenContains_thenOnlyValuesContained() {
+
+        final int[] values = new int[1000];
+
+        for (int i = 0; i < values.length; i++) {
+            values[i] = i * 3;
+        }
+
+        final IntHashSet set = new IntHashSet(values);
+
+        for (int i = 0; i < 3000; i++) {
+            assertEquals(i % 3 == 0, set.contains(i));
+        }
+    }
+
+    @Test
+    void givenSize_whenCapacityFor_thenCapacityIsPowerOfTwoAtLeastTwiceSize() {
+        assertEquals(2, IntHashSet.capacityFor(0));
+        assertEquals(2, IntHashSet.capacityFor(1));
+        assertEquals(8, IntHashSet.capacityFor(3));
+        assertEquals(8, IntHashSet.capacityFor(4));
+        assertEquals(16, IntHashSet.capacityFor(5));
+    }
+}
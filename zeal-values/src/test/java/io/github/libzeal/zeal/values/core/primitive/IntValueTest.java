@@ -0,0 +1,134 @@
+package io.github.libzeal.zeal.values.core.primitive;
+
+import io.github.libzeal.zeal.logic.evaluation.Evaluation;
+import io.github.libzeal.zeal.logic.evaluation.Result;
+import io.github.libzeal.zeal.logic.evaluation.traverse.CollectingTraverserAction;
+import io.github.libzeal.zeal.logic.evaluation.traverse.DepthFirstTraverser;
+import io.github.libzeal.zeal.values.core.test.EvaluatedExpressionAssertion;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.Arguments;
+import org.junit.jupiter.params.provider.MethodSource;
+
+import java.util.function.UnaryOperator;
+import java.util.stream.Stream;
+
+import static io.github.libzeal.zeal.logic.evaluation.Result.FALSE;
+import static io.github.libzeal.zeal.logic.evaluation.Result.TRUE;
+import static org.junit.jupiter.api.Assertions.*;
+
+class IntValueTest {
+
+    @Test
+    void givenNoPredicates_whenEvaluate_thenPasses() {
+
+        final IntValue value = new IntValue(1);
+        final EvaluatedExpressionAssertion<?> assertion = new EvaluatedExpressionAssertion<>(value.evaluate());
+
+        assertEquals(1, value.subject());
+        assertEquals("int value", value.name());
+        assertTrue(value.test());
+        assertion.assertStateIs(TRUE);
+        assertion.assertCompoundActualValueIs(0, 0, 0);
+    }
+
+    @Test
+    void givenFailingPredicateBeforePassingPredicate_whenTest_thenLaterPredicateNotTested() {
+
+        final IntValue value = new IntValue(1)
+            .isNegative()
+            .satisfies(i -> {
+                throw new IllegalStateException();
+            });
+
+        assertFalse(value.test());
+    }
+
+    @ParameterizedTest(name = "{0}")
+    @MethodSource("testCases")
+    void whenEvaluate_thenCorrectEvaluation(final String testCaseName, final UnaryOperator<IntValue> modifier,
+                                            final int subject, final Result expectedState, final String expectedName,
+                                            final String expectedExpected) {
+
+        final IntValue value = new IntValue(subject);
+
+        assertSame(value, modifier.apply(value));
+
+        final Evaluation evaluation = value.evaluate();
+        final CollectingTraverserAction collector = new CollectingTraverserAction();
+
+        new DepthFirstTraverser().traverse(evaluation, collector);
+
+        final EvaluatedExpressionAssertion<?> assertion =
+            new EvaluatedExpressionAssertion<>(collector.get(1).orElse(null));
+
+        assertEquals(evaluation.result().isTrue(), value.test());
+        assertion.assertStateIs(expectedState);
+        assertion.assertNameIs(expectedName);
+        assertion.assertExpectedIs(expectedExpected);
+        assertion.assertActualIs(String.valueOf(subject));
+    }
+
+    static Stream<Arguments> testCases() {
+        return Stream.of(
+            testCase(v -> v.isEqualTo(1), 1, TRUE, "isEqualTo[1]", "1"),
+            testCase(v -> v.isEqualTo(1), 2, FALSE, "isEqualTo[1]", "1"),
+            testCase(v -> v.isNotEqualTo(1), 2, TRUE, "isNotEqualTo[1]", "not[1]"),
+            testCase(v -> v.isNotEqualTo(1), 1, FALSE, "isNotEqualTo[1]", "not[1]"),
+            testCase(v -> v.isLessThan(1), 0, TRUE, "isLessThan[1]", "< 1"),
+            testCase(v -> v.lt(1), 1, FALSE, "isLessThan[1]", "< 1"),
+            testCase(v -> v.isGreaterThan(1), 2, TRUE, "isGreaterThan[1]", "> 1"),
+            testCase(v -> v.gt(1), 1, FALSE, "isGreaterThan[1]", "> 1"),
+            testCase(v -> v.isLessThanOrEqualTo(1), 1, TRUE, "isLessThanOrEqualTo[1]", "<= 1"),
+            testCase(v -> v.lte(1), 2, FALSE, "isLessThanOrEqualTo[1]", "<= 1"),
+            testCase(v -> v.isGreaterThanOrEqualTo(1), 1, TRUE, "isGreaterThanOrEqualTo[1]", ">= 1"),
+            testCase(v -> v.gte(1), 0, FALSE, "isGreaterThanOrEqualTo[1]", ">= 1"),
+            testCase(v -> v.isBetween(1, 3), 3, TRUE, "isBetween[1, 3]", "[1, 3]"),
+            testCase(v -> v.isBetween(1, 3), 4, FALSE, "isBetween[1, 3]", "[1, 3]"),
+            testCase(IntValue::isMaxValue, Integer.MAX_VALUE, TRUE, "isMax", String.valueOf(Integer.MAX_VALUE)),
+            testCase(IntValue::isMaxValue, 0, FALSE, "isMax", String.valueOf(Integer.MAX_VALUE)),
+            testCase(IntValue::isMinValue, Integer.MIN_VALUE, TRUE, "isMin", String.valueOf(Integer.MIN_VALUE)),
+            testCase(IntValue::isMinValue, 0, FALSE, "isMin", String.valueOf(Integer.MIN_VALUE)),
+            testCase(IntValue::isZero, 0, TRUE, "isZero", "0"),
+            testCase(IntValue::isZero, 1, FALSE, "isZero", "0"),
+            testCase(IntValue::isNotZero, 1, TRUE, "isNotZero", "not[0]"),
+            testCase(IntValue::isNotZero, 0, FALSE, "isNotZero", "not[0]"),
+            testCase(IntValue::isPositive, 1, TRUE, "isPositive", "> 0"),
+            testCase(IntValue::isPositive, 0, FALSE, "isPositive", "> 0"),
+            testCase(IntValue::isNotPositive, 0, TRUE, "isNotPositive", "<= 0"),
+            testCase(IntValue::isNotPositive, 1, FALSE, "isNotPositive", "<= 0"),
+            testCase(IntValue::isNegative, -1, TRUE, "isNegative", "< 0"),
+            testCase(IntValue::isNegative, 0, FALSE, "isNegative", "< 0"),
+            testCase(IntValue::isNotNegative, 0, TRUE, "isNotNegative", ">= 0"),
+            testCase(IntValue::isNotNegative, -1, FALSE, "isNotNegative", ">= 0"),
+            testCase(IntValue::isEven, 2, TRUE, "isEven", "% 2 := 0"),
+            testCase(IntValue::isEven, 1, FALSE, "isEven", "% 2 := 0"),
+            testCase(IntValue::isOdd, -1, TRUE, "isOdd", "% 2 != 0"),
+            testCase(IntValue::isOdd, 2, FALSE, "isOdd", "% 2 != 0"),
+            testCase(v -> v.isMemberOf(1, 2, 3, 4, 5, 6), 6, TRUE, "memberOf[6 values]",
+                "memberOf[1, 2, 3, 4, 5, ... (1 more)]"),
+            testCase(v -> v.isMemberOf(0, 2), 0, TRUE, "memberOf[2 values]", "memberOf[0, 2]"),
+            testCase(v -> v.isMemberOf(1, 2), 3, FALSE, "memberOf[2 values]", "memberOf[1, 2]"),
+            testCase(v -> v.isMemberOf(), 0, FALSE, "memberOf[0 values]", "memberOf[]"),
+            testCase(v -> v.isNotMemberOf(1, 2), 3, TRUE, "notMemberOf[2 values]", "not[memberOf[1, 2]]"),
+            testCase(v -> v.isNotMemberOf(1, 2), 2, FALSE, "notMemberOf[2 values]", "not[memberOf[1, 2]]"),
+            testCase(v -> v.satisfies(i -> i == 1), 1, TRUE, "predicate", "Predicate satisfied"),
+            testCase(v -> v.satisfies(i -> i == 1), 2, FALSE, "predicate", "Predicate satisfied"),
+            testCase(v -> v.doesNotSatisfy(i -> i == 1), 2, TRUE, "not[predicate]", "Predicate unsatisfied"),
+            testCase(v -> v.doesNotSatisfy(i -> i == 1), 1, FALSE, "not[predicate]", "Predicate unsatisfied")
+        );
+    }
+
+    private static Arguments testCase(final UnaryOperator<IntValue> modifier, final int subject,
+                                      final Result expectedState, final String expectedName,
+                                      final String expectedExpected) {
+        return Arguments.of(
+            expectedName + " with subject " + subject,
+            modifier,
+            subject,
+            expectedState,
+            expectedName,
+            expectedExpected
+        );
+    }
+}
@@ -0,0 +1,55 @@
+package io.github.libzeal.zeal.values.core.primitive;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class LongHashSetTest {
+
+    @Test
+    void givenNullValues_whenConstruct_thenExceptionThrown() {
+        assertThrows(
+            NullPointerException.class,
+            () -> new LongHashSet((long[]) null)
+        );
+    }
+
+    @Test
+    void givenNoValues_whenContains_thenNotContained() {
+
+        final LongHashSet set = new LongHashSet();
+
+        assertFalse(set.contains(0));
+        assertFalse(set.contains(1));
+    }
+
+    @Test
+    void givenValues_whenContains_thenOnlyValuesContained() {
+
+        final LongHashSet set = new LongHashSet(0, -1, Long.MIN_VALUE, Long.MAX_VALUE, 7, 7);
+
+        assertTrue(set.contains(0));
+        assertTrue(set.contains(-1));
+        assertTrue(set.contains(Long.MIN_VALUE));
+        assertTrue(set.contains(Long.MAX_VALUE));
+        assertTrue(set.contains(7));
+        assertFalse(set.contains(1));
+        assertFalse(set.contains(8));
+    }
+
+    @Test
+    void givenManyValues_whenContains_thenOnlyValuesContained() {
+
+        final long[] values = new long[1000];
+
+        for (int i = 0; i < values.length; i++) {
+            values[i] = i * 3;
+        }
+
+        final LongHashSet set = new LongHashSet(values);
+
+        for (int i = 0; i < 3000; i++) {
+            assertEquals(i % 3 == 0, set.contains(i));
+        }
+    }
+}